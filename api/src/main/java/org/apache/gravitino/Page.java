@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * A page of the results of a list operation. The items of all the pages are sorted by their names,
+ * the page token of the next page is the name of the last item of the current page, it is null if
+ * there are no more items.
+ *
+ * @param <T> The type of the items.
+ */
+@Evolving
+public final class Page<T> {
+
+  private final T[] items;
+
+  @Nullable private final String nextPageToken;
+
+  /**
+   * Creates a page with the given items and the token of the next page.
+   *
+   * @param items The items of the page.
+   * @param nextPageToken The token of the next page, null if this is the last page.
+   */
+  public Page(T[] items, @Nullable String nextPageToken) {
+    Preconditions.checkArgument(items != null, "items must not be null");
+    this.items = items;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /** @return The items of the page. */
+  public T[] items() {
+    return items;
+  }
+
+  /** @return The token to fetch the next page, null if this is the last page. */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
+  /** @return True if there are more items after this page. */
+  public boolean hasNextPage() {
+    return nextPageToken != null;
+  }
+
+  /**
+   * Slices the page out of all the items, it is used by the implementations which can't push the
+   * paging down to the underlying source.
+   *
+   * @param allItems All the items, they don't need to be sorted.
+   * @param nameOf The function to get the name of an item.
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the items of the page, must be positive.
+   * @return The page of the items.
+   * @param <T> The type of the items.
+   */
+  public static <T> Page<T> of(
+      T[] allItems, Function<T, String> nameOf, @Nullable String pageToken, int limit) {
+    checkLimit(limit);
+    T[] sorted = Arrays.copyOf(allItems, allItems.length);
+    Arrays.sort(sorted, Comparator.comparing(nameOf));
+
+    int start = 0;
+    if (pageToken != null) {
+      while (start < sorted.length && nameOf.apply(sorted[start]).compareTo(pageToken) <= 0) {
+        start++;
+      }
+    }
+    int end = (int) Math.min((long) start + limit, sorted.length);
+    String nextPageToken = end < sorted.length ? nameOf.apply(sorted[end - 1]) : null;
+    return new Page<>(Arrays.copyOfRange(sorted, start, end), nextPageToken);
+  }
+
+  /**
+   * Checks the page size of a list operation.
+   *
+   * @param limit The maximum number of the items of a page.
+   * @throws IllegalArgumentException If the limit is not positive.
+   */
+  public static void checkLimit(int limit) {
+    Preconditions.checkArgument(
+        limit > 0, "The limit of a page must be positive, but got %s", limit);
+  }
+}
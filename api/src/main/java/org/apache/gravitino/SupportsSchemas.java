@@ -46,6 +46,18 @@ public interface SupportsSchemas {
    */
   String[] listSchemas() throws NoSuchCatalogException;
 
+  /**
+   * List a page of the schemas under the entity, the schemas are sorted by their names.
+   *
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the schemas of the page.
+   * @return A page of the schema names.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default Page<String> listSchemas(String pageToken, int limit) throws NoSuchCatalogException {
+    return Page.of(listSchemas(), name -> name, pageToken, limit);
+  }
+
   /**
    * Check if a schema exists.
    *
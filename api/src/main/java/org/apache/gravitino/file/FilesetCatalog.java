@@ -131,4 +131,23 @@ public interface FilesetCatalog {
    * @throws NoSuchFilesetException If the fileset does not exist.
    */
   String getFileLocation(NameIdentifier ident, String subPath) throws NoSuchFilesetException;
+
+  /**
+   * Get the actual locations of many files or directories of a fileset at once. It is the batch
+   * version of {@link #getFileLocation(NameIdentifier, String)}, the implementations can override
+   * it to load the fileset only once for all the sub paths.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @return The actual locations of the files or directories, in the order of the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  default String[] getFileLocations(NameIdentifier ident, String[] subPaths)
+      throws NoSuchFilesetException {
+    String[] fileLocations = new String[subPaths.length];
+    for (int i = 0; i < subPaths.length; i++) {
+      fileLocations[i] = getFileLocation(ident, subPaths[i]);
+    }
+    return fileLocations;
+  }
 }
@@ -18,12 +18,18 @@
  */
 package org.apache.gravitino.rel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.partitions.IdentityPartition;
 import org.apache.gravitino.rel.partitions.ListPartition;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.partitions.RangePartition;
 
 /** Interface for tables that support partitions. */
@@ -37,6 +43,17 @@ public interface SupportsPartitions {
    */
   String[] listPartitionNames();
 
+  /**
+   * List a page of the partition names of the table, the names are sorted.
+   *
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the partition names of the page.
+   * @return A page of the partition names.
+   */
+  default Page<String> listPartitionNames(String pageToken, int limit) {
+    return Page.of(listPartitionNames(), name -> name, pageToken, limit);
+  }
+
   /**
    * List all partitions
    *
@@ -44,6 +61,70 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List a page of the partitions of the table, the partitions are sorted by their names.
+   *
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the partitions of the page.
+   * @return A page of the partitions.
+   */
+  default Page<Partition> listPartitions(String pageToken, int limit) {
+    return Page.of(listPartitions(), Partition::name, pageToken, limit);
+  }
+
+  /**
+   * List the names of the partitions matching the filter. The filter is a partial partition spec in
+   * the format of "field1=value1/field2=value2", a partition matches it if the partition has the
+   * same values for all the fields in the filter, for example, "dt=2024-01-01" matches all the
+   * partitions of the day in a table partitioned by "dt" and "hour".
+   *
+   * <p>The default implementation filters the names returned by {@link #listPartitionNames()}, the
+   * catalogs that can push the filter down to the underlying source should override it.
+   *
+   * @param filter The partition filter.
+   * @return The names of the matched partitions.
+   * @throws IllegalArgumentException If the filter is not valid.
+   */
+  default String[] listPartitionNamesByFilter(String filter) {
+    Map<String, String> fieldValues = Partitions.parseFilter(filter);
+    return Arrays.stream(listPartitionNames())
+        .filter(name -> Partitions.matchesFilter(name, fieldValues))
+        .toArray(String[]::new);
+  }
+
+  /**
+   * List the partitions matching the filter, see {@link #listPartitionNamesByFilter(String)} for
+   * the format of the filter.
+   *
+   * @param filter The partition filter.
+   * @return The matched partitions.
+   * @throws IllegalArgumentException If the filter is not valid.
+   */
+  default Partition[] listPartitionsByFilter(String filter) {
+    return listPartitionsByNames(listPartitionNamesByFilter(filter));
+  }
+
+  /**
+   * List the partitions of the given names, the partitions not existing are skipped.
+   *
+   * <p>The default implementation gets the partitions one by one, the catalogs that can get the
+   * partitions in a batch should override it.
+   *
+   * @param partitionNames The names of the partitions.
+   * @return The partitions existing in the table.
+   */
+  default Partition[] listPartitionsByNames(String[] partitionNames) {
+    List<Partition> partitions = new ArrayList<>(partitionNames.length);
+    for (String partitionName : partitionNames) {
+      try {
+        partitions.add(getPartition(partitionName));
+      } catch (NoSuchPartitionException e) {
+        // The partition was dropped, skip it.
+      }
+    }
+    return partitions.toArray(new Partition[0]);
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.rel;
+
+import com.google.common.base.Preconditions;
+import java.util.Collections;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.rel.expressions.distributions.Distribution;
+import org.apache.gravitino.rel.expressions.distributions.Distributions;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.expressions.transforms.Transforms;
+import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.rel.indexes.Indexes;
+
+/**
+ * A create, alter, drop or purge operation on one table, to be applied together with other
+ * operations on the tables of the same schema by {@link TableCatalog#batchOperateTables}.
+ */
+@Evolving
+public final class TableBatchOperation {
+
+  /** The type of the operation. */
+  public enum Type {
+    /** Create a table. */
+    CREATE,
+    /** Alter a table. */
+    ALTER,
+    /** Drop a table. */
+    DROP,
+    /** Purge a table. */
+    PURGE
+  }
+
+  private final Type type;
+  private final NameIdentifier identifier;
+  private final Column[] columns;
+  private final String comment;
+  private final Map<String, String> properties;
+  private final Transform[] partitioning;
+  private final Distribution distribution;
+  private final SortOrder[] sortOrders;
+  private final Index[] indexes;
+  private final TableChange[] changes;
+
+  private TableBatchOperation(
+      Type type,
+      NameIdentifier identifier,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitioning,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes,
+      TableChange[] changes) {
+    Preconditions.checkArgument(identifier != null, "identifier must not be null");
+    this.type = type;
+    this.identifier = identifier;
+    this.columns = columns;
+    this.comment = comment;
+    this.properties = properties;
+    this.partitioning = partitioning;
+    this.distribution = distribution;
+    this.sortOrders = sortOrders;
+    this.indexes = indexes;
+    this.changes = changes;
+  }
+
+  /**
+   * Creates an operation to create a table without partitioning, distribution, sort orders and
+   * indexes.
+   *
+   * @param ident The table identifier.
+   * @param columns The columns of the new table.
+   * @param comment The table comment.
+   * @param properties The table properties.
+   * @return The create operation.
+   */
+  public static TableBatchOperation create(
+      NameIdentifier ident, Column[] columns, String comment, Map<String, String> properties) {
+    return create(ident, columns, comment, properties, null, null, null, null);
+  }
+
+  /**
+   * Creates an operation to create a table.
+   *
+   * @param ident The table identifier.
+   * @param columns The columns of the new table.
+   * @param comment The table comment.
+   * @param properties The table properties.
+   * @param partitioning The table partitioning.
+   * @param distribution The distribution of the table.
+   * @param sortOrders The sort orders of the table.
+   * @param indexes The table indexes.
+   * @return The create operation.
+   */
+  public static TableBatchOperation create(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitioning,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes) {
+    Preconditions.checkArgument(columns != null, "columns must not be null");
+    return new TableBatchOperation(
+        Type.CREATE,
+        ident,
+        columns,
+        comment,
+        properties == null ? Collections.emptyMap() : properties,
+        partitioning == null ? Transforms.EMPTY_TRANSFORM : partitioning,
+        distribution == null ? Distributions.NONE : distribution,
+        sortOrders == null ? new SortOrder[0] : sortOrders,
+        indexes == null ? Indexes.EMPTY_INDEXES : indexes,
+        null);
+  }
+
+  /**
+   * Creates an operation to alter a table.
+   *
+   * @param ident The table identifier.
+   * @param changes The changes to apply to the table.
+   * @return The alter operation.
+   */
+  public static TableBatchOperation alter(NameIdentifier ident, TableChange... changes) {
+    Preconditions.checkArgument(
+        changes != null && changes.length > 0, "changes must not be null or empty");
+    return new TableBatchOperation(
+        Type.ALTER, ident, null, null, null, null, null, null, null, changes);
+  }
+
+  /**
+   * Creates an operation to drop a table.
+   *
+   * @param ident The table identifier.
+   * @return The drop operation.
+   */
+  public static TableBatchOperation drop(NameIdentifier ident) {
+    return new TableBatchOperation(
+        Type.DROP, ident, null, null, null, null, null, null, null, null);
+  }
+
+  /**
+   * Creates an operation to purge a table.
+   *
+   * @param ident The table identifier.
+   * @return The purge operation.
+   */
+  public static TableBatchOperation purge(NameIdentifier ident) {
+    return new TableBatchOperation(
+        Type.PURGE, ident, null, null, null, null, null, null, null, null);
+  }
+
+  /**
+   * Checks that all the operations are on the tables of one schema.
+   *
+   * @param operations The operations to check.
+   * @return The namespace of the tables.
+   * @throws IllegalArgumentException If there is no operation or the operations are on the tables
+   *     of different schemas.
+   */
+  public static Namespace checkSameNamespace(TableBatchOperation... operations) {
+    Preconditions.checkArgument(
+        operations != null && operations.length > 0, "operations must not be null or empty");
+    Namespace namespace = operations[0].identifier().namespace();
+    for (TableBatchOperation operation : operations) {
+      Preconditions.checkArgument(
+          namespace.equals(operation.identifier().namespace()),
+          "All the tables of a batch must be in the same schema, but got %s and %s",
+          namespace,
+          operation.identifier().namespace());
+    }
+    return namespace;
+  }
+
+  /** @return The type of the operation. */
+  public Type type() {
+    return type;
+  }
+
+  /** @return The identifier of the table. */
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  /** @return The columns of the table to create, null for other operations. */
+  @Nullable
+  public Column[] columns() {
+    return columns;
+  }
+
+  /** @return The comment of the table to create, null for other operations. */
+  @Nullable
+  public String comment() {
+    return comment;
+  }
+
+  /** @return The properties of the table to create, null for other operations. */
+  @Nullable
+  public Map<String, String> properties() {
+    return properties;
+  }
+
+  /** @return The partitioning of the table to create, null for other operations. */
+  @Nullable
+  public Transform[] partitioning() {
+    return partitioning;
+  }
+
+  /** @return The distribution of the table to create, null for other operations. */
+  @Nullable
+  public Distribution distribution() {
+    return distribution;
+  }
+
+  /** @return The sort orders of the table to create, null for other operations. */
+  @Nullable
+  public SortOrder[] sortOrders() {
+    return sortOrders;
+  }
+
+  /** @return The indexes of the table to create, null for other operations. */
+  @Nullable
+  public Index[] indexes() {
+    return indexes;
+  }
+
+  /** @return The changes of the table to alter, null for other operations. */
+  @Nullable
+  public TableChange[] changes() {
+    return changes;
+  }
+}
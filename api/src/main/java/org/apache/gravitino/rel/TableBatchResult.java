@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.rel;
+
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * The result of one {@link TableBatchOperation}. An operation either succeeds with the created or
+ * altered table, or with whether the table is dropped, or fails with an error. A failed operation
+ * doesn't affect the other operations of the batch.
+ */
+@Evolving
+public final class TableBatchResult {
+
+  private final TableBatchOperation.Type type;
+  private final NameIdentifier identifier;
+  @Nullable private final Table table;
+  private final boolean dropped;
+  @Nullable private final RuntimeException error;
+
+  private TableBatchResult(
+      TableBatchOperation.Type type,
+      NameIdentifier identifier,
+      Table table,
+      boolean dropped,
+      RuntimeException error) {
+    this.type = type;
+    this.identifier = identifier;
+    this.table = table;
+    this.dropped = dropped;
+    this.error = error;
+  }
+
+  /**
+   * Creates the result of a succeeded create or alter operation.
+   *
+   * @param type The type of the operation.
+   * @param identifier The identifier of the table.
+   * @param table The created or altered table.
+   * @return The result.
+   */
+  public static TableBatchResult ofTable(
+      TableBatchOperation.Type type, NameIdentifier identifier, Table table) {
+    return new TableBatchResult(type, identifier, table, false, null);
+  }
+
+  /**
+   * Creates the result of a succeeded drop or purge operation.
+   *
+   * @param type The type of the operation.
+   * @param identifier The identifier of the table.
+   * @param dropped True if the table is dropped, false if the table does not exist.
+   * @return The result.
+   */
+  public static TableBatchResult ofDropped(
+      TableBatchOperation.Type type, NameIdentifier identifier, boolean dropped) {
+    return new TableBatchResult(type, identifier, null, dropped, null);
+  }
+
+  /**
+   * Creates the result of a failed operation.
+   *
+   * @param type The type of the operation.
+   * @param identifier The identifier of the table.
+   * @param error The error of the operation.
+   * @return The result.
+   */
+  public static TableBatchResult ofFailure(
+      TableBatchOperation.Type type, NameIdentifier identifier, RuntimeException error) {
+    return new TableBatchResult(type, identifier, null, false, error);
+  }
+
+  /** @return The type of the operation. */
+  public TableBatchOperation.Type type() {
+    return type;
+  }
+
+  /** @return The identifier of the table. */
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  /** @return True if the operation succeeded. */
+  public boolean succeeded() {
+    return error == null;
+  }
+
+  /** @return The created or altered table, null for drop operations and failed operations. */
+  @Nullable
+  public Table table() {
+    return table;
+  }
+
+  /** @return True if the table is dropped or purged, false if the table does not exist. */
+  public boolean dropped() {
+    return dropped;
+  }
+
+  /** @return The error of a failed operation, null if the operation succeeded. */
+  @Nullable
+  public RuntimeException error() {
+    return error;
+  }
+}
@@ -23,6 +23,7 @@ package org.apache.gravitino.rel;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -51,6 +52,22 @@ public interface TableCatalog {
    */
   NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List a page of the tables in a namespace from the catalog, the tables are sorted by their
+   * names. The catalogs which can page the tables natively should override this method, the default
+   * implementation lists all the tables and slices the page out of them.
+   *
+   * @param namespace A namespace.
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the tables of the page.
+   * @return A page of the table identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    return Page.of(listTables(namespace), NameIdentifier::name, pageToken, limit);
+  }
+
   /**
    * Load table metadata by {@link NameIdentifier} from the catalog.
    *
@@ -297,4 +314,61 @@ public interface TableCatalog {
   default boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
     throw new UnsupportedOperationException("purgeTable not supported.");
   }
+
+  /**
+   * Apply several create, alter, drop or purge operations to the tables of one schema. The
+   * operations are applied in order, a failed operation doesn't stop the following ones, its error
+   * is returned in its result instead.
+   *
+   * <p>The catalogs which could apply the operations more efficiently together should override this
+   * method, the default implementation applies the operations one by one.
+   *
+   * @param operations The operations to apply, all on the tables of the same schema.
+   * @return The results of the operations, in the order of the operations.
+   * @throws IllegalArgumentException If the operations are on the tables of different schemas.
+   */
+  default TableBatchResult[] batchOperateTables(TableBatchOperation... operations)
+      throws IllegalArgumentException {
+    TableBatchOperation.checkSameNamespace(operations);
+    TableBatchResult[] results = new TableBatchResult[operations.length];
+    for (int i = 0; i < operations.length; i++) {
+      TableBatchOperation operation = operations[i];
+      NameIdentifier ident = operation.identifier();
+      try {
+        switch (operation.type()) {
+          case CREATE:
+            results[i] =
+                TableBatchResult.ofTable(
+                    operation.type(),
+                    ident,
+                    createTable(
+                        ident,
+                        operation.columns(),
+                        operation.comment(),
+                        operation.properties(),
+                        operation.partitioning(),
+                        operation.distribution(),
+                        operation.sortOrders(),
+                        operation.indexes()));
+            break;
+          case ALTER:
+            results[i] =
+                TableBatchResult.ofTable(
+                    operation.type(), ident, alterTable(ident, operation.changes()));
+            break;
+          case DROP:
+            results[i] = TableBatchResult.ofDropped(operation.type(), ident, dropTable(ident));
+            break;
+          case PURGE:
+            results[i] = TableBatchResult.ofDropped(operation.type(), ident, purgeTable(ident));
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown operation type: " + operation.type());
+        }
+      } catch (RuntimeException e) {
+        results[i] = TableBatchResult.ofFailure(operation.type(), ident, e);
+      }
+    }
+    return results;
+  }
 }
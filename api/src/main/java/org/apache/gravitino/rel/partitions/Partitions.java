@@ -18,7 +18,10 @@
  */
 package org.apache.gravitino.rel.partitions;
 
+import com.google.common.base.Preconditions;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.apache.gravitino.rel.expressions.literals.Literal;
@@ -29,6 +32,9 @@ public class Partitions {
   /** An empty array of partitions. */
   public static Partition[] EMPTY_PARTITIONS = new Partition[0];
 
+  private static final String PARTITION_NAME_DELIMITER = "/";
+  private static final String PARTITION_VALUE_DELIMITER = "=";
+
   /**
    * Creates a range partition.
    *
@@ -83,6 +89,54 @@ public class Partitions {
     return identity(null, fieldNames, values, null);
   }
 
+  /**
+   * Parses a partition filter. The filter is a partial partition spec in the format of
+   * "field1=value1/field2=value2", which is the same as the names of the identity partitions, but
+   * only a part of the partition fields need to be specified.
+   *
+   * @param filter The partition filter.
+   * @return The values of the partition fields in the filter, in the order of the filter.
+   * @throws IllegalArgumentException If the filter is not valid.
+   */
+  public static Map<String, String> parseFilter(String filter) {
+    Preconditions.checkArgument(
+        filter != null && !filter.isEmpty(), "The partition filter must not be empty");
+    Map<String, String> fieldValues = new LinkedHashMap<>();
+    for (String part : filter.split(PARTITION_NAME_DELIMITER)) {
+      String[] fieldValue = part.split(PARTITION_VALUE_DELIMITER, 2);
+      Preconditions.checkArgument(
+          fieldValue.length == 2 && !fieldValue[0].isEmpty(),
+          "Invalid partition filter %s, it must be in the format of field1=value1/field2=value2",
+          filter);
+      Preconditions.checkArgument(
+          fieldValues.put(fieldValue[0], fieldValue[1]) == null,
+          "Duplicate field %s in partition filter %s",
+          fieldValue[0],
+          filter);
+    }
+    return Collections.unmodifiableMap(fieldValues);
+  }
+
+  /**
+   * Checks whether the partition name in the format of "field1=value1/field2=value2" matches the
+   * filter, that is, the partition has the same values for all the fields in the filter.
+   *
+   * @param partitionName The name of the partition.
+   * @param filter The field values parsed by {@link #parseFilter(String)}.
+   * @return True if the partition matches the filter.
+   */
+  public static boolean matchesFilter(String partitionName, Map<String, String> filter) {
+    Map<String, String> fieldValues = new LinkedHashMap<>();
+    for (String part : partitionName.split(PARTITION_NAME_DELIMITER)) {
+      String[] fieldValue = part.split(PARTITION_VALUE_DELIMITER, 2);
+      if (fieldValue.length == 2) {
+        fieldValues.put(fieldValue[0], fieldValue[1]);
+      }
+    }
+    return filter.entrySet().stream()
+        .allMatch(e -> Objects.equals(fieldValues.get(e.getKey()), e.getValue()));
+  }
+
   /** Represents a result of range partitioning. */
   private static class RangePartitionImpl implements RangePartition {
     private final String name;
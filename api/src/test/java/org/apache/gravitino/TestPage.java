@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPage {
+
+  @Test
+  public void testPageOf() {
+    String[] names = new String[] {"d", "b", "e", "a", "c"};
+
+    Page<String> page1 = Page.of(names, name -> name, null, 2);
+    Assertions.assertArrayEquals(new String[] {"a", "b"}, page1.items());
+    Assertions.assertEquals("b", page1.nextPageToken());
+    Assertions.assertTrue(page1.hasNextPage());
+
+    Page<String> page2 = Page.of(names, name -> name, page1.nextPageToken(), 2);
+    Assertions.assertArrayEquals(new String[] {"c", "d"}, page2.items());
+
+    Page<String> page3 = Page.of(names, name -> name, page2.nextPageToken(), 2);
+    Assertions.assertArrayEquals(new String[] {"e"}, page3.items());
+    Assertions.assertNull(page3.nextPageToken());
+    Assertions.assertFalse(page3.hasNextPage());
+
+    // The page token doesn't need to be an existing name, the items are not modified
+    Page<String> page = Page.of(names, name -> name, "bb", 10);
+    Assertions.assertArrayEquals(new String[] {"c", "d", "e"}, page.items());
+    Assertions.assertNull(page.nextPageToken());
+    Assertions.assertArrayEquals(new String[] {"d", "b", "e", "a", "c"}, names);
+
+    Assertions.assertEquals(0, Page.of(names, name -> name, "e", 2).items().length);
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Page.of(names, name -> name, null, 0));
+  }
+}
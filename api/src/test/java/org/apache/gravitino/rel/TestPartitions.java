@@ -21,6 +21,7 @@ package org.apache.gravitino.rel;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.time.LocalDate;
+import java.util.Map;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.partitions.IdentityPartition;
@@ -91,4 +92,25 @@ public class TestPartitions {
     Assertions.assertEquals(
         Literals.stringLiteral("us"), ((IdentityPartition) partition).values()[1]);
   }
+
+  @Test
+  public void testPartitionFilter() {
+    Map<String, String> filter = Partitions.parseFilter("dt=2008-08-08/country=us");
+    Assertions.assertEquals(ImmutableMap.of("dt", "2008-08-08", "country", "us"), filter);
+    Assertions.assertTrue(Partitions.matchesFilter("dt=2008-08-08/country=us", filter));
+    Assertions.assertTrue(Partitions.matchesFilter("dt=2008-08-08/hour=01/country=us", filter));
+    Assertions.assertFalse(Partitions.matchesFilter("dt=2008-08-08/country=cn", filter));
+    Assertions.assertFalse(Partitions.matchesFilter("dt=2008-08-08", filter));
+    Assertions.assertFalse(Partitions.matchesFilter("p20080808", filter));
+
+    // The value can contain '=' and be empty.
+    Assertions.assertEquals(ImmutableMap.of("k", "a=b"), Partitions.parseFilter("k=a=b"));
+    Assertions.assertEquals(ImmutableMap.of("k", ""), Partitions.parseFilter("k="));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Partitions.parseFilter(""));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Partitions.parseFilter("dt"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Partitions.parseFilter("=v"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Partitions.parseFilter("k=1/k=2"));
+  }
 }
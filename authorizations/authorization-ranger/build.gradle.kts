@@ -47,6 +47,8 @@ dependencies {
   implementation(libs.javax.ws.rs.api)
   implementation(libs.jettison)
   compileOnly(libs.lombok)
+  // The metrics classes are shared from the Gravitino server class loader.
+  compileOnly(libs.metrics.core)
   implementation(libs.mail)
   implementation(libs.ranger.intg) {
     exclude("org.apache.hadoop", "hadoop-common")
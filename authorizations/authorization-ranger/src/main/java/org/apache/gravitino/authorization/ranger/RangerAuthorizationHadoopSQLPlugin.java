@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.authorization.ranger;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -50,6 +51,12 @@ public class RangerAuthorizationHadoopSQLPlugin extends RangerAuthorizationPlugi
     super(config);
   }
 
+  @VisibleForTesting
+  RangerAuthorizationHadoopSQLPlugin(
+      Map<String, String> config, RangerClientExtension rangerClient) {
+    super(config, rangerClient);
+  }
+
   public static synchronized RangerAuthorizationHadoopSQLPlugin getInstance(
       Map<String, String> config) {
     if (instance == null) {
@@ -26,6 +26,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -34,29 +35,33 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.authorization.Group;
 import org.apache.gravitino.authorization.MetadataObjectChange;
 import org.apache.gravitino.authorization.Owner;
-import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.authorization.Role;
 import org.apache.gravitino.authorization.RoleChange;
 import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.authorization.User;
 import org.apache.gravitino.authorization.ranger.reference.VXGroup;
-import org.apache.gravitino.authorization.ranger.reference.VXGroupList;
 import org.apache.gravitino.authorization.ranger.reference.VXUser;
-import org.apache.gravitino.authorization.ranger.reference.VXUserList;
 import org.apache.gravitino.connector.AuthorizationPropertiesMeta;
 import org.apache.gravitino.connector.authorization.AuthorizationPlugin;
 import org.apache.gravitino.exceptions.AuthorizationPluginException;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.ranger.RangerServiceException;
 import org.apache.ranger.plugin.model.RangerPolicy;
@@ -82,21 +87,39 @@ public abstract class RangerAuthorizationPlugin
   protected final String rangerServiceName;
   protected final RangerClientExtension rangerClient;
   private final RangerHelper rangerHelper;
+  private final ExecutorService policySyncExecutor;
+  private final RangerClientMetricsSource metricsSource;
   @VisibleForTesting public final String rangerAdminName;
 
   protected RangerAuthorizationPlugin(Map<String, String> config) {
-    String rangerUrl = config.get(AuthorizationPropertiesMeta.RANGER_ADMIN_URL);
-    String authType = config.get(AuthorizationPropertiesMeta.RANGER_AUTH_TYPE);
+    this(config, createRangerClient(config));
+  }
+
+  @VisibleForTesting
+  RangerAuthorizationPlugin(Map<String, String> config, RangerClientExtension rangerClient) {
     rangerAdminName = config.get(AuthorizationPropertiesMeta.RANGER_USERNAME);
-    // Apache Ranger Password should be minimum 8 characters with min one alphabet and one numeric.
-    String password = config.get(AuthorizationPropertiesMeta.RANGER_PASSWORD);
     rangerServiceName = config.get(AuthorizationPropertiesMeta.RANGER_SERVICE_NAME);
-    Preconditions.checkArgument(rangerUrl != null, "Ranger admin URL is required");
-    Preconditions.checkArgument(authType != null, "Ranger auth type is required");
     Preconditions.checkArgument(rangerAdminName != null, "Ranger username is required");
-    Preconditions.checkArgument(password != null, "Ranger password is required");
     Preconditions.checkArgument(rangerServiceName != null, "Ranger service name is required");
-    rangerClient = new RangerClientExtension(rangerUrl, authType, rangerAdminName, password);
+    int policySyncParallelism =
+        Integer.parseInt(
+            config.getOrDefault(
+                AuthorizationPropertiesMeta.RANGER_POLICY_SYNC_PARALLELISM,
+                String.valueOf(
+                    AuthorizationPropertiesMeta.DEFAULT_RANGER_POLICY_SYNC_PARALLELISM)));
+    Preconditions.checkArgument(
+        policySyncParallelism > 0, "Ranger policy sync parallelism must be positive");
+    this.rangerClient = rangerClient;
+    this.policySyncExecutor = createPolicySyncExecutor(policySyncParallelism);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSource = new RangerClientMetricsSource(rangerServiceName);
+      rangerClient.setMetricsSource(metricsSource);
+      metricsSystem.register(metricsSource);
+    } else {
+      metricsSource = null;
+    }
 
     rangerHelper =
         new RangerHelper(
@@ -107,6 +130,41 @@ public abstract class RangerAuthorizationPlugin
             policyResourceDefinesRule());
   }
 
+  private static RangerClientExtension createRangerClient(Map<String, String> config) {
+    String rangerUrl = config.get(AuthorizationPropertiesMeta.RANGER_ADMIN_URL);
+    String authType = config.get(AuthorizationPropertiesMeta.RANGER_AUTH_TYPE);
+    String username = config.get(AuthorizationPropertiesMeta.RANGER_USERNAME);
+    // Apache Ranger Password should be minimum 8 characters with min one alphabet and one numeric.
+    String password = config.get(AuthorizationPropertiesMeta.RANGER_PASSWORD);
+    Preconditions.checkArgument(rangerUrl != null, "Ranger admin URL is required");
+    Preconditions.checkArgument(authType != null, "Ranger auth type is required");
+    Preconditions.checkArgument(username != null, "Ranger username is required");
+    Preconditions.checkArgument(password != null, "Ranger password is required");
+    long principalCacheTtlMs =
+        Long.parseLong(
+            config.getOrDefault(
+                AuthorizationPropertiesMeta.RANGER_PRINCIPAL_CACHE_TTL_MS,
+                String.valueOf(AuthorizationPropertiesMeta.DEFAULT_RANGER_PRINCIPAL_CACHE_TTL_MS)));
+    return new RangerClientExtension(rangerUrl, authType, username, password, principalCacheTtlMs);
+  }
+
+  private static ExecutorService createPolicySyncExecutor(int parallelism) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("ranger-policy-sync-%d")
+                .build());
+    // The policies are only synchronized when the roles change, don't keep the idle threads.
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   /**
    * Create a new role in the Ranger. <br>
    * 1. Create a policy for metadata object. <br>
@@ -156,9 +214,15 @@ public abstract class RangerAuthorizationPlugin
     return Boolean.TRUE;
   }
 
+  /**
+   * Update the role's securable objects in the Ranger policies. <br>
+   * All the changes are validated and translated before any policy is modified, then the policy
+   * mutations are applied by policy, see {@link RangerPolicyBatch}. <br>
+   */
   @Override
   public Boolean onRoleUpdated(Role role, RoleChange... changes)
       throws AuthorizationPluginException {
+    RangerPolicyBatch policyBatch = new RangerPolicyBatch(role.name());
     for (RoleChange change : changes) {
       if (change instanceof RoleChange.AddSecurableObject) {
         SecurableObject securableObject =
@@ -167,15 +231,7 @@ public abstract class RangerAuthorizationPlugin
           return false;
         }
 
-        List<RangerSecurableObject> rangerSecurableObjects = translatePrivilege(securableObject);
-        rangerSecurableObjects.stream()
-            .forEach(
-                rangerSecurableObject -> {
-                  if (!doAddSecurableObject(role.name(), rangerSecurableObject)) {
-                    throw new AuthorizationPluginException(
-                        "Failed to add the securable object to the Ranger policy!");
-                  }
-                });
+        translatePrivilege(securableObject).forEach(policyBatch::addSecurableObject);
       } else if (change instanceof RoleChange.RemoveSecurableObject) {
         SecurableObject securableObject =
             ((RoleChange.RemoveSecurableObject) change).getSecurableObject();
@@ -183,15 +239,7 @@ public abstract class RangerAuthorizationPlugin
           return false;
         }
 
-        List<RangerSecurableObject> rangerSecurableObjects = translatePrivilege(securableObject);
-        rangerSecurableObjects.stream()
-            .forEach(
-                rangerSecurableObject -> {
-                  if (!doRemoveSecurableObject(role.name(), rangerSecurableObject)) {
-                    throw new AuthorizationPluginException(
-                        "Failed to add the securable object to the Ranger policy!");
-                  }
-                });
+        translatePrivilege(securableObject).forEach(policyBatch::removeSecurableObject);
       } else if (change instanceof RoleChange.UpdateSecurableObject) {
         SecurableObject oldSecurableObject =
             ((RoleChange.UpdateSecurableObject) change).getSecurableObject();
@@ -208,20 +256,8 @@ public abstract class RangerAuthorizationPlugin
             (oldSecurableObject.fullName().equals(newSecurableObject.fullName())
                 && oldSecurableObject.type().equals(newSecurableObject.type())),
             "The old and new securable objects metadata must be equal!");
-        List<RangerSecurableObject> rangerOldSecurableObjects =
-            translatePrivilege(oldSecurableObject);
-        List<RangerSecurableObject> rangerNewSecurableObjects =
-            translatePrivilege(newSecurableObject);
-        rangerOldSecurableObjects.stream()
-            .forEach(
-                rangerSecurableObject -> {
-                  doRemoveSecurableObject(role.name(), rangerSecurableObject);
-                });
-        rangerNewSecurableObjects.stream()
-            .forEach(
-                rangerSecurableObject -> {
-                  doAddSecurableObject(role.name(), rangerSecurableObject);
-                });
+        translatePrivilege(oldSecurableObject).forEach(policyBatch::removeSecurableObject);
+        translatePrivilege(newSecurableObject).forEach(policyBatch::addSecurableObject);
       } else {
         throw new IllegalArgumentException(
             "Unsupported role change type: "
@@ -229,6 +265,7 @@ public abstract class RangerAuthorizationPlugin
       }
     }
 
+    policyBatch.apply(rangerHelper, rangerClient, policySyncExecutor);
     return Boolean.TRUE;
   }
 
@@ -541,8 +578,7 @@ public abstract class RangerAuthorizationPlugin
 
   @Override
   public Boolean onUserAdded(User user) throws AuthorizationPluginException {
-    VXUserList list = rangerClient.searchUser(ImmutableMap.of("name", user.name()));
-    if (list.getListSize() > 0) {
+    if (rangerClient.findUserId(user.name()).isPresent()) {
       LOG.warn("The user({}) already exists in the Ranger!", user.name());
       return Boolean.FALSE;
     }
@@ -553,19 +589,18 @@ public abstract class RangerAuthorizationPlugin
 
   @Override
   public Boolean onUserRemoved(User user) throws AuthorizationPluginException {
-    VXUserList list = rangerClient.searchUser(ImmutableMap.of("name", user.name()));
-    if (list.getListSize() == 0) {
+    Optional<Long> userId = rangerClient.findUserId(user.name());
+    if (!userId.isPresent()) {
       LOG.warn("The user({}) doesn't exist in the Ranger!", user);
       return Boolean.FALSE;
     }
-    rangerClient.deleteUser(list.getList().get(0).getId());
+    rangerClient.deleteUser(userId.get());
     return Boolean.TRUE;
   }
 
   @Override
   public Boolean onUserAcquired(User user) throws AuthorizationPluginException {
-    VXUserList list = rangerClient.searchUser(ImmutableMap.of("name", user.name()));
-    if (list.getListSize() == 0) {
+    if (!rangerClient.findUserId(user.name()).isPresent()) {
       LOG.warn("The user({}) doesn't exist in the Ranger!", user);
       return Boolean.FALSE;
     }
@@ -574,186 +609,33 @@ public abstract class RangerAuthorizationPlugin
 
   @Override
   public Boolean onGroupAdded(Group group) throws AuthorizationPluginException {
+    if (rangerClient.findGroupId(group.name()).isPresent()) {
+      LOG.warn("The group({}) already exists in the Ranger!", group.name());
+      return Boolean.FALSE;
+    }
     return rangerClient.createGroup(
         VXGroup.builder().withName(group.name()).withDescription(group.name()).build());
   }
 
   @Override
   public Boolean onGroupRemoved(Group group) throws AuthorizationPluginException {
-    VXGroupList list = rangerClient.searchGroup(ImmutableMap.of("name", group.name()));
-    if (list.getListSize() == 0) {
+    Optional<Long> groupId = rangerClient.findGroupId(group.name());
+    if (!groupId.isPresent()) {
       LOG.warn("The group({}) doesn't exist in the Ranger!", group);
       return Boolean.FALSE;
     }
-    return rangerClient.deleteGroup(list.getList().get(0).getId());
+    return rangerClient.deleteGroup(groupId.get());
   }
 
   @Override
   public Boolean onGroupAcquired(Group group) {
-    VXGroupList vxGroupList = rangerClient.searchGroup(ImmutableMap.of("name", group.name()));
-    if (vxGroupList.getListSize() == 0) {
+    if (!rangerClient.findGroupId(group.name()).isPresent()) {
       LOG.warn("The group({}) doesn't exist in the Ranger!", group);
       return Boolean.FALSE;
     }
     return Boolean.TRUE;
   }
 
-  /**
-   * Add the securable object's privilege to the Ranger policy. <br>
-   * 1. Find the policy base the metadata object. <br>
-   * 2. If the policy exists and has the same privilege, because support idempotent operation, so
-   * return true. <br>
-   * 3. If the policy does not exist, then create a new policy. <br>
-   */
-  private boolean doAddSecurableObject(String roleName, RangerSecurableObject securableObject) {
-    RangerPolicy policy = rangerHelper.findManagedPolicy(securableObject);
-
-    if (policy != null) {
-      // Check the policy item's accesses and roles equal the Ranger securable object's privilege
-      List<RangerPrivilege> allowPrivilies =
-          securableObject.privileges().stream()
-              .filter(privilege -> privilege.condition() == Privilege.Condition.ALLOW)
-              .collect(Collectors.toList());
-      List<RangerPrivilege> denyPrivilies =
-          securableObject.privileges().stream()
-              .filter(privilege -> privilege.condition() == Privilege.Condition.DENY)
-              .collect(Collectors.toList());
-
-      Set<RangerPrivilege> policyPrivileges =
-          policy.getPolicyItems().stream()
-              .filter(policyItem -> policyItem.getRoles().contains(roleName))
-              .flatMap(policyItem -> policyItem.getAccesses().stream())
-              .map(RangerPolicy.RangerPolicyItemAccess::getType)
-              .map(RangerPrivileges::valueOf)
-              .collect(Collectors.toSet());
-
-      Set<RangerPrivilege> policyDenyPrivileges =
-          policy.getDenyPolicyItems().stream()
-              .filter(policyItem -> policyItem.getRoles().contains(roleName))
-              .flatMap(policyItem -> policyItem.getAccesses().stream())
-              .map(RangerPolicy.RangerPolicyItemAccess::getType)
-              .map(RangerPrivileges::valueOf)
-              .collect(Collectors.toSet());
-
-      if (policyPrivileges.containsAll(allowPrivilies)
-          && policyDenyPrivileges.containsAll(denyPrivilies)) {
-        LOG.info(
-            "The privilege({}) already added to Ranger policy({})!",
-            policy.getName(),
-            securableObject.fullName());
-        // If it exists policy with the same privilege, then directly return true, because support
-        // idempotent operation.
-        return true;
-      }
-    } else {
-      policy = rangerHelper.createPolicyAddResources(securableObject);
-    }
-
-    rangerHelper.addPolicyItem(policy, roleName, securableObject);
-    try {
-      if (policy.getId() == null) {
-        rangerClient.createPolicy(policy);
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
-    } catch (RangerServiceException e) {
-      throw new AuthorizationPluginException(
-          e, "Failed to add the securable object to the Ranger!");
-    }
-
-    return true;
-  }
-
-  /**
-   * Remove the securable object's privilege from the policy. <br>
-   * 1. Find the policy base the metadata object. <br>
-   * 2. If the policy exists and has the same privilege, then remove role name in the policy items.
-   * <br>
-   * 3. If policy does not contain any policy item, then delete this policy. <br>
-   */
-  private boolean doRemoveSecurableObject(
-      String roleName, RangerSecurableObject rangerSecurableObject) {
-    RangerPolicy policy = rangerHelper.findManagedPolicy(rangerSecurableObject);
-    if (policy == null) {
-      LOG.warn(
-          "Cannot find the Ranger policy for the Ranger securable object({})!",
-          rangerSecurableObject.fullName());
-      // Don't throw exception or return false, because need support immutable operation.
-      return true;
-    }
-
-    rangerSecurableObject.privileges().stream()
-        .forEach(
-            rangerPrivilege -> {
-              if (rangerPrivilege.condition() == Privilege.Condition.ALLOW) {
-                policy
-                    .getPolicyItems()
-                    .forEach(
-                        policyItem -> {
-                          removePolicyItemIfEqualRoleName(
-                              policyItem, rangerSecurableObject, roleName);
-                        });
-              } else {
-                policy
-                    .getDenyPolicyItems()
-                    .forEach(
-                        policyItem -> {
-                          removePolicyItemIfEqualRoleName(
-                              policyItem, rangerSecurableObject, roleName);
-                        });
-              }
-            });
-
-    // If the policy does have any role and user and group, then remove it.
-    policy
-        .getPolicyItems()
-        .removeIf(
-            policyItem ->
-                policyItem.getRoles().isEmpty()
-                    && policyItem.getUsers().isEmpty()
-                    && policyItem.getGroups().isEmpty());
-    policy
-        .getDenyPolicyItems()
-        .removeIf(
-            policyItem ->
-                policyItem.getRoles().isEmpty()
-                    && policyItem.getUsers().isEmpty()
-                    && policyItem.getGroups().isEmpty());
-
-    try {
-      if (policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty()) {
-        rangerClient.deletePolicy(policy.getId());
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
-    } catch (RangerServiceException e) {
-      LOG.error("Failed to remove the policy item from the Ranger policy {}!", policy);
-      throw new AuthorizationPluginException(
-          e, "Failed to remove the securable object from Ranger!");
-    }
-    return true;
-  }
-
-  private void removePolicyItemIfEqualRoleName(
-      RangerPolicy.RangerPolicyItem policyItem,
-      RangerSecurableObject rangerSecurableObject,
-      String roleName) {
-    boolean match =
-        policyItem.getAccesses().stream()
-            .allMatch(
-                // Find the policy item that matches access and role
-                access -> {
-                  // Use Gravitino privilege to search the Ranger policy item's access
-                  boolean matchPrivilege =
-                      rangerSecurableObject.privileges().stream()
-                          .anyMatch(privilege -> privilege.equalsTo(access.getType()));
-                  return matchPrivilege;
-                });
-    if (match) {
-      policyItem.getRoles().removeIf(roleName::equals);
-    }
-  }
-
   /**
    * IF remove the SCHEMA, need to remove these the relevant policies, `{schema}`, `{schema}.*`,
    * `{schema}.*.*` <br>
@@ -1046,7 +928,13 @@ public abstract class RangerAuthorizationPlugin
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    policySyncExecutor.shutdownNow();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
 
   /** Generate Ranger securable object */
   public RangerSecurableObject generateRangerSecurableObject(
@@ -18,13 +18,20 @@
  */
 package org.apache.gravitino.authorization.ranger;
 
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.api.client.UniformInterfaceException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.authorization.ranger.reference.VXGroup;
@@ -34,13 +41,17 @@ import org.apache.gravitino.authorization.ranger.reference.VXUserList;
 import org.apache.ranger.RangerClient;
 import org.apache.ranger.RangerServiceException;
 import org.apache.ranger.plugin.model.RangerPolicy;
+import org.apache.ranger.plugin.model.RangerRole;
+import org.apache.ranger.plugin.util.GrantRevokeRoleRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Apache Ranger client extension <br>
  * The class extends the RangerClient class and provides additional methods to create, search and
- * delete users and groups
+ * delete users and groups. <br>
+ * The ids of the Ranger users and groups are cached for a configurable time to live, and the number
+ * and the latency of the Ranger admin REST calls are reported to the metrics source if it's set.
  */
 public class RangerClientExtension extends RangerClient {
   private static final Logger LOG = LoggerFactory.getLogger(RangerClientExtension.class);
@@ -49,6 +60,7 @@ public class RangerClientExtension extends RangerClient {
   private static final String URI_GROUP_BASE = "/service/xusers/groups";
   private static final String URI_GROUP_BY_ID = URI_GROUP_BASE + "/%d";
   private static final String URI_CREATE_EXTERNAL_USER = URI_USER_BASE + "/external";
+  private static final long MAX_CACHED_PRINCIPALS = 100_000L;
 
   // Ranger user APIs
   private static final API SEARCH_USER = new API(URI_USER_BASE, HttpMethod.GET, Response.Status.OK);
@@ -77,8 +89,24 @@ public class RangerClientExtension extends RangerClient {
   // private void callAPI(API api, Map<String, String> params) throws RangerServiceException
   private Method callAPIMethodNonResponse;
 
+  // The ids of the Ranger users and groups by name, null if the cache is disabled.
+  private final Cache<String, Long> userIds;
+  private final Cache<String, Long> groupIds;
+  private volatile RangerClientMetricsSource metricsSource;
+
   public RangerClientExtension(String hostName, String authType, String username, String password) {
+    this(hostName, authType, username, password, 0);
+  }
+
+  public RangerClientExtension(
+      String hostName,
+      String authType,
+      String username,
+      String password,
+      long principalCacheTtlMs) {
     super(hostName, authType, username, password, null);
+    this.userIds = principalCacheTtlMs > 0 ? newPrincipalCache(principalCacheTtlMs) : null;
+    this.groupIds = principalCacheTtlMs > 0 ? newPrincipalCache(principalCacheTtlMs) : null;
 
     // initialize callAPI method
     try {
@@ -100,22 +128,146 @@ public class RangerClientExtension extends RangerClient {
     }
   }
 
+  void setMetricsSource(RangerClientMetricsSource metricsSource) {
+    this.metricsSource = metricsSource;
+  }
+
+  @Override
   public RangerPolicy createPolicy(RangerPolicy policy) throws RangerServiceException {
     Preconditions.checkArgument(
         policy.getResources().size() > 0, "Ranger policy resources can not be empty!");
-    return super.createPolicy(policy);
+    try (Timer.Context ignored = time("create-policy")) {
+      return super.createPolicy(policy);
+    }
   }
 
+  @Override
   public RangerPolicy updatePolicy(long policyId, RangerPolicy policy)
       throws RangerServiceException {
     Preconditions.checkArgument(
         policy.getResources().size() > 0, "Ranger policy resources can not be empty!");
-    return super.updatePolicy(policyId, policy);
+    try (Timer.Context ignored = time("update-policy")) {
+      return super.updatePolicy(policyId, policy);
+    }
+  }
+
+  @Override
+  public void deletePolicy(long policyId) throws RangerServiceException {
+    try (Timer.Context ignored = time("delete-policy")) {
+      super.deletePolicy(policyId);
+    }
+  }
+
+  @Override
+  public List<RangerPolicy> findPolicies(Map<String, String> filter) throws RangerServiceException {
+    try (Timer.Context ignored = time("find-policies")) {
+      return super.findPolicies(filter);
+    }
+  }
+
+  @Override
+  public List<RangerPolicy> getPoliciesInService(String serviceName) throws RangerServiceException {
+    try (Timer.Context ignored = time("get-policies-in-service")) {
+      return super.getPoliciesInService(serviceName);
+    }
+  }
+
+  @Override
+  public RangerRole createRole(String serviceName, RangerRole role) throws RangerServiceException {
+    try (Timer.Context ignored = time("create-role")) {
+      return super.createRole(serviceName, role);
+    }
+  }
+
+  @Override
+  public RangerRole getRole(String roleName, String execUser, String serviceName)
+      throws RangerServiceException {
+    try (Timer.Context ignored = time("get-role")) {
+      return super.getRole(roleName, execUser, serviceName);
+    }
+  }
+
+  @Override
+  public void deleteRole(String roleName, String execUser, String serviceName)
+      throws RangerServiceException {
+    try (Timer.Context ignored = time("delete-role")) {
+      super.deleteRole(roleName, execUser, serviceName);
+    }
+  }
+
+  @Override
+  public void grantRole(String serviceName, GrantRevokeRoleRequest request)
+      throws RangerServiceException {
+    try (Timer.Context ignored = time("grant-role")) {
+      super.grantRole(serviceName, request);
+    }
+  }
+
+  @Override
+  public void revokeRole(String serviceName, GrantRevokeRoleRequest request)
+      throws RangerServiceException {
+    try (Timer.Context ignored = time("revoke-role")) {
+      super.revokeRole(serviceName, request);
+    }
+  }
+
+  /**
+   * Find the id of the Ranger user by name, the id is searched in the Ranger and cached if it's
+   * absent in the cache.
+   *
+   * @param userName The name of the user.
+   * @return The id of the user, or empty if the user doesn't exist in the Ranger.
+   */
+  public Optional<Long> findUserId(String userName) {
+    Long userId = userIds == null ? null : userIds.getIfPresent(userName);
+    if (userId != null) {
+      return Optional.of(userId);
+    }
+
+    VXUserList list = searchUser(ImmutableMap.of("name", userName));
+    if (list.getListSize() == 0) {
+      return Optional.empty();
+    }
+    userId = list.getList().get(0).getId();
+    if (userIds != null) {
+      userIds.put(userName, userId);
+    }
+    return Optional.of(userId);
+  }
+
+  /**
+   * Find the id of the Ranger group by name, the id is searched in the Ranger and cached if it's
+   * absent in the cache.
+   *
+   * @param groupName The name of the group.
+   * @return The id of the group, or empty if the group doesn't exist in the Ranger.
+   */
+  public Optional<Long> findGroupId(String groupName) {
+    Long groupId = groupIds == null ? null : groupIds.getIfPresent(groupName);
+    if (groupId != null) {
+      return Optional.of(groupId);
+    }
+
+    VXGroupList list = searchGroup(ImmutableMap.of("name", groupName));
+    if (list.getListSize() == 0) {
+      return Optional.empty();
+    }
+    groupId = list.getList().get(0).getId();
+    if (groupIds != null) {
+      groupIds.put(groupName, groupId);
+    }
+    return Optional.of(groupId);
   }
 
   public Boolean createUser(VXUser user) throws RuntimeException {
     try {
-      callAPIMethodClassResponseType.invoke(this, CREATE_EXTERNAL_USER, null, user, VXUser.class);
+      callAPI(
+          "create-user",
+          callAPIMethodClassResponseType,
+          CREATE_EXTERNAL_USER,
+          null,
+          user,
+          VXUser.class);
     } catch (UniformInterfaceException e) {
       LOG.error("Failed to create user: " + e.getResponse().getEntity(String.class));
       return Boolean.FALSE;
@@ -147,7 +299,13 @@ public class RangerClientExtension extends RangerClient {
   public VXUserList searchUser(Map<String, String> filter) throws RuntimeException {
     try {
       return (VXUserList)
-          callAPIMethodClassResponseType.invoke(this, SEARCH_USER, filter, null, VXUserList.class);
+          callAPI(
+              "search-user",
+              callAPIMethodClassResponseType,
+              SEARCH_USER,
+              filter,
+              null,
+              VXUserList.class);
     } catch (InvocationTargetException | IllegalAccessException e) {
       throw new RuntimeException(e);
     }
@@ -156,16 +314,19 @@ public class RangerClientExtension extends RangerClient {
   public boolean deleteUser(Long userId) throws RuntimeException {
     try {
       Map<String, String> params = ImmutableMap.of("forceDelete", "true");
-      callAPIMethodNonResponse.invoke(this, DELETE_USER.applyUrlFormat(userId), params);
+      callAPI("delete-user", callAPIMethodNonResponse, DELETE_USER.applyUrlFormat(userId), params);
     } catch (InvocationTargetException | IllegalAccessException | RangerServiceException e) {
       throw new RuntimeException(e);
+    } finally {
+      invalidate(userIds, userId);
     }
     return true;
   }
 
   public Boolean createGroup(VXGroup group) throws RuntimeException {
     try {
-      callAPIMethodClassResponseType.invoke(this, CREATE_GROUP, null, group, VXGroup.class);
+      callAPI(
+          "create-group", callAPIMethodClassResponseType, CREATE_GROUP, null, group, VXGroup.class);
     } catch (UniformInterfaceException e) {
       LOG.error("Failed to create user: " + e.getResponse().getEntity(String.class));
       return Boolean.FALSE;
@@ -178,8 +339,13 @@ public class RangerClientExtension extends RangerClient {
   public VXGroupList searchGroup(Map<String, String> filter) throws RuntimeException {
     try {
       return (VXGroupList)
-          callAPIMethodClassResponseType.invoke(
-              this, SEARCH_GROUP, filter, null, VXGroupList.class);
+          callAPI(
+              "search-group",
+              callAPIMethodClassResponseType,
+              SEARCH_GROUP,
+              filter,
+              null,
+              VXGroupList.class);
     } catch (InvocationTargetException | IllegalAccessException e) {
       throw new RuntimeException(e);
     }
@@ -188,10 +354,39 @@ public class RangerClientExtension extends RangerClient {
   public boolean deleteGroup(Long groupId) throws RuntimeException {
     try {
       Map<String, String> params = ImmutableMap.of("forceDelete", "true");
-      callAPIMethodNonResponse.invoke(this, DELETE_GROUP.applyUrlFormat(groupId), params);
+      callAPI(
+          "delete-group", callAPIMethodNonResponse, DELETE_GROUP.applyUrlFormat(groupId), params);
     } catch (InvocationTargetException | IllegalAccessException | RangerServiceException e) {
       throw new RuntimeException(e);
+    } finally {
+      invalidate(groupIds, groupId);
     }
     return true;
   }
+
+  @VisibleForTesting
+  Object callAPI(String operation, Method callAPIMethod, Object... args)
+      throws InvocationTargetException, IllegalAccessException {
+    try (Timer.Context ignored = time(operation)) {
+      return callAPIMethod.invoke(this, args);
+    }
+  }
+
+  private Timer.Context time(String operation) {
+    RangerClientMetricsSource metrics = metricsSource;
+    return metrics == null ? null : metrics.time(operation);
+  }
+
+  private static Cache<String, Long> newPrincipalCache(long ttlMs) {
+    return CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .maximumSize(MAX_CACHED_PRINCIPALS)
+        .build();
+  }
+
+  private static void invalidate(Cache<String, Long> principalIds, Long id) {
+    if (principalIds != null) {
+      principalIds.asMap().values().removeIf(id::equals);
+    }
+  }
 }
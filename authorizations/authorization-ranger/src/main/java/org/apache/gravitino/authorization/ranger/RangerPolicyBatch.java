@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RangerPolicyBatch collects the Ranger policy mutations of one role change and applies them
+ * together. <br>
+ * 1. The securable objects are grouped by the policy they belong to, so each affected policy is
+ * fetched from the Ranger only once. <br>
+ * 2. All the mutations of a policy are applied to it in memory, the policy is only created, updated
+ * or deleted in the Ranger if it's changed. <br>
+ * 3. The policies are independent of each other, so they are synchronized in parallel. <br>
+ */
+class RangerPolicyBatch {
+  private static final Logger LOG = LoggerFactory.getLogger(RangerPolicyBatch.class);
+
+  private final String roleName;
+  // The mutations grouped by the names of the metadata object of the policy, in the change order.
+  private final Map<List<String>, List<Mutation>> policyMutations = new LinkedHashMap<>();
+
+  RangerPolicyBatch(String roleName) {
+    this.roleName = roleName;
+  }
+
+  /** Add the securable object's privileges to the policy items of the role. */
+  void addSecurableObject(RangerSecurableObject securableObject) {
+    policyMutations
+        .computeIfAbsent(securableObject.names(), names -> new ArrayList<>())
+        .add(new Mutation(securableObject, true));
+  }
+
+  /** Remove the role from the policy items of the securable object's privileges. */
+  void removeSecurableObject(RangerSecurableObject securableObject) {
+    policyMutations
+        .computeIfAbsent(securableObject.names(), names -> new ArrayList<>())
+        .add(new Mutation(securableObject, false));
+  }
+
+  /**
+   * Synchronize the collected mutations to the Ranger policies.
+   *
+   * @param rangerHelper The Ranger helper to find and create the policies.
+   * @param rangerClient The Ranger client to save the policies.
+   * @param executor The executor to synchronize the policies in parallel.
+   * @throws AuthorizationPluginException If failed to synchronize a policy.
+   */
+  void apply(
+      RangerHelper rangerHelper, RangerClientExtension rangerClient, ExecutorService executor)
+      throws AuthorizationPluginException {
+    List<List<Mutation>> policies = new ArrayList<>(policyMutations.values());
+    if (policies.size() <= 1) {
+      policies.forEach(mutations -> syncPolicy(rangerHelper, rangerClient, mutations));
+      return;
+    }
+
+    List<Future<?>> futures = new ArrayList<>(policies.size());
+    try {
+      for (List<Mutation> mutations : policies) {
+        futures.add(executor.submit(() -> syncPolicy(rangerHelper, rangerClient, mutations)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new AuthorizationPluginException(
+          e.getCause(), "Failed to synchronize the Ranger policies of the role(%s)!", roleName);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AuthorizationPluginException(
+          e, "Interrupted while synchronizing the Ranger policies of the role(%s)!", roleName);
+    } finally {
+      // Stop synchronizing the remaining policies if any policy failed.
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private void syncPolicy(
+      RangerHelper rangerHelper, RangerClientExtension rangerClient, List<Mutation> mutations) {
+    RangerSecurableObject securableObject = mutations.get(0).securableObject;
+    RangerPolicy policy = rangerHelper.findManagedPolicy(securableObject);
+    if (policy == null) {
+      Mutation firstAdd =
+          mutations.stream().filter(mutation -> mutation.add).findFirst().orElse(null);
+      if (firstAdd == null) {
+        LOG.warn(
+            "Cannot find the Ranger policy for the Ranger securable object({})!",
+            securableObject.fullName());
+        // Don't throw exception, because need support idempotent operation.
+        return;
+      }
+      policy = rangerHelper.createPolicyAddResources(firstAdd.securableObject);
+    }
+
+    boolean changed = false;
+    for (Mutation mutation : mutations) {
+      if (mutation.add) {
+        changed |= addPolicyItem(rangerHelper, policy, mutation.securableObject);
+      } else {
+        changed |= removePolicyItem(policy, mutation.securableObject);
+      }
+    }
+    if (!changed) {
+      LOG.info(
+          "The Ranger policy of the securable object({}) is unchanged!",
+          securableObject.fullName());
+      return;
+    }
+
+    boolean empty = policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty();
+    try {
+      if (policy.getId() == null) {
+        if (!empty) {
+          rangerClient.createPolicy(policy);
+        }
+      } else if (empty) {
+        rangerClient.deletePolicy(policy.getId());
+      } else {
+        rangerClient.updatePolicy(policy.getId(), policy);
+      }
+    } catch (RangerServiceException e) {
+      LOG.error("Failed to synchronize the Ranger policy {}!", policy);
+      throw new AuthorizationPluginException(
+          e,
+          "Failed to synchronize the securable object(%s) to the Ranger!",
+          securableObject.fullName());
+    }
+  }
+
+  /**
+   * Add the securable object's privileges to the policy items of the role, returns false if the
+   * policy already has the same privileges, because support idempotent operation.
+   */
+  private boolean addPolicyItem(
+      RangerHelper rangerHelper, RangerPolicy policy, RangerSecurableObject securableObject) {
+    // Check the policy item's accesses and roles equal the Ranger securable object's privilege
+    List<RangerPrivilege> allowPrivileges =
+        securableObject.privileges().stream()
+            .filter(privilege -> privilege.condition() == Privilege.Condition.ALLOW)
+            .collect(Collectors.toList());
+    List<RangerPrivilege> denyPrivileges =
+        securableObject.privileges().stream()
+            .filter(privilege -> privilege.condition() == Privilege.Condition.DENY)
+            .collect(Collectors.toList());
+
+    if (rolePrivileges(policy.getPolicyItems()).containsAll(allowPrivileges)
+        && rolePrivileges(policy.getDenyPolicyItems()).containsAll(denyPrivileges)) {
+      LOG.info(
+          "The privilege({}) already added to Ranger policy({})!",
+          policy.getName(),
+          securableObject.fullName());
+      return false;
+    }
+
+    rangerHelper.addPolicyItem(policy, roleName, securableObject);
+    return true;
+  }
+
+  /**
+   * Remove the role from the policy items matching the securable object's privileges, the policy
+   * items without any role, user and group are removed.
+   */
+  private boolean removePolicyItem(RangerPolicy policy, RangerSecurableObject securableObject) {
+    boolean removed = false;
+    for (RangerPrivilege rangerPrivilege : securableObject.privileges()) {
+      List<RangerPolicy.RangerPolicyItem> policyItems =
+          rangerPrivilege.condition() == Privilege.Condition.ALLOW
+              ? policy.getPolicyItems()
+              : policy.getDenyPolicyItems();
+      for (RangerPolicy.RangerPolicyItem policyItem : policyItems) {
+        removed |= removeRoleIfMatchPrivileges(policyItem, securableObject);
+      }
+    }
+
+    // If the policy item doesn't have any role and user and group, then remove it.
+    removed |= policy.getPolicyItems().removeIf(RangerPolicyBatch::isEmptyPolicyItem);
+    removed |= policy.getDenyPolicyItems().removeIf(RangerPolicyBatch::isEmptyPolicyItem);
+    return removed;
+  }
+
+  private boolean removeRoleIfMatchPrivileges(
+      RangerPolicy.RangerPolicyItem policyItem, RangerSecurableObject securableObject) {
+    boolean match =
+        policyItem.getAccesses().stream()
+            .allMatch(
+                // Use Gravitino privilege to search the Ranger policy item's access
+                access ->
+                    securableObject.privileges().stream()
+                        .anyMatch(privilege -> privilege.equalsTo(access.getType())));
+    return match && policyItem.getRoles().removeIf(roleName::equals);
+  }
+
+  private Set<RangerPrivilege> rolePrivileges(List<RangerPolicy.RangerPolicyItem> policyItems) {
+    return policyItems.stream()
+        .filter(policyItem -> policyItem.getRoles().contains(roleName))
+        .flatMap(policyItem -> policyItem.getAccesses().stream())
+        .map(RangerPolicy.RangerPolicyItemAccess::getType)
+        .map(RangerPrivileges::valueOf)
+        .collect(Collectors.toSet());
+  }
+
+  private static boolean isEmptyPolicyItem(RangerPolicy.RangerPolicyItem policyItem) {
+    return policyItem.getRoles().isEmpty()
+        && policyItem.getUsers().isEmpty()
+        && policyItem.getGroups().isEmpty();
+  }
+
+  private static class Mutation {
+    private final RangerSecurableObject securableObject;
+    private final boolean add;
+
+    private Mutation(RangerSecurableObject securableObject, boolean add) {
+      this.securableObject = securableObject;
+      this.add = add;
+    }
+  }
+}
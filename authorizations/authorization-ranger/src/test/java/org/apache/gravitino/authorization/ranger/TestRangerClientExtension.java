@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import java.util.Map;
+import java.util.Optional;
+import org.apache.gravitino.authorization.ranger.reference.VXGroup;
+import org.apache.gravitino.authorization.ranger.reference.VXGroupList;
+import org.apache.gravitino.authorization.ranger.reference.VXUser;
+import org.apache.gravitino.authorization.ranger.reference.VXUserList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRangerClientExtension {
+  private RangerClientExtension rangerClient;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    rangerClient =
+        Mockito.spy(
+            new RangerClientExtension("http://localhost:6080", "simple", "admin", "pwd", 60_000L));
+    Mockito.doAnswer(invocation -> userList(invocation.getArgument(0)))
+        .when(rangerClient)
+        .searchUser(Mockito.anyMap());
+    Mockito.doAnswer(invocation -> groupList(invocation.getArgument(0)))
+        .when(rangerClient)
+        .searchGroup(Mockito.anyMap());
+    Mockito.doReturn(null)
+        .when(rangerClient)
+        .callAPI(Mockito.eq("delete-user"), Mockito.any(), Mockito.any());
+    Mockito.doReturn(null)
+        .when(rangerClient)
+        .callAPI(Mockito.eq("delete-group"), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testFindUserId() {
+    // Miss, the user id is searched in the Ranger.
+    Assertions.assertEquals(Optional.of(1L), rangerClient.findUserId("user1"));
+    Mockito.verify(rangerClient, Mockito.times(1)).searchUser(Mockito.anyMap());
+
+    // Hit, the user id is cached.
+    Assertions.assertEquals(Optional.of(1L), rangerClient.findUserId("user1"));
+    Mockito.verify(rangerClient, Mockito.times(1)).searchUser(Mockito.anyMap());
+
+    // The absent user isn't cached.
+    Assertions.assertEquals(Optional.empty(), rangerClient.findUserId("absent"));
+    Assertions.assertEquals(Optional.empty(), rangerClient.findUserId("absent"));
+    Mockito.verify(rangerClient, Mockito.times(3)).searchUser(Mockito.anyMap());
+
+    // Deleting the user evicts the cached id.
+    Assertions.assertTrue(rangerClient.deleteUser(1L));
+    Assertions.assertEquals(Optional.of(1L), rangerClient.findUserId("user1"));
+    Mockito.verify(rangerClient, Mockito.times(4)).searchUser(Mockito.anyMap());
+  }
+
+  @Test
+  public void testFindGroupId() {
+    // Miss, the group id is searched in the Ranger.
+    Assertions.assertEquals(Optional.of(1L), rangerClient.findGroupId("group1"));
+    Mockito.verify(rangerClient, Mockito.times(1)).searchGroup(Mockito.anyMap());
+
+    // Hit, the group id is cached.
+    Assertions.assertEquals(Optional.of(1L), rangerClient.findGroupId("group1"));
+    Mockito.verify(rangerClient, Mockito.times(1)).searchGroup(Mockito.anyMap());
+
+    // The absent group isn't cached.
+    Assertions.assertEquals(Optional.empty(), rangerClient.findGroupId("absent"));
+    Assertions.assertEquals(Optional.empty(), rangerClient.findGroupId("absent"));
+    Mockito.verify(rangerClient, Mockito.times(3)).searchGroup(Mockito.anyMap());
+
+    // Deleting the group evicts the cached id.
+    Assertions.assertTrue(rangerClient.deleteGroup(1L));
+    Assertions.assertEquals(Optional.of(1L), rangerClient.findGroupId("group1"));
+    Mockito.verify(rangerClient, Mockito.times(4)).searchGroup(Mockito.anyMap());
+  }
+
+  // Only the principals with the name ending with `1` exist, and their ids are 1.
+  private static VXUserList userList(Map<String, String> filter) {
+    VXUserList list = new VXUserList();
+    String name = filter.get("name");
+    if (name.endsWith("1")) {
+      VXUser user = VXUser.builder().withName(name).build();
+      user.setId(1L);
+      list.getList().add(user);
+    }
+    return list;
+  }
+
+  private static VXGroupList groupList(Map<String, String> filter) {
+    VXGroupList list = new VXGroupList();
+    String name = filter.get("name");
+    if (name.endsWith("1")) {
+      VXGroup group = VXGroup.builder().withName(name).build();
+      group.setId(1L);
+      list.getList().add(group);
+    }
+    return list;
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import static org.apache.gravitino.connector.AuthorizationPropertiesMeta.RANGER_POLICY_SYNC_PARALLELISM;
+import static org.apache.gravitino.connector.AuthorizationPropertiesMeta.RANGER_SERVICE_NAME;
+import static org.apache.gravitino.connector.AuthorizationPropertiesMeta.RANGER_USERNAME;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.authorization.Privileges;
+import org.apache.gravitino.authorization.Role;
+import org.apache.gravitino.authorization.RoleChange;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.apache.ranger.plugin.util.SearchFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TestRangerPolicyBatch {
+  private static final String ROLE_NAME = "role1";
+  private static final String TABLE = "catalog.db.tbl";
+
+  private final List<RangerPolicy> policies = new ArrayList<>();
+  private RangerClientExtension rangerClient;
+  private RangerAuthorizationHadoopSQLPlugin plugin;
+  private Role role;
+
+  @BeforeEach
+  public void setUp() throws RangerServiceException {
+    rangerClient = Mockito.mock(RangerClientExtension.class);
+    // Like the Ranger, only return the policies defined on the searched resources.
+    Mockito.when(rangerClient.findPolicies(Mockito.anyMap()))
+        .thenAnswer(
+            invocation -> {
+              Map<String, String> filters = invocation.getArgument(0);
+              Set<String> resources =
+                  filters.keySet().stream()
+                      .filter(key -> key.startsWith(SearchFilter.RESOURCE_PREFIX))
+                      .map(key -> key.substring(SearchFilter.RESOURCE_PREFIX.length()))
+                      .collect(Collectors.toSet());
+              synchronized (policies) {
+                return policies.stream()
+                    .filter(policy -> policy.getResources().keySet().equals(resources))
+                    .collect(Collectors.toList());
+              }
+            });
+
+    plugin =
+        new RangerAuthorizationHadoopSQLPlugin(
+            ImmutableMap.of(
+                RANGER_USERNAME,
+                "admin",
+                RANGER_SERVICE_NAME,
+                "hiveDev",
+                RANGER_POLICY_SYNC_PARALLELISM,
+                "2"),
+            rangerClient);
+    role = Mockito.mock(Role.class);
+    Mockito.when(role.name()).thenReturn(ROLE_NAME);
+    policies.clear();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    plugin.close();
+  }
+
+  @Test
+  public void testMixedAddAndRemoveOnOnePolicy() throws RangerServiceException {
+    policies.add(tablePolicy(1L, "select", "read"));
+
+    Assertions.assertTrue(
+        plugin.onRoleUpdated(
+            role,
+            RoleChange.removeSecurableObject(ROLE_NAME, table(Privileges.SelectTable.allow())),
+            RoleChange.addSecurableObject(ROLE_NAME, table(Privileges.ModifyTable.allow()))));
+
+    // The table policy is fetched and updated once with both the mutations.
+    ArgumentCaptor<RangerPolicy> updated = ArgumentCaptor.forClass(RangerPolicy.class);
+    Mockito.verify(rangerClient).updatePolicy(Mockito.eq(1L), updated.capture());
+    Assertions.assertEquals(
+        ImmutableSet.of("update", "alter", "write"), accessTypes(updated.getValue()));
+    Assertions.assertTrue(updated.getValue().getDenyPolicyItems().isEmpty());
+
+    // The column policy doesn't exist, so it's created with the added privileges only.
+    ArgumentCaptor<RangerPolicy> created = ArgumentCaptor.forClass(RangerPolicy.class);
+    Mockito.verify(rangerClient).createPolicy(created.capture());
+    Assertions.assertEquals("db.tbl.*", created.getValue().getName());
+    Assertions.assertEquals(
+        ImmutableSet.of("update", "alter", "write"), accessTypes(created.getValue()));
+
+    Mockito.verify(rangerClient, Mockito.times(2)).findPolicies(Mockito.anyMap());
+    Mockito.verify(rangerClient, Mockito.never()).deletePolicy(Mockito.anyLong());
+  }
+
+  @Test
+  public void testEmptyPolicyIsDeleted() throws RangerServiceException {
+    policies.add(tablePolicy(1L, "select", "read"));
+
+    Assertions.assertTrue(
+        plugin.onRoleUpdated(
+            role,
+            RoleChange.removeSecurableObject(ROLE_NAME, table(Privileges.SelectTable.allow()))));
+
+    Mockito.verify(rangerClient).deletePolicy(1L);
+    Mockito.verify(rangerClient, Mockito.never()).updatePolicy(Mockito.anyLong(), Mockito.any());
+    Mockito.verify(rangerClient, Mockito.never()).createPolicy(Mockito.any());
+  }
+
+  @Test
+  public void testValidationFailureChangesNoPolicy() throws RangerServiceException {
+    policies.add(tablePolicy(1L, "select", "read"));
+
+    // The table can't bind the privilege `CREATE_TABLE`, so the valid change before it is dropped.
+    Assertions.assertFalse(
+        plugin.onRoleUpdated(
+            role,
+            RoleChange.removeSecurableObject(ROLE_NAME, table(Privileges.SelectTable.allow())),
+            RoleChange.addSecurableObject(ROLE_NAME, table(Privileges.CreateTable.allow()))));
+
+    Mockito.verify(rangerClient, Mockito.never()).findPolicies(Mockito.anyMap());
+    Mockito.verify(rangerClient, Mockito.never()).createPolicy(Mockito.any());
+    Mockito.verify(rangerClient, Mockito.never()).updatePolicy(Mockito.anyLong(), Mockito.any());
+    Mockito.verify(rangerClient, Mockito.never()).deletePolicy(Mockito.anyLong());
+    Assertions.assertEquals(ImmutableSet.of("select", "read"), accessTypes(policies.get(0)));
+  }
+
+  private static SecurableObject table(Privilege privilege) {
+    return SecurableObjects.parse(TABLE, MetadataObject.Type.TABLE, Lists.newArrayList(privilege));
+  }
+
+  // Each access type of the role has its own policy item, like the policies Gravitino manages.
+  private static RangerPolicy tablePolicy(Long id, String... accessTypes) {
+    RangerPolicy policy = new RangerPolicy();
+    policy.setId(id);
+    policy.setName("db.tbl");
+    policy.setPolicyLabels(Lists.newArrayList(RangerHelper.MANAGED_BY_GRAVITINO));
+    policy.getResources().put("database", new RangerPolicy.RangerPolicyResource("db"));
+    policy.getResources().put("table", new RangerPolicy.RangerPolicyResource("tbl"));
+    for (String accessType : accessTypes) {
+      RangerPolicy.RangerPolicyItem policyItem = new RangerPolicy.RangerPolicyItem();
+      policyItem.getAccesses().add(new RangerPolicy.RangerPolicyItemAccess(accessType));
+      policyItem.getRoles().add(ROLE_NAME);
+      policy.getPolicyItems().add(policyItem);
+    }
+    return policy;
+  }
+
+  private static Set<String> accessTypes(RangerPolicy policy) {
+    return policy.getPolicyItems().stream()
+        .filter(policyItem -> policyItem.getRoles().contains(ROLE_NAME))
+        .flatMap(policyItem -> policyItem.getAccesses().stream())
+        .map(RangerPolicy.RangerPolicyItemAccess::getType)
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+plugins {
+  id("java")
+  alias(libs.plugins.jmh)
+}
+
+dependencies {
+  jmh(project(":api"))
+  jmh(project(":common"))
+  jmh(project(":core"))
+  jmh(project(":meta"))
+  jmh(libs.commons.lang3)
+  jmh(libs.guava)
+  jmh(libs.jackson.databind)
+}
+
+// Run all the benchmarks with `./gradlew :benchmarks:jmh`, the results are written to
+// build/results/jmh/results.json which can be compared between commits. Select the benchmarks
+// with `-PjmhIncludes=<regex>` and set the thread count with `-PjmhThreads=<count>`.
+jmh {
+  jmhVersion.set(libs.versions.jmh)
+  (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+  threads.set((project.findProperty("jmhThreads") as String?)?.toInt() ?: 1)
+  warmupIterations.set(3)
+  iterations.set(5)
+  fork.set(1)
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
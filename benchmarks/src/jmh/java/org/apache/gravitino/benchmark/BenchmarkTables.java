@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.rel.ColumnDTO;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.rel.types.Types;
+
+/** Builds the wide tables shared by the benchmarks, the columns cycle through common types. */
+final class BenchmarkTables {
+
+  static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("benchmark").withCreateTime(Instant.now()).build();
+
+  private static final Type[] COLUMN_TYPES =
+      new Type[] {
+        Types.LongType.get(),
+        Types.StringType.get(),
+        Types.DecimalType.of(18, 2),
+        Types.TimestampType.withTimeZone(),
+        Types.BooleanType.get(),
+        Types.ListType.of(Types.StringType.get(), true),
+        Types.MapType.of(Types.StringType.get(), Types.IntegerType.get(), true),
+        Types.VarCharType.of(255)
+      };
+
+  private BenchmarkTables() {}
+
+  static Column[] columns(int columnCount) {
+    Column[] columns = new Column[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columns[i] = Column.of(columnName(i), columnType(i), "comment of column " + i);
+    }
+    return columns;
+  }
+
+  static ColumnDTO[] columnDTOs(int columnCount) {
+    ColumnDTO[] columns = new ColumnDTO[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columns[i] =
+          ColumnDTO.builder()
+              .withName(columnName(i))
+              .withDataType(columnType(i))
+              .withComment("comment of column " + i)
+              .withNullable(i % 2 == 0)
+              .build();
+    }
+    return columns;
+  }
+
+  static List<ColumnEntity> columnEntities(int columnCount) {
+    List<ColumnEntity> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId((long) i + 1)
+              .withName(columnName(i))
+              .withPosition(i)
+              .withDataType(columnType(i))
+              .withComment("comment of column " + i)
+              .withNullable(i % 2 == 0)
+              .withAutoIncrement(false)
+              .withAuditInfo(AUDIT_INFO)
+              .build());
+    }
+    return columns;
+  }
+
+  static AuditDTO auditDTO() {
+    return AuditDTO.builder()
+        .withCreator(AUDIT_INFO.creator())
+        .withCreateTime(AUDIT_INFO.createTime())
+        .build();
+  }
+
+  private static String columnName(int index) {
+    return "column_" + index;
+  }
+
+  private static Type columnType(int index) {
+    return COLUMN_TYPES[index % COLUMN_TYPES.length];
+  }
+}
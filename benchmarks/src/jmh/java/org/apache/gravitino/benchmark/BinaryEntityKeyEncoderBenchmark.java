@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmark;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.storage.NameMappingService;
+import org.apache.gravitino.storage.kv.BinaryEntityKeyEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Encodes and decodes the KV store key of a table. The name mapping is kept in memory, so the
+ * results only show the cost of the encoder itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinaryEntityKeyEncoderBenchmark {
+
+  private static final NameIdentifier TABLE =
+      NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+  private BinaryEntityKeyEncoder encoder;
+  private byte[] tableKey;
+
+  @Setup
+  public void setUp() throws IOException {
+    encoder = new BinaryEntityKeyEncoder(new InMemoryNameMappingService());
+    tableKey = encoder.encode(TABLE, EntityType.TABLE);
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return encoder.encode(TABLE, EntityType.TABLE);
+  }
+
+  @Benchmark
+  public Pair<NameIdentifier, EntityType> decode() throws IOException {
+    return encoder.decode(tableKey);
+  }
+
+  private static class InMemoryNameMappingService implements NameMappingService {
+    private final BiMap<String, Long> nameToId = Maps.synchronizedBiMap(HashBiMap.create());
+    private final AtomicLong nextId = new AtomicLong();
+
+    @Override
+    public Long getIdByName(String name) {
+      return nameToId.get(name);
+    }
+
+    @Override
+    public String getNameById(long id) {
+      return nameToId.inverse().get(id);
+    }
+
+    @Override
+    public long getOrCreateIdFromName(String name) {
+      return nameToId.computeIfAbsent(name, k -> nextId.incrementAndGet());
+    }
+
+    @Override
+    public boolean updateName(String oldName, String newName) {
+      Long id = nameToId.remove(oldName);
+      if (id == null) {
+        return false;
+      }
+      nameToId.put(newName, id);
+      return true;
+    }
+
+    @Override
+    public boolean unbindNameAndId(String name) {
+      return nameToId.remove(name) != null;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.json.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Serializes and deserializes a table with the object mapper shared by the server and client. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonUtilsBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int columnCount;
+
+  private ObjectMapper objectMapper;
+  private TableDTO table;
+  private String tableJson;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    objectMapper = JsonUtils.objectMapper();
+    table =
+        TableDTO.builder()
+            .withName("table")
+            .withComment("the table to benchmark")
+            .withColumns(BenchmarkTables.columnDTOs(columnCount))
+            .withAudit(BenchmarkTables.auditDTO())
+            .build();
+    tableJson = objectMapper.writeValueAsString(table);
+  }
+
+  @Benchmark
+  public String serializeTable() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(table);
+  }
+
+  @Benchmark
+  public TableDTO deserializeTable() throws JsonProcessingException {
+    return objectMapper.readValue(tableJson, TableDTO.class);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Converts the rows of a table and its columns loaded by the relational entity store to the table
+ * entity, the JSON fields of every column are parsed in the conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class POConvertersBenchmark {
+
+  private static final Namespace NAMESPACE = Namespace.of("metalake", "catalog", "schema");
+
+  @Param({"10", "100", "1000"})
+  private int columnCount;
+
+  private TablePO tablePO;
+  private List<ColumnPO> columnPOs;
+
+  @Setup
+  public void setUp() {
+    TableEntity table =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("table")
+            .withNamespace(NAMESPACE)
+            .withColumns(BenchmarkTables.columnEntities(columnCount))
+            .withAuditInfo(BenchmarkTables.AUDIT_INFO)
+            .build();
+    tablePO =
+        POConverters.initializeTablePOWithVersion(
+            table, TablePO.builder().withMetalakeId(1L).withCatalogId(1L).withSchemaId(1L));
+    columnPOs =
+        POConverters.initializeColumnPOs(tablePO, table.columns(), ColumnPO.ColumnOpType.CREATE);
+  }
+
+  @Benchmark
+  public TableEntity fromTableAndColumnPOs() {
+    return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, NAMESPACE);
+  }
+}
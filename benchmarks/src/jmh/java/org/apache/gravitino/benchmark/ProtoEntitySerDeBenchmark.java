@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.proto.ProtoEntitySerDe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Round-trips a table entity through the protobuf serde of the KV entity store. The proto of the
+ * table doesn't contain the columns, so the table is benchmarked without them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProtoEntitySerDeBenchmark {
+
+  private static final Namespace NAMESPACE = Namespace.of("metalake", "catalog", "schema");
+
+  private ProtoEntitySerDe serDe;
+  private TableEntity table;
+  private byte[] tableBytes;
+
+  @Setup
+  public void setUp() throws IOException {
+    serDe = new ProtoEntitySerDe();
+    table =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("table")
+            .withNamespace(NAMESPACE)
+            .withAuditInfo(BenchmarkTables.AUDIT_INFO)
+            .build();
+    tableBytes = serDe.serialize(table);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return serDe.serialize(table);
+  }
+
+  @Benchmark
+  public TableEntity deserialize() throws IOException {
+    return serDe.deserialize(tableBytes, TableEntity.class, NAMESPACE);
+  }
+}
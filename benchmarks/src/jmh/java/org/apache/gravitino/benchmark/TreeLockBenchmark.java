@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the throughput of acquiring and releasing the tree locks the way the table operations
+ * do. All the threads share the root, metalake and catalog nodes, which are the contention points
+ * of the tree lock. Set the thread count with {@code -PjmhThreads}, e.g. 1, 8 and 64.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TreeLockBenchmark {
+
+  // The number of the tables which the threads lock, 1 means all the threads lock the same table.
+  @Param({"1", "1000"})
+  private int tableCount;
+
+  private LockManager lockManager;
+  private NameIdentifier[] tables;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    lockManager = new LockManager(new Config(false) {});
+    tables = new NameIdentifier[tableCount];
+    for (int i = 0; i < tableCount; i++) {
+      tables[i] = NameIdentifier.of("metalake", "catalog", "schema" + (i % 10), "table" + i);
+    }
+  }
+
+  @Benchmark
+  public void loadTable() {
+    lockAndUnlock(LockType.READ);
+  }
+
+  @Benchmark
+  public void alterTable() {
+    lockAndUnlock(LockType.WRITE);
+  }
+
+  private void lockAndUnlock(LockType lockType) {
+    NameIdentifier table = tables[ThreadLocalRandom.current().nextInt(tableCount)];
+    TreeLock treeLock = lockManager.createTreeLock(table);
+    treeLock.lock(lockType);
+    treeLock.unlock();
+  }
+}
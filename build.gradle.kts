@@ -404,7 +404,8 @@ subprojects {
         if (project.name == "web" ||
           project.name == "docs" ||
           project.name == "integration-test" ||
-          project.name == "integration-test-common"
+          project.name == "integration-test-common" ||
+          project.name == "benchmarks"
         ) {
           setArtifacts(emptyList<Any>())
         } else {
@@ -774,7 +775,8 @@ tasks {
         !it.name.startsWith("client") && !it.name.startsWith("filesystem") && !it.name.startsWith("spark") && !it.name.startsWith("iceberg") && it.name != "trino-connector" &&
         it.name != "integration-test" && it.name != "bundled-catalog" && !it.name.startsWith("flink") &&
         it.name != "integration-test" && it.name != "hive-metastore-common" && !it.name.startsWith("flink") &&
-        it.name != "gcp-bundle" && it.name != "aliyun-bundle" && it.name != "aws-bundle"
+        it.name != "gcp-bundle" && it.name != "aliyun-bundle" && it.name != "aws-bundle" &&
+        it.name != "benchmarks"
       ) {
         from(it.configurations.runtimeClasspath)
         into("distribution/package/libs")
@@ -796,7 +798,8 @@ tasks {
         !it.name.startsWith("trino-connector") &&
         it.name != "bundled-catalog" &&
         it.name != "hive-metastore-common" && it.name != "gcp-bundle" &&
-        it.name != "aliyun-bundle" && it.name != "aws-bundle"
+        it.name != "aliyun-bundle" && it.name != "aws-bundle" &&
+        it.name != "benchmarks"
       ) {
         dependsOn("${it.name}:build")
         from("${it.name}/build/libs")
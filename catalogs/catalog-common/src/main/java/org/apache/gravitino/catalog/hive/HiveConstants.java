@@ -24,12 +24,18 @@ public class HiveConstants {
   public static final String CLIENT_POOL_SIZE = "client.pool-size";
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       "client.pool-cache.eviction-interval-ms";
+  public static final String PARTITION_CACHE_TTL_MS = "partition-cache.ttl-ms";
+  public static final String PARTITION_CACHE_MAX_PARTITIONS = "partition-cache.max-partitions";
   public static final String IMPERSONATION_ENABLE = "impersonation-enable";
   public static final String KEY_TAB_URI = "kerberos.keytab-uri";
   public static final String PRINCIPAL = "kerberos.principal";
   public static final String CHECK_INTERVAL_SEC = "kerberos.check-interval-sec";
   public static final String FETCH_TIMEOUT_SEC = "kerberos.keytab-fetch-timeout-sec";
   public static final String LIST_ALL_TABLES = "list-all-tables";
+  public static final String LIST_TABLES_BATCH_SIZE = "list-tables.batch-size";
+  public static final String LIST_TABLES_PARALLELISM = "list-tables.parallelism";
+  public static final String LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS =
+      "list-tables.table-type-cache-ttl-ms";
 
   // table properties
   public static final String LOCATION = "location";
@@ -26,5 +26,9 @@ public class CredentialConstants {
 
   public static final String GCS_TOKEN_CREDENTIAL_PROVIDER_TYPE = "gcs-token";
 
+  public static final String CREDENTIAL_CACHE_MAX_SIZE = "credential-cache-max-size";
+  public static final String CREDENTIAL_CACHE_EXPIRE_RATIO = "credential-cache-expire-ratio";
+  public static final String CREDENTIAL_CACHE_REFRESH_RATIO = "credential-cache-refresh-ratio";
+
   private CredentialConstants() {}
 }
@@ -376,7 +376,29 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   @Override
   public String getFileLocation(NameIdentifier ident, String subPath)
       throws NoSuchFilesetException {
-    Preconditions.checkArgument(subPath != null, "subPath must not be null");
+    return getFileLocations(ident, new String[] {subPath})[0];
+  }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths)
+      throws NoSuchFilesetException {
+    Preconditions.checkArgument(subPaths != null, "subPaths must not be null");
+    for (String subPath : subPaths) {
+      Preconditions.checkArgument(subPath != null, "subPath must not be null");
+    }
+
+    // Load the fileset and check its storage location only once for all the sub paths.
+    Fileset fileset = loadFileset(ident);
+    boolean isSingleFile = checkSingleFile(fileset);
+    String[] fileLocations = new String[subPaths.length];
+    for (int i = 0; i < subPaths.length; i++) {
+      fileLocations[i] = getFileLocation(ident, fileset, isSingleFile, subPaths[i]);
+    }
+    return fileLocations;
+  }
+
+  private String getFileLocation(
+      NameIdentifier ident, Fileset fileset, boolean isSingleFile, String subPath) {
     String processedSubPath;
     if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
       processedSubPath = SLASH + subPath.trim();
@@ -384,9 +406,6 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       processedSubPath = subPath.trim();
     }
 
-    Fileset fileset = loadFileset(ident);
-
-    boolean isSingleFile = checkSingleFile(fileset);
     // if the storage location is a single file, it cannot have sub path to access.
     if (isSingleFile && StringUtils.isBlank(processedSubPath)) {
       throw new GravitinoRuntimeException(
@@ -228,6 +228,12 @@ public class SecureHadoopCatalogOperations
     return hadoopCatalogOperations.getFileLocation(ident, subPath);
   }
 
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths)
+      throws NoSuchFilesetException {
+    return hadoopCatalogOperations.getFileLocations(ident, subPaths);
+  }
+
   @Override
   public void close() throws IOException {
     hadoopCatalogOperations.close();
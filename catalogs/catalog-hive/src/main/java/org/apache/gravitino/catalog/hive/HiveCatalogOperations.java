@@ -32,6 +32,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
@@ -58,6 +59,7 @@ import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.ProxyPlugin;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
@@ -116,6 +118,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   private String kerberosRealm;
   private ProxyPlugin proxyPlugin;
   private boolean listAllTables = true;
+  private HiveTableTypeIndex tableTypeIndex;
   // The maximum number of tables that can be returned by the listTableNamesByFilter function.
   // The default value is -1, which means that all tables are returned.
   private static final short MAX_TABLES = -1;
@@ -171,6 +174,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     this.clientPool = new CachedClientPool(hiveConf, conf);
 
     this.listAllTables = enableListAllTables(conf);
+    this.tableTypeIndex = createTableTypeIndex(conf);
   }
 
   private void initKerberosIfNecessary(Map<String, String> conf, Configuration hadoopConf) {
@@ -286,9 +290,38 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return (boolean)
         propertiesMetadata.catalogPropertiesMetadata().getOrDefault(conf, LIST_ALL_TABLES);
   }
+
+  private HiveTableTypeIndex createTableTypeIndex(Map<String, String> conf) {
+    PropertiesMetadata catalogPropertiesMetadata = propertiesMetadata.catalogPropertiesMetadata();
+    int batchSize =
+        (int)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, HiveCatalogPropertiesMeta.LIST_TABLES_BATCH_SIZE);
+    int parallelism =
+        (int)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, HiveCatalogPropertiesMeta.LIST_TABLES_PARALLELISM);
+    long ttlMs =
+        (long)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, HiveCatalogPropertiesMeta.LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS);
+    Preconditions.checkArgument(
+        batchSize >= 0,
+        "%s must not be negative",
+        HiveCatalogPropertiesMeta.LIST_TABLES_BATCH_SIZE);
+    Preconditions.checkArgument(
+        parallelism > 0, "%s must be positive", HiveCatalogPropertiesMeta.LIST_TABLES_PARALLELISM);
+    return new HiveTableTypeIndex(clientPool, batchSize, parallelism, ttlMs);
+  }
+
   /** Closes the Hive catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (tableTypeIndex != null) {
+      tableTypeIndex.close();
+      tableTypeIndex = null;
+    }
+
     if (clientPool != null) {
       clientPool.close();
       clientPool = null;
@@ -511,6 +544,9 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      clientPool.partitionCache().invalidateDatabase(ident.name());
+      tableTypeIndex.invalidateDatabase(ident.name());
     }
   }
 
@@ -541,7 +577,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       // then based on
       // those names we can obtain metadata for each individual table and get the type we needed.
       List<String> allTables = clientPool.run(c -> c.getAllTables(schemaIdent.name()));
-      if (!listAllTables) {
+      if (!listAllTables && tableTypeIndex != null && tableTypeIndex.isEnabled()) {
+        // Resolve the table formats by loading the table objects in parallel batches, only the
+        // tables absent in the cached table type index are loaded.
+        removeNonHiveTables(schemaIdent.name(), allTables);
+      } else if (!listAllTables) {
         // The reason for using the listTableNamesByFilter function is that the
         // getTableObjectiesByName function has poor performance. Currently, we focus on the
         // Iceberg, Paimon and Hudi table. In the future, if necessary, we will need to filter out
@@ -590,6 +630,26 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return String.format("%s or %s", icebergFilter, paimonFilter);
   }
 
+  private void removeNonHiveTables(String dbName, List<String> allTables)
+      throws TException, InterruptedException {
+    Map<String, HiveTableTypeIndex.TableFormat> formats =
+        tableTypeIndex.tableFormats(dbName, allTables);
+    List<String> hudiTables = Lists.newArrayList();
+    formats.forEach(
+        (tableName, format) -> {
+          if (format == HiveTableTypeIndex.TableFormat.HUDI) {
+            hudiTables.add(tableName);
+          }
+        });
+    allTables.removeIf(
+        tableName -> {
+          HiveTableTypeIndex.TableFormat format = formats.get(tableName);
+          return format == HiveTableTypeIndex.TableFormat.ICEBERG
+              || format == HiveTableTypeIndex.TableFormat.PAIMON;
+        });
+    removeHudiTables(allTables, hudiTables);
+  }
+
   private void removeHudiTables(List<String> allTables, List<String> hudiTables) {
     for (String hudiTable : hudiTables) {
       allTables.removeIf(
@@ -814,6 +874,8 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
           "Failed to create Hive table " + tableIdent.name() + " in Hive Metastore", e);
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      tableTypeIndex.invalidateTable(schemaIdent.name(), tableIdent.name());
     }
   }
 
@@ -926,6 +988,10 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       throw e;
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      // The partitions of a renamed table or an altered column are stale.
+      clientPool.partitionCache().invalidateTable(schemaIdent.name(), tableIdent.name());
+      tableTypeIndex.invalidateTable(schemaIdent.name(), tableIdent.name());
     }
   }
 
@@ -1147,6 +1213,9 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
           "Failed to drop Hive table " + tableIdent.name() + " in Hive Metastore", e);
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      clientPool.partitionCache().invalidateTable(schemaIdent.name(), tableIdent.name());
+      tableTypeIndex.invalidateTable(schemaIdent.name(), tableIdent.name());
     }
   }
 
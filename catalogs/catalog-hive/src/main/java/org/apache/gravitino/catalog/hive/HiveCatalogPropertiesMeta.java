@@ -50,6 +50,19 @@ public class HiveCatalogPropertiesMeta extends BaseCatalogPropertiesMetadata {
 
   public static final boolean DEFAULT_LIST_ALL_TABLES = false;
 
+  public static final String LIST_TABLES_BATCH_SIZE = HiveConstants.LIST_TABLES_BATCH_SIZE;
+
+  public static final int DEFAULT_LIST_TABLES_BATCH_SIZE = 0;
+
+  public static final String LIST_TABLES_PARALLELISM = HiveConstants.LIST_TABLES_PARALLELISM;
+
+  public static final int DEFAULT_LIST_TABLES_PARALLELISM = 4;
+
+  public static final String LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS =
+      HiveConstants.LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS;
+
+  public static final long DEFAULT_LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS = 0L;
+
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -110,6 +123,31 @@ public class HiveCatalogPropertiesMeta extends BaseCatalogPropertiesMetadata {
                   DEFAULT_LIST_ALL_TABLES,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              LIST_TABLES_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  LIST_TABLES_BATCH_SIZE,
+                  "The number of tables loaded from Hive metastore in one call to filter out the "
+                      + "non-Hive tables, 0 filters them by the table properties in Hive metastore",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_BATCH_SIZE,
+                  false /* hidden */))
+          .put(
+              LIST_TABLES_PARALLELISM,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  LIST_TABLES_PARALLELISM,
+                  "The number of the table batches loaded from Hive metastore in parallel",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_PARALLELISM,
+                  false /* hidden */))
+          .put(
+              LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS,
+                  "The time to live of the cached table types of a database, 0 disables the cache",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS,
+                  false /* hidden */))
           .putAll(AuthorizationPropertiesMeta.RANGER_AUTHORIZATION_PROPERTY_ENTRIES)
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
@@ -27,10 +27,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.connector.TableOperations;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
+import org.apache.gravitino.hive.HivePartitionCache;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
@@ -65,12 +67,15 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
   @Override
   public String[] listPartitionNames() {
     try {
-      return table
-          .clientPool()
-          .run(
-              c ->
-                  c.listPartitionNames(table.schemaName(), table.name(), (short) -1)
-                      .toArray(new String[0]));
+      return partitionCache()
+          .partitionNames(
+              table.schemaName(),
+              table.name(),
+              () ->
+                  table
+                      .clientPool()
+                      .run(c -> c.listPartitionNames(table.schemaName(), table.name(), (short) -1)))
+          .toArray(new String[0]);
     } catch (TException | InterruptedException e) {
       throw new RuntimeException(
           "Failed to list partition names of table " + table.name() + "from Hive Metastore", e);
@@ -82,30 +87,172 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     List<org.apache.hadoop.hive.metastore.api.Partition> partitions;
     try {
       partitions =
-          table
-              .clientPool()
-              .run(c -> c.listPartitions(table.schemaName(), table.name(), (short) -1));
+          partitionCache()
+              .partitions(
+                  table.schemaName(),
+                  table.name(),
+                  () ->
+                      table
+                          .clientPool()
+                          .run(
+                              c -> c.listPartitions(table.schemaName(), table.name(), (short) -1)));
     } catch (TException | InterruptedException e) {
       throw new RuntimeException(e);
     }
-    List<String> partCols =
-        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    return fromHivePartitions(partitions);
+  }
 
-    return partitions.stream()
-        .map(
-            partition ->
-                fromHivePartition(
-                    FileUtils.makePartName(partCols, partition.getValues()), partition))
-        .toArray(Partition[]::new);
+  /**
+   * Pages the partition names first, and only fetches the partition objects of the page from Hive
+   * Metastore, listing the names is much cheaper than listing the whole partition objects. The
+   * sorted names are kept for the next page, so they're listed only once when paging through.
+   */
+  @Override
+  public Page<Partition> listPartitions(String pageToken, int limit) {
+    List<String> sortedNames;
+    try {
+      sortedNames =
+          partitionCache()
+              .pagedPartitionNames(
+                  table.schemaName(),
+                  table.name(),
+                  pageToken,
+                  () -> Arrays.asList(listPartitionNames()));
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partition names of table " + table.name() + " from Hive Metastore", e);
+    }
+    Page<String> namePage =
+        Page.of(sortedNames.toArray(new String[0]), name -> name, pageToken, limit);
+    partitionCache()
+        .keepPagedPartitionNames(
+            table.schemaName(), table.name(), pageToken, namePage.nextPageToken(), sortedNames);
+    if (namePage.items().length == 0) {
+      return new Page<>(new Partition[0], namePage.nextPageToken());
+    }
+
+    // The partitions dropped after listing the names are absent, the order of the names is kept.
+    return new Page<>(listPartitionsByNames(namePage.items()), namePage.nextPageToken());
+  }
+
+  /**
+   * Lists the partition names matching the filter in Hive Metastore, the filter is converted to a
+   * partial partition spec, whose absent partition values match any value.
+   */
+  @Override
+  public String[] listPartitionNamesByFilter(String filter) {
+    List<String> partialValues = getPartialPartitionValues(filter);
+    try {
+      return partitionCache()
+          .partitionNamesByFilter(
+              table.schemaName(),
+              table.name(),
+              filter,
+              () ->
+                  table
+                      .clientPool()
+                      .run(
+                          c ->
+                              c.listPartitionNames(
+                                  table.schemaName(), table.name(), partialValues, (short) -1)))
+          .toArray(new String[0]);
+    } catch (NoSuchObjectException e) {
+      throw new NoSuchTableException(
+          e, "Hive table %s does not exist in Hive Metastore", table.name());
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partition names of table "
+              + table.name()
+              + " by filter "
+              + filter
+              + " from Hive Metastore",
+          e);
+    }
+  }
+
+  @Override
+  public Partition[] listPartitionsByFilter(String filter) {
+    List<String> partialValues = getPartialPartitionValues(filter);
+    List<org.apache.hadoop.hive.metastore.api.Partition> partitions;
+    try {
+      partitions =
+          partitionCache()
+              .partitionsByFilter(
+                  table.schemaName(),
+                  table.name(),
+                  filter,
+                  () ->
+                      table
+                          .clientPool()
+                          .run(
+                              c ->
+                                  c.listPartitions(
+                                      table.schemaName(),
+                                      table.name(),
+                                      partialValues,
+                                      (short) -1)));
+    } catch (NoSuchObjectException e) {
+      throw new NoSuchTableException(
+          e, "Hive table %s does not exist in Hive Metastore", table.name());
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table "
+              + table.name()
+              + " by filter "
+              + filter
+              + " from Hive Metastore",
+          e);
+    }
+    return fromHivePartitions(partitions);
+  }
+
+  /** Gets the partitions absent in the partition cache from Hive Metastore in one call. */
+  @Override
+  public Partition[] listPartitionsByNames(String[] partitionNames) {
+    if (partitionNames.length == 0) {
+      return new Partition[0];
+    }
+
+    List<String> partCols = partitionColumnNames();
+    List<org.apache.hadoop.hive.metastore.api.Partition> partitions;
+    try {
+      partitions =
+          partitionCache()
+              .partitionsByNames(
+                  table.schemaName(),
+                  table.name(),
+                  Arrays.asList(partitionNames),
+                  names ->
+                      () ->
+                          table
+                              .clientPool()
+                              .run(
+                                  c ->
+                                      c.getPartitionsByNames(
+                                          table.schemaName(), table.name(), names)),
+                  partition -> FileUtils.makePartName(partCols, partition.getValues()));
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+    return fromHivePartitions(partitions);
   }
 
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
       org.apache.hadoop.hive.metastore.api.Partition partition =
-          table
-              .clientPool()
-              .run(c -> c.getPartition(table.schemaName(), table.name(), partitionName));
+          partitionCache()
+              .partition(
+                  table.schemaName(),
+                  table.name(),
+                  partitionName,
+                  () ->
+                      table
+                          .clientPool()
+                          .run(
+                              c ->
+                                  c.getPartition(table.schemaName(), table.name(), partitionName)));
       return fromHivePartition(partitionName, partition);
 
     } catch (UnknownTableException e) {
@@ -127,6 +274,55 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     }
   }
 
+  private HivePartitionCache partitionCache() {
+    return table.clientPool().partitionCache();
+  }
+
+  private List<String> partitionColumnNames() {
+    return table.buildPartitionKeys().stream()
+        .map(FieldSchema::getName)
+        .collect(Collectors.toList());
+  }
+
+  private Partition[] fromHivePartitions(
+      List<org.apache.hadoop.hive.metastore.api.Partition> partitions) {
+    List<String> partCols = partitionColumnNames();
+    return partitions.stream()
+        .map(
+            partition ->
+                fromHivePartition(
+                    FileUtils.makePartName(partCols, partition.getValues()), partition))
+        .toArray(Partition[]::new);
+  }
+
+  /**
+   * Converts the partition filter to the partial partition values in the order of the partition
+   * keys of the table, the absent partition values are filled with empty string, which matches any
+   * value in Hive Metastore.
+   *
+   * @param filter the partition filter in the format of "field1=value1/field2=value2"
+   * @return the partial partition values
+   * @throws IllegalArgumentException if the filter is not valid or contains a non-partition field
+   */
+  private List<String> getPartialPartitionValues(String filter) {
+    Map<String, String> fieldValues = Partitions.parseFilter(filter);
+    List<String> partitionKeys = partitionColumnNames();
+    fieldValues
+        .keySet()
+        .forEach(
+            field ->
+                Preconditions.checkArgument(
+                    partitionKeys.contains(field),
+                    "Field %s in the partition filter is not a partition field of table %s",
+                    field,
+                    table.name()));
+
+    // The values in the partition names are escaped, Hive Metastore escapes the values again.
+    return partitionKeys.stream()
+        .map(key -> FileUtils.unescapePathName(fieldValues.getOrDefault(key, "")))
+        .collect(Collectors.toList());
+  }
+
   private Partition fromHivePartition(
       String partitionName, org.apache.hadoop.hive.metastore.api.Partition partition) {
     String[][] fieldNames = getFieldNames(partitionName);
@@ -184,6 +380,8 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
           generatePartitionName((IdentityPartition) partition), createdPartition);
     } catch (TException | InterruptedException e) {
       throw new RuntimeException(e);
+    } finally {
+      partitionCache().invalidateTable(table.schemaName(), table.name());
     }
   }
 
@@ -285,6 +483,8 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
               + table.name()
               + "from Hive Metastore",
           e);
+    } finally {
+      partitionCache().invalidateTable(table.schemaName(), table.name());
     }
     return true;
   }
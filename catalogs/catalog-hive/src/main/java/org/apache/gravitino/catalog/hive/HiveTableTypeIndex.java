@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.thrift.TException;
+
+/**
+ * HiveTableTypeIndex resolves the formats of the tables in a database by loading the table objects
+ * from Hive Metastore with {@code getTableObjectsByName} in batches, the batches are loaded in
+ * parallel over the client pool. It's used by {@link HiveCatalogOperations#listTables} to filter
+ * out the non-Hive tables when {@code list-all-tables} is false.
+ *
+ * <p>The resolved formats of a database can be cached for a configurable TTL, then listing the
+ * tables again only loads the table objects of the tables created after the last listing. The
+ * tables created, altered or dropped through the catalog are invalidated, the format changes made
+ * by other Hive Metastore clients are visible after the TTL at the latest.
+ */
+class HiveTableTypeIndex implements Closeable {
+
+  /** The format of a table in Hive Metastore. */
+  enum TableFormat {
+    HIVE,
+    ICEBERG,
+    PAIMON,
+    HUDI
+  }
+
+  private static final String TABLE_TYPE_PARAM = "table_type";
+  private static final String PROVIDER_PARAM = "provider";
+
+  private final CachedClientPool clientPool;
+  private final int batchSize;
+  private final ExecutorService executor;
+  private final Cache<String, Map<String, TableFormat>> indexCache;
+
+  HiveTableTypeIndex(CachedClientPool clientPool, int batchSize, int parallelism, long ttlMs) {
+    this.clientPool = clientPool;
+    this.batchSize = batchSize;
+    this.executor =
+        batchSize > 0 && parallelism > 1
+            ? Executors.newFixedThreadPool(
+                parallelism,
+                new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("hive-list-tables-%d")
+                    .build())
+            : null;
+    this.indexCache =
+        batchSize > 0 && ttlMs > 0
+            ? CacheBuilder.newBuilder().expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS).build()
+            : null;
+  }
+
+  /** Returns true if the table formats are resolved by loading the table objects in batches. */
+  boolean isEnabled() {
+    return batchSize > 0;
+  }
+
+  /**
+   * Resolves the formats of the tables in the database, the tables not existing anymore are absent
+   * in the result.
+   *
+   * @param db the database name
+   * @param tableNames the names of the tables in the database
+   * @return the formats of the tables
+   */
+  Map<String, TableFormat> tableFormats(String db, List<String> tableNames)
+      throws TException, InterruptedException {
+    Map<String, TableFormat> index;
+    try {
+      index =
+          indexCache != null
+              ? indexCache.get(normalize(db), ConcurrentHashMap::new)
+              : new ConcurrentHashMap<>();
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    }
+
+    List<String> missing = new ArrayList<>();
+    for (String tableName : tableNames) {
+      if (!index.containsKey(normalize(tableName))) {
+        missing.add(tableName);
+      }
+    }
+    for (Table table : loadTables(db, missing)) {
+      index.put(normalize(table.getTableName()), formatOf(table));
+    }
+
+    Map<String, TableFormat> formats = new HashMap<>(tableNames.size());
+    Set<String> existing = new HashSet<>(tableNames.size());
+    for (String tableName : tableNames) {
+      String key = normalize(tableName);
+      existing.add(key);
+      TableFormat format = index.get(key);
+      if (format != null) {
+        formats.put(tableName, format);
+      }
+    }
+    // Forget the tables dropped by other Hive Metastore clients.
+    index.keySet().retainAll(existing);
+    return formats;
+  }
+
+  void invalidateTable(String db, String table) {
+    if (indexCache != null) {
+      Map<String, TableFormat> index = indexCache.getIfPresent(normalize(db));
+      if (index != null) {
+        index.remove(normalize(table));
+      }
+    }
+  }
+
+  void invalidateDatabase(String db) {
+    if (indexCache != null) {
+      indexCache.invalidate(normalize(db));
+    }
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    if (indexCache != null) {
+      indexCache.invalidateAll();
+    }
+  }
+
+  @VisibleForTesting
+  static TableFormat formatOf(Table table) {
+    Map<String, String> parameters = table.getParameters();
+    if (parameters == null) {
+      return TableFormat.HIVE;
+    }
+
+    String tableType = parameters.get(TABLE_TYPE_PARAM);
+    if ("ICEBERG".equalsIgnoreCase(tableType)) {
+      return TableFormat.ICEBERG;
+    } else if ("PAIMON".equalsIgnoreCase(tableType)) {
+      return TableFormat.PAIMON;
+    } else if ("hudi".equalsIgnoreCase(parameters.get(PROVIDER_PARAM))) {
+      return TableFormat.HUDI;
+    }
+    return TableFormat.HIVE;
+  }
+
+  private List<Table> loadTables(String db, List<String> tableNames)
+      throws TException, InterruptedException {
+    if (tableNames.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<List<String>> batches = Lists.partition(tableNames, batchSize);
+    if (executor == null || batches.size() == 1) {
+      List<Table> tables = new ArrayList<>(tableNames.size());
+      for (List<String> batch : batches) {
+        tables.addAll(clientPool.run(c -> c.getTableObjectsByName(db, batch)));
+      }
+      return tables;
+    }
+
+    // The client pool is chosen by the current user, the batches must be loaded as the same user.
+    UserGroupInformation user = currentUser();
+    List<Future<List<Table>>> futures = new ArrayList<>(batches.size());
+    for (List<String> batch : batches) {
+      futures.add(
+          executor.submit(
+              () ->
+                  user.doAs(
+                      (PrivilegedExceptionAction<List<Table>>)
+                          () -> clientPool.run(c -> c.getTableObjectsByName(db, batch)))));
+    }
+
+    List<Table> tables = new ArrayList<>(tableNames.size());
+    try {
+      for (Future<List<Table>> future : futures) {
+        tables.addAll(future.get());
+      }
+    } catch (ExecutionException e) {
+      // UserGroupInformation#doAs wraps the checked exceptions other than IOException.
+      Throwable cause =
+          e.getCause() instanceof UndeclaredThrowableException
+              ? e.getCause().getCause()
+              : e.getCause();
+      if (cause instanceof TException) {
+        throw (TException) cause;
+      }
+      throw new RuntimeException(
+          "Failed to load the tables of database " + db + " from Hive Metastore", cause);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    return tables;
+  }
+
+  private static UserGroupInformation currentUser() {
+    try {
+      return UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // Hive Metastore is case-insensitive for the database and table names.
+  private static String normalize(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
@@ -74,15 +74,23 @@ class TestHiveCatalogOperations {
     Map<String, PropertyEntry<?>> propertyEntryMap =
         HIVE_PROPERTIES_METADATA.catalogPropertiesMetadata().propertyEntries();
 
-    Assertions.assertEquals(21, propertyEntryMap.size());
+    Assertions.assertEquals(29, propertyEntryMap.size());
     Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_URIS));
     Assertions.assertTrue(propertyEntryMap.containsKey(Catalog.PROPERTY_PACKAGE));
     Assertions.assertTrue(propertyEntryMap.containsKey(BaseCatalog.CATALOG_OPERATION_IMPL));
+    Assertions.assertTrue(propertyEntryMap.containsKey(BaseCatalog.CATALOG_CLASSLOADER_SHARED));
     Assertions.assertTrue(propertyEntryMap.containsKey(PROPERTY_IN_USE));
     Assertions.assertTrue(propertyEntryMap.containsKey(AUTHORIZATION_PROVIDER));
     Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_SIZE));
     Assertions.assertTrue(propertyEntryMap.containsKey(IMPERSONATION_ENABLE));
     Assertions.assertTrue(propertyEntryMap.containsKey(LIST_ALL_TABLES));
+    Assertions.assertTrue(propertyEntryMap.containsKey(HiveConstants.PARTITION_CACHE_TTL_MS));
+    Assertions.assertTrue(
+        propertyEntryMap.containsKey(HiveConstants.PARTITION_CACHE_MAX_PARTITIONS));
+    Assertions.assertTrue(propertyEntryMap.containsKey(HiveConstants.LIST_TABLES_BATCH_SIZE));
+    Assertions.assertTrue(propertyEntryMap.containsKey(HiveConstants.LIST_TABLES_PARALLELISM));
+    Assertions.assertTrue(
+        propertyEntryMap.containsKey(HiveConstants.LIST_TABLES_TABLE_TYPE_CACHE_TTL_MS));
     Assertions.assertTrue(
         propertyEntryMap.containsKey(AuthorizationPropertiesMeta.RANGER_ADMIN_URL));
     Assertions.assertTrue(
@@ -93,6 +101,10 @@ class TestHiveCatalogOperations {
         propertyEntryMap.containsKey(AuthorizationPropertiesMeta.RANGER_PASSWORD));
     Assertions.assertTrue(
         propertyEntryMap.containsKey(AuthorizationPropertiesMeta.RANGER_SERVICE_NAME));
+    Assertions.assertTrue(
+        propertyEntryMap.containsKey(AuthorizationPropertiesMeta.RANGER_POLICY_SYNC_PARALLELISM));
+    Assertions.assertTrue(
+        propertyEntryMap.containsKey(AuthorizationPropertiesMeta.RANGER_PRINCIPAL_CACHE_TTL_MS));
 
     Assertions.assertTrue(propertyEntryMap.get(METASTORE_URIS).isRequired());
     Assertions.assertFalse(propertyEntryMap.get(Catalog.PROPERTY_PACKAGE).isRequired());
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.gravitino.catalog.hive.HiveTableTypeIndex.TableFormat;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.gravitino.utils.ClientPool;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHiveTableTypeIndex {
+
+  private static final Map<String, Map<String, String>> TABLE_PARAMETERS =
+      ImmutableMap.of(
+          "hive_t", ImmutableMap.of(),
+          "iceberg_t", ImmutableMap.of("table_type", "ICEBERG"),
+          "paimon_t", ImmutableMap.of("table_type", "PAIMON"),
+          "hudi_t", ImmutableMap.of("provider", "hudi"));
+
+  @Test
+  void testTableFormats() throws TException, InterruptedException {
+    IMetaStoreClient client = mockClient();
+    try (HiveTableTypeIndex index = new HiveTableTypeIndex(mockClientPool(client), 1, 2, 0)) {
+      Map<String, TableFormat> formats =
+          index.tableFormats("db", ImmutableList.of("hive_t", "iceberg_t", "paimon_t", "hudi_t"));
+
+      Assertions.assertEquals(
+          ImmutableMap.of(
+              "hive_t", TableFormat.HIVE,
+              "iceberg_t", TableFormat.ICEBERG,
+              "paimon_t", TableFormat.PAIMON,
+              "hudi_t", TableFormat.HUDI),
+          formats);
+      // The tables are loaded in the batches of one table.
+      verify(client, times(4)).getTableObjectsByName(eq("db"), anyList());
+
+      // The table dropped after listing the names is absent.
+      formats = index.tableFormats("db", ImmutableList.of("hive_t", "dropped_t"));
+      Assertions.assertEquals(ImmutableMap.of("hive_t", TableFormat.HIVE), formats);
+    }
+  }
+
+  @Test
+  void testCachedTableFormats() throws TException, InterruptedException {
+    IMetaStoreClient client = mockClient();
+    try (HiveTableTypeIndex index = new HiveTableTypeIndex(mockClientPool(client), 10, 1, 60_000)) {
+      index.tableFormats("db", ImmutableList.of("hive_t", "iceberg_t"));
+      verify(client, times(1)).getTableObjectsByName("db", ImmutableList.of("hive_t", "iceberg_t"));
+
+      // Only the tables absent in the index are loaded.
+      index.tableFormats("db", ImmutableList.of("hive_t", "iceberg_t", "hudi_t"));
+      verify(client, times(1)).getTableObjectsByName("db", ImmutableList.of("hudi_t"));
+
+      index.invalidateTable("db", "iceberg_t");
+      index.tableFormats("db", ImmutableList.of("hive_t", "iceberg_t", "hudi_t"));
+      verify(client, times(1)).getTableObjectsByName("db", ImmutableList.of("iceberg_t"));
+
+      index.invalidateDatabase("db");
+      index.tableFormats("db", ImmutableList.of("hive_t"));
+      verify(client, times(1)).getTableObjectsByName("db", ImmutableList.of("hive_t"));
+    }
+  }
+
+  @Test
+  void testFormatOf() {
+    Table table = new Table();
+    Assertions.assertEquals(TableFormat.HIVE, HiveTableTypeIndex.formatOf(table));
+
+    table.setParameters(ImmutableMap.of("table_type", "iceberg"));
+    Assertions.assertEquals(TableFormat.ICEBERG, HiveTableTypeIndex.formatOf(table));
+  }
+
+  private static IMetaStoreClient mockClient() throws TException {
+    IMetaStoreClient client = mock(IMetaStoreClient.class);
+    when(client.getTableObjectsByName(eq("db"), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<String> names = invocation.getArgument(1);
+              return names.stream()
+                  .filter(TABLE_PARAMETERS::containsKey)
+                  .map(
+                      name -> {
+                        Table table = new Table();
+                        table.setTableName(name);
+                        table.setParameters(TABLE_PARAMETERS.get(name));
+                        return table;
+                      })
+                  .collect(Collectors.toList());
+            });
+    return client;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CachedClientPool mockClientPool(IMetaStoreClient client)
+      throws TException, InterruptedException {
+    CachedClientPool clientPool = mock(CachedClientPool.class);
+    when(clientPool.run(any()))
+        .thenAnswer(
+            invocation ->
+                ((ClientPool.Action<Object, IMetaStoreClient, TException>)
+                        invocation.getArgument(0))
+                    .run(client));
+    return clientPool;
+  }
+}
@@ -173,12 +173,25 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
         dataSource, exceptionConverter, jdbcTypeConverter, columnDefaultValueConverter, resultConf);
   }
 
-  /** Closes the Jdbc catalog and releases the associated client pool. */
+  /**
+   * Closes the Jdbc catalog and releases the associated client pool. The resources of the JDBC
+   * driver are released when the classloader of the catalog is closed, see {@link
+   * #releaseDriverResources()}.
+   */
   @Override
   public void close() {
     DataSourceUtils.closeDataSource(dataSource);
+    IsolatedClassLoader.runOnClose(getClass().getName(), this::releaseDriverResources);
   }
 
+  /**
+   * Releases the process-wide resources of the JDBC driver, for example, deregisters the driver
+   * from the {@link DriverManager}. The driver is shared by all the catalogs using the same
+   * classloader, so it is called when that classloader is closed rather than when this catalog is
+   * closed.
+   */
+  protected void releaseDriverResources() {}
+
   /**
    * Lists the schemas under the given namespace.
    *
@@ -330,6 +343,27 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     String tableName = tableIdent.name();
     JdbcTable load = tableOperation.load(databaseName, tableName);
+    return toGravitinoTable(databaseName, load);
+  }
+
+  /**
+   * Loads all the tables of a schema at once, which costs a fixed number of metadata queries rather
+   * than the queries of loading every table by {@link #loadTable}.
+   *
+   * @param namespace The namespace of the schema.
+   * @return The loaded JdbcTable instances of the tables in the schema.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  public Table[] loadTables(Namespace namespace) throws NoSuchSchemaException {
+    String databaseName = NameIdentifier.of(namespace.levels()).name();
+    List<String> tableNames = tableOperation.listTables(databaseName);
+    return tableOperation.loadTables(databaseName, tableNames).stream()
+        .map(load -> toGravitinoTable(databaseName, load))
+        .toArray(Table[]::new);
+  }
+
+  private JdbcTable toGravitinoTable(String databaseName, JdbcTable load) {
+    String tableName = load.name();
     Map<String, String> properties =
         load.properties() == null
             ? Maps.newHashMap()
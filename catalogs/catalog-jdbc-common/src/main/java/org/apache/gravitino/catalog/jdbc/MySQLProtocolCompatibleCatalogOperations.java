@@ -62,9 +62,7 @@ public class MySQLProtocolCompatibleCatalogOperations extends JdbcCatalogOperati
   }
 
   @Override
-  public void close() {
-    super.close();
-
+  protected void releaseDriverResources() {
     try {
       // Close thread AbandonedConnectionCleanupThread
       Class.forName("com.mysql.cj.jdbc.AbandonedConnectionCleanupThread")
@@ -22,12 +22,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -152,27 +156,18 @@ public abstract class JdbcTableOperations implements TableOperation {
   }
 
   /**
-   * Get table information from the result set and attach it to the table builder, If the table is
-   * not found, it will throw a NoSuchTableException.
+   * Get table information from the current row of the result set. If the row is not the table, it
+   * returns null.
    *
-   * @param tablesResult The result set of the table
-   * @return The builder of the table to be returned
+   * @param tablesResult The result set of the tables
+   * @return The builder of the table, or null if the current row is not the table
    */
   protected JdbcTable.Builder getTableBuilder(
       ResultSet tablesResult, String databaseName, String tableName) throws SQLException {
-    boolean found = false;
     JdbcTable.Builder builder = null;
-    while (tablesResult.next() && !found) {
-      if (Objects.equals(tablesResult.getString("TABLE_NAME"), tableName)) {
-        builder = getBasicJdbcTableInfo(tablesResult).withDatabaseName(databaseName);
-        found = true;
-      }
-    }
-
-    if (!found) {
-      throw new NoSuchTableException("Table %s does not exist in %s.", tableName, databaseName);
+    if (Objects.equals(tablesResult.getString("TABLE_NAME"), tableName)) {
+      builder = getBasicJdbcTableInfo(tablesResult).withDatabaseName(databaseName);
     }
-
     return builder;
   }
 
@@ -187,56 +182,159 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   @Override
   public JdbcTable load(String databaseName, String tableName) throws NoSuchTableException {
+    try (Connection connection = getConnection(databaseName)) {
+      List<JdbcTable> tables =
+          loadTables(connection, databaseName, Collections.singletonList(tableName));
+      if (tables.isEmpty()) {
+        throw new NoSuchTableException("Table %s does not exist in %s.", tableName, databaseName);
+      }
+      return tables.get(0);
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    if (tableNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+    try (Connection connection = getConnection(databaseName)) {
+      return loadTables(connection, databaseName, tableNames);
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  /**
+   * Load the tables with a fixed number of metadata queries: the tables, the columns, the indexes
+   * and the properties of all the tables are each read at once, only the information the dialect
+   * cannot read in bulk is read per table by {@link #loadTableDetails}.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames the names of the tables to load
+   * @return the loaded tables in the order of the names, the tables not existing are absent.
+   * @throws SQLException if an error occurs while reading the metadata.
+   */
+  protected List<JdbcTable> loadTables(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
     // We should handle case sensitivity and wild card issue in some catalog tables, take MySQL
     // tables, for example.
     // 1. MySQL will get table 'a_b' and 'A_B' when we query 'a_b' in a case-insensitive charset
     // like utf8mb4.
     // 2. MySQL treats 'a_b' as a wildcard, matching any table name that begins with 'a', followed
     // by any character, and ending with 'b'.
-    try (Connection connection = getConnection(databaseName)) {
-      // 1. Get table information, The result of tables may be more than one due to the reason
-      // above, so we need to check the result.
-      ResultSet tables = getTable(connection, databaseName, tableName);
-      JdbcTable.Builder jdbcTableBuilder = getTableBuilder(tables, databaseName, tableName);
-
-      // 2.Get column information
-      List<JdbcColumn> jdbcColumns = new ArrayList<>();
-      // Get columns are wildcard sensitive, so we need to check the result.
-      ResultSet columns = getColumns(connection, databaseName, tableName);
+    // So one table is looked up by its name pattern and the result is checked, while multiple
+    // tables are looked up by listing the whole database once.
+    String tableNamePattern = tableNames.size() == 1 ? tableNames.get(0) : null;
+
+    // 1. Get table information
+    Map<String, JdbcTable.Builder> tableBuilders = new LinkedHashMap<>();
+    tableNames.forEach(tableName -> tableBuilders.put(tableName, null));
+    try (ResultSet tables = getTable(connection, databaseName, tableNamePattern)) {
+      while (tables.next()) {
+        String tableName = tables.getString("TABLE_NAME");
+        if (tableBuilders.containsKey(tableName) && tableBuilders.get(tableName) == null) {
+          tableBuilders.put(tableName, getTableBuilder(tables, databaseName, tableName));
+        }
+      }
+    }
+    tableBuilders.values().removeIf(Objects::isNull);
+    if (tableBuilders.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<String> existingTables = new ArrayList<>(tableBuilders.keySet());
+
+    // 2.Get column information
+    Map<String, List<JdbcColumn>> tableColumns = new HashMap<>();
+    // Get columns are wildcard sensitive, so we need to check the result.
+    try (ResultSet columns = getColumns(connection, databaseName, tableNamePattern)) {
       while (columns.next()) {
         // TODO(yunqing): check schema and catalog also
+        String tableName = columns.getString("TABLE_NAME");
+        if (!tableBuilders.containsKey(tableName)) {
+          continue;
+        }
         JdbcColumn.Builder columnBuilder = getColumnBuilder(columns, databaseName, tableName);
         if (columnBuilder != null) {
           boolean autoIncrement = getAutoIncrementInfo(columns);
           columnBuilder.withAutoIncrement(autoIncrement);
-          jdbcColumns.add(columnBuilder.build());
+          tableColumns
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(columnBuilder.build());
         }
       }
-      jdbcTableBuilder.withColumns(jdbcColumns.toArray(new JdbcColumn[0]));
-
-      // 3.Get index information
-      List<Index> indexes = getIndexes(connection, databaseName, tableName);
-      jdbcTableBuilder.withIndexes(indexes.toArray(new Index[0]));
+    }
 
-      // 4.Get partitioning
-      Transform[] tablePartitioning = getTablePartitioning(connection, databaseName, tableName);
-      jdbcTableBuilder.withPartitioning(tablePartitioning);
+    // 3.Get index information
+    Map<String, List<Index>> tableIndexes = getIndexes(connection, databaseName, existingTables);
+
+    // 4.Get table properties
+    Map<String, Map<String, String>> tableProperties =
+        getTableProperties(connection, databaseName, existingTables);
+
+    List<JdbcTable> jdbcTables = new ArrayList<>(tableBuilders.size());
+    for (Map.Entry<String, JdbcTable.Builder> entry : tableBuilders.entrySet()) {
+      String tableName = entry.getKey();
+      JdbcTable.Builder jdbcTableBuilder = entry.getValue();
+      jdbcTableBuilder.withColumns(
+          tableColumns.getOrDefault(tableName, Collections.emptyList()).toArray(new JdbcColumn[0]));
+      jdbcTableBuilder.withIndexes(
+          tableIndexes.getOrDefault(tableName, Collections.emptyList()).toArray(new Index[0]));
+      jdbcTableBuilder.withProperties(
+          tableProperties.getOrDefault(tableName, Collections.emptyMap()));
+
+      // 5.Get partitioning, distribution and the other information of the table
+      loadTableDetails(connection, databaseName, tableName, jdbcTableBuilder);
+      jdbcTables.add(jdbcTableBuilder.withTableOperation(this).build());
+    }
+    return jdbcTables;
+  }
 
-      // 5.Get distribution information
-      Distribution distribution = getDistributionInfo(connection, databaseName, tableName);
-      jdbcTableBuilder.withDistribution(distribution);
+  /**
+   * Load the information of the table which is not loaded in bulk, including the partitioning and
+   * the distribution, then leave the information to the bottom layer to append the table.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableName table name
+   * @param jdbcTableBuilder The builder of the table to be returned
+   * @throws SQLException if an error occurs while reading the metadata.
+   */
+  protected void loadTableDetails(
+      Connection connection,
+      String databaseName,
+      String tableName,
+      JdbcTable.Builder jdbcTableBuilder)
+      throws SQLException {
+    Transform[] tablePartitioning = getTablePartitioning(connection, databaseName, tableName);
+    jdbcTableBuilder.withPartitioning(tablePartitioning);
 
-      // 6.Get table properties
-      Map<String, String> tableProperties = getTableProperties(connection, tableName);
-      jdbcTableBuilder.withProperties(tableProperties);
+    Distribution distribution = getDistributionInfo(connection, databaseName, tableName);
+    jdbcTableBuilder.withDistribution(distribution);
 
-      // 7.Leave the information to the bottom layer to append the table
-      correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+    correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+  }
 
-      return jdbcTableBuilder.withTableOperation(this).build();
-    } catch (SQLException e) {
-      throw exceptionMapper.toGravitinoException(e);
+  /**
+   * Get the properties of multiple tables. The default implementation gets them table by table, the
+   * dialects which can read the properties of all the tables with one query should override it.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames the names of the existing tables
+   * @return the properties of each table
+   * @throws SQLException if an error occurs while reading the properties.
+   */
+  protected Map<String, Map<String, String>> getTableProperties(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> tableProperties = new HashMap<>();
+    for (String tableName : tableNames) {
+      tableProperties.put(tableName, getTableProperties(connection, tableName));
     }
+    return tableProperties;
   }
 
   /**
@@ -348,6 +446,10 @@ public abstract class JdbcTableOperations implements TableOperation {
     return metaData.getTables(catalogName, schemaName, null, JdbcConnectorUtils.getTableTypes());
   }
 
+  /**
+   * Get the tables matching the table name pattern, all the tables of the database are returned if
+   * the pattern is null. So are the columns returned by {@link #getColumns}.
+   */
   protected ResultSet getTable(Connection connection, String databaseName, String tableName)
       throws SQLException {
     final DatabaseMetaData metaData = connection.getMetaData();
@@ -381,7 +483,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -413,7 +514,88 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
-    // Assemble into Index
+    return toIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Get the indexes of multiple tables. The default implementation gets them table by table, the
+   * dialects which can read the indexes of all the tables with one query should override it.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames the names of the existing tables
+   * @return the indexes of each table
+   * @throws SQLException if an error occurs while reading the indexes.
+   */
+  protected Map<String, List<Index>> getIndexes(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    Map<String, List<Index>> tableIndexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      tableIndexes.put(tableName, getIndexes(connection, databaseName, tableName));
+    }
+    return tableIndexes;
+  }
+
+  /**
+   * Get the primary keys and the unique keys of the tables from information_schema.STATISTICS with
+   * one query, which can be used by the MySQL protocol compatible dialects. The primary key is
+   * named PRIMARY as {@link DatabaseMetaData#getPrimaryKeys} returns.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableNames the names of the existing tables
+   * @return the indexes of each table
+   * @throws SQLException if an error occurs while reading the indexes.
+   */
+  protected Map<String, List<Index>> getIndexesFromInformationSchema(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX FROM information_schema.STATISTICS"
+            + " WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0"
+            + (tableNames.size() == 1 ? " AND TABLE_NAME = ?" : "");
+    Set<String> names = new HashSet<>(tableNames);
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      if (tableNames.size() == 1) {
+        statement.setString(2, tableNames.get(0));
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          // The table names are case-insensitive in some collations, so we need to check the
+          // result.
+          String tableName = resultSet.getString("TABLE_NAME");
+          if (!names.contains(tableName)) {
+            continue;
+          }
+          String indexName = resultSet.getString("INDEX_NAME");
+          indexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      "PRIMARY".equals(indexName)
+                          ? Index.IndexType.PRIMARY_KEY
+                          : Index.IndexType.UNIQUE_KEY,
+                      resultSet.getString("COLUMN_NAME"),
+                      indexName,
+                      resultSet.getInt("SEQ_IN_INDEX")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> tableIndexes = new HashMap<>();
+    indexBeans.forEach((tableName, beans) -> tableIndexes.put(tableName, toIndexes(beans)));
+    return tableIndexes;
+  }
+
+  /**
+   * Assemble the primary keys and the unique keys from the columns of the indexes.
+   *
+   * @param jdbcIndexBeans the columns of the indexes of one table
+   * @return the indexes of the table
+   */
+  protected List<Index> toIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
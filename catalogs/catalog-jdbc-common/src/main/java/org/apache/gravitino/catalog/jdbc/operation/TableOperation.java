@@ -93,6 +93,18 @@ public interface TableOperation {
    */
   JdbcTable load(String databaseName, String tableName) throws NoSuchTableException;
 
+  /**
+   * Loads multiple tables of the database at once, which costs a fixed number of metadata queries
+   * rather than the queries of every table.
+   *
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables.
+   * @return information objects of the JDBC tables, the tables not existing are absent.
+   * @throws NoSuchSchemaException If the database does not exist.
+   */
+  List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException;
+
   /**
    * @param databaseName The name of the database.
    * @param oldTableName The name of the table to rename.
@@ -19,14 +19,21 @@
 package org.apache.gravitino.catalog.jdbc;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.jdbc.converter.SqliteColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.SqliteExceptionConverter;
 import org.apache.gravitino.catalog.jdbc.converter.SqliteTypeConverter;
 import org.apache.gravitino.catalog.jdbc.operation.SqliteDatabaseOperations;
 import org.apache.gravitino.catalog.jdbc.operation.SqliteTableOperations;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -51,4 +58,64 @@ public class TestJdbcCatalogOperations {
                 "comment",
                 ImmutableMap.of()));
   }
+
+  @Test
+  public void testCloseCatalogsSharingClassLoader() throws Exception {
+    File baseDir = Files.createTempDirectory("gravitino-jdbc").toFile();
+    AtomicInteger released = new AtomicInteger();
+    SqliteDatabaseOperations databaseOperations =
+        new SqliteDatabaseOperations(baseDir.getAbsolutePath());
+    JdbcCatalogOperations catalog1 = newCatalogOperations(databaseOperations, released);
+    JdbcCatalogOperations catalog2 = newCatalogOperations(databaseOperations, released);
+    IsolatedClassLoader sharedClassLoader =
+        new IsolatedClassLoader(
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    try {
+      sharedClassLoader.withClassLoader(
+          cl -> {
+            catalog1.close();
+            return null;
+          });
+      // The driver is shared with catalog2, it isn't released when only catalog1 is closed.
+      Assertions.assertEquals(0, released.get());
+
+      sharedClassLoader.withClassLoader(
+          cl -> {
+            databaseOperations.create("db", null, ImmutableMap.of());
+            return null;
+          });
+      Assertions.assertArrayEquals(
+          new NameIdentifier[] {NameIdentifier.of("metalake", "catalog", "db")},
+          catalog2.listSchemas(Namespace.of("metalake", "catalog")));
+
+      sharedClassLoader.withClassLoader(
+          cl -> {
+            catalog2.close();
+            return null;
+          });
+      Assertions.assertEquals(0, released.get());
+
+      // The driver is released once when the shared classloader is closed.
+      sharedClassLoader.close();
+      Assertions.assertEquals(1, released.get());
+    } finally {
+      FileUtils.deleteDirectory(baseDir);
+    }
+  }
+
+  private static JdbcCatalogOperations newCatalogOperations(
+      SqliteDatabaseOperations databaseOperations, AtomicInteger released) {
+    return new JdbcCatalogOperations(
+        new SqliteExceptionConverter(),
+        new SqliteTypeConverter(),
+        databaseOperations,
+        new SqliteTableOperations(),
+        new SqliteColumnDefaultValueConverter()) {
+      @Override
+      protected void releaseDriverResources() {
+        released.incrementAndGet();
+      }
+    };
+  }
 }
@@ -182,6 +182,13 @@ public class TestJdbcTableOperations {
       Assertions.assertEquals(jdbcColumn.defaultValue(), column.defaultValue());
     }
 
+    // load tables.
+    List<JdbcTable> loadTables =
+        JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, Arrays.asList(table1, "no_exist"));
+    Assertions.assertEquals(1, loadTables.size());
+    Assertions.assertEquals(table1, loadTables.get(0).name());
+    Assertions.assertEquals(jdbcColumns.length, loadTables.get(0).columns().length);
+
     String newName = "table2";
 
     Assertions.assertDoesNotThrow(
@@ -343,28 +343,14 @@ public class DorisTableOperations extends JdbcTableOperations {
     return "YES".equalsIgnoreCase(resultSet.getString("IS_AUTOINCREMENT"));
   }
 
+  /**
+   * The properties are extracted from the same SHOW CREATE TABLE result as the partitioning and the
+   * distribution in {@link #loadTableDetails}, so they are not loaded separately.
+   */
   @Override
-  protected Map<String, String> getTableProperties(Connection connection, String tableName)
-      throws SQLException {
-
-    String showCreateTableSQL = String.format("SHOW CREATE TABLE `%s`", tableName);
-
-    StringBuilder createTableSqlSb = new StringBuilder();
-    try (Statement statement = connection.createStatement();
-        ResultSet resultSet = statement.executeQuery(showCreateTableSQL)) {
-      while (resultSet.next()) {
-        createTableSqlSb.append(resultSet.getString("Create Table"));
-      }
-    }
-
-    String createTableSql = createTableSqlSb.toString();
-
-    if (StringUtils.isEmpty(createTableSql)) {
-      throw new NoSuchTableException(
-          "Table %s does not exist in %s.", tableName, connection.getCatalog());
-    }
-
-    return Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql));
+  protected Map<String, Map<String, String>> getTableProperties(
+      Connection connection, String databaseName, List<String> tableNames) {
+    return Collections.emptyMap();
   }
 
   @Override
@@ -390,19 +376,39 @@ public class DorisTableOperations extends JdbcTableOperations {
   }
 
   @Override
-  protected Transform[] getTablePartitioning(
-      Connection connection, String databaseName, String tableName) throws SQLException {
-    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
+  protected void loadTableDetails(
+      Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
+      throws SQLException {
+    // Get the properties, the partitioning and the distribution from one SHOW CREATE TABLE.
+    String createTableSql = getCreateTableSql(connection, tableName);
+    tableBuilder.withProperties(
+        Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql)));
+    Optional<Transform> transform = DorisUtils.extractPartitionInfoFromSql(createTableSql);
+    tableBuilder.withPartitioning(
+        transform.map(t -> new Transform[] {t}).orElse(Transforms.EMPTY_TRANSFORM));
+    tableBuilder.withDistribution(DorisUtils.extractDistributionInfoFromSql(createTableSql));
+
+    correctJdbcTableFields(connection, databaseName, tableName, tableBuilder);
+  }
+
+  private String getCreateTableSql(Connection connection, String tableName) throws SQLException {
+    String showCreateTableSQL = String.format("SHOW CREATE TABLE `%s`", tableName);
+
+    StringBuilder createTableSqlSb = new StringBuilder();
     try (Statement statement = connection.createStatement();
-        ResultSet result = statement.executeQuery(showCreateTableSql)) {
-      StringBuilder createTableSql = new StringBuilder();
-      if (result.next()) {
-        createTableSql.append(result.getString("Create Table"));
+        ResultSet resultSet = statement.executeQuery(showCreateTableSQL)) {
+      while (resultSet.next()) {
+        createTableSqlSb.append(resultSet.getString("Create Table"));
       }
-      Optional<Transform> transform =
-          DorisUtils.extractPartitionInfoFromSql(createTableSql.toString());
-      return transform.map(t -> new Transform[] {t}).orElse(Transforms.EMPTY_TRANSFORM);
     }
+
+    String createTableSql = createTableSqlSb.toString();
+
+    if (StringUtils.isEmpty(createTableSql)) {
+      throw new NoSuchTableException(
+          "Table %s does not exist in %s.", tableName, connection.getCatalog());
+    }
+    return createTableSql;
   }
 
   @Override
@@ -778,17 +784,4 @@ public class DorisTableOperations extends JdbcTableOperations {
     }
     return "DROP INDEX " + deleteIndex.getName();
   }
-
-  @Override
-  protected Distribution getDistributionInfo(
-      Connection connection, String databaseName, String tableName) throws SQLException {
-
-    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
-    try (Statement statement = connection.createStatement();
-        ResultSet result = statement.executeQuery(showCreateTableSql)) {
-      result.next();
-      String createTableSyntax = result.getString("Create Table");
-      return DorisUtils.extractDistributionInfoFromSql(createTableSyntax);
-    }
-  }
 }
@@ -22,6 +22,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.Maps;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -59,6 +61,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
 import org.testcontainers.shaded.org.awaitility.Awaitility;
 
 @Tag("gravitino-docker-test")
@@ -506,6 +510,115 @@ public class TestDorisTableOperations extends TestDoris {
     }
   }
 
+  @Test
+  public void testLoadTables() throws SQLException {
+    String tableComment = "load_tables_comment";
+    JdbcColumn col1 =
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(Types.IntegerType.get())
+            .withNullable(false)
+            .build();
+    JdbcColumn col2 = JdbcColumn.builder().withName("col_2").withType(VARCHAR_255).build();
+    JdbcColumn col3 =
+        JdbcColumn.builder()
+            .withName("col_3")
+            .withType(Types.DateType.get())
+            .withNullable(false)
+            .build();
+    List<JdbcColumn> columns = Arrays.asList(col1, col2, col3);
+
+    String rangeTableName = GravitinoITUtils.genRandomName("load_range_table");
+    Transform[] rangePartition =
+        new Transform[] {
+          Transforms.range(
+              new String[] {col3.name()},
+              new RangePartition[] {
+                Partitions.range("p1", Literals.dateLiteral(LocalDate.now()), Literals.NULL, null)
+              })
+        };
+    Distribution hashDistribution =
+        Distributions.hash(DEFAULT_BUCKET_SIZE, NamedReference.field("col_1"));
+    TABLE_OPERATIONS.create(
+        databaseName,
+        rangeTableName,
+        columns.toArray(new JdbcColumn[0]),
+        tableComment,
+        createProperties(),
+        rangePartition,
+        hashDistribution,
+        new Index[0]);
+
+    String plainTableName = GravitinoITUtils.genRandomName("load_plain_table");
+    Distribution evenDistribution =
+        Distributions.even(DEFAULT_BUCKET_SIZE, Expression.EMPTY_EXPRESSION);
+    TABLE_OPERATIONS.create(
+        databaseName,
+        plainTableName,
+        columns.toArray(new JdbcColumn[0]),
+        tableComment,
+        createProperties(),
+        null,
+        evenDistribution,
+        new Index[0]);
+
+    List<JdbcTable> tables =
+        TABLE_OPERATIONS.loadTables(
+            databaseName, Arrays.asList(rangeTableName, plainTableName, "not_exist"));
+    Assertions.assertEquals(2, tables.size());
+    Map<String, JdbcTable> tablesByName =
+        tables.stream().collect(Collectors.toMap(JdbcTable::name, table -> table));
+
+    JdbcTable rangeTable = tablesByName.get(rangeTableName);
+    assertionsTableInfo(
+        rangeTableName,
+        tableComment,
+        columns,
+        Collections.emptyMap(),
+        null,
+        new Transform[] {Transforms.range(new String[] {col3.name()})},
+        rangeTable);
+    Assertions.assertEquals(hashDistribution.strategy(), rangeTable.distribution().strategy());
+    Assertions.assertEquals(hashDistribution.number(), rangeTable.distribution().number());
+    Assertions.assertArrayEquals(
+        hashDistribution.expressions(), rangeTable.distribution().expressions());
+    // The replication number is set to 1 on the single backend of the test container.
+    Assertions.assertEquals(
+        "tag.location.default: 1", rangeTable.properties().get("replication_allocation"));
+
+    JdbcTable plainTable = tablesByName.get(plainTableName);
+    assertionsTableInfo(
+        plainTableName,
+        tableComment,
+        columns,
+        Collections.emptyMap(),
+        null,
+        Transforms.EMPTY_TRANSFORM,
+        plainTable);
+    Assertions.assertEquals(evenDistribution.strategy(), plainTable.distribution().strategy());
+    Assertions.assertEquals(evenDistribution.number(), plainTable.distribution().number());
+    Assertions.assertEquals(
+        "tag.location.default: 1", plainTable.properties().get("replication_allocation"));
+
+    // The properties, the partitioning and the distribution are read from one SHOW CREATE TABLE.
+    try (Connection connection = DATA_SOURCE.getConnection()) {
+      Connection countingConnection =
+          Mockito.mock(Connection.class, AdditionalAnswers.delegatesTo(connection));
+      JdbcTable.Builder tableBuilder =
+          JdbcTable.builder().withName(rangeTableName).withComment(tableComment);
+      ((DorisTableOperations) TABLE_OPERATIONS)
+          .loadTableDetails(countingConnection, databaseName, rangeTableName, tableBuilder);
+      Mockito.verify(countingConnection, Mockito.times(1)).createStatement();
+      Mockito.verify(countingConnection, Mockito.never()).prepareStatement(Mockito.anyString());
+
+      JdbcTable table = tableBuilder.build();
+      Assertions.assertArrayEquals(
+          new Transform[] {Transforms.range(new String[] {col3.name()})}, table.partitioning());
+      Assertions.assertEquals(hashDistribution.strategy(), table.distribution().strategy());
+      Assertions.assertEquals(rangeTable.properties(), table.properties());
+    }
+  }
+
   @Test
   public void testCreatePartitionedTable() {
     String tableComment = "partition_table_comment";
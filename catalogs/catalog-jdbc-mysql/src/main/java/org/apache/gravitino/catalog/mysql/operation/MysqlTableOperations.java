@@ -32,9 +32,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -46,7 +47,6 @@ import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
-import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
@@ -162,34 +162,44 @@ public class MysqlTableOperations extends JdbcTableOperations {
   }
 
   @Override
-  protected Map<String, String> getTableProperties(Connection connection, String tableName)
-      throws SQLException {
+  protected Map<String, Map<String, String>> getTableProperties(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    // One table is looked up by its name, while multiple tables are looked up by listing the status
+    // of the whole database once.
     // MySQL in CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci is case-insensitive, when the name is
     // hello, the result can be 'HELLO', 'Hello', 'hello' and so on.
-    try (PreparedStatement statement = connection.prepareStatement("SHOW TABLE STATUS LIKE ?")) {
-      statement.setString(1, tableName);
+    boolean singleTable = tableNames.size() == 1;
+    Set<String> names = new HashSet<>(tableNames);
+    Map<String, Map<String, String>> tableProperties = new HashMap<>();
+    try (PreparedStatement statement =
+        connection.prepareStatement(
+            singleTable ? "SHOW TABLE STATUS LIKE ?" : "SHOW TABLE STATUS")) {
+      if (singleTable) {
+        statement.setString(1, tableNames.get(0));
+      }
       try (ResultSet resultSet = statement.executeQuery()) {
         while (resultSet.next()) {
           String name = resultSet.getString("NAME");
-          if (Objects.equals(name, tableName)) {
-            return Collections.unmodifiableMap(
-                new HashMap<String, String>() {
-                  {
-                    put(COMMENT, resultSet.getString(COMMENT));
-                    put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
-                    String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
-                    if (StringUtils.isNotEmpty(autoIncrement)) {
-                      put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
-                    }
-                  }
-                });
+          if (names.contains(name)) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put(COMMENT, resultSet.getString(COMMENT));
+            properties.put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
+            String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
+            if (StringUtils.isNotEmpty(autoIncrement)) {
+              properties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+            }
+            tableProperties.put(name, Collections.unmodifiableMap(properties));
           }
         }
-
-        throw new NoSuchTableException(
-            "Table %s does not exist in %s.", tableName, connection.getCatalog());
       }
     }
+    return tableProperties;
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexes(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    return getIndexesFromInformationSchema(connection, databaseName, tableNames);
   }
 
   @Override
@@ -826,6 +826,66 @@ public class TestMysqlTableOperations extends TestMysql {
     Assertions.assertEquals("InnoDB", load.properties().get(MYSQL_ENGINE_KEY));
   }
 
+  @Test
+  public void testLoadTables() {
+    String testDb = RandomNameUtils.genRandomName("load_tables_db_");
+    DATABASE_OPERATIONS.create(testDb, null, null);
+    JdbcColumn[] columns = {
+      JdbcColumn.builder()
+          .withName("col_1")
+          .withType(INT)
+          .withComment("id")
+          .withNullable(false)
+          .withAutoIncrement(true)
+          .build(),
+      JdbcColumn.builder().withName("col_2").withType(VARCHAR).withNullable(false).build(),
+      JdbcColumn.builder().withName("col_3").withType(VARCHAR).withNullable(true).build()
+    };
+    Index[] indexes = {
+      Indexes.createMysqlPrimaryKey(new String[][] {{"col_1"}}),
+      Indexes.unique("uk_2_3", new String[][] {{"col_2"}, {"col_3"}})
+    };
+    List<String> tableNames = Arrays.asList("load_table_1", "load_table_2", "load_table_3");
+    for (String tableName : tableNames) {
+      TABLE_OPERATIONS.create(
+          testDb,
+          tableName,
+          columns,
+          tableName + "_comment",
+          Collections.emptyMap(),
+          null,
+          Distributions.NONE,
+          indexes);
+    }
+
+    List<String> loadNames = new ArrayList<>(tableNames.subList(0, 2));
+    loadNames.add("not_exist");
+    List<JdbcTable> tables = TABLE_OPERATIONS.loadTables(testDb, loadNames);
+    Assertions.assertEquals(2, tables.size());
+    for (int i = 0; i < tables.size(); i++) {
+      JdbcTable expected = TABLE_OPERATIONS.load(testDb, tableNames.get(i));
+      assertionsTableInfo(
+          expected.name(),
+          expected.comment(),
+          Arrays.stream(expected.columns())
+              .map(column -> (JdbcColumn) column)
+              .collect(Collectors.toList()),
+          expected.properties(),
+          expected.index(),
+          expected.partitioning(),
+          tables.get(i));
+      Assertions.assertEquals(expected.properties(), tables.get(i).properties());
+    }
+    assertionsTableInfo(
+        tableNames.get(0),
+        tableNames.get(0) + "_comment",
+        Arrays.asList(columns),
+        Collections.emptyMap(),
+        indexes,
+        Transforms.EMPTY_TRANSFORM,
+        tables.get(0));
+  }
+
   @Test
   public void testAutoIncrement() {
     String tableName = "test_increment_table_1";
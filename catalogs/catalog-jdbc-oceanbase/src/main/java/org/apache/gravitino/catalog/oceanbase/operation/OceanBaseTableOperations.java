@@ -30,9 +30,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -158,31 +159,41 @@ public class OceanBaseTableOperations extends JdbcTableOperations {
   }
 
   @Override
-  protected Map<String, String> getTableProperties(Connection connection, String tableName)
-      throws SQLException {
-    try (PreparedStatement statement = connection.prepareStatement("SHOW TABLE STATUS LIKE ?")) {
-      statement.setString(1, tableName);
+  protected Map<String, Map<String, String>> getTableProperties(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    // One table is looked up by its name, while multiple tables are looked up by listing the status
+    // of the whole database once.
+    boolean singleTable = tableNames.size() == 1;
+    Set<String> names = new HashSet<>(tableNames);
+    Map<String, Map<String, String>> tableProperties = new HashMap<>();
+    try (PreparedStatement statement =
+        connection.prepareStatement(
+            singleTable ? "SHOW TABLE STATUS LIKE ?" : "SHOW TABLE STATUS")) {
+      if (singleTable) {
+        statement.setString(1, tableNames.get(0));
+      }
       try (ResultSet resultSet = statement.executeQuery()) {
         while (resultSet.next()) {
           String name = resultSet.getString("NAME");
-          if (Objects.equals(name, tableName)) {
-            return Collections.unmodifiableMap(
-                new HashMap<String, String>() {
-                  {
-                    put(COMMENT, resultSet.getString(COMMENT));
-                    String autoIncrement = resultSet.getString("AUTO_INCREMENT");
-                    if (StringUtils.isNotEmpty(autoIncrement)) {
-                      put("AUTO_INCREMENT", autoIncrement);
-                    }
-                  }
-                });
+          if (names.contains(name)) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put(COMMENT, resultSet.getString(COMMENT));
+            String autoIncrement = resultSet.getString("AUTO_INCREMENT");
+            if (StringUtils.isNotEmpty(autoIncrement)) {
+              properties.put("AUTO_INCREMENT", autoIncrement);
+            }
+            tableProperties.put(name, Collections.unmodifiableMap(properties));
           }
         }
-
-        throw new NoSuchTableException(
-            "Table %s does not exist in %s.", tableName, connection.getCatalog());
       }
     }
+    return tableProperties;
+  }
+
+  @Override
+  protected Map<String, List<Index>> getIndexes(
+      Connection connection, String databaseName, List<String> tableNames) throws SQLException {
+    return getIndexesFromInformationSchema(connection, databaseName, tableNames);
   }
 
   protected void correctJdbcTableFields(
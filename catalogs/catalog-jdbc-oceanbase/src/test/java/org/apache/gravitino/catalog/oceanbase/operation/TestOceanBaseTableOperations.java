@@ -785,6 +785,70 @@ public class TestOceanBaseTableOperations extends TestOceanBase {
     Assertions.assertFalse(tables.contains(test_table_2));
   }
 
+  @Test
+  public void testLoadTables() {
+    String testDb = RandomNameUtils.genRandomName("load_tables_db_");
+    DATABASE_OPERATIONS.create(testDb, null, null);
+    Map<String, String> properties = Collections.singletonMap("AUTO_INCREMENT", "10");
+    JdbcColumn[] columns = {
+      JdbcColumn.builder()
+          .withName("col_1")
+          .withType(INT)
+          .withComment("id")
+          .withNullable(false)
+          .withAutoIncrement(true)
+          .build(),
+      JdbcColumn.builder().withName("col_2").withType(VARCHAR).withNullable(false).build(),
+      JdbcColumn.builder().withName("col_3").withType(VARCHAR).withNullable(true).build()
+    };
+    Index[] indexes = {
+      Indexes.createMysqlPrimaryKey(new String[][] {{"col_1"}}),
+      Indexes.unique("uk_2_3", new String[][] {{"col_2"}, {"col_3"}})
+    };
+    List<String> tableNames = Arrays.asList("load_table_1", "load_table_2", "load_table_3");
+    for (String tableName : tableNames) {
+      TABLE_OPERATIONS.create(
+          testDb,
+          tableName,
+          columns,
+          tableName + "_comment",
+          properties,
+          null,
+          Distributions.NONE,
+          indexes);
+    }
+
+    // Multiple tables read their properties from one SHOW TABLE STATUS of the database.
+    List<String> loadNames = new ArrayList<>(tableNames.subList(0, 2));
+    loadNames.add("not_exist");
+    List<JdbcTable> tables = TABLE_OPERATIONS.loadTables(testDb, loadNames);
+    Assertions.assertEquals(2, tables.size());
+    for (int i = 0; i < tables.size(); i++) {
+      assertionsTableInfo(
+          tableNames.get(i),
+          tableNames.get(i) + "_comment",
+          Arrays.asList(columns),
+          properties,
+          indexes,
+          Transforms.EMPTY_TRANSFORM,
+          tables.get(i));
+    }
+
+    // A single table reads its properties from SHOW TABLE STATUS LIKE its name.
+    tables = TABLE_OPERATIONS.loadTables(testDb, Collections.singletonList(tableNames.get(2)));
+    Assertions.assertEquals(1, tables.size());
+    assertionsTableInfo(
+        tableNames.get(2),
+        tableNames.get(2) + "_comment",
+        Arrays.asList(columns),
+        properties,
+        indexes,
+        Transforms.EMPTY_TRANSFORM,
+        tables.get(0));
+    Assertions.assertTrue(
+        TABLE_OPERATIONS.loadTables(testDb, Collections.singletonList("not_exist")).isEmpty());
+  }
+
   @Test
   public void testAutoIncrement() {
     String tableName = "test_increment_table_1";
@@ -44,8 +44,7 @@ public class PostgreSQLCatalogOperations extends JdbcCatalogOperations {
   }
 
   @Override
-  public void close() {
-    super.close();
+  protected void releaseDriverResources() {
     try {
       // Unload the PostgreSQL driver, only Unload the driver if it is loaded by
       // IsolatedClassLoader.
@@ -25,10 +25,12 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,6 +43,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
@@ -48,7 +51,6 @@ import org.apache.gravitino.catalog.jdbc.converter.JdbcTypeConverter;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
-import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
@@ -109,22 +111,11 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
   @Override
   protected JdbcTable.Builder getTableBuilder(
       ResultSet tablesResult, String databaseName, String tableName) throws SQLException {
-    boolean found = false;
     JdbcTable.Builder builder = null;
-    while (tablesResult.next() && !found) {
-      String tableNameInResult = tablesResult.getString("TABLE_NAME");
-      String tableSchemaInResultLowerCase = tablesResult.getString("TABLE_SCHEM");
-      if (Objects.equals(tableNameInResult, tableName)
-          && Objects.equals(tableSchemaInResultLowerCase, databaseName)) {
-        builder = getBasicJdbcTableInfo(tablesResult);
-        found = true;
-      }
-    }
-
-    if (!found) {
-      throw new NoSuchTableException("Table %s does not exist in %s.", tableName, databaseName);
+    if (Objects.equals(tablesResult.getString("TABLE_NAME"), tableName)
+        && Objects.equals(tablesResult.getString("TABLE_SCHEM"), databaseName)) {
+      builder = getBasicJdbcTableInfo(tablesResult);
     }
-
     return builder;
   }
 
@@ -703,6 +694,49 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
         + "';";
   }
 
+  /**
+   * Get the primary keys and the unique keys of all the tables from pg_catalog with one query, the
+   * names are the names of the underlying indexes as {@link DatabaseMetaData#getPrimaryKeys} and
+   * {@link DatabaseMetaData#getIndexInfo} return.
+   */
+  @Override
+  protected Map<String, List<Index>> getIndexes(
+      Connection connection, String schemaName, List<String> tableNames) throws SQLException {
+    String sql =
+        "SELECT t.relname AS table_name, i.relname AS index_name, ix.indisprimary AS is_primary,"
+            + " a.attname AS column_name, k.ord AS ordinal"
+            + " FROM pg_catalog.pg_index ix"
+            + " JOIN pg_catalog.pg_class t ON t.oid = ix.indrelid"
+            + " JOIN pg_catalog.pg_class i ON i.oid = ix.indexrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = t.relnamespace"
+            + " CROSS JOIN LATERAL unnest(ix.indkey::int2[]) WITH ORDINALITY AS k(attnum, ord)"
+            + " JOIN pg_catalog.pg_attribute a ON a.attrelid = t.oid AND a.attnum = k.attnum"
+            + " WHERE n.nspname = ? AND t.relname = ANY(?) AND ix.indisunique";
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schemaName);
+      statement.setArray(2, connection.createArrayOf("text", tableNames.toArray()));
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          indexBeans
+              .computeIfAbsent(resultSet.getString("table_name"), k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      resultSet.getBoolean("is_primary")
+                          ? Index.IndexType.PRIMARY_KEY
+                          : Index.IndexType.UNIQUE_KEY,
+                      resultSet.getString("column_name"),
+                      resultSet.getString("index_name"),
+                      resultSet.getInt("ordinal")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> tableIndexes = new HashMap<>();
+    indexBeans.forEach((tableName, beans) -> tableIndexes.put(tableName, toIndexes(beans)));
+    return tableIndexes;
+  }
+
   @Override
   protected ResultSet getIndexInfo(String schemaName, String tableName, DatabaseMetaData metaData)
       throws SQLException {
@@ -21,6 +21,7 @@ package org.apache.gravitino.catalog.postgresql.operation;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -649,6 +650,66 @@ public class TestPostgreSqlTableOperations extends TestPostgreSql {
             "column \"no_exist_1\" named in key does not exist"));
   }
 
+  @Test
+  public void testLoadTables() {
+    String schemaName = RandomNameUtils.genRandomName("load_tables_schema_");
+    DATABASE_OPERATIONS.create(schemaName, null, null);
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(Types.LongType.get())
+            .withComment("increment key")
+            .withNullable(false)
+            .withAutoIncrement(true)
+            .build());
+    columns.add(JdbcColumn.builder().withName("col_2").withType(INT).withNullable(false).build());
+    columns.add(
+        JdbcColumn.builder().withName("col_3").withType(VARCHAR).withNullable(true).build());
+    Index[] indexes =
+        new Index[] {
+          Indexes.primary("pk", new String[][] {{"col_1"}}),
+          Indexes.unique("uk", new String[][] {{"col_2"}, {"col_3"}})
+        };
+    List<String> tableNames = Arrays.asList("load_table_1", "load_table_2", "load_table_3");
+    Map<String, Index[]> tableIndexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      // The index names are unique in a schema of PostgreSQL.
+      tableIndexes.put(
+          tableName,
+          Arrays.stream(indexes)
+              .map(
+                  index ->
+                      Indexes.of(index.type(), tableName + "_" + index.name(), index.fieldNames()))
+              .toArray(Index[]::new));
+      TABLE_OPERATIONS.create(
+          schemaName,
+          tableName,
+          columns.toArray(new JdbcColumn[0]),
+          tableName + "_comment",
+          Collections.emptyMap(),
+          null,
+          Distributions.NONE,
+          tableIndexes.get(tableName));
+    }
+
+    List<String> loadNames = new ArrayList<>(tableNames.subList(0, 2));
+    loadNames.add("not_exist");
+    List<JdbcTable> tables = TABLE_OPERATIONS.loadTables(schemaName, loadNames);
+    Assertions.assertEquals(2, tables.size());
+    for (int i = 0; i < tables.size(); i++) {
+      String tableName = tableNames.get(i);
+      assertionsTableInfo(
+          tableName,
+          tableName + "_comment",
+          columns,
+          Collections.emptyMap(),
+          tableIndexes.get(tableName),
+          Transforms.EMPTY_TRANSFORM,
+          tables.get(i));
+    }
+  }
+
   @Test
   public void testAppendIndexesSql() {
     // Test append index sql success.
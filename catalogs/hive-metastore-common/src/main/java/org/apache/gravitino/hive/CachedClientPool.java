@@ -59,6 +59,7 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
   private final Configuration conf;
   private final int clientPoolSize;
   private final ScheduledThreadPoolExecutor scheduler;
+  private final HivePartitionCache partitionCache;
 
   public CachedClientPool(Configuration hiveConf, Map<String, String> properties) {
     int clientPoolSize =
@@ -79,6 +80,16 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
             .removalListener((ignored, value, cause) -> ((HiveClientPool) value).close())
             .scheduler(Scheduler.forScheduledExecutorService(scheduler))
             .build();
+
+    long partitionCacheTtl =
+        (long) PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.PARTITION_CACHE_TTL_MS);
+    long partitionCacheMaxPartitions =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(
+                properties, HiveConstants.PARTITION_CACHE_MAX_PARTITIONS);
+    this.partitionCache =
+        new HivePartitionCache(
+            partitionCacheTtl, partitionCacheMaxPartitions, CachedClientPool::currentUserName);
   }
 
   @VisibleForTesting
@@ -92,6 +103,11 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     return clientPoolCache;
   }
 
+  /** Returns the cache of the partition metadata shared by the tables of the catalog. */
+  public HivePartitionCache partitionCache() {
+    return partitionCache;
+  }
+
   @Override
   public <R> R run(Action<R, IMetaStoreClient, TException> action)
       throws TException, InterruptedException {
@@ -107,13 +123,16 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
   @VisibleForTesting
   public static Key extractKey() {
     List<Object> elements = Lists.newArrayList();
+    elements.add(currentUserName());
+    return Key.of(elements);
+  }
+
+  private static String currentUserName() {
     try {
-      elements.add(UserGroupInformation.getCurrentUser().getUserName());
+      return UserGroupInformation.getCurrentUser().getUserName();
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
-
-    return Key.of(elements);
   }
 
   @Value.Immutable
@@ -154,6 +173,7 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     // class loader is closed.
     clientPoolCache.asMap().forEach((key, value) -> value.close());
     clientPoolCache.invalidateAll();
+    partitionCache.invalidateAll();
     scheduler.shutdownNow();
   }
 }
@@ -29,6 +29,8 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
   private static final int DEFAULT_CLIENT_POOL_SIZE = 1;
   private static final long DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       TimeUnit.MINUTES.toMillis(5);
+  private static final long DEFAULT_PARTITION_CACHE_TTL_MS = 0L;
+  private static final long DEFAULT_PARTITION_CACHE_MAX_PARTITIONS = 100_000L;
   private static final Map<String, PropertyEntry<?>> PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -47,6 +49,22 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
                   false /* immutable */,
                   DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
                   false /* hidden */))
+          .put(
+              HiveConstants.PARTITION_CACHE_TTL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.PARTITION_CACHE_TTL_MS,
+                  "The time to live of the cached partition metadata, 0 disables the cache",
+                  false /* immutable */,
+                  DEFAULT_PARTITION_CACHE_TTL_MS,
+                  false /* hidden */))
+          .put(
+              HiveConstants.PARTITION_CACHE_MAX_PARTITIONS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.PARTITION_CACHE_MAX_PARTITIONS,
+                  "The maximum number of the cached partitions",
+                  false /* immutable */,
+                  DEFAULT_PARTITION_CACHE_MAX_PARTITIONS,
+                  false /* hidden */))
           .build();
 
   @Override
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.hive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.hadoop.hive.metastore.api.Partition;
+import org.apache.thrift.TException;
+
+/**
+ * HivePartitionCache caches the partition names and the partitions loaded from Hive Metastore, so
+ * that listing the partitions of a large table repeatedly doesn't fetch all of them from Hive
+ * Metastore each time. The cache is bounded by the total number of the cached partitions (a cached
+ * name list weighs its size), and the entries expire after a configurable TTL. The partitions of a
+ * table are invalidated when the partitions or the table are changed through the catalog, the
+ * changes made by other Hive Metastore clients are visible after the TTL at the latest. The cache
+ * is disabled when the TTL is 0.
+ *
+ * <p>The cached entries are per user, since the partitions visible to a user depend on the
+ * authorization of Hive Metastore when the impersonation is enabled.
+ *
+ * <p>The sorted partition names of a paged listing are kept for a short time under the token of the
+ * next page, even if the cache is disabled, so paging through a table lists its partition names
+ * from Hive Metastore only once.
+ */
+public class HivePartitionCache {
+
+  /** Loads the partition metadata from Hive Metastore. */
+  @FunctionalInterface
+  public interface Loader<T> {
+    T load() throws TException, InterruptedException;
+  }
+
+  // The time to keep the partition names for the next page of a paged listing.
+  private static final long PAGE_TTL_MS = 60_000L;
+
+  private final Cache<Key, Object> cache;
+  private final Cache<Key, List<String>> pages;
+  private final Supplier<String> userSupplier;
+
+  public HivePartitionCache(long ttlMs, long maxPartitions, Supplier<String> userSupplier) {
+    this.cache =
+        ttlMs > 0 && maxPartitions > 0
+            ? Caffeine.newBuilder()
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .maximumWeight(maxPartitions)
+                .weigher(
+                    (Key key, Object value) ->
+                        value instanceof List ? Math.max(1, ((List<?>) value).size()) : 1)
+                .build()
+            : null;
+    this.pages =
+        maxPartitions > 0
+            ? Caffeine.newBuilder()
+                .expireAfterWrite(PAGE_TTL_MS, TimeUnit.MILLISECONDS)
+                .maximumWeight(maxPartitions)
+                .weigher((Key key, List<String> value) -> Math.max(1, value.size()))
+                .build()
+            : null;
+    this.userSupplier = userSupplier;
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  public List<String> partitionNames(String db, String table, Loader<List<String>> loader)
+      throws TException, InterruptedException {
+    return get(key(Kind.NAMES, db, table, null), loader);
+  }
+
+  public List<Partition> partitions(String db, String table, Loader<List<Partition>> loader)
+      throws TException, InterruptedException {
+    return get(key(Kind.PARTITIONS, db, table, null), loader);
+  }
+
+  public List<String> partitionNamesByFilter(
+      String db, String table, String filter, Loader<List<String>> loader)
+      throws TException, InterruptedException {
+    return get(key(Kind.NAMES_BY_FILTER, db, table, filter), loader);
+  }
+
+  public List<Partition> partitionsByFilter(
+      String db, String table, String filter, Loader<List<Partition>> loader)
+      throws TException, InterruptedException {
+    return get(key(Kind.PARTITIONS_BY_FILTER, db, table, filter), loader);
+  }
+
+  public Partition partition(String db, String table, String name, Loader<Partition> loader)
+      throws TException, InterruptedException {
+    return get(key(Kind.PARTITION, db, table, name), loader);
+  }
+
+  /**
+   * Returns the sorted partition names to slice a page from. The names kept by the previous page
+   * are returned if the page token matches, otherwise the names are loaded and sorted.
+   *
+   * @param db the database name
+   * @param table the table name
+   * @param pageToken the token of the page, null for the first page
+   * @param loader the loader to get all the partition names of the table
+   * @return the sorted partition names
+   */
+  public List<String> pagedPartitionNames(
+      String db, String table, String pageToken, Loader<List<String>> loader)
+      throws TException, InterruptedException {
+    if (pages != null && pageToken != null) {
+      List<String> names = pages.getIfPresent(key(Kind.PAGE, db, table, pageToken));
+      if (names != null) {
+        return names;
+      }
+    }
+
+    List<String> names = new ArrayList<>(loader.load());
+    Collections.sort(names);
+    return Collections.unmodifiableList(names);
+  }
+
+  /**
+   * Keeps the sorted partition names returned by {@link #pagedPartitionNames} for the next page.
+   *
+   * @param db the database name
+   * @param table the table name
+   * @param pageToken the token of the current page, null for the first page
+   * @param nextPageToken the token of the next page, null if it's the last page
+   * @param sortedNames the sorted partition names
+   */
+  public void keepPagedPartitionNames(
+      String db, String table, String pageToken, String nextPageToken, List<String> sortedNames) {
+    if (pages == null) {
+      return;
+    }
+    if (pageToken != null) {
+      pages.invalidate(key(Kind.PAGE, db, table, pageToken));
+    }
+    if (nextPageToken != null) {
+      pages.put(key(Kind.PAGE, db, table, nextPageToken), sortedNames);
+    }
+  }
+
+  /**
+   * Returns the partitions of the given names, only the partitions absent in the cache are loaded
+   * from Hive Metastore in one batch. The partitions not existing are skipped, and the partitions
+   * are returned in the order of the names whether the cache is enabled or not, since Hive
+   * Metastore returns them in its own order.
+   *
+   * @param db the database name
+   * @param table the table name
+   * @param names the partition names
+   * @param batchLoader the loader to get the partitions of the names absent in the cache
+   * @param nameOf the function to get the name of a loaded partition
+   * @return the existing partitions of the names
+   */
+  public List<Partition> partitionsByNames(
+      String db,
+      String table,
+      List<String> names,
+      Function<List<String>, Loader<List<Partition>>> batchLoader,
+      Function<Partition, String> nameOf)
+      throws TException, InterruptedException {
+    Map<String, Partition> found = new LinkedHashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (String name : names) {
+      Partition partition =
+          cache == null
+              ? null
+              : (Partition) cache.getIfPresent(key(Kind.PARTITION, db, table, name));
+      found.put(name, partition);
+      if (partition == null) {
+        missing.add(name);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      for (Partition partition : batchLoader.apply(missing).load()) {
+        String name = nameOf.apply(partition);
+        if (cache != null) {
+          cache.put(key(Kind.PARTITION, db, table, name), partition);
+        }
+        // A name not requested, e.g. spelled differently, is put after the requested ones.
+        found.put(name, partition);
+      }
+    }
+
+    List<Partition> partitions = new ArrayList<>(names.size());
+    found.values().stream().filter(Objects::nonNull).forEach(partitions::add);
+    return Collections.unmodifiableList(partitions);
+  }
+
+  /** Invalidates all the cached partition metadata of the table. */
+  public void invalidateTable(String db, String table) {
+    String dbName = normalize(db);
+    String tableName = normalize(table);
+    if (cache != null) {
+      cache.asMap().keySet().removeIf(key -> key.db.equals(dbName) && key.table.equals(tableName));
+    }
+    if (pages != null) {
+      pages.asMap().keySet().removeIf(key -> key.db.equals(dbName) && key.table.equals(tableName));
+    }
+  }
+
+  /** Invalidates all the cached partition metadata of the tables in the database. */
+  public void invalidateDatabase(String db) {
+    String dbName = normalize(db);
+    if (cache != null) {
+      cache.asMap().keySet().removeIf(key -> key.db.equals(dbName));
+    }
+    if (pages != null) {
+      pages.asMap().keySet().removeIf(key -> key.db.equals(dbName));
+    }
+  }
+
+  public void invalidateAll() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+    if (pages != null) {
+      pages.invalidateAll();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(Key key, Loader<T> loader) throws TException, InterruptedException {
+    if (cache != null) {
+      Object value = cache.getIfPresent(key);
+      if (value != null) {
+        return (T) value;
+      }
+    }
+
+    T value = loader.load();
+    if (cache != null && value != null) {
+      cache.put(key, value instanceof List ? Collections.unmodifiableList((List<?>) value) : value);
+    }
+    return value;
+  }
+
+  private Key key(Kind kind, String db, String table, String arg) {
+    return new Key(userSupplier.get(), normalize(db), normalize(table), kind, arg);
+  }
+
+  // Hive Metastore is case-insensitive for the database and table names.
+  private static String normalize(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  private enum Kind {
+    NAMES,
+    PARTITIONS,
+    NAMES_BY_FILTER,
+    PARTITIONS_BY_FILTER,
+    PARTITION,
+    PAGE
+  }
+
+  private static class Key {
+    private final String user;
+    private final String db;
+    private final String table;
+    private final Kind kind;
+    private final String arg;
+
+    private Key(String user, String db, String table, Kind kind, String arg) {
+      this.user = user;
+      this.db = db;
+      this.table = table;
+      this.kind = kind;
+      this.arg = arg;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return kind == key.kind
+          && Objects.equals(user, key.user)
+          && db.equals(key.db)
+          && table.equals(key.table)
+          && Objects.equals(arg, key.arg);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(user, db, table, kind, arg);
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.hive;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.apache.hadoop.hive.metastore.api.Partition;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHivePartitionCache {
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private final AtomicReference<String> user = new AtomicReference<>("user1");
+
+  @Test
+  void testCacheAndInvalidate() throws TException, InterruptedException {
+    HivePartitionCache cache = new HivePartitionCache(60_000, 1000, user::get);
+
+    List<String> names = ImmutableList.of("dt=01", "dt=02");
+    Assertions.assertEquals(names, cache.partitionNames("db", "t1", () -> load(names)));
+    Assertions.assertEquals(names, cache.partitionNames("DB", "T1", () -> load(names)));
+    cache.partitionNames("db", "t2", () -> load(names));
+    cache.partitionNamesByFilter("db", "t1", "dt=01", () -> load(ImmutableList.of("dt=01")));
+    Assertions.assertEquals(3, loads.get());
+
+    // Another user doesn't share the cached partitions.
+    user.set("user2");
+    cache.partitionNames("db", "t1", () -> load(names));
+    Assertions.assertEquals(4, loads.get());
+    user.set("user1");
+
+    // Changing the partitions of a table invalidates all its partition metadata.
+    cache.invalidateTable("db", "T1");
+    cache.partitionNames("db", "t1", () -> load(names));
+    cache.partitionNamesByFilter("db", "t1", "dt=01", () -> load(ImmutableList.of("dt=01")));
+    cache.partitionNames("db", "t2", () -> load(names));
+    Assertions.assertEquals(6, loads.get());
+
+    cache.invalidateDatabase("db");
+    cache.partitionNames("db", "t2", () -> load(names));
+    Assertions.assertEquals(7, loads.get());
+  }
+
+  @Test
+  void testPartitionsByNames() throws TException, InterruptedException {
+    HivePartitionCache cache = new HivePartitionCache(60_000, 1000, user::get);
+
+    cache.partition("db", "t1", "dt=02", () -> load(partition("02")));
+    Assertions.assertEquals(1, loads.get());
+
+    AtomicReference<List<String>> loadedNames = new AtomicReference<>();
+    List<Partition> partitions =
+        cache.partitionsByNames(
+            "db",
+            "t1",
+            ImmutableList.of("dt=01", "dt=02", "dt=03", "dt=04"),
+            missing ->
+                () -> {
+                  loadedNames.set(missing);
+                  // dt=03 doesn't exist, and the order of Hive Metastore is not kept.
+                  return load(ImmutableList.of(partition("04"), partition("01")));
+                },
+            partition -> "dt=" + partition.getValues().get(0));
+
+    Assertions.assertEquals(ImmutableList.of("dt=01", "dt=03", "dt=04"), loadedNames.get());
+    Assertions.assertEquals(
+        ImmutableList.of("01", "02", "04"),
+        partitions.stream().map(p -> p.getValues().get(0)).collect(Collectors.toList()));
+
+    // The partitions loaded in the batch are cached.
+    cache.partition("db", "t1", "dt=01", () -> load(partition("01")));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testPartitionsByNamesWithDisabledCache() throws TException, InterruptedException {
+    HivePartitionCache cache = new HivePartitionCache(0, 1000, user::get);
+
+    for (int i = 1; i <= 2; i++) {
+      List<Partition> partitions =
+          cache.partitionsByNames(
+              "db",
+              "t1",
+              ImmutableList.of("dt=01", "dt=02", "dt=03"),
+              // Hive Metastore returns the partitions in its own order, dt=02 doesn't exist.
+              missing -> () -> load(ImmutableList.of(partition("03"), partition("01"))),
+              partition -> "dt=" + partition.getValues().get(0));
+
+      Assertions.assertEquals(
+          ImmutableList.of("01", "03"),
+          partitions.stream().map(p -> p.getValues().get(0)).collect(Collectors.toList()));
+      // Nothing is cached.
+      Assertions.assertEquals(i, loads.get());
+    }
+  }
+
+  @Test
+  void testDisabledCache() throws TException, InterruptedException {
+    HivePartitionCache cache = new HivePartitionCache(0, 1000, user::get);
+    Assertions.assertFalse(cache.isEnabled());
+
+    List<String> names = ImmutableList.of("dt=01");
+    cache.partitionNames("db", "t1", () -> load(names));
+    cache.partitionNames("db", "t1", () -> load(names));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testPagedPartitionNames() throws TException, InterruptedException {
+    // The partition names are kept for the next page even if the cache is disabled.
+    HivePartitionCache cache = new HivePartitionCache(0, 1000, user::get);
+    List<String> names = ImmutableList.of("dt=03", "dt=01", "dt=02");
+    List<String> sortedNames = ImmutableList.of("dt=01", "dt=02", "dt=03");
+
+    List<String> firstPage = cache.pagedPartitionNames("db", "t1", null, () -> load(names));
+    Assertions.assertEquals(sortedNames, firstPage);
+    cache.keepPagedPartitionNames("db", "t1", null, "dt=01", firstPage);
+    List<String> secondPage = cache.pagedPartitionNames("db", "t1", "dt=01", () -> load(names));
+    Assertions.assertEquals(sortedNames, secondPage);
+    Assertions.assertEquals(1, loads.get());
+
+    // The names of a consumed page are dropped, and the last page keeps nothing.
+    cache.keepPagedPartitionNames("db", "t1", "dt=01", null, secondPage);
+    cache.pagedPartitionNames("db", "t1", "dt=01", () -> load(names));
+    Assertions.assertEquals(2, loads.get());
+
+    // Another user or a changed table doesn't reuse the kept names.
+    cache.keepPagedPartitionNames("db", "t1", null, "dt=01", firstPage);
+    user.set("user2");
+    cache.pagedPartitionNames("db", "t1", "dt=01", () -> load(names));
+    Assertions.assertEquals(3, loads.get());
+    user.set("user1");
+    cache.invalidateTable("db", "t1");
+    cache.pagedPartitionNames("db", "t1", "dt=01", () -> load(names));
+    Assertions.assertEquals(4, loads.get());
+  }
+
+  private <T> T load(T value) {
+    loads.incrementAndGet();
+    return value;
+  }
+
+  private static Partition partition(String value) {
+    Partition partition = new Partition();
+    partition.setValues(ImmutableList.of(value));
+    return partition;
+  }
+}
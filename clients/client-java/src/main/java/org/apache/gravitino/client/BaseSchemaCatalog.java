@@ -20,6 +20,7 @@ package org.apache.gravitino.client;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -28,6 +29,7 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.SupportsSchemas;
@@ -125,6 +127,32 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  /**
+   * List a page of the schemas of the catalog, the schemas are sorted by their names.
+   *
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the schemas of the page.
+   * @return The page of the schema names.
+   * @throws NoSuchCatalogException if the catalog with specified namespace does not exist.
+   */
+  @Override
+  public Page<String> listSchemas(String pageToken, int limit) throws NoSuchCatalogException {
+    Page.checkLimit(limit);
+
+    EntityListResponse resp =
+        restClient.get(
+            formatSchemaRequestPath(schemaNamespace()),
+            pageParams(pageToken, limit),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler());
+    resp.validate();
+
+    String[] names =
+        Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
+    return new Page<>(names, resp.nextPageToken());
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
@@ -280,4 +308,20 @@ abstract class BaseSchemaCatalog extends CatalogDTO
         .append("/schemas")
         .toString();
   }
+
+  /**
+   * Builds the query parameters of a paged list request.
+   *
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the items of the page.
+   * @return The mutable query parameters.
+   */
+  static Map<String, String> pageParams(String pageToken, int limit) {
+    Map<String, String> params = new HashMap<>();
+    params.put("limit", String.valueOf(limit));
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    return params;
+  }
 }
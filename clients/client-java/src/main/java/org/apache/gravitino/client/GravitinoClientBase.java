@@ -67,11 +67,30 @@ public abstract class GravitinoClientBase implements Closeable {
       AuthDataProvider authDataProvider,
       boolean checkVersion,
       Map<String, String> headers) {
+    this(uri, authDataProvider, checkVersion, headers, Collections.emptyMap());
+  }
+
+  /**
+   * Constructs a new GravitinoClient with the given URI, authenticator, AuthDataProvider and client
+   * configurations.
+   *
+   * @param uri The base URI for the Gravitino API.
+   * @param authDataProvider The provider of the data which is used for authentication.
+   * @param checkVersion Whether to check the version of the Gravitino server.
+   * @param headers The base header of the Gravitino API.
+   * @param properties The client configurations, see {@link GravitinoClientConfiguration}.
+   */
+  protected GravitinoClientBase(
+      String uri,
+      AuthDataProvider authDataProvider,
+      boolean checkVersion,
+      Map<String, String> headers,
+      Map<String, String> properties) {
     ObjectMapper mapper = ObjectMapperProvider.objectMapper();
 
     if (checkVersion) {
       this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
+          HTTPClient.builder(properties)
               .uri(uri)
               .withAuthDataProvider(authDataProvider)
               .withObjectMapper(mapper)
@@ -81,7 +100,7 @@ public abstract class GravitinoClientBase implements Closeable {
 
     } else {
       this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
+          HTTPClient.builder(properties)
               .uri(uri)
               .withAuthDataProvider(authDataProvider)
               .withObjectMapper(mapper)
@@ -208,6 +227,8 @@ public abstract class GravitinoClientBase implements Closeable {
     protected boolean checkVersion = true;
     /** The request base header for the Gravitino API. */
     protected Map<String, String> headers = ImmutableMap.of();
+    /** The client configurations, see {@link GravitinoClientConfiguration}. */
+    protected Map<String, String> properties = ImmutableMap.of();
 
     /**
      * The constructor for the Builder class.
@@ -294,6 +315,21 @@ public abstract class GravitinoClientBase implements Closeable {
       return this;
     }
 
+    /**
+     * Set the client configurations, such as the connection pool size and the compression, see
+     * {@link GravitinoClientConfiguration} for all the configurations.
+     *
+     * @param properties The client configurations.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder<T> withClientConfig(Map<String, String> properties) {
+      if (properties != null) {
+        GravitinoClientConfiguration.buildFromProperties(properties);
+        this.properties = ImmutableMap.copyOf(properties);
+      }
+      return this;
+    }
+
     /**
      * Builds a new instance. Subclasses should overwrite this method.
      *
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The configuration of the HTTP transport used by the Gravitino Java client, it's built from the
+ * properties passed to {@link GravitinoClientBase.Builder#withClientConfig(Map)}.
+ */
+public class GravitinoClientConfiguration {
+
+  /** The prefix of all the client configurations. */
+  public static final String CLIENT_CONFIG_PREFIX = "gravitino.client.";
+
+  /** The timeout in milliseconds to establish a connection with the server. */
+  public static final String CLIENT_CONNECTION_TIMEOUT_MS = "gravitino.client.connectionTimeoutMs";
+
+  /** The timeout in milliseconds to wait for data from the server. */
+  public static final String CLIENT_SOCKET_TIMEOUT_MS = "gravitino.client.socketTimeoutMs";
+
+  /** The maximum number of pooled connections. */
+  public static final String CLIENT_MAX_CONNECTIONS = "gravitino.client.maxConnections";
+
+  /** The maximum number of pooled connections to one server. */
+  public static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE =
+      "gravitino.client.maxConnectionsPerRoute";
+
+  /** The time in milliseconds that an idle pooled connection is kept alive. */
+  public static final String CLIENT_IDLE_CONNECTION_TIMEOUT_MS =
+      "gravitino.client.idleConnectionTimeoutMs";
+
+  /** Whether to ask the server for gzip or deflate compressed responses. */
+  public static final String CLIENT_RESPONSE_COMPRESSION_ENABLED =
+      "gravitino.client.responseCompression.enabled";
+
+  /**
+   * Whether to gzip the request bodies. The server must be able to inflate the requests, which the
+   * Gravitino server does when its gzip handler is enabled.
+   */
+  public static final String CLIENT_REQUEST_COMPRESSION_ENABLED =
+      "gravitino.client.requestCompression.enabled";
+
+  /** The minimum size in bytes of a request body to be compressed. */
+  public static final String CLIENT_REQUEST_COMPRESSION_MIN_SIZE =
+      "gravitino.client.requestCompression.minSize";
+
+  /** The number of threads to run the asynchronous requests. */
+  public static final String CLIENT_ASYNC_THREADS = "gravitino.client.asyncThreads";
+
+  /**
+   * The maximum number of metadata responses cached with their ETags, the cached responses are
+   * revalidated with the server by conditional requests. Set it to 0 to disable the cache.
+   */
+  public static final String CLIENT_RESPONSE_CACHE_MAX_ENTRIES =
+      "gravitino.client.responseCache.maxEntries";
+
+  private static final long DEFAULT_CONNECTION_TIMEOUT_MS = 180_000L;
+  private static final long DEFAULT_SOCKET_TIMEOUT_MS = 180_000L;
+  private static final int DEFAULT_MAX_CONNECTIONS = 200;
+  private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
+  private static final long DEFAULT_IDLE_CONNECTION_TIMEOUT_MS = 60_000L;
+  private static final boolean DEFAULT_RESPONSE_COMPRESSION_ENABLED = true;
+  private static final boolean DEFAULT_REQUEST_COMPRESSION_ENABLED = false;
+  private static final int DEFAULT_REQUEST_COMPRESSION_MIN_SIZE = 2048;
+  private static final int DEFAULT_ASYNC_THREADS = 8;
+  private static final int DEFAULT_RESPONSE_CACHE_MAX_ENTRIES = 1000;
+
+  private final long connectionTimeoutMs;
+  private final long socketTimeoutMs;
+  private final int maxConnections;
+  private final int maxConnectionsPerRoute;
+  private final long idleConnectionTimeoutMs;
+  private final boolean responseCompressionEnabled;
+  private final boolean requestCompressionEnabled;
+  private final int requestCompressionMinSize;
+  private final int asyncThreads;
+  private final int responseCacheMaxEntries;
+
+  private GravitinoClientConfiguration(Map<String, String> properties) {
+    this.connectionTimeoutMs =
+        positive(
+            properties,
+            CLIENT_CONNECTION_TIMEOUT_MS,
+            Long::parseLong,
+            DEFAULT_CONNECTION_TIMEOUT_MS);
+    this.socketTimeoutMs =
+        positive(properties, CLIENT_SOCKET_TIMEOUT_MS, Long::parseLong, DEFAULT_SOCKET_TIMEOUT_MS);
+    this.maxConnections =
+        positive(properties, CLIENT_MAX_CONNECTIONS, Integer::parseInt, DEFAULT_MAX_CONNECTIONS);
+    this.maxConnectionsPerRoute =
+        positive(
+            properties,
+            CLIENT_MAX_CONNECTIONS_PER_ROUTE,
+            Integer::parseInt,
+            DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+    this.idleConnectionTimeoutMs =
+        positive(
+            properties,
+            CLIENT_IDLE_CONNECTION_TIMEOUT_MS,
+            Long::parseLong,
+            DEFAULT_IDLE_CONNECTION_TIMEOUT_MS);
+    this.responseCompressionEnabled =
+        get(
+            properties,
+            CLIENT_RESPONSE_COMPRESSION_ENABLED,
+            Boolean::parseBoolean,
+            DEFAULT_RESPONSE_COMPRESSION_ENABLED);
+    this.requestCompressionEnabled =
+        get(
+            properties,
+            CLIENT_REQUEST_COMPRESSION_ENABLED,
+            Boolean::parseBoolean,
+            DEFAULT_REQUEST_COMPRESSION_ENABLED);
+    this.requestCompressionMinSize =
+        get(
+            properties,
+            CLIENT_REQUEST_COMPRESSION_MIN_SIZE,
+            Integer::parseInt,
+            DEFAULT_REQUEST_COMPRESSION_MIN_SIZE);
+    Preconditions.checkArgument(
+        requestCompressionMinSize >= 0,
+        "%s must not be negative, but got %s",
+        CLIENT_REQUEST_COMPRESSION_MIN_SIZE,
+        requestCompressionMinSize);
+    this.asyncThreads =
+        positive(properties, CLIENT_ASYNC_THREADS, Integer::parseInt, DEFAULT_ASYNC_THREADS);
+    this.responseCacheMaxEntries =
+        get(
+            properties,
+            CLIENT_RESPONSE_CACHE_MAX_ENTRIES,
+            Integer::parseInt,
+            DEFAULT_RESPONSE_CACHE_MAX_ENTRIES);
+    Preconditions.checkArgument(
+        responseCacheMaxEntries >= 0,
+        "%s must not be negative, but got %s",
+        CLIENT_RESPONSE_CACHE_MAX_ENTRIES,
+        responseCacheMaxEntries);
+  }
+
+  /**
+   * Builds the client configuration from the properties, the properties not starting with {@link
+   * #CLIENT_CONFIG_PREFIX} are rejected.
+   *
+   * @param properties The client properties.
+   * @return The client configuration.
+   */
+  public static GravitinoClientConfiguration buildFromProperties(Map<String, String> properties) {
+    Map<String, String> props = properties == null ? ImmutableMap.of() : properties;
+    props
+        .keySet()
+        .forEach(
+            key ->
+                Preconditions.checkArgument(
+                    key.startsWith(CLIENT_CONFIG_PREFIX),
+                    "Invalid client property %s, it must start with %s",
+                    key,
+                    CLIENT_CONFIG_PREFIX));
+    return new GravitinoClientConfiguration(props);
+  }
+
+  /**
+   * Returns the timeout in milliseconds to establish a connection with the server.
+   *
+   * @return The timeout in milliseconds to establish a connection with the server.
+   */
+  public long getConnectionTimeoutMs() {
+    return connectionTimeoutMs;
+  }
+
+  /**
+   * Returns the timeout in milliseconds to wait for data from the server.
+   *
+   * @return The timeout in milliseconds to wait for data from the server.
+   */
+  public long getSocketTimeoutMs() {
+    return socketTimeoutMs;
+  }
+
+  /**
+   * Returns the maximum number of pooled connections.
+   *
+   * @return The maximum number of pooled connections.
+   */
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * Returns the maximum number of pooled connections to one server.
+   *
+   * @return The maximum number of pooled connections to one server.
+   */
+  public int getMaxConnectionsPerRoute() {
+    return maxConnectionsPerRoute;
+  }
+
+  /**
+   * Returns the time in milliseconds that an idle pooled connection is kept alive.
+   *
+   * @return The time in milliseconds that an idle pooled connection is kept alive.
+   */
+  public long getIdleConnectionTimeoutMs() {
+    return idleConnectionTimeoutMs;
+  }
+
+  /**
+   * Returns whether to ask the server for compressed responses.
+   *
+   * @return Whether to ask the server for compressed responses.
+   */
+  public boolean isResponseCompressionEnabled() {
+    return responseCompressionEnabled;
+  }
+
+  /**
+   * Returns whether to gzip the request bodies.
+   *
+   * @return Whether to gzip the request bodies.
+   */
+  public boolean isRequestCompressionEnabled() {
+    return requestCompressionEnabled;
+  }
+
+  /**
+   * Returns the minimum size in bytes of a request body to be compressed.
+   *
+   * @return The minimum size in bytes of a request body to be compressed.
+   */
+  public int getRequestCompressionMinSize() {
+    return requestCompressionMinSize;
+  }
+
+  /**
+   * Returns the number of threads to run the asynchronous requests.
+   *
+   * @return The number of threads to run the asynchronous requests.
+   */
+  public int getAsyncThreads() {
+    return asyncThreads;
+  }
+
+  /**
+   * Returns the maximum number of cached metadata responses, 0 means the cache is disabled.
+   *
+   * @return The maximum number of cached metadata responses.
+   */
+  public int getResponseCacheMaxEntries() {
+    return responseCacheMaxEntries;
+  }
+
+  private static <T> T get(
+      Map<String, String> properties, String key, Function<String, T> parser, T defaultValue) {
+    String value = properties.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    try {
+      return parser.apply(value.trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          String.format("Invalid value %s for client property %s", value, key), e);
+    }
+  }
+
+  private static <T extends Number> T positive(
+      Map<String, String> properties, String key, Function<String, T> parser, T defaultValue) {
+    T value = get(properties, key, parser, defaultValue);
+    Preconditions.checkArgument(
+        value.longValue() > 0, "%s must be positive, but got %s", key, value);
+    return value;
+  }
+}
@@ -60,6 +60,7 @@ import org.apache.gravitino.dto.requests.TagCreateRequest;
 import org.apache.gravitino.dto.requests.TagUpdateRequest;
 import org.apache.gravitino.dto.requests.TagUpdatesRequest;
 import org.apache.gravitino.dto.requests.UserAddRequest;
+import org.apache.gravitino.dto.responses.CatalogChangesResponse;
 import org.apache.gravitino.dto.responses.CatalogListResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.DeleteResponse;
@@ -378,6 +379,29 @@ public class GravitinoMetalake extends MetalakeDTO
     ErrorHandlers.catalogErrorHandler().accept(resp);
   }
 
+  /**
+   * List the catalog creations, alterations and drops under this metalake after the sequence
+   * number, so that the catalogs cached by the client can be synced incrementally. The client must
+   * reload all the catalogs if the epoch of the response differs from the previous one, or the
+   * response is truncated.
+   *
+   * @param since The latest sequence number the client has seen, 0 for the beginning.
+   * @return The catalog changes after the sequence number.
+   * @throws NoSuchMetalakeException if the metalake does not exist.
+   */
+  public CatalogChangesResponse listCatalogChanges(long since) throws NoSuchMetalakeException {
+    CatalogChangesResponse resp =
+        restClient.get(
+            String.format("api/metalakes/%s/catalog-changes", this.name()),
+            ImmutableMap.of("since", String.valueOf(since)),
+            CatalogChangesResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler());
+    resp.validate();
+
+    return resp;
+  }
+
   @Override
   public SupportsRoles supportsRoles() {
     return this;
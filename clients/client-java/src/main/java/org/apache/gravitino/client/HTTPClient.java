@@ -22,14 +22,22 @@ package org.apache.gravitino.client;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -39,22 +47,30 @@ import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.entity.GzipCompressingEntity;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 
 /**
  * An HttpClient for usage with the REST catalog.
@@ -73,6 +89,16 @@ public class HTTPClient implements RESTClient {
   private final CloseableHttpClient httpClient;
   private final ObjectMapper mapper;
   private final AuthDataProvider authDataProvider;
+  private final GravitinoClientConfiguration clientConfig;
+
+  // The cache of the GET responses tagged with an ETag by the server, keyed by the request URI. The
+  // cached responses are always revalidated by a conditional request, so the server only sends the
+  // body again when it has changed. It's null if the cache is disabled.
+  private final Cache<String, CachedResponse> responseCache;
+
+  // The executor to run the asynchronous requests, it's created when the first asynchronous
+  // request is sent.
+  private volatile ExecutorService asyncExecutor;
 
   // Handler to be executed before connecting to the server.
   private final Runnable beforeConnectHandler;
@@ -97,17 +123,41 @@ public class HTTPClient implements RESTClient {
    * @param objectMapper The ObjectMapper used for JSON serialization and deserialization.
    * @param authDataProvider The provider of authentication data.
    * @param beforeConnectHandler The function to be executed before connecting to the server.
+   * @param clientConfig The configuration of the connection pool, compression and asynchronous
+   *     requests.
    */
   private HTTPClient(
       String uri,
       Map<String, String> baseHeaders,
       ObjectMapper objectMapper,
       AuthDataProvider authDataProvider,
-      Runnable beforeConnectHandler) {
+      Runnable beforeConnectHandler,
+      GravitinoClientConfiguration clientConfig) {
     this.uri = uri;
     this.mapper = objectMapper;
-
-    HttpClientBuilder clientBuilder = HttpClients.custom();
+    this.clientConfig = clientConfig;
+
+    ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(clientConfig.getConnectionTimeoutMs()))
+            .setSocketTimeout(Timeout.ofMilliseconds(clientConfig.getSocketTimeoutMs()))
+            .build();
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(clientConfig.getMaxConnections())
+            .setMaxConnPerRoute(clientConfig.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+
+    HttpClientBuilder clientBuilder =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(
+                TimeValue.ofMilliseconds(clientConfig.getIdleConnectionTimeoutMs()));
+    if (!clientConfig.isResponseCompressionEnabled()) {
+      clientBuilder.disableContentCompression();
+    }
 
     if (baseHeaders != null) {
       clientBuilder.setDefaultHeaders(
@@ -118,6 +168,12 @@ public class HTTPClient implements RESTClient {
 
     this.httpClient = clientBuilder.build();
     this.authDataProvider = authDataProvider;
+    this.responseCache =
+        clientConfig.getResponseCacheMaxEntries() > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(clientConfig.getResponseCacheMaxEntries())
+                .build()
+            : null;
 
     if (beforeConnectHandler == null) {
       handlerStatus = HandlerStatus.Finished;
@@ -337,7 +393,8 @@ public class HTTPClient implements RESTClient {
           "Received a malformed path for a REST request: %s. Paths should not start with /", path);
     }
 
-    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), buildUri(path, queryParams));
+    URI requestUri = buildUri(path, queryParams);
+    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), requestUri);
 
     if (requestBody instanceof Map) {
       // encode maps as form data, application/x-www-form-urlencoded
@@ -356,6 +413,23 @@ public class HTTPClient implements RESTClient {
           new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
     }
 
+    String cacheKey = null;
+    CachedResponse cached = null;
+    if (responseCache != null) {
+      if (method == Method.GET && responseType != null) {
+        cacheKey = requestUri.toString();
+        cached = responseCache.getIfPresent(cacheKey);
+        if (cached != null && cached.responseType == responseType) {
+          request.setHeader(HttpHeaders.IF_NONE_MATCH, cached.etag);
+        } else {
+          cached = null;
+        }
+      } else {
+        // The entity may be changed or dropped by this request.
+        responseCache.invalidate(requestUri.toString());
+      }
+    }
+
     try (CloseableHttpResponse response = httpClient.execute(request)) {
       Map<String, String> respHeaders = Maps.newHashMap();
       for (Header header : response.getHeaders()) {
@@ -364,21 +438,25 @@ public class HTTPClient implements RESTClient {
 
       responseHeaders.accept(respHeaders);
 
+      if (cached != null && response.getCode() == HttpStatus.SC_NOT_MODIFIED) {
+        return responseType.cast(cached.response);
+      }
+
       // Skip parsing the response stream for any successful request not expecting a response body
       if (response.getCode() == HttpStatus.SC_NO_CONTENT
           || (responseType == null && isSuccessful(response))) {
         return null;
       }
 
-      String responseBody = extractResponseBodyAsString(response);
-
       if (!isSuccessful(response)) {
         // The provided error handler is expected to throw, but a RESTException.java is thrown if
         // not.
-        throwFailure(response, responseBody, errorHandler);
+        throwFailure(response, extractResponseBodyAsString(response), errorHandler);
       }
 
-      if (responseBody == null) {
+      HttpEntity entity = response.getEntity();
+      InputStream content = entity == null ? null : entity.getContent();
+      if (content == null) {
         throw new RESTException(
             "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
             responseType != null ? responseType.getSimpleName() : "unknown",
@@ -387,8 +465,13 @@ public class HTTPClient implements RESTClient {
             response.getCode());
       }
 
-      try {
-        return mapper.readValue(responseBody, responseType);
+      // Parse the response body from the stream directly to avoid holding a copy of it as string.
+      try (InputStream in = content) {
+        T result = mapper.readValue(in, responseType);
+        if (cacheKey != null) {
+          cacheResponse(cacheKey, response.getFirstHeader(HttpHeaders.ETAG), responseType, result);
+        }
+        return result;
       } catch (JsonProcessingException e) {
         throw new RESTException(
             e,
@@ -401,6 +484,14 @@ public class HTTPClient implements RESTClient {
     }
   }
 
+  private void cacheResponse(String cacheKey, Header etag, Class<?> responseType, Object response) {
+    if (etag == null || etag.getValue() == null) {
+      responseCache.invalidate(cacheKey);
+      return;
+    }
+    responseCache.put(cacheKey, new CachedResponse(etag.getValue(), responseType, response));
+  }
+
   private synchronized void performPreConnectHandler() {
     // beforeConnectHandler is a pre-connection handler that needs to be executed before the first
     // HTTP request. if the handler execute fails, we set the status to Start to retry the handler.
@@ -659,6 +750,36 @@ public class HTTPClient implements RESTClient {
     return execute(Method.POST, path, null, formData, responseType, headers, errorHandler);
   }
 
+  /**
+   * Runs the request on the asynchronous executor of this client, whose size is configured by
+   * {@link GravitinoClientConfiguration#CLIENT_ASYNC_THREADS}.
+   *
+   * @param request The request to run.
+   * @param <T> The type of the response.
+   * @return The future of the response.
+   */
+  @Override
+  public <T> CompletableFuture<T> executeAsync(Supplier<T> request) {
+    return CompletableFuture.supplyAsync(request, asyncExecutor());
+  }
+
+  private ExecutorService asyncExecutor() {
+    if (asyncExecutor == null) {
+      synchronized (this) {
+        if (asyncExecutor == null) {
+          asyncExecutor =
+              Executors.newFixedThreadPool(
+                  clientConfig.getAsyncThreads(),
+                  new ThreadFactoryBuilder()
+                      .setDaemon(true)
+                      .setNameFormat("gravitino-client-async-%d")
+                      .build());
+        }
+      }
+    }
+    return asyncExecutor;
+  }
+
   /**
    * Adds the specified request headers to the given HTTP request along with a specified body MIME
    * type.
@@ -686,6 +807,9 @@ public class HTTPClient implements RESTClient {
     if (authDataProvider != null) {
       authDataProvider.close();
     }
+    if (asyncExecutor != null) {
+      asyncExecutor.shutdownNow();
+    }
     httpClient.close(CloseMode.GRACEFUL);
   }
 
@@ -706,7 +830,6 @@ public class HTTPClient implements RESTClient {
    * URI, request headers, and ObjectMapper.
    */
   public static class Builder {
-    @SuppressWarnings("UnusedVariable")
     private final Map<String, String> properties;
 
     private final Map<String, String> baseHeaders = Maps.newHashMap();
@@ -794,20 +917,45 @@ public class HTTPClient implements RESTClient {
      * @return An instance of HTTPClient with the configured options.
      */
     public HTTPClient build() {
-
-      return new HTTPClient(uri, baseHeaders, mapper, authDataProvider, beforeConnectHandler);
+      return new HTTPClient(
+          uri,
+          baseHeaders,
+          mapper,
+          authDataProvider,
+          beforeConnectHandler,
+          GravitinoClientConfiguration.buildFromProperties(properties));
     }
   }
 
-  private StringEntity toJson(Object requestBody) {
+  private HttpEntity toJson(Object requestBody) {
+    byte[] body;
     try {
-      return new StringEntity(mapper.writeValueAsString(requestBody), StandardCharsets.UTF_8);
+      body = mapper.writeValueAsBytes(requestBody);
     } catch (JsonProcessingException e) {
       throw new RESTException(e, "Failed to write request body: %s", requestBody);
     }
+
+    ByteArrayEntity entity = new ByteArrayEntity(body, ContentType.APPLICATION_JSON);
+    if (clientConfig.isRequestCompressionEnabled()
+        && body.length >= clientConfig.getRequestCompressionMinSize()) {
+      return new GzipCompressingEntity(entity);
+    }
+    return entity;
   }
 
   private StringEntity toFormEncoding(Map<?, ?> formData) {
     return new StringEntity(RESTUtils.encodeFormData(formData));
   }
+
+  private static class CachedResponse {
+    private final String etag;
+    private final Class<?> responseType;
+    private final Object response;
+
+    private CachedResponse(String etag, Class<?> responseType, Object response) {
+      this.etag = etag;
+      this.responseType = responseType;
+      this.response = response;
+    }
+  }
 }
@@ -21,6 +21,7 @@ package org.apache.gravitino.client;
 import com.google.common.collect.ImmutableMap;
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -434,4 +435,96 @@ public interface RESTClient extends Closeable {
       Class<T> responseType,
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
+
+  /**
+   * Run the given request asynchronously. The default implementation runs it on the common
+   * fork-join pool, implementations should override it to use their own executor.
+   *
+   * @param request The request to run, it's usually a call of a synchronous method of this client.
+   * @param <T> The type of the response.
+   * @return The future of the response, it's completed exceptionally if the request throws.
+   */
+  default <T> CompletableFuture<T> executeAsync(Supplier<T> request) {
+    return CompletableFuture.supplyAsync(request);
+  }
+
+  /**
+   * Perform a GET request on the specified path asynchronously with given information.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the GET request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(() -> get(path, queryParams, responseType, headers, errorHandler));
+  }
+
+  /**
+   * Perform a POST request on the specified path asynchronously with given information.
+   *
+   * @param path The path to be requested.
+   * @param body The request body to be included in the POST request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the POST request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> postAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(() -> post(path, body, responseType, headers, errorHandler));
+  }
+
+  /**
+   * Perform a PUT request on the specified path asynchronously with given information.
+   *
+   * @param path The path to be requested.
+   * @param body The request body to be included in the PUT request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the PUT request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> putAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(() -> put(path, body, responseType, headers, errorHandler));
+  }
+
+  /**
+   * Perform a DELETE request on the specified path asynchronously with given information.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the DELETE request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> deleteAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(() -> delete(path, queryParams, responseType, headers, errorHandler));
+  }
 }
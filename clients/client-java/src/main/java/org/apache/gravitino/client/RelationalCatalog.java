@@ -33,19 +33,24 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.requests.TableBatchRequest;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableBatchResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
@@ -104,6 +109,39 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List a page of the tables under the given namespace, the tables are sorted by their names.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the tables of the page.
+   * @return The page of the identifiers of the tables.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+    Page.checkLimit(limit);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatTableRequestPath(fullNamespace),
+            pageParams(pageToken, limit),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] idents =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return new Page<>(idents, resp.nextPageToken());
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -257,6 +295,105 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return resp.dropped();
   }
 
+  /**
+   * Apply several create, alter, drop or purge operations to the tables of one schema in one
+   * request.
+   *
+   * @param operations The operations to apply, all on the tables of the same schema.
+   * @return The results of the operations, in the order of the operations.
+   * @throws IllegalArgumentException If the operations are on the tables of different schemas.
+   */
+  @Override
+  public TableBatchResult[] batchOperateTables(TableBatchOperation... operations)
+      throws IllegalArgumentException {
+    Namespace namespace = TableBatchOperation.checkSameNamespace(operations);
+    if (operations.length == 0) {
+      return new TableBatchResult[0];
+    }
+    checkTableNamespace(namespace);
+
+    TableBatchRequest req =
+        new TableBatchRequest(
+            Arrays.stream(operations)
+                .map(RelationalCatalog::toBatchOperationRequest)
+                .collect(Collectors.toList()));
+    req.validate();
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    TableBatchResponse resp =
+        restClient.post(
+            formatTableRequestPath(fullNamespace) + "/batch",
+            req,
+            TableBatchResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+    Preconditions.checkState(
+        resp.getResults().size() == operations.length,
+        "The number of results %s doesn't match the number of operations %s",
+        resp.getResults().size(),
+        operations.length);
+
+    TableBatchResult[] results = new TableBatchResult[operations.length];
+    for (int i = 0; i < operations.length; i++) {
+      TableBatchResponse.Result result = resp.getResults().get(i);
+      NameIdentifier ident = operations[i].identifier();
+      if (result.getError() != null) {
+        results[i] = TableBatchResult.ofFailure(result.getType(), ident, toException(result));
+      } else if (result.getTable() != null) {
+        results[i] =
+            TableBatchResult.ofTable(
+                result.getType(),
+                ident,
+                RelationalTable.from(fullNamespace, result.getTable(), restClient));
+      } else {
+        results[i] = TableBatchResult.ofDropped(result.getType(), ident, result.isDropped());
+      }
+    }
+    return results;
+  }
+
+  private static TableBatchRequest.Operation toBatchOperationRequest(
+      TableBatchOperation operation) {
+    String name = operation.identifier().name();
+    switch (operation.type()) {
+      case CREATE:
+        return TableBatchRequest.Operation.create(
+            new TableCreateRequest(
+                name,
+                operation.comment(),
+                toDTOs(operation.columns()),
+                operation.properties(),
+                toDTOs(operation.sortOrders()),
+                toDTO(operation.distribution()),
+                toDTOs(operation.partitioning()),
+                toDTOs(operation.indexes())));
+      case ALTER:
+        return TableBatchRequest.Operation.alter(
+            name,
+            Arrays.stream(operation.changes())
+                .map(DTOConverters::toTableUpdateRequest)
+                .collect(Collectors.toList()));
+      case DROP:
+        return TableBatchRequest.Operation.drop(name);
+      case PURGE:
+        return TableBatchRequest.Operation.purge(name);
+      default:
+        throw new IllegalArgumentException("Unknown operation type: " + operation.type());
+    }
+  }
+
+  private static RuntimeException toException(TableBatchResponse.Result result) {
+    // Reuse the error handler of the single table operations, so a failed operation in the batch
+    // carries the same exception as it would have thrown on its own.
+    try {
+      ErrorHandlers.tableErrorHandler().accept(result.getError());
+    } catch (RuntimeException e) {
+      return e;
+    }
+    return new RuntimeException(result.getError().getMessage());
+  }
+
   @VisibleForTesting
   static String formatTableRequestPath(Namespace ns) {
     Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
@@ -33,6 +33,7 @@ import org.apache.gravitino.Audit;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.authorization.SupportsRoles;
 import org.apache.gravitino.dto.rel.TableDTO;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
@@ -182,6 +183,26 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.partitionNames();
   }
 
+  /**
+   * Returns a page of the partition names of the table, the names are sorted.
+   *
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the partition names of the page.
+   * @return The page of the partition names.
+   */
+  @Override
+  public Page<String> listPartitionNames(String pageToken, int limit) {
+    Page.checkLimit(limit);
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            BaseSchemaCatalog.pageParams(pageToken, limit),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return new Page<>(resp.partitionNames(), resp.nextPageToken());
+  }
+
   /** @return The partition request path. */
   @VisibleForTesting
   String getPartitionRequestPath() {
@@ -211,6 +232,67 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.getPartitions();
   }
 
+  /**
+   * Returns a page of the partitions of the table, the partitions are sorted by their names.
+   *
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the partitions of the page.
+   * @return The page of the partitions.
+   */
+  @Override
+  public Page<Partition> listPartitions(String pageToken, int limit) {
+    Page.checkLimit(limit);
+    Map<String, String> params = BaseSchemaCatalog.pageParams(pageToken, limit);
+    params.put("details", "true");
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            params,
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return new Page<>(resp.getPartitions(), resp.getNextPageToken());
+  }
+
+  /**
+   * Returns the names of the partitions matching the filter, the filter is evaluated by the server.
+   *
+   * @param filter The partial partition spec in the format of "field1=value1/field2=value2".
+   * @return The names of the matched partitions.
+   */
+  @Override
+  public String[] listPartitionNamesByFilter(String filter) {
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            Collections.singletonMap("filter", filter),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.partitionNames();
+  }
+
+  /**
+   * Returns the partitions matching the filter, the filter is evaluated by the server.
+   *
+   * @param filter The partial partition spec in the format of "field1=value1/field2=value2".
+   * @return The matched partitions.
+   */
+  @Override
+  public Partition[] listPartitionsByFilter(String filter) {
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    params.put("filter", filter);
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            params,
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.getPartitions();
+  }
+
   /**
    * Returns the partition with the given name.
    *
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoClientConfiguration {
+
+  @Test
+  public void testDefaultConfiguration() {
+    GravitinoClientConfiguration config =
+        GravitinoClientConfiguration.buildFromProperties(ImmutableMap.of());
+    Assertions.assertEquals(180_000L, config.getConnectionTimeoutMs());
+    Assertions.assertEquals(180_000L, config.getSocketTimeoutMs());
+    Assertions.assertEquals(200, config.getMaxConnections());
+    Assertions.assertEquals(100, config.getMaxConnectionsPerRoute());
+    Assertions.assertTrue(config.isResponseCompressionEnabled());
+    Assertions.assertFalse(config.isRequestCompressionEnabled());
+    Assertions.assertEquals(8, config.getAsyncThreads());
+    Assertions.assertEquals(1000, config.getResponseCacheMaxEntries());
+  }
+
+  @Test
+  public void testCustomConfiguration() {
+    GravitinoClientConfiguration config =
+        GravitinoClientConfiguration.buildFromProperties(
+            ImmutableMap.of(
+                GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS, "16",
+                GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS_PER_ROUTE, "8",
+                GravitinoClientConfiguration.CLIENT_REQUEST_COMPRESSION_ENABLED, "true",
+                GravitinoClientConfiguration.CLIENT_REQUEST_COMPRESSION_MIN_SIZE, "0",
+                GravitinoClientConfiguration.CLIENT_ASYNC_THREADS, "2",
+                GravitinoClientConfiguration.CLIENT_RESPONSE_CACHE_MAX_ENTRIES, "0"));
+    Assertions.assertEquals(16, config.getMaxConnections());
+    Assertions.assertEquals(8, config.getMaxConnectionsPerRoute());
+    Assertions.assertTrue(config.isRequestCompressionEnabled());
+    Assertions.assertEquals(0, config.getRequestCompressionMinSize());
+    Assertions.assertEquals(2, config.getAsyncThreads());
+    Assertions.assertEquals(0, config.getResponseCacheMaxEntries());
+  }
+
+  @Test
+  public void testInvalidConfiguration() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            GravitinoClientConfiguration.buildFromProperties(
+                ImmutableMap.of("maxConnections", "16")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            GravitinoClientConfiguration.buildFromProperties(
+                ImmutableMap.of(GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS, "abc")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            GravitinoClientConfiguration.buildFromProperties(
+                ImmutableMap.of(GravitinoClientConfiguration.CLIENT_ASYNC_THREADS, "0")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            GravitinoAdminClient.builder("http://127.0.0.1:8090")
+                .withClientConfig(
+                    ImmutableMap.of(GravitinoClientConfiguration.CLIENT_SOCKET_TIMEOUT_MS, "-1")));
+  }
+}
@@ -31,11 +31,16 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.exceptions.NotFoundException;
 import org.apache.gravitino.rest.RESTRequest;
@@ -48,6 +53,7 @@ import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 /**
  * * Exercises the RESTClient interface, specifically over a mocked-server using the actual
@@ -127,6 +133,93 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(Method.HEAD, false, false);
   }
 
+  @Test
+  public void testAsyncRequests() throws Exception {
+    Item body = new Item(1L, "async");
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    String successPath = "ASYNC_success";
+    mockServer
+        .when(request("/" + successPath).withMethod("GET"))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+    CompletableFuture<Item> success =
+        restClient.getAsync(successPath, ImmutableMap.of(), Item.class, ImmutableMap.of(), onError);
+    Assertions.assertEquals(body, success.get(10, TimeUnit.SECONDS));
+
+    CompletableFuture<Item> failure =
+        restClient.getAsync(
+            "ASYNC_absent", ImmutableMap.of(), Item.class, ImmutableMap.of(), onError);
+    ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, () -> failure.get(10, TimeUnit.SECONDS));
+    Assertions.assertEquals("Failure response", exception.getCause().getMessage());
+  }
+
+  @Test
+  public void testCompressedResponse() throws Exception {
+    Item body = new Item(2L, "gzip");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(MAPPER.writeValueAsBytes(body));
+    }
+    mockServer
+        .when(request("/GZIP_response").withMethod("GET").withHeader("Accept-Encoding", ".*gzip.*"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("Content-Encoding", "gzip")
+                .withBody(out.toByteArray()));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    Assertions.assertEquals(
+        body, restClient.get("GZIP_response", Item.class, ImmutableMap.of(), onError));
+  }
+
+  @Test
+  public void testCompressedRequest() throws Exception {
+    Item body = new Item(3L, "gzip");
+    mockServer
+        .when(request("/GZIP_request").withMethod("POST").withHeader("Content-Encoding", "gzip"))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    try (RESTClient compressingClient =
+        HTTPClient.builder(
+                ImmutableMap.of(
+                    GravitinoClientConfiguration.CLIENT_REQUEST_COMPRESSION_ENABLED, "true",
+                    GravitinoClientConfiguration.CLIENT_REQUEST_COMPRESSION_MIN_SIZE, "0"))
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build()) {
+      Assertions.assertEquals(
+          body,
+          compressingClient.post("GZIP_request", body, Item.class, ImmutableMap.of(), onError));
+    }
+  }
+
+  @Test
+  public void testConditionalGet() throws Exception {
+    Item body = new Item(4L, "etag");
+    mockServer
+        .when(request("/ETAG_success").withMethod("GET").withHeader("If-None-Match", "\"v1\""))
+        .respond(response().withStatusCode(304).withHeader("ETag", "\"v1\""));
+    mockServer
+        .when(request("/ETAG_success").withMethod("GET"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "\"v1\"")
+                .withBody(MAPPER.writeValueAsString(body)));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    Item first = restClient.get("ETAG_success", Item.class, ImmutableMap.of(), onError);
+    Item second = restClient.get("ETAG_success", Item.class, ImmutableMap.of(), onError);
+    Assertions.assertEquals(body, first);
+    // The cached response is returned when the server replies 304 Not Modified.
+    Assertions.assertSame(first, second);
+    mockServer.verify(
+        request("/ETAG_success").withHeader("If-None-Match", "\"v1\""), VerificationTimes.once());
+  }
+
   public static void testHttpMethodOnSuccess(
       Method method, boolean hasRequestBody, boolean hasResponseBody)
       throws JsonProcessingException {
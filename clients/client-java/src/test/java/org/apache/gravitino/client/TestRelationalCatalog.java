@@ -40,6 +40,7 @@ import java.util.stream.IntStream;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SupportsSchemas;
 import org.apache.gravitino.dto.AuditDTO;
@@ -62,6 +63,7 @@ import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.SchemaCreateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdatesRequest;
+import org.apache.gravitino.dto.requests.TableBatchRequest;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
@@ -70,6 +72,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableBatchResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -81,6 +84,8 @@ import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Strategy;
@@ -361,6 +366,37 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
 
+  @Test
+  public void testListTablesWithPage() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    EntityListResponse resp =
+        new EntityListResponse(new NameIdentifier[] {table1, table2}, "table2");
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageToken", "table0", "limit", "2"),
+        null,
+        resp,
+        SC_OK);
+    Page<NameIdentifier> page =
+        catalog.asTableCatalog().listTables(Namespace.of("schema1"), "table0", 2);
+
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {
+          NameIdentifier.of("schema1", "table1"), NameIdentifier.of("schema1", "table2")
+        },
+        page.items());
+    Assertions.assertEquals("table2", page.nextPageToken());
+
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+    Namespace namespace1 = Namespace.of("schema1");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> tableCatalog.listTables(namespace1, null, 0));
+  }
+
   @Test
   public void testCreateTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
@@ -1115,6 +1151,57 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(excep.getMessage().contains("internal error"));
   }
 
+  @Test
+  public void testBatchOperateTables() throws JsonProcessingException {
+    NameIdentifier tableId1 = NameIdentifier.of("schema1", "table1");
+    NameIdentifier tableId2 = NameIdentifier.of("schema1", "table2");
+    Namespace fullNamespace =
+        Namespace.of(metalakeName, catalogName, tableId1.namespace().level(0));
+    String batchPath =
+        withSlash(RelationalCatalog.formatTableRequestPath(fullNamespace) + "/batch");
+    TableBatchRequest req =
+        new TableBatchRequest(
+            ImmutableList.of(
+                TableBatchRequest.Operation.drop("table1"),
+                TableBatchRequest.Operation.purge("table2")));
+    TableBatchResponse resp =
+        new TableBatchResponse(
+            ImmutableList.of(
+                TableBatchResponse.Result.ofDropped(TableBatchOperation.Type.DROP, "table1", true),
+                TableBatchResponse.Result.ofFailure(
+                    TableBatchOperation.Type.PURGE,
+                    "table2",
+                    ErrorResponse.notFound(
+                        NoSuchTableException.class.getSimpleName(), "table not found"))));
+    buildMockResource(Method.POST, batchPath, req, resp, SC_OK);
+
+    TableBatchResult[] results =
+        catalog
+            .asTableCatalog()
+            .batchOperateTables(
+                TableBatchOperation.drop(tableId1), TableBatchOperation.purge(tableId2));
+    Assertions.assertEquals(2, results.length);
+    Assertions.assertTrue(results[0].succeeded());
+    Assertions.assertTrue(results[0].dropped());
+    Assertions.assertEquals(tableId2, results[1].identifier());
+    Assertions.assertFalse(results[1].succeeded());
+    Assertions.assertInstanceOf(NoSuchTableException.class, results[1].error());
+
+    // Test with exception for the whole batch
+    ErrorResponse errorResp = ErrorResponse.internalError("internal error");
+    buildMockResource(Method.POST, batchPath, req, errorResp, SC_INTERNAL_SERVER_ERROR);
+
+    Throwable excep =
+        Assertions.assertThrows(
+            RuntimeException.class,
+            () ->
+                catalog
+                    .asTableCatalog()
+                    .batchOperateTables(
+                        TableBatchOperation.drop(tableId1), TableBatchOperation.purge(tableId2)));
+    Assertions.assertTrue(excep.getMessage().contains("internal error"));
+  }
+
   @Test
   public void testPurgeTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
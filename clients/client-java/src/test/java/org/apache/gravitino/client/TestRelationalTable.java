@@ -26,6 +26,7 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_NOT_IMPLEMENTED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import org.apache.gravitino.NameIdentifier;
@@ -167,6 +168,19 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertEquals("table does not support partition operations", exception.getMessage());
   }
 
+  @Test
+  public void testListPartitionNamesByFilter() throws JsonProcessingException {
+    String partitionPath =
+        withSlash(((RelationalTable) partitionedTable).getPartitionRequestPath());
+    PartitionNameListResponse resp = new PartitionNameListResponse(new String[] {"dt=01/hour=01"});
+    buildMockResource(
+        Method.GET, partitionPath, ImmutableMap.of("filter", "dt=01"), null, resp, SC_OK);
+
+    String[] partitionNames =
+        partitionedTable.supportPartitions().listPartitionNamesByFilter("dt=01");
+    Assertions.assertArrayEquals(new String[] {"dt=01/hour=01"}, partitionNames);
+  }
+
   @Test
   public void testListPartitions() throws JsonProcessingException {
     String partitionName = "p1";
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetAuditConstants;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.audit.InternalClientType;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.file.FilesetCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the storage location of the filesets, so the actual locations of the sub paths can be
+ * resolved locally without asking the Gravitino server for every file operation.
+ *
+ * <p>The first resolution of a fileset is always sent to the server. The locations resolved from
+ * the cache are recorded and sent to the server in batches later, the server resolves them again
+ * and produces the same audit events as the single resolutions. If the server fails to resolve a
+ * batch or resolves a different location, the cached storage location of the fileset is dropped.
+ */
+class FilesetLocationCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FilesetLocationCache.class);
+
+  private static final String SLASH = "/";
+
+  // Drop the audit records beyond this limit if the server can't keep up with them.
+  private static final int MAX_PENDING_AUDIT_RECORDS = 100_000;
+
+  private final Cache<NameIdentifier, FilesetLocation> locationCache;
+
+  private final Queue<AuditRecord> pendingAuditRecords = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger pendingAuditRecordCount = new AtomicInteger();
+
+  private final ScheduledThreadPoolExecutor auditScheduler;
+
+  private final int auditBatchSize;
+
+  FilesetLocationCache(
+      int maxCapacity, long expireMillis, long auditFlushIntervalMillis, int auditBatchSize) {
+    this.locationCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxCapacity)
+            .expireAfterWrite(expireMillis, TimeUnit.MILLISECONDS)
+            .build();
+    this.auditBatchSize = auditBatchSize;
+    this.auditScheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gvfs-location-audit-flusher-%d")
+                .build());
+    auditScheduler.scheduleWithFixedDelay(
+        this::flushAuditRecords,
+        auditFlushIntervalMillis,
+        auditFlushIntervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Gets the actual location of the sub path of a fileset.
+   *
+   * @param catalog The fileset catalog of the fileset.
+   * @param identifier The identifier of the fileset, like "metalake.catalog.schema.fileset". The
+   *     filesets with the same schema and name in different catalogs are cached separately.
+   * @param subPath The sub path to the file or directory.
+   * @param operation The data operation on the file or directory.
+   * @return The actual location of the file or directory.
+   */
+  String getFileLocation(
+      FilesetCatalog catalog,
+      NameIdentifier identifier,
+      String subPath,
+      FilesetDataOperation operation) {
+    FilesetLocation filesetLocation = locationCache.getIfPresent(identifier);
+    if (filesetLocation != null) {
+      String actualFileLocation = filesetLocation.resolve(subPath, operation);
+      recordAudit(new AuditKey(catalog, identifier, operation), subPath, actualFileLocation);
+      return actualFileLocation;
+    }
+
+    NameIdentifier ident = identInCatalog(identifier);
+    setCallerContext(operation);
+    String actualFileLocation = catalog.getFileLocation(ident, subPath);
+    String storageLocation;
+    try {
+      storageLocation = catalog.loadFileset(ident).storageLocation();
+    } catch (RuntimeException e) {
+      LOG.debug("Failed to load fileset {}, skip caching its storage location", ident, e);
+      return actualFileLocation;
+    }
+    // Learn whether the fileset mounts a single file from how the server resolved the sub path,
+    // skip caching if it's neither of the ways.
+    FilesetLocation directory = new FilesetLocation(storageLocation, false);
+    FilesetLocation singleFile = new FilesetLocation(storageLocation, true);
+    if (actualFileLocation.equals(directory.resolveLocation(processSubPath(subPath)))) {
+      locationCache.put(identifier, directory);
+    } else if (actualFileLocation.equals(singleFile.resolveLocation(processSubPath(subPath)))) {
+      locationCache.put(identifier, singleFile);
+    }
+    return actualFileLocation;
+  }
+
+  /**
+   * Drops the cached storage location of a fileset.
+   *
+   * @param identifier The identifier of the fileset, like "metalake.catalog.schema.fileset".
+   */
+  void invalidate(NameIdentifier identifier) {
+    locationCache.invalidate(identifier);
+  }
+
+  @Override
+  public void close() {
+    auditScheduler.shutdownNow();
+    // Send the remaining records before the client is closed.
+    flushAuditRecords();
+    locationCache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  Cache<NameIdentifier, FilesetLocation> locationCache() {
+    return locationCache;
+  }
+
+  @VisibleForTesting
+  synchronized void flushAuditRecords() {
+    // Group the records by the fileset and the operation, since the operation is passed in the
+    // headers of the request.
+    Map<AuditKey, List<AuditRecord>> recordsByKey = Maps.newLinkedHashMap();
+    AuditRecord record;
+    while ((record = pendingAuditRecords.poll()) != null) {
+      pendingAuditRecordCount.decrementAndGet();
+      recordsByKey.computeIfAbsent(record.key, k -> Lists.newArrayList()).add(record);
+    }
+
+    recordsByKey.forEach(
+        (key, records) -> {
+          for (List<AuditRecord> batch : Lists.partition(records, auditBatchSize)) {
+            flushAuditBatch(key, batch);
+          }
+        });
+  }
+
+  private void flushAuditBatch(AuditKey key, List<AuditRecord> batch) {
+    String[] subPaths = batch.stream().map(r -> r.subPath).toArray(String[]::new);
+    try {
+      setCallerContext(key.operation);
+      String[] serverLocations = key.catalog.getFileLocations(identInCatalog(key.ident), subPaths);
+      for (int i = 0; i < batch.size(); i++) {
+        if (!batch.get(i).fileLocation.equals(serverLocations[i])) {
+          LOG.warn(
+              "The cached location of fileset {} is stale, the server resolved sub path {} to {}, "
+                  + "but the cache resolved it to {}",
+              key.ident,
+              subPaths[i],
+              serverLocations[i],
+              batch.get(i).fileLocation);
+          invalidate(key.ident);
+          break;
+        }
+      }
+    } catch (Exception e) {
+      LOG.warn(
+          "Failed to report {} cached location resolutions of fileset {}",
+          batch.size(),
+          key.ident,
+          e);
+      invalidate(key.ident);
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
+  private void recordAudit(AuditKey key, String subPath, String fileLocation) {
+    int count = pendingAuditRecordCount.incrementAndGet();
+    if (count > MAX_PENDING_AUDIT_RECORDS) {
+      pendingAuditRecordCount.decrementAndGet();
+      LOG.warn("Too many pending audit records, drop the record of sub path {}", subPath);
+      return;
+    }
+
+    pendingAuditRecords.add(new AuditRecord(key, subPath, fileLocation));
+    if (count % auditBatchSize == 0 && !auditScheduler.isShutdown()) {
+      auditScheduler.execute(this::flushAuditRecords);
+    }
+  }
+
+  private static void setCallerContext(FilesetDataOperation operation) {
+    Map<String, String> contextMap = Maps.newHashMap();
+    contextMap.put(
+        FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+        InternalClientType.HADOOP_GVFS.name());
+    contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
+    CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
+    CallerContext.CallerContextHolder.set(callerContext);
+  }
+
+  // The fileset catalog takes the identifier of the fileset in the catalog, like "schema.fileset".
+  private static NameIdentifier identInCatalog(NameIdentifier identifier) {
+    return NameIdentifier.of(identifier.namespace().level(2), identifier.name());
+  }
+
+  private static String processSubPath(String subPath) {
+    String trimmed = subPath.trim();
+    return !trimmed.isEmpty() && !trimmed.startsWith(SLASH) ? SLASH + trimmed : trimmed;
+  }
+
+  /** The storage location of a fileset, it resolves the sub paths like the Gravitino server. */
+  @VisibleForTesting
+  static class FilesetLocation {
+    private final String storageLocation;
+    private final boolean singleFile;
+
+    FilesetLocation(String storageLocation, boolean singleFile) {
+      this.storageLocation = storageLocation;
+      this.singleFile = singleFile;
+    }
+
+    String resolve(String subPath, FilesetDataOperation operation) {
+      String processedSubPath = processSubPath(subPath);
+      if (singleFile && StringUtils.isBlank(processedSubPath)) {
+        throw new GravitinoRuntimeException(
+            "Sub path should always be blank, because the fileset only mounts a single file.");
+      }
+      if (operation == FilesetDataOperation.RENAME) {
+        if (singleFile) {
+          throw new GravitinoRuntimeException(
+              "Cannot rename the fileset: %s which only mounts to a single file.", storageLocation);
+        }
+        if (StringUtils.isBlank(processedSubPath) || processedSubPath.equals(SLASH)) {
+          throw new GravitinoRuntimeException(
+              "subPath cannot be blank when need to rename a file or a directory.");
+        }
+      }
+      return resolveLocation(processedSubPath);
+    }
+
+    private String resolveLocation(String processedSubPath) {
+      if (singleFile || StringUtils.isBlank(processedSubPath)) {
+        return storageLocation;
+      }
+      String location =
+          storageLocation.endsWith(SLASH)
+              ? storageLocation.substring(0, storageLocation.length() - 1)
+              : storageLocation;
+      return location + processedSubPath;
+    }
+  }
+
+  private static class AuditKey {
+    private final FilesetCatalog catalog;
+    private final NameIdentifier ident;
+    private final FilesetDataOperation operation;
+
+    private AuditKey(FilesetCatalog catalog, NameIdentifier ident, FilesetDataOperation operation) {
+      this.catalog = catalog;
+      this.ident = ident;
+      this.operation = operation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof AuditKey)) {
+        return false;
+      }
+      AuditKey that = (AuditKey) o;
+      return catalog == that.catalog && ident.equals(that.ident) && operation == that.operation;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(catalog), ident, operation);
+    }
+  }
+
+  private static class AuditRecord {
+    private final AuditKey key;
+    private final String subPath;
+    private final String fileLocation;
+
+    private AuditRecord(AuditKey key, String subPath, String fileLocation) {
+      this.key = key;
+      this.subPath = subPath;
+      this.fileLocation = fileLocation;
+    }
+  }
+}
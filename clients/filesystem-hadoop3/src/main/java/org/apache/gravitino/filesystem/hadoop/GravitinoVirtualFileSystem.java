@@ -77,6 +77,8 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   private ScheduledThreadPoolExecutor catalogCleanScheduler;
   private Cache<String, FileSystem> internalFileSystemCache;
   private ScheduledThreadPoolExecutor internalFileSystemCleanScheduler;
+  // The cache of the fileset storage locations, it's null if the cache is disabled.
+  private FilesetLocationCache locationCache;
 
   // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
   // The following path can be match:
@@ -120,6 +122,7 @@ public class GravitinoVirtualFileSystem extends FileSystem {
 
     initializeFileSystemCache(maxCapacity, evictionMillsAfterAccess);
     initializeCatalogCache();
+    initializeLocationCache(configuration);
 
     this.metalakeName =
         configuration.get(GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_METALAKE_KEY);
@@ -186,6 +189,53 @@ public class GravitinoVirtualFileSystem extends FileSystem {
             .build();
   }
 
+  private void initializeLocationCache(Configuration configuration) {
+    boolean enabled =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT);
+    if (!enabled) {
+      return;
+    }
+
+    int maxCapacity =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT);
+    long expireMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_DEFAULT);
+    long flushIntervalMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_FLUSH_INTERVAL_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_FLUSH_INTERVAL_MILLS_DEFAULT);
+    int batchSize =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        maxCapacity > 0 && expireMills > 0 && flushIntervalMills > 0 && batchSize > 0,
+        "The configurations of the fileset location cache should be greater than 0");
+
+    this.locationCache =
+        new FilesetLocationCache(maxCapacity, expireMills, flushIntervalMills, batchSize);
+  }
+
+  @VisibleForTesting
+  FilesetLocationCache locationCache() {
+    return locationCache;
+  }
+
   private ThreadFactory newDaemonThreadFactory(String name) {
     return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-%d").build();
   }
@@ -360,17 +410,23 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     Preconditions.checkArgument(
         filesetCatalog != null, String.format("Loaded fileset catalog: %s is null.", catalogIdent));
 
-    Map<String, String> contextMap = Maps.newHashMap();
-    contextMap.put(
-        FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
-        InternalClientType.HADOOP_GVFS.name());
-    contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
-    CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
-    CallerContext.CallerContextHolder.set(callerContext);
-
-    String actualFileLocation =
-        filesetCatalog.getFileLocation(
-            NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+    NameIdentifier filesetIdent =
+        NameIdentifier.of(identifier.namespace().level(2), identifier.name());
+    String actualFileLocation;
+    if (locationCache != null) {
+      actualFileLocation =
+          locationCache.getFileLocation(filesetCatalog, identifier, subPath, operation);
+    } else {
+      Map<String, String> contextMap = Maps.newHashMap();
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+          InternalClientType.HADOOP_GVFS.name());
+      contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
+      CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
+      CallerContext.CallerContextHolder.set(callerContext);
+
+      actualFileLocation = filesetCatalog.getFileLocation(filesetIdent, subPath);
+    }
 
     Path filePath = new Path(actualFileLocation);
     URI uri = filePath.toUri();
@@ -570,6 +626,10 @@ public class GravitinoVirtualFileSystem extends FileSystem {
       }
     }
     internalFileSystemCache.invalidateAll();
+    // report the pending audit records before the client is closed
+    if (locationCache != null) {
+      locationCache.close();
+    }
     catalogCache.invalidateAll();
     // close the client
     try {
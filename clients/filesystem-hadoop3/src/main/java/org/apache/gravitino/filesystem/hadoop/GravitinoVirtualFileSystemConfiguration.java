@@ -107,5 +107,57 @@ public class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 60;
 
+  /**
+   * The configuration key to enable the cache of the fileset storage locations. With the cache, the
+   * actual locations of the sub paths are resolved locally instead of requesting the Gravitino
+   * server for every file operation. The cached resolutions are reported to the server for audit
+   * asynchronously in batches, so they're audited late, and dropped if too many of them are
+   * pending. A cache miss costs one more request to load the fileset. It's disabled by default.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY =
+      "fs.gravitino.fileset.location.cache.enable";
+
+  /** The default value to enable the cache of the fileset storage locations. */
+  public static final boolean FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT = false;
+
+  /** The configuration key for the maximum number of the cached fileset storage locations. */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_KEY =
+      "fs.gravitino.fileset.location.cache.maxCapacity";
+
+  /** The default value for the maximum number of the cached fileset storage locations. */
+  public static final int FS_GRAVITINO_FILESET_LOCATION_CACHE_MAX_CAPACITY_DEFAULT = 1000;
+
+  /**
+   * The configuration key for the time to live of a cached fileset storage location, measured in
+   * mills after it is loaded from the server.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_KEY =
+      "fs.gravitino.fileset.location.cache.expireMills";
+
+  /** The default value for the time to live of a cached fileset storage location. */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_DEFAULT =
+      1000L * 60 * 5;
+
+  /**
+   * The configuration key for the interval to report the locations resolved from the cache to the
+   * Gravitino server for audit, measured in mills.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_AUDIT_FLUSH_INTERVAL_MILLS_KEY =
+      "fs.gravitino.fileset.location.audit.flushIntervalMills";
+
+  /** The default value for the interval to report the locations resolved from the cache. */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_AUDIT_FLUSH_INTERVAL_MILLS_DEFAULT =
+      1000L * 10;
+
+  /**
+   * The configuration key for the maximum number of the sub paths in one audit report request, a
+   * report is also sent once this many locations are pending.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_KEY =
+      "fs.gravitino.fileset.location.audit.batchSize";
+
+  /** The default value for the maximum number of the sub paths in one audit report request. */
+  public static final int FS_GRAVITINO_FILESET_LOCATION_AUDIT_BATCH_SIZE_DEFAULT = 1000;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetAuditConstants;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.exceptions.NoSuchFilesetException;
+import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.file.FilesetCatalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFilesetLocationCache {
+
+  private static final NameIdentifier FILESET =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset");
+
+  // The identifier of the fileset in its catalog.
+  private static final NameIdentifier FILESET_IN_CATALOG = NameIdentifier.of("schema", "fileset");
+
+  @Test
+  public void testResolveFromCache() {
+    FilesetCatalog catalog = mockCatalog("hdfs://cluster/fileset/");
+    when(catalog.getFileLocation(FILESET_IN_CATALOG, "/a")).thenReturn("hdfs://cluster/fileset/a");
+
+    try (FilesetLocationCache cache = newCache()) {
+      Assertions.assertEquals(
+          "hdfs://cluster/fileset/a",
+          cache.getFileLocation(catalog, FILESET, "/a", FilesetDataOperation.OPEN));
+      Assertions.assertNotNull(cache.locationCache().getIfPresent(FILESET));
+
+      // The following sub paths are resolved locally
+      Assertions.assertEquals(
+          "hdfs://cluster/fileset/b/c",
+          cache.getFileLocation(catalog, FILESET, "b/c", FilesetDataOperation.CREATE));
+      Assertions.assertEquals(
+          "hdfs://cluster/fileset/",
+          cache.getFileLocation(catalog, FILESET, "", FilesetDataOperation.LIST_STATUS));
+      Assertions.assertThrows(
+          GravitinoRuntimeException.class,
+          () -> cache.getFileLocation(catalog, FILESET, "/", FilesetDataOperation.RENAME));
+      verify(catalog, times(1)).getFileLocation(any(), any());
+      verify(catalog, never()).getFileLocations(any(), any());
+
+      // The resolutions from the cache are reported in batches, grouped by the operation
+      when(catalog.getFileLocations(eq(FILESET_IN_CATALOG), any()))
+          .thenAnswer(
+              invocation -> {
+                String operation =
+                    CallerContext.CallerContextHolder.get()
+                        .context()
+                        .get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION);
+                return operation.equals(FilesetDataOperation.CREATE.name())
+                    ? new String[] {"hdfs://cluster/fileset/b/c"}
+                    : new String[] {"hdfs://cluster/fileset/"};
+              });
+      cache.flushAuditRecords();
+      verify(catalog, times(1)).getFileLocations(FILESET_IN_CATALOG, new String[] {"b/c"});
+      verify(catalog, times(1)).getFileLocations(FILESET_IN_CATALOG, new String[] {""});
+      Assertions.assertNotNull(cache.locationCache().getIfPresent(FILESET));
+    }
+  }
+
+  @Test
+  public void testInvalidateOnConflict() {
+    FilesetCatalog catalog = mockCatalog("hdfs://cluster/fileset");
+    when(catalog.getFileLocation(FILESET_IN_CATALOG, "a")).thenReturn("hdfs://cluster/fileset/a");
+
+    try (FilesetLocationCache cache = newCache()) {
+      cache.getFileLocation(catalog, FILESET, "a", FilesetDataOperation.OPEN);
+      cache.getFileLocation(catalog, FILESET, "b", FilesetDataOperation.OPEN);
+
+      // The server resolves the sub path to another location
+      when(catalog.getFileLocations(eq(FILESET_IN_CATALOG), any()))
+          .thenReturn(new String[] {"hdfs://cluster/another/b"});
+      cache.flushAuditRecords();
+      Assertions.assertNull(cache.locationCache().getIfPresent(FILESET));
+
+      // The server fails to resolve the sub paths
+      cache.getFileLocation(catalog, FILESET, "a", FilesetDataOperation.OPEN);
+      cache.getFileLocation(catalog, FILESET, "b", FilesetDataOperation.OPEN);
+      when(catalog.getFileLocations(eq(FILESET_IN_CATALOG), any()))
+          .thenThrow(new NoSuchFilesetException("fileset is dropped"));
+      cache.flushAuditRecords();
+      Assertions.assertNull(cache.locationCache().getIfPresent(FILESET));
+    }
+  }
+
+  @Test
+  public void testSingleFileFileset() {
+    FilesetCatalog catalog = mockCatalog("hdfs://cluster/file.txt");
+    when(catalog.getFileLocation(FILESET_IN_CATALOG, "a")).thenReturn("hdfs://cluster/file.txt");
+
+    try (FilesetLocationCache cache = newCache()) {
+      cache.getFileLocation(catalog, FILESET, "a", FilesetDataOperation.OPEN);
+      Assertions.assertEquals(
+          "hdfs://cluster/file.txt",
+          cache.getFileLocation(catalog, FILESET, "b", FilesetDataOperation.OPEN));
+      Assertions.assertThrows(
+          GravitinoRuntimeException.class,
+          () -> cache.getFileLocation(catalog, FILESET, "b", FilesetDataOperation.RENAME));
+    }
+  }
+
+  @Test
+  public void testFilesetsInDifferentCatalogs() {
+    NameIdentifier anotherFileset = NameIdentifier.of("metalake", "another", "schema", "fileset");
+    FilesetCatalog catalog = mockCatalog("hdfs://cluster/fileset");
+    FilesetCatalog anotherCatalog = mockCatalog("s3a://bucket/fileset");
+    when(catalog.getFileLocation(FILESET_IN_CATALOG, "a")).thenReturn("hdfs://cluster/fileset/a");
+    when(anotherCatalog.getFileLocation(FILESET_IN_CATALOG, "a"))
+        .thenReturn("s3a://bucket/fileset/a");
+
+    try (FilesetLocationCache cache = newCache()) {
+      cache.getFileLocation(catalog, FILESET, "a", FilesetDataOperation.OPEN);
+      // The fileset with the same schema and name in another catalog isn't resolved from the
+      // cached location of the first one.
+      Assertions.assertEquals(
+          "s3a://bucket/fileset/a",
+          cache.getFileLocation(anotherCatalog, anotherFileset, "a", FilesetDataOperation.OPEN));
+      verify(anotherCatalog, times(1)).getFileLocation(FILESET_IN_CATALOG, "a");
+
+      Assertions.assertEquals(
+          "hdfs://cluster/fileset/b",
+          cache.getFileLocation(catalog, FILESET, "b", FilesetDataOperation.OPEN));
+      Assertions.assertEquals(
+          "s3a://bucket/fileset/b",
+          cache.getFileLocation(anotherCatalog, anotherFileset, "b", FilesetDataOperation.OPEN));
+
+      cache.invalidate(anotherFileset);
+      Assertions.assertNotNull(cache.locationCache().getIfPresent(FILESET));
+      Assertions.assertNull(cache.locationCache().getIfPresent(anotherFileset));
+    }
+  }
+
+  private static FilesetLocationCache newCache() {
+    // Flush the audit records manually in the tests
+    return new FilesetLocationCache(10, 60_000L, 3_600_000L, 100);
+  }
+
+  private static FilesetCatalog mockCatalog(String storageLocation) {
+    FilesetCatalog catalog = mock(FilesetCatalog.class);
+    Fileset fileset = mock(Fileset.class);
+    when(fileset.storageLocation()).thenReturn(storageLocation);
+    when(catalog.loadFileset(FILESET_IN_CATALOG)).thenReturn(fileset);
+    return catalog;
+  }
+}
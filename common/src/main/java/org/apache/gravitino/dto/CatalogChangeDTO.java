@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/** Represents a creation, alteration or drop of a catalog recorded by the server. */
+@EqualsAndHashCode
+@ToString
+public class CatalogChangeDTO {
+
+  /** The type of the catalog change. */
+  public enum Type {
+    /** The catalog is created. */
+    CREATE,
+    /** The catalog is altered. */
+    ALTER,
+    /** The catalog is dropped. */
+    DROP
+  }
+
+  @JsonProperty("sequence")
+  private final long sequence;
+
+  @JsonProperty("catalog")
+  private final String catalog;
+
+  @JsonProperty("type")
+  private final Type type;
+
+  @JsonProperty("eventTime")
+  private final long eventTime;
+
+  /** Default constructor for Jackson deserialization. */
+  public CatalogChangeDTO() {
+    this(0, null, null, 0);
+  }
+
+  /**
+   * Creates a new instance of CatalogChangeDTO.
+   *
+   * @param sequence The sequence number of the change.
+   * @param catalog The name of the changed catalog.
+   * @param type The type of the change.
+   * @param eventTime The time in milliseconds when the change happened.
+   */
+  public CatalogChangeDTO(long sequence, String catalog, Type type, long eventTime) {
+    this.sequence = sequence;
+    this.catalog = catalog;
+    this.type = type;
+    this.eventTime = eventTime;
+  }
+
+  /** @return The sequence number of the change. */
+  public long sequence() {
+    return sequence;
+  }
+
+  /** @return The name of the changed catalog. */
+  public String catalog() {
+    return catalog;
+  }
+
+  /** @return The type of the change. */
+  public Type type() {
+    return type;
+  }
+
+  /** @return The time in milliseconds when the change happened. */
+  public long eventTime() {
+    return eventTime;
+  }
+}
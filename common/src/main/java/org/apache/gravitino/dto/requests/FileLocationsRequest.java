@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Objects;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request to get the actual locations of many sub paths of a fileset. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class FileLocationsRequest implements RESTRequest {
+
+  @JsonProperty("subPaths")
+  private final String[] subPaths;
+
+  /**
+   * Constructor for FileLocationsRequest.
+   *
+   * @param subPaths The sub paths to the files or directories of the fileset.
+   */
+  public FileLocationsRequest(String[] subPaths) {
+    this.subPaths = subPaths;
+  }
+
+  /** Default constructor for FileLocationsRequest. */
+  public FileLocationsRequest() {
+    this(null);
+  }
+
+  /**
+   * Validates the fields of the request.
+   *
+   * @throws IllegalArgumentException if the sub paths are not set or contain null.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        subPaths != null && subPaths.length > 0,
+        "\"subPaths\" field is required and cannot be empty");
+    Preconditions.checkArgument(
+        Arrays.stream(subPaths).allMatch(Objects::nonNull),
+        "\"subPaths\" field cannot contain null");
+  }
+}
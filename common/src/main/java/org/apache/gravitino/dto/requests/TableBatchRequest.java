@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request to create, alter, drop or purge many tables of a schema in one call. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TableBatchRequest implements RESTRequest {
+
+  @JsonProperty("operations")
+  private final List<Operation> operations;
+
+  /**
+   * Creates a new TableBatchRequest.
+   *
+   * @param operations The operations to apply, in order.
+   */
+  public TableBatchRequest(List<Operation> operations) {
+    this.operations = operations;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TableBatchRequest() {
+    this(null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        operations != null && !operations.isEmpty(),
+        "\"operations\" field is required and cannot be empty");
+    Preconditions.checkArgument(
+        operations.stream().allMatch(Objects::nonNull), "\"operations\" field cannot contain null");
+    operations.forEach(Operation::validate);
+  }
+
+  /** Represents one operation of a {@link TableBatchRequest}. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  public static class Operation implements RESTRequest {
+
+    @JsonProperty("type")
+    private final TableBatchOperation.Type type;
+
+    @Nullable
+    @JsonProperty("name")
+    private final String name;
+
+    @Nullable
+    @JsonProperty("create")
+    private final TableCreateRequest create;
+
+    @Nullable
+    @JsonProperty("updates")
+    private final List<TableUpdateRequest> updates;
+
+    private Operation(
+        TableBatchOperation.Type type,
+        String name,
+        TableCreateRequest create,
+        List<TableUpdateRequest> updates) {
+      this.type = type;
+      this.name = name;
+      this.create = create;
+      this.updates = updates;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public Operation() {
+      this(null, null, null, null);
+    }
+
+    /**
+     * Creates an operation to create a table.
+     *
+     * @param create The request to create the table.
+     * @return The operation.
+     */
+    public static Operation create(TableCreateRequest create) {
+      return new Operation(TableBatchOperation.Type.CREATE, null, create, null);
+    }
+
+    /**
+     * Creates an operation to alter a table.
+     *
+     * @param name The name of the table.
+     * @param updates The updates to apply to the table.
+     * @return The operation.
+     */
+    public static Operation alter(String name, List<TableUpdateRequest> updates) {
+      return new Operation(TableBatchOperation.Type.ALTER, name, null, updates);
+    }
+
+    /**
+     * Creates an operation to drop a table.
+     *
+     * @param name The name of the table.
+     * @return The operation.
+     */
+    public static Operation drop(String name) {
+      return new Operation(TableBatchOperation.Type.DROP, name, null, null);
+    }
+
+    /**
+     * Creates an operation to purge a table.
+     *
+     * @param name The name of the table.
+     * @return The operation.
+     */
+    public static Operation purge(String name) {
+      return new Operation(TableBatchOperation.Type.PURGE, name, null, null);
+    }
+
+    /**
+     * Returns the name of the table the operation applies to.
+     *
+     * @return The name of the table.
+     */
+    public String tableName() {
+      return type == TableBatchOperation.Type.CREATE ? create.getName() : name;
+    }
+
+    /**
+     * Validates the operation.
+     *
+     * @throws IllegalArgumentException If the operation is invalid, this exception is thrown.
+     */
+    @Override
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(type != null, "\"type\" field is required and cannot be null");
+      if (type == TableBatchOperation.Type.CREATE) {
+        Preconditions.checkArgument(
+            create != null, "\"create\" field is required for a create operation");
+        create.validate();
+        return;
+      }
+
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(name), "\"name\" field is required and cannot be empty");
+      if (type == TableBatchOperation.Type.ALTER) {
+        Preconditions.checkArgument(
+            updates != null, "\"updates\" field is required for an alter operation");
+        updates.forEach(RESTRequest::validate);
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.CatalogChangeDTO;
+
+/**
+ * Represents a response for the catalog changes of a metalake after a sequence number. The changes
+ * are only meaningful within the same epoch, and the client must reload all the catalogs if the
+ * epoch differs from the one it saw last time or the changes are truncated.
+ */
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class CatalogChangesResponse extends BaseResponse {
+
+  @JsonProperty("epoch")
+  private final String epoch;
+
+  @JsonProperty("latestSequence")
+  private final long latestSequence;
+
+  @JsonProperty("truncated")
+  private final boolean truncated;
+
+  @JsonProperty("changes")
+  private final CatalogChangeDTO[] changes;
+
+  /**
+   * Creates a new CatalogChangesResponse.
+   *
+   * @param epoch The epoch of the change log on the server.
+   * @param latestSequence The sequence number of the latest change on the server.
+   * @param truncated Whether some changes after the requested sequence number are missing.
+   * @param changes The catalog changes after the requested sequence number.
+   */
+  public CatalogChangesResponse(
+      String epoch, long latestSequence, boolean truncated, CatalogChangeDTO[] changes) {
+    super(0);
+    this.epoch = epoch;
+    this.latestSequence = latestSequence;
+    this.truncated = truncated;
+    this.changes = changes;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * CatalogChangesResponse.
+   */
+  public CatalogChangesResponse() {
+    super();
+    this.epoch = null;
+    this.latestSequence = 0;
+    this.truncated = false;
+    this.changes = null;
+  }
+
+  /** @return The epoch of the change log on the server. */
+  public String epoch() {
+    return epoch;
+  }
+
+  /** @return The sequence number of the latest change on the server. */
+  public long latestSequence() {
+    return latestSequence;
+  }
+
+  /** @return Whether some changes after the requested sequence number are missing. */
+  public boolean truncated() {
+    return truncated;
+  }
+
+  /** @return The catalog changes after the requested sequence number. */
+  public CatalogChangeDTO[] changes() {
+    return changes;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the epoch, changes or any change is not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(StringUtils.isNotBlank(epoch), "epoch must not be blank");
+    Preconditions.checkArgument(changes != null, "changes must be non-null");
+    Arrays.stream(changes)
+        .forEach(
+            change -> {
+              Preconditions.checkArgument(
+                  StringUtils.isNotBlank(change.catalog()),
+                  "change 'catalog' must not be null and empty");
+              Preconditions.checkArgument(change.type() != null, "change 'type' must not be null");
+            });
+  }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -38,20 +39,36 @@ public class EntityListResponse extends BaseResponse {
   @JsonProperty("identifiers")
   private final NameIdentifier[] idents;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for EntityListResponse.
    *
    * @param idents The array of entity identifiers.
    */
   public EntityListResponse(NameIdentifier[] idents) {
+    this(idents, null);
+  }
+
+  /**
+   * Constructor for EntityListResponse of a page of the entities.
+   *
+   * @param idents The array of entity identifiers of the page.
+   * @param nextPageToken The token of the next page, null if this is the last page.
+   */
+  public EntityListResponse(NameIdentifier[] idents, String nextPageToken) {
     super(0);
     this.idents = idents;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for EntityListResponse. (Used for Jackson deserialization.) */
   public EntityListResponse() {
     super();
     this.idents = null;
+    this.nextPageToken = null;
   }
 
   /**
@@ -63,6 +80,16 @@ public class EntityListResponse extends BaseResponse {
     return idents;
   }
 
+  /**
+   * Returns the token of the next page if the entities are listed by page.
+   *
+   * @return The token of the next page, null if this is the last page or the entities are not
+   *     listed by page.
+   */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   /**
    * Validates the response data.
    *
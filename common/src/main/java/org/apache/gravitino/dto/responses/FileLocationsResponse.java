@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** Response for the actual locations of many sub paths of a fileset. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class FileLocationsResponse extends BaseResponse {
+
+  @JsonProperty("fileLocations")
+  private final String[] fileLocations;
+
+  /** Constructor for FileLocationsResponse. */
+  public FileLocationsResponse() {
+    super(0);
+    this.fileLocations = null;
+  }
+
+  /**
+   * Constructor for FileLocationsResponse.
+   *
+   * @param fileLocations The actual file locations, in the order of the requested sub paths.
+   */
+  public FileLocationsResponse(String[] fileLocations) {
+    super(0);
+    this.fileLocations = fileLocations;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException if the response is invalid.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+    Preconditions.checkArgument(fileLocations != null, "fileLocations must not be null");
+    Preconditions.checkArgument(
+        Arrays.stream(fileLocations).allMatch(StringUtils::isNotBlank),
+        "fileLocations must not contain blank location");
+  }
+}
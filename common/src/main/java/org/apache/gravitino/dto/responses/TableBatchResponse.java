@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.rel.TableBatchOperation;
+
+/** Represents a response for a batch of table operations. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableBatchResponse extends BaseResponse {
+
+  @JsonProperty("results")
+  private final List<Result> results;
+
+  /**
+   * Creates a new TableBatchResponse.
+   *
+   * @param results The results of the operations, in the order of the request.
+   */
+  public TableBatchResponse(List<Result> results) {
+    super(0);
+    this.results = results;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TableBatchResponse() {
+    super();
+    this.results = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException If the response is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(results != null, "results must not be null");
+    Preconditions.checkArgument(
+        results.stream().allMatch(Objects::nonNull), "results must not contain null");
+    results.forEach(Result::validate);
+  }
+
+  /** Represents the result of one operation of a batch. */
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  public static class Result {
+
+    @JsonProperty("type")
+    private final TableBatchOperation.Type type;
+
+    @JsonProperty("name")
+    private final String name;
+
+    @Nullable
+    @JsonProperty("table")
+    private final TableDTO table;
+
+    @JsonProperty("dropped")
+    private final boolean dropped;
+
+    @Nullable
+    @JsonProperty("error")
+    private final ErrorResponse error;
+
+    private Result(
+        TableBatchOperation.Type type,
+        String name,
+        TableDTO table,
+        boolean dropped,
+        ErrorResponse error) {
+      this.type = type;
+      this.name = name;
+      this.table = table;
+      this.dropped = dropped;
+      this.error = error;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    public Result() {
+      this(null, null, null, false, null);
+    }
+
+    /**
+     * Creates the result of a succeeded create or alter operation.
+     *
+     * @param type The type of the operation.
+     * @param name The name of the table.
+     * @param table The created or altered table.
+     * @return The result.
+     */
+    public static Result ofTable(TableBatchOperation.Type type, String name, TableDTO table) {
+      return new Result(type, name, table, false, null);
+    }
+
+    /**
+     * Creates the result of a succeeded drop or purge operation.
+     *
+     * @param type The type of the operation.
+     * @param name The name of the table.
+     * @param dropped Whether the table was dropped.
+     * @return The result.
+     */
+    public static Result ofDropped(TableBatchOperation.Type type, String name, boolean dropped) {
+      return new Result(type, name, null, dropped, null);
+    }
+
+    /**
+     * Creates the result of a failed operation.
+     *
+     * @param type The type of the operation.
+     * @param name The name of the table.
+     * @param error The error of the operation.
+     * @return The result.
+     */
+    public static Result ofFailure(
+        TableBatchOperation.Type type, String name, ErrorResponse error) {
+      return new Result(type, name, null, false, error);
+    }
+
+    /**
+     * Validates the result.
+     *
+     * @throws IllegalArgumentException If the result is invalid, this exception is thrown.
+     */
+    public void validate() throws IllegalArgumentException {
+      Preconditions.checkArgument(type != null, "result type must not be null");
+      Preconditions.checkArgument(StringUtils.isNotBlank(name), "result name must not be blank");
+      if (error != null) {
+        error.validate();
+      } else if (type == TableBatchOperation.Type.CREATE
+          || type == TableBatchOperation.Type.ALTER) {
+        Preconditions.checkArgument(table != null, "result table must not be null");
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.audit.FileAuditWriter;
 import org.apache.gravitino.audit.SimpleFormatter;
@@ -168,6 +169,76 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS =
+      new ConfigBuilder("gravitino.entity.store.relational.maxConnections")
+          .doc("The maximum number of the connections in the connection pool of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(20);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS =
+      new ConfigBuilder("gravitino.entity.store.relational.maxIdleConnections")
+          .doc("The maximum number of the idle connections in the connection pool of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS =
+      new ConfigBuilder("gravitino.entity.store.relational.minIdleConnections")
+          .doc("The minimum number of the idle connections in the connection pool of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS =
+      new ConfigBuilder("gravitino.entity.store.relational.maxWaitMillis")
+          .doc(
+              "The maximum time in milliseconds to wait for a connection from the connection pool "
+                  + "of `JDBCBackend` when all the connections are in use")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Optional<String>> ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.jdbcUrl")
+          .doc(
+              "Connection URL of the read replica of the `JDBCBackend` database, the reads out of "
+                  + "the transactions are routed to it if it's set")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .createWithOptional();
+
+  public static final ConfigEntry<Optional<String>> ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.jdbcUser")
+          .doc(
+              "Username of the read replica, the username of `JDBCBackend` is used if it's not set")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .createWithOptional();
+
+  public static final ConfigEntry<Optional<String>> ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.jdbcPassword")
+          .doc(
+              "Password of the read replica, the password of `JDBCBackend` is used if it's not set")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .createWithOptional();
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_READ_REPLICA_READ_AFTER_WRITE_WINDOW_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.readAfterWriteWindowMs")
+          .doc(
+              "The time in milliseconds after a write of a user during which the reads of the "
+                  + "same user are still routed to the primary database, it should be longer than "
+                  + "the replication lag of the read replica")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
   public static final ConfigEntry<String> ENTITY_KV_ROCKSDB_BACKEND_PATH =
       new ConfigBuilder(ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY)
           .doc(
@@ -193,6 +264,32 @@ public class Configs {
           .longConf()
           .createWithDefault(60 * 60 * 1000L);
 
+  public static final ConfigEntry<Boolean> CATALOG_CACHE_WARMUP_ENABLED =
+      new ConfigBuilder("gravitino.catalog.cache.warmup.enabled")
+          .doc("Whether to initialize all the in-use catalogs in the background at server start")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> CATALOG_CACHE_REFRESH_AHEAD_INTERVAL_MS =
+      new ConfigBuilder("gravitino.catalog.cache.refreshAheadIntervalMs")
+          .doc(
+              "The interval in milliseconds to rebuild the cached catalogs in the background, "
+                  + "0 means disabled. If enabled, the cached catalogs are not evicted by "
+                  + "gravitino.catalog.cache.evictionIntervalMs")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Integer> CATALOG_CACHE_LOADER_THREADS =
+      new ConfigBuilder("gravitino.catalog.cache.loaderThreads")
+          .doc("The number of threads to initialize and refresh catalogs in the background")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
   public static final ConfigEntry<Boolean> CATALOG_LOAD_ISOLATED =
       new ConfigBuilder("gravitino.catalog.classloader.isolated")
           .doc("Whether to load the catalog in an isolated classloader")
@@ -200,6 +297,35 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> CATALOG_CLASSLOADER_SHARED_ENABLED =
+      new ConfigBuilder("gravitino.catalog.classloader.shared.enabled")
+          .doc(
+              "Whether the catalogs of the same provider, lib and resource paths and "
+                  + "authorization plugin share one isolated classloader")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<List<String>> CATALOG_CLASSLOADER_SHARED_EXCLUDED_PROVIDERS =
+      new ConfigBuilder("gravitino.catalog.classloader.shared.excludedProviders")
+          .doc(
+              "The catalog providers whose catalogs always get their own isolated classloader "
+                  + "when the shared classloader is enabled, separated by commas")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .toSequence()
+          .createWithDefault(Collections.emptyList());
+
+  public static final ConfigEntry<Integer> CATALOG_CHANGE_LOG_CAPACITY =
+      new ConfigBuilder("gravitino.catalog.changeLog.capacity")
+          .doc(
+              "The maximum number of the recent catalog changes kept in the entity store for the "
+                  + "clients to sync catalogs incrementally")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc(
@@ -287,6 +413,33 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final ConfigEntry<Boolean> ENTITY_STORE_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.cache.enabled")
+          .doc(
+              "Whether to cache the metalake, catalog, schema, table, fileset and topic entities "
+                  + "read from the relational entity store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.entity.store.cache.maxEntries")
+          .doc("The maximum number of entries kept in the entity store cache")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_EXPIRE_TIME_MS =
+      new ConfigBuilder("gravitino.entity.store.cache.expireTimeMs")
+          .doc(
+              "The time in milliseconds after which a cached entity expires, it bounds the "
+                  + "staleness when several Gravitino servers share one entity store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 1000L);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -329,6 +482,16 @@ public class Configs {
               ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
 
+  public static final ConfigEntry<Boolean> FUTURE_GRANT_ASYNC =
+      new ConfigBuilder("gravitino.authorization.futureGrant.async")
+          .doc(
+              "Whether to apply the privileges granted on the metalake to the authorization plugin "
+                  + "of a newly created catalog in the background instead of blocking the catalog "
+                  + "creation")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public static final int DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS = 60;
   public static final ConfigEntry<Integer> METRICS_TIME_SLIDING_WINDOW_SECONDS =
       new ConfigBuilder("gravitino.metrics.timeSlidingWindowSecs")
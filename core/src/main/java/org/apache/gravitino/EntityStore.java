@@ -130,6 +130,25 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException;
 
+  /**
+   * Store a group of entities into the underlying storage. The default implementation stores the
+   * entities one by one, implementations may override it to store them in one transaction with
+   * fewer round trips.
+   *
+   * @param entities the entities to store
+   * @param overwritten whether to overwrite the existing entities
+   * @param <E> the type of the entities
+   * @throws IOException if the store operation fails
+   * @throws EntityAlreadyExistsException if one of the entities already exists and the overwritten
+   *     flag is set to false
+   */
+  default <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    for (E e : entities) {
+      put(e, overwritten);
+    }
+  }
+
   /**
    * Update the entity into the underlying storage.
    *
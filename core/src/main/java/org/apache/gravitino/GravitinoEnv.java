@@ -50,6 +50,7 @@ import org.apache.gravitino.hook.MetalakeHookDispatcher;
 import org.apache.gravitino.hook.SchemaHookDispatcher;
 import org.apache.gravitino.hook.TableHookDispatcher;
 import org.apache.gravitino.hook.TopicHookDispatcher;
+import org.apache.gravitino.listener.CatalogChangeLog;
 import org.apache.gravitino.listener.CatalogEventDispatcher;
 import org.apache.gravitino.listener.EventBus;
 import org.apache.gravitino.listener.EventListenerManager;
@@ -114,6 +115,8 @@ public class GravitinoEnv {
 
   private AuditLogManager auditLogManager;
 
+  private CatalogChangeLog catalogChangeLog;
+
   private TagManager tagManager;
   private EventBus eventBus;
   private OwnerManager ownerManager;
@@ -272,6 +275,16 @@ public class GravitinoEnv {
     return eventBus;
   }
 
+  /**
+   * Get the CatalogChangeLog associated with the Gravitino environment.
+   *
+   * @return The CatalogChangeLog instance.
+   */
+  public CatalogChangeLog catalogChangeLog() {
+    Preconditions.checkArgument(catalogChangeLog != null, "GravitinoEnv is not initialized.");
+    return catalogChangeLog;
+  }
+
   /**
    * Get the MetricsSystem associated with the Gravitino environment.
    *
@@ -326,6 +339,7 @@ public class GravitinoEnv {
     eventListenerManager.start();
     if (manageFullComponents) {
       auxServiceManager.serviceStart();
+      catalogManager.warmUpCatalogs();
     }
   }
 
@@ -333,6 +347,10 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    if (futureGrantManager != null) {
+      futureGrantManager.close();
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -375,6 +393,9 @@ public class GravitinoEnv {
 
     this.auditLogManager = new AuditLogManager();
     auditLogManager.init(config, eventListenerManager);
+
+    this.catalogChangeLog = new CatalogChangeLog(config.get(Configs.CATALOG_CHANGE_LOG_CAPACITY));
+    eventListenerManager.addEventListener("catalog-change-log", catalogChangeLog);
   }
 
   private void initGravitinoServerComponents() {
@@ -449,7 +470,8 @@ public class GravitinoEnv {
 
       this.accessControlDispatcher = accessControlHookDispatcher;
       this.ownerManager = new OwnerManager(entityStore);
-      this.futureGrantManager = new FutureGrantManager(entityStore, ownerManager);
+      this.futureGrantManager =
+          new FutureGrantManager(entityStore, ownerManager, config.get(Configs.FUTURE_GRANT_ASYNC));
     } else {
       this.accessControlDispatcher = null;
       this.ownerManager = null;
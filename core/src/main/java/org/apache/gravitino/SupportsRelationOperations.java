@@ -19,7 +19,9 @@
 package org.apache.gravitino;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is an extended interface. This is mainly used for strengthen the ability of querying
@@ -70,6 +72,32 @@ public interface SupportsRelationOperations {
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException;
 
+  /**
+   * List the entities according to multiple given entities in a specific relation. The storage may
+   * fetch the entities of all the given entities at once, the default implementation lists them one
+   * by one.
+   *
+   * @param relType The type of relation.
+   * @param nameIdentifiers The given entity identifiers.
+   * @param identType The type of the given entities.
+   * @return The entities of each given entity, the given entities without any entity in the
+   *     relation may be absent.
+   * @throws IOException When occurs storage issues, it will throw IOException.
+   */
+  default <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    Map<NameIdentifier, List<E>> entities = new LinkedHashMap<>();
+    for (NameIdentifier nameIdentifier : nameIdentifiers) {
+      List<E> related = listEntitiesByRelation(relType, nameIdentifier, identType);
+      if (!related.isEmpty()) {
+        entities.put(nameIdentifier, related);
+      }
+    }
+    return entities;
+  }
+
   /**
    * insert a relation between two entities
    *
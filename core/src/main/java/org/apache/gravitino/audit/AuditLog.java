@@ -43,6 +43,7 @@ import org.apache.gravitino.listener.api.event.CreateTableEvent;
 import org.apache.gravitino.listener.api.event.CreateTableFailureEvent;
 import org.apache.gravitino.listener.api.event.CreateTopicEvent;
 import org.apache.gravitino.listener.api.event.CreateTopicFailureEvent;
+import org.apache.gravitino.listener.api.event.DisableCatalogEvent;
 import org.apache.gravitino.listener.api.event.DropCatalogEvent;
 import org.apache.gravitino.listener.api.event.DropCatalogFailureEvent;
 import org.apache.gravitino.listener.api.event.DropFilesetEvent;
@@ -55,6 +56,7 @@ import org.apache.gravitino.listener.api.event.DropTableEvent;
 import org.apache.gravitino.listener.api.event.DropTableFailureEvent;
 import org.apache.gravitino.listener.api.event.DropTopicEvent;
 import org.apache.gravitino.listener.api.event.DropTopicFailureEvent;
+import org.apache.gravitino.listener.api.event.EnableCatalogEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.GetFileLocationEvent;
 import org.apache.gravitino.listener.api.event.GetFileLocationFailureEvent;
@@ -152,6 +154,10 @@ public interface AuditLog {
 
     LIST_CATALOG,
 
+    ENABLE_CATALOG,
+
+    DISABLE_CATALOG,
+
     CREATE_SCHEMA,
 
     ALTER_SCHEMA,
@@ -229,6 +235,10 @@ public interface AuditLog {
         return LOAD_CATALOG;
       } else if (event instanceof ListCatalogEvent || event instanceof ListCatalogFailureEvent) {
         return LIST_CATALOG;
+      } else if (event instanceof EnableCatalogEvent) {
+        return ENABLE_CATALOG;
+      } else if (event instanceof DisableCatalogEvent) {
+        return DISABLE_CATALOG;
       } else if (event instanceof CreateSchemaEvent || event instanceof CreateSchemaFailureEvent) {
         return CREATE_SCHEMA;
       } else if (event instanceof AlterSchemaEvent || event instanceof AlterSchemaFailureEvent) {
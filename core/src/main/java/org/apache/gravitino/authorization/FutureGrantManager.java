@@ -18,17 +18,25 @@
  */
 package org.apache.gravitino.authorization;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
 import java.io.IOException;
+import java.security.Principal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
@@ -38,24 +46,96 @@ import org.apache.gravitino.connector.authorization.AuthorizationPlugin;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * FutureGrantManager is responsible for granting privileges to future object. When you grant a
  * privilege which authorization supports to a metalake, the future creating catalog should apply
  * the privilege to underlying authorization plugin, too. FutureGrantManager selects the roles
  * contains the metalake securable object and filter unnecessary roles. Then, it selects the users
- * and groups by roles. Finally, it apply the information to the authorization plugins.
+ * and groups of all these roles at once. Finally, it apply the roles of every user and group to the
+ * authorization plugins.
+ *
+ * <p>The privileges can be applied in the background if the catalog has many users and groups to
+ * grant, the progress of the grant is available by {@link #getGrantStatus(String, String)}.
  */
-public class FutureGrantManager {
+public class FutureGrantManager implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FutureGrantManager.class);
+  private static final long MAX_TRACKED_GRANTS = 1000L;
+
   EntityStore entityStore;
   OwnerManager ownerManager;
+  private final ExecutorService executor;
+  private final Cache<NameIdentifier, FutureGrantStatus> grantStatuses =
+      CacheBuilder.newBuilder().maximumSize(MAX_TRACKED_GRANTS).build();
 
   public FutureGrantManager(EntityStore entityStore, OwnerManager ownerManager) {
+    this(entityStore, ownerManager, false);
+  }
+
+  public FutureGrantManager(EntityStore entityStore, OwnerManager ownerManager, boolean async) {
     this.entityStore = entityStore;
     this.ownerManager = ownerManager;
+    this.executor =
+        async
+            ? Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("future-grant-%d").build())
+            : null;
   }
 
   public void grantNewlyCreatedCatalog(String metalake, BaseCatalog catalog) {
+    FutureGrantStatus status = new FutureGrantStatus();
+    grantStatuses.put(NameIdentifierUtil.ofCatalog(metalake, catalog.name()), status);
+    if (executor == null) {
+      grant(metalake, catalog, status);
+      return;
+    }
+
+    // The authorization plugin may act on behalf of the user who creates the catalog.
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    executor.submit(
+        () -> {
+          try {
+            return PrincipalUtils.doAs(
+                principal,
+                () -> {
+                  grant(metalake, catalog, status);
+                  return null;
+                });
+          } catch (Exception e) {
+            LOG.warn(
+                "Failed to apply the future grants of metalake {} to catalog {}",
+                metalake,
+                catalog.name(),
+                e);
+            return null;
+          }
+        });
+  }
+
+  /**
+   * Gets the progress of applying the future grants to the newly created catalog.
+   *
+   * @param metalake The metalake of the catalog.
+   * @param catalog The name of the catalog.
+   * @return The status of the grant, or empty if the grant is not tracked anymore.
+   */
+  public Optional<FutureGrantStatus> getGrantStatus(String metalake, String catalog) {
+    return Optional.ofNullable(
+        grantStatuses.getIfPresent(NameIdentifierUtil.ofCatalog(metalake, catalog)));
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private void grant(String metalake, BaseCatalog catalog, FutureGrantStatus status) {
     try {
       MetadataObject metalakeObject =
           MetadataObjects.of(null, metalake, MetadataObject.Type.METALAKE);
@@ -68,8 +148,6 @@ public class FutureGrantManager {
             }
           });
 
-      Map<UserEntity, Set<RoleEntity>> userGrantRoles = Maps.newHashMap();
-      Map<GroupEntity, Set<RoleEntity>> groupGrantRoles = Maps.newHashMap();
       List<RoleEntity> roles =
           entityStore.relationOperations()
               .listEntitiesByRelation(
@@ -78,52 +156,14 @@ public class FutureGrantManager {
                   Entity.EntityType.METALAKE)
               .stream()
               .map(entity -> (RoleEntity) entity)
+              .filter(FutureGrantManager::supportsFutureGrant)
               .collect(Collectors.toList());
 
-      for (RoleEntity role : roles) {
-
-        boolean supportsFutureGrant = false;
-        for (SecurableObject object : role.securableObjects()) {
-          if (AuthorizationUtils.needApplyAuthorizationPluginAllCatalogs(object)) {
-            supportsFutureGrant = true;
-            break;
-          }
-        }
-
-        if (!supportsFutureGrant) {
-          continue;
-        }
-
-        List<UserEntity> users =
-            entityStore.relationOperations()
-                .listEntitiesByRelation(
-                    SupportsRelationOperations.Type.ROLE_USER_REL,
-                    role.nameIdentifier(),
-                    Entity.EntityType.ROLE)
-                .stream()
-                .map(entity -> (UserEntity) entity)
-                .collect(Collectors.toList());
-
-        for (UserEntity user : users) {
-          Set<RoleEntity> roleSet = userGrantRoles.computeIfAbsent(user, k -> Sets.newHashSet());
-          roleSet.add(role);
-        }
-
-        List<GroupEntity> groups =
-            entityStore.relationOperations()
-                .listEntitiesByRelation(
-                    SupportsRelationOperations.Type.ROLE_GROUP_REL,
-                    role.nameIdentifier(),
-                    Entity.EntityType.ROLE)
-                .stream()
-                .map(entity -> (GroupEntity) entity)
-                .collect(Collectors.toList());
-
-        for (GroupEntity group : groups) {
-          Set<RoleEntity> roleSet = groupGrantRoles.computeIfAbsent(group, k -> Sets.newHashSet());
-          roleSet.add(role);
-        }
-      }
+      Map<UserEntity, Set<RoleEntity>> userGrantRoles =
+          principalGrantRoles(SupportsRelationOperations.Type.ROLE_USER_REL, roles);
+      Map<GroupEntity, Set<RoleEntity>> groupGrantRoles =
+          principalGrantRoles(SupportsRelationOperations.Type.ROLE_GROUP_REL, roles);
+      status.start(userGrantRoles.size() + groupGrantRoles.size());
 
       for (Map.Entry<UserEntity, Set<RoleEntity>> entry : userGrantRoles.entrySet()) {
         AuthorizationPlugin authorizationPlugin = catalog.getAuthorizationPlugin();
@@ -131,6 +171,7 @@ public class FutureGrantManager {
           authorizationPlugin.onGrantedRolesToUser(
               Lists.newArrayList(entry.getValue()), entry.getKey());
         }
+        status.incGrantedPrincipals();
       }
 
       for (Map.Entry<GroupEntity, Set<RoleEntity>> entry : groupGrantRoles.entrySet()) {
@@ -140,9 +181,51 @@ public class FutureGrantManager {
           authorizationPlugin.onGrantedRolesToGroup(
               Lists.newArrayList(entry.getValue()), entry.getKey());
         }
+        status.incGrantedPrincipals();
       }
+      status.succeed();
     } catch (IOException e) {
+      status.fail(e);
       throw new RuntimeException(e);
+    } catch (RuntimeException e) {
+      status.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Lists the users or groups of all the roles with one request to the entity store, and inverts
+   * them to the roles of every user or group.
+   */
+  private <E extends Entity & HasIdentifier> Map<E, Set<RoleEntity>> principalGrantRoles(
+      SupportsRelationOperations.Type relType, List<RoleEntity> roles) throws IOException {
+    Map<E, Set<RoleEntity>> grantRoles = Maps.newHashMap();
+    if (roles.isEmpty()) {
+      return grantRoles;
+    }
+
+    Map<NameIdentifier, RoleEntity> rolesByIdent = Maps.newLinkedHashMap();
+    roles.forEach(role -> rolesByIdent.put(role.nameIdentifier(), role));
+    Map<NameIdentifier, List<E>> principalsByRole =
+        entityStore
+            .relationOperations()
+            .batchListEntitiesByRelation(
+                relType, Lists.newArrayList(rolesByIdent.keySet()), Entity.EntityType.ROLE);
+    for (Map.Entry<NameIdentifier, List<E>> entry : principalsByRole.entrySet()) {
+      RoleEntity role = rolesByIdent.get(entry.getKey());
+      for (E principal : entry.getValue()) {
+        grantRoles.computeIfAbsent(principal, k -> Sets.newHashSet()).add(role);
+      }
+    }
+    return grantRoles;
+  }
+
+  private static boolean supportsFutureGrant(RoleEntity role) {
+    for (SecurableObject object : role.securableObjects()) {
+      if (AuthorizationUtils.needApplyAuthorizationPluginAllCatalogs(object)) {
+        return true;
+      }
     }
+    return false;
   }
 }
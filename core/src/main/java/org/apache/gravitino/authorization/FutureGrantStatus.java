@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FutureGrantStatus is the progress of applying the privileges granted on a metalake to the
+ * authorization plugin of a newly created catalog.
+ */
+public class FutureGrantStatus {
+
+  /** The state of the future grant. */
+  public enum State {
+    /** The grant is waiting to be applied. */
+    PENDING,
+    /** The grant is being applied to the authorization plugin. */
+    RUNNING,
+    /** The grant has been applied to all the users and groups. */
+    SUCCEEDED,
+    /** The grant failed, the users and groups granted before the failure keep the privileges. */
+    FAILED
+  }
+
+  private volatile State state = State.PENDING;
+  private volatile int totalPrincipals;
+  private final AtomicInteger grantedPrincipals = new AtomicInteger();
+  private volatile String failure;
+
+  /** @return The state of the future grant. */
+  public State state() {
+    return state;
+  }
+
+  /** @return The number of the users and groups to grant the roles to. */
+  public int totalPrincipals() {
+    return totalPrincipals;
+  }
+
+  /** @return The number of the users and groups whose roles have been granted. */
+  public int grantedPrincipals() {
+    return grantedPrincipals.get();
+  }
+
+  /** @return The failure message if the grant failed, otherwise null. */
+  public String failure() {
+    return failure;
+  }
+
+  void start(int totalPrincipals) {
+    this.totalPrincipals = totalPrincipals;
+    this.state = State.RUNNING;
+  }
+
+  void incGrantedPrincipals() {
+    grantedPrincipals.incrementAndGet();
+  }
+
+  void succeed() {
+    this.state = State.SUCCEEDED;
+  }
+
+  void fail(Throwable cause) {
+    this.failure = cause.getMessage();
+    this.state = State.FAILED;
+  }
+
+  @Override
+  public String toString() {
+    return "FutureGrantStatus{state="
+        + state
+        + ", grantedPrincipals="
+        + grantedPrincipals.get()
+        + ", totalPrincipals="
+        + totalPrincipals
+        + (failure != null ? ", failure=" + failure : "")
+        + "}";
+  }
+}
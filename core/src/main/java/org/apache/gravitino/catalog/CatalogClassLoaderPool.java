@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.utils.IsolatedClassLoader;
+import org.apache.gravitino.utils.ThrowableFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of the isolated classloaders used by catalogs. The catalogs with the same provider, lib
+ * and resource paths and authorization plugin can share one classloader, so that the catalog jars
+ * are loaded and the catalog classes are defined only once no matter how many catalogs of this
+ * provider exist. The shared classloader is reference counted, it is closed when the last catalog
+ * using it is closed.
+ *
+ * <p>The classloaders that must stay isolated, for example, the ones for the catalogs with a custom
+ * package, are also tracked by this pool, so that the classloader metrics of each provider cover
+ * all the catalogs of it.
+ */
+class CatalogClassLoaderPool {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogClassLoaderPool.class);
+
+  private final Map<Key, Entry> sharedEntries = new ConcurrentHashMap<>();
+
+  private final Map<String, Set<Entry>> entriesByProvider = new ConcurrentHashMap<>();
+
+  private final Map<String, CatalogClassLoaderMetricsSource> metricsSources =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Acquires a classloader shared by the catalogs with the same provider, lib and resource paths
+   * and authorization plugin, a new one is built if there is no such classloader.
+   *
+   * @param provider The catalog provider.
+   * @param libAndResourcesPaths The lib and resource paths of the classloader.
+   * @param authorizationProvider The authorization plugin of the catalog, null if not set.
+   * @param loaderSupplier The supplier to build a new classloader.
+   * @return The handle of the shared classloader, closing it releases the reference.
+   */
+  synchronized IsolatedClassLoader acquireShared(
+      String provider,
+      List<String> libAndResourcesPaths,
+      @Nullable String authorizationProvider,
+      Supplier<IsolatedClassLoader> loaderSupplier) {
+    Key key = new Key(provider, libAndResourcesPaths, authorizationProvider);
+    Entry entry = sharedEntries.get(key);
+    if (entry == null) {
+      entry = newEntry(provider, key, loaderSupplier.get());
+      sharedEntries.put(key, entry);
+      LOG.info("Created shared classloader for provider {} with paths {}", provider, key.paths);
+    }
+
+    entry.refCount++;
+    return new PooledClassLoader(entry);
+  }
+
+  /**
+   * Acquires a classloader dedicated to one catalog.
+   *
+   * @param provider The catalog provider.
+   * @param loaderSupplier The supplier to build a new classloader.
+   * @return The handle of the dedicated classloader, closing it closes the classloader.
+   */
+  synchronized IsolatedClassLoader acquireDedicated(
+      String provider, Supplier<IsolatedClassLoader> loaderSupplier) {
+    Entry entry = newEntry(provider, null, loaderSupplier.get());
+    entry.refCount++;
+    return new PooledClassLoader(entry);
+  }
+
+  /**
+   * Unregisters the metrics of the pool. The pooled classloaders are not closed here, they are
+   * closed when the catalogs holding them are closed.
+   */
+  synchronized void close() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSources.values().forEach(metricsSystem::unregister);
+    }
+    metricsSources.clear();
+  }
+
+  @VisibleForTesting
+  int classLoaderCount(String provider) {
+    return entriesByProvider.getOrDefault(provider, Collections.emptySet()).size();
+  }
+
+  @VisibleForTesting
+  long catalogReferences(String provider) {
+    return sum(provider, e -> e.refCount);
+  }
+
+  @VisibleForTesting
+  long definedClasses(String provider) {
+    return sum(provider, e -> e.delegate.definedClassCount());
+  }
+
+  @VisibleForTesting
+  CatalogClassLoaderMetricsSource getMetricsSource(String provider) {
+    return metricsSources.get(provider);
+  }
+
+  private Entry newEntry(String provider, @Nullable Key key, IsolatedClassLoader delegate) {
+    Entry entry = new Entry(provider, key, delegate);
+    entriesByProvider.computeIfAbsent(provider, p -> ConcurrentHashMap.newKeySet()).add(entry);
+    metricsSources.computeIfAbsent(provider, this::registerMetricsSource);
+    return entry;
+  }
+
+  private synchronized void release(Entry entry) {
+    if (--entry.refCount > 0) {
+      return;
+    }
+
+    if (entry.key != null) {
+      sharedEntries.remove(entry.key, entry);
+      LOG.info("Closing shared classloader for provider {}", entry.provider);
+    }
+    Set<Entry> entries = entriesByProvider.get(entry.provider);
+    if (entries != null) {
+      entries.remove(entry);
+    }
+    entry.delegate.close();
+  }
+
+  private long sum(String provider, ToLongFunction<Entry> fn) {
+    return entriesByProvider.getOrDefault(provider, Collections.emptySet()).stream()
+        .mapToLong(fn)
+        .sum();
+  }
+
+  private CatalogClassLoaderMetricsSource registerMetricsSource(String provider) {
+    CatalogClassLoaderMetricsSource metricsSource = new CatalogClassLoaderMetricsSource(provider);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+    return metricsSource;
+  }
+
+  /** Metrics source exposing the classloader count and defined classes of one provider. */
+  @VisibleForTesting
+  class CatalogClassLoaderMetricsSource extends MetricsSource {
+    CatalogClassLoaderMetricsSource(String provider) {
+      super(MetricsSource.CATALOG_CLASSLOADER_METRIC_NAME + "." + provider);
+      registerGauge(MetricNames.CATALOG_CLASSLOADER_COUNT, () -> classLoaderCount(provider));
+      registerGauge(
+          MetricNames.CATALOG_CLASSLOADER_CATALOG_REFERENCES, () -> catalogReferences(provider));
+      registerGauge(
+          MetricNames.CATALOG_CLASSLOADER_DEFINED_CLASSES, () -> definedClasses(provider));
+    }
+  }
+
+  private static class Key {
+    private final String provider;
+    private final List<String> paths;
+    private final String authorizationProvider;
+
+    private Key(String provider, List<String> paths, @Nullable String authorizationProvider) {
+      this.provider = provider;
+      this.paths = ImmutableList.copyOf(paths);
+      this.authorizationProvider = authorizationProvider;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return Objects.equal(provider, that.provider)
+          && Objects.equal(paths, that.paths)
+          && Objects.equal(authorizationProvider, that.authorizationProvider);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(provider, paths, authorizationProvider);
+    }
+  }
+
+  private static class Entry {
+    private final String provider;
+    @Nullable private final Key key;
+    private final IsolatedClassLoader delegate;
+    private volatile int refCount;
+
+    private Entry(String provider, @Nullable Key key, IsolatedClassLoader delegate) {
+      this.provider = provider;
+      this.key = key;
+      this.delegate = delegate;
+    }
+  }
+
+  /**
+   * The handle of a pooled classloader held by one catalog, all the class loading is delegated to
+   * the pooled classloader, closing the handle releases the reference to it only once.
+   */
+  private class PooledClassLoader extends IsolatedClassLoader {
+    private final Entry entry;
+    private boolean closed;
+
+    private PooledClassLoader(Entry entry) {
+      super(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+      this.entry = entry;
+    }
+
+    @Override
+    public <T> T withClassLoader(ThrowableFunction<ClassLoader, T> fn) throws Exception {
+      return entry.delegate.withClassLoader(fn);
+    }
+
+    @Override
+    public long definedClassCount() {
+      return entry.delegate.definedClassCount();
+    }
+
+    @Override
+    public void close() {
+      synchronized (CatalogClassLoaderPool.this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        release(entry);
+      }
+    }
+  }
+}
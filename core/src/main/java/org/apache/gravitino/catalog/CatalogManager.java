@@ -28,9 +28,11 @@ import static org.apache.gravitino.metalake.MetalakeManager.metalakeInUse;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -46,13 +48,21 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -70,6 +80,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
@@ -92,8 +103,10 @@ import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.file.FilesetCatalog;
 import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -111,6 +124,15 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CatalogManager.class);
 
+  // The delay to close a catalog replaced by the refreshing, long enough for the operations which
+  // have already got the old catalog to finish.
+  private static final long RETIRED_CATALOG_CLOSE_DELAY_MS = 60 * 1000L;
+
+  // The catalogs with a property key containing one of the keywords, or a `kerberos` property
+  // value, keep their own classloader even if the shared classloader is enabled.
+  private static final List<String> AUTHENTICATION_PROPERTY_KEYWORDS =
+      ImmutableList.of("authentication", "kerberos", "keytab", "principal", "sasl");
+
   public static void checkCatalogInUse(EntityStore store, NameIdentifier ident)
       throws NoSuchMetalakeException, NoSuchCatalogException, CatalogNotInUseException,
           MetalakeNotInUseException {
@@ -241,6 +263,20 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private final IdGenerator idGenerator;
 
+  private final CatalogClassLoaderPool classLoaderPool = new CatalogClassLoaderPool();
+
+  @VisibleForTesting final CatalogMetricsSource metricsSource = new CatalogMetricsSource();
+
+  private final ScheduledThreadPoolExecutor cacheScheduler;
+
+  private final ExecutorService loaderExecutor;
+
+  private final Set<NameIdentifier> refreshingCatalogs = ConcurrentHashMap.newKeySet();
+
+  private final Set<CatalogWrapper> retiredWrappers = ConcurrentHashMap.newKeySet();
+
+  @Nullable private final ScheduledFuture<?> refreshTask;
+
   /**
    * Constructs a CatalogManager instance.
    *
@@ -253,24 +289,90 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     this.store = store;
     this.idGenerator = idGenerator;
 
-    long cacheEvictionIntervalInMs = config.get(Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS);
+    this.cacheScheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-cleaner-%d").build());
+    int loaderThreads = config.get(Configs.CATALOG_CACHE_LOADER_THREADS);
+    this.loaderExecutor =
+        new ThreadPoolExecutor(
+            loaderThreads,
+            loaderThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-loader-%d").build());
+    ((ThreadPoolExecutor) loaderExecutor).allowCoreThreadTimeOut(true);
+
+    long refreshAheadIntervalMs = config.get(Configs.CATALOG_CACHE_REFRESH_AHEAD_INTERVAL_MS);
+    Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
+    if (refreshAheadIntervalMs == 0) {
+      long cacheEvictionIntervalInMs = config.get(Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS);
+      cacheBuilder.expireAfterAccess(cacheEvictionIntervalInMs, TimeUnit.MILLISECONDS);
+    }
     this.catalogCache =
-        Caffeine.newBuilder()
-            .expireAfterAccess(cacheEvictionIntervalInMs, TimeUnit.MILLISECONDS)
+        cacheBuilder
             .removalListener(
                 (k, v, c) -> {
+                  if (c == RemovalCause.REPLACED) {
+                    retireCatalog((NameIdentifier) k, (CatalogWrapper) v);
+                    return;
+                  }
                   LOG.info("Closing catalog {}.", k);
                   ((CatalogWrapper) v).close();
                 })
-            .scheduler(
-                Scheduler.forScheduledExecutorService(
-                    new ScheduledThreadPoolExecutor(
-                        1,
-                        new ThreadFactoryBuilder()
-                            .setDaemon(true)
-                            .setNameFormat("catalog-cleaner-%d")
-                            .build())))
+            .scheduler(Scheduler.forScheduledExecutorService(cacheScheduler))
             .build();
+
+    this.refreshTask =
+        refreshAheadIntervalMs > 0
+            ? cacheScheduler.scheduleWithFixedDelay(
+                this::refreshCatalogs,
+                refreshAheadIntervalMs,
+                refreshAheadIntervalMs,
+                TimeUnit.MILLISECONDS)
+            : null;
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Initializes all the in-use catalogs of the in-use metalakes in the background if the catalog
+   * warm-up is enabled, so that the first access to a catalog doesn't pay for its initialization.
+   */
+  public void warmUpCatalogs() {
+    if (!config.get(Configs.CATALOG_CACHE_WARMUP_ENABLED)) {
+      return;
+    }
+
+    CompletableFuture.supplyAsync(this::listInUseCatalogs, loaderExecutor)
+        .thenCompose(
+            idents -> {
+              LOG.info("Warming up {} catalogs", idents.size());
+              long start = System.currentTimeMillis();
+              CompletableFuture<?>[] futures =
+                  idents.stream()
+                      .map(
+                          ident ->
+                              CompletableFuture.runAsync(
+                                  () -> warmUpCatalog(ident), loaderExecutor))
+                      .toArray(CompletableFuture[]::new);
+              return CompletableFuture.allOf(futures)
+                  .thenRun(
+                      () ->
+                          LOG.info(
+                              "Warmed up {} catalogs in {} ms",
+                              idents.size(),
+                              System.currentTimeMillis() - start));
+            })
+        .exceptionally(
+            e -> {
+              LOG.warn("Failed to warm up catalogs", e);
+              return null;
+            });
   }
 
   /**
@@ -279,7 +381,23 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    */
   @Override
   public void close() {
+    if (refreshTask != null) {
+      refreshTask.cancel(false);
+    }
+    loaderExecutor.shutdownNow();
+
     catalogCache.invalidateAll();
+    retiredWrappers.removeIf(
+        wrapper -> {
+          wrapper.close();
+          return true;
+        });
+    classLoaderPool.close();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   /**
@@ -658,6 +776,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       }
 
       catalogCache.invalidate(ident);
+      metricsSource.remove(ident);
       return store.delete(ident, EntityType.CATALOG, true);
 
     } catch (NoSuchMetalakeException | NoSuchCatalogException ignored) {
@@ -751,6 +870,95 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     return Pair.of(upserts, deletes);
   }
 
+  private List<NameIdentifier> listInUseCatalogs() {
+    List<NameIdentifier> idents = Lists.newArrayList();
+    try {
+      for (BaseMetalake metalake :
+          store.list(Namespace.empty(), BaseMetalake.class, EntityType.METALAKE)) {
+        if (!metalakeInUse(store, NameIdentifier.of(metalake.name()))) {
+          continue;
+        }
+
+        for (CatalogEntity catalog :
+            store.list(Namespace.of(metalake.name()), CatalogEntity.class, EntityType.CATALOG)) {
+          if ((boolean)
+              BASIC_CATALOG_PROPERTIES_METADATA.getOrDefault(
+                  catalog.getProperties(), PROPERTY_IN_USE)) {
+            idents.add(catalog.nameIdentifier());
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return idents;
+  }
+
+  private void warmUpCatalog(NameIdentifier ident) {
+    try {
+      loadCatalogAndWrap(ident);
+    } catch (Exception e) {
+      LOG.warn("Failed to warm up catalog {}", ident, e);
+    }
+  }
+
+  /**
+   * Rebuilds all the cached catalogs in the background. A rebuilt catalog replaces the cached one
+   * only if the cached one is not invalidated or replaced during the rebuilding, otherwise the
+   * rebuilt one is discarded.
+   */
+  private void refreshCatalogs() {
+    for (Map.Entry<NameIdentifier, CatalogWrapper> entry : catalogCache.asMap().entrySet()) {
+      NameIdentifier ident = entry.getKey();
+      CatalogWrapper oldWrapper = entry.getValue();
+      if (!refreshingCatalogs.add(ident)) {
+        continue;
+      }
+
+      try {
+        loaderExecutor.execute(
+            () -> {
+              try {
+                CatalogWrapper newWrapper = loadCatalogInternal(ident);
+                if (!catalogCache.asMap().replace(ident, oldWrapper, newWrapper)) {
+                  newWrapper.close();
+                }
+              } catch (Exception e) {
+                LOG.warn("Failed to refresh catalog {}", ident, e);
+              } finally {
+                refreshingCatalogs.remove(ident);
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        refreshingCatalogs.remove(ident);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Closes the catalog replaced by the refreshing after a grace period, so that the in-flight
+   * operations on it can finish.
+   */
+  private void retireCatalog(NameIdentifier ident, CatalogWrapper wrapper) {
+    retiredWrappers.add(wrapper);
+    try {
+      cacheScheduler.schedule(
+          () -> {
+            if (retiredWrappers.remove(wrapper)) {
+              LOG.info("Closing refreshed catalog {}.", ident);
+              wrapper.close();
+            }
+          },
+          RETIRED_CATALOG_CLOSE_DELAY_MS,
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      if (retiredWrappers.remove(wrapper)) {
+        wrapper.close();
+      }
+    }
+  }
+
   private CatalogWrapper loadCatalogInternal(NameIdentifier ident) throws NoSuchCatalogException {
     try {
       CatalogEntity entity = store.get(ident, EntityType.CATALOG, CatalogEntity.class);
@@ -778,6 +986,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       CatalogEntity entity, @Nullable Map<String, String> propsToValidate) {
     Map<String, String> conf = entity.getProperties();
     String provider = entity.getProvider();
+    long start = System.nanoTime();
 
     IsolatedClassLoader classLoader = createClassLoader(provider, conf);
     BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
@@ -799,6 +1008,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
         },
         IllegalArgumentException.class);
 
+    metricsSource.updateInitDuration(entity.nameIdentifier(), System.nanoTime() - start);
     return wrapper;
   }
 
@@ -849,7 +1059,16 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       String catalogConfPath = buildConfPath(conf, provider);
       ArrayList<String> libAndResourcesPaths = Lists.newArrayList(catalogPkgPath, catalogConfPath);
       buildAuthorizationPkgPath(conf).ifPresent(libAndResourcesPaths::add);
-      return IsolatedClassLoader.buildClassLoader(libAndResourcesPaths);
+      if (!useSharedClassLoader(config, provider, conf)) {
+        return classLoaderPool.acquireDedicated(
+            provider, () -> IsolatedClassLoader.buildClassLoader(libAndResourcesPaths));
+      }
+
+      return classLoaderPool.acquireShared(
+          provider,
+          libAndResourcesPaths,
+          conf.get(Catalog.AUTHORIZATION_PROVIDER),
+          () -> IsolatedClassLoader.buildClassLoader(libAndResourcesPaths));
     } else {
       // This will use the current class loader, it is mainly used for test.
       return new IsolatedClassLoader(
@@ -857,6 +1076,34 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
   }
 
+  /**
+   * Whether the catalog can share the isolated classloader with the other catalogs of the same
+   * provider. The catalogs with a custom package always use their own classloader, as the classes
+   * in the package are not guaranteed to be the same as the ones in the shared classloader. The
+   * catalogs with authentication properties also use their own classloader, as the Kerberos login
+   * of Hadoop's UserGroupInformation and the Hive and FileSystem caches are static in the
+   * classloader, and catalogs with different principals would overwrite each other's login. A
+   * catalog can also opt out with the `classloader.shared` property.
+   */
+  @VisibleForTesting
+  static boolean useSharedClassLoader(Config config, String provider, Map<String, String> conf) {
+    return config.get(Configs.CATALOG_CLASSLOADER_SHARED_ENABLED)
+        && !config.get(Configs.CATALOG_CLASSLOADER_SHARED_EXCLUDED_PROVIDERS).contains(provider)
+        && conf.get(Catalog.PROPERTY_PACKAGE) == null
+        && !"false".equalsIgnoreCase(conf.get(BaseCatalog.CATALOG_CLASSLOADER_SHARED))
+        && !hasAuthenticationProperties(conf);
+  }
+
+  private static boolean hasAuthenticationProperties(Map<String, String> conf) {
+    return conf.entrySet().stream()
+        .anyMatch(
+            entry -> {
+              String key = entry.getKey().toLowerCase(Locale.ROOT);
+              return AUTHENTICATION_PROPERTY_KEYWORDS.stream().anyMatch(key::contains)
+                  || "kerberos".equalsIgnoreCase(entry.getValue());
+            });
+  }
+
   private BaseCatalog<?> createCatalogInstance(IsolatedClassLoader classLoader, String provider) {
     BaseCatalog<?> catalog;
     try {
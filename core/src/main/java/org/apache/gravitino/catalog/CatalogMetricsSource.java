@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Metrics source exposing the initialization time of each catalog. */
+class CatalogMetricsSource extends MetricsSource {
+
+  CatalogMetricsSource() {
+    super(MetricsSource.CATALOG_METRIC_NAME);
+  }
+
+  void updateInitDuration(NameIdentifier ident, long durationNanos) {
+    getTimer(initDurationName(ident)).update(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  Timer getInitDuration(NameIdentifier ident) {
+    return getMetricRegistry().getTimers().get(initDurationName(ident));
+  }
+
+  void remove(NameIdentifier ident) {
+    getMetricRegistry().remove(initDurationName(ident));
+  }
+
+  private static String initDurationName(NameIdentifier ident) {
+    return ident.namespace().level(0)
+        + "."
+        + ident.name()
+        + "."
+        + MetricNames.CATALOG_INIT_DURATION;
+  }
+}
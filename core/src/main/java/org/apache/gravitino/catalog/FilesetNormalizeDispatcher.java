@@ -101,6 +101,11 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return dispatcher.getFileLocation(normalizeCaseSensitive(ident), subPath);
   }
 
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths) {
+    return dispatcher.getFileLocations(normalizeCaseSensitive(ident), subPaths);
+  }
+
   private NameIdentifier normalizeNameIdentifier(NameIdentifier ident) {
     Capability capabilities = getCapability(ident, catalogManager);
     return applyCapabilities(ident, Capability.Scope.FILESET, capabilities);
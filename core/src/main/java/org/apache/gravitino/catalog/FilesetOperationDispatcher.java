@@ -213,4 +213,22 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
         c -> c.doWithFilesetOps(f -> f.getFileLocation(ident, subPath)),
         NonEmptyEntityException.class);
   }
+
+  /**
+   * Get the actual locations of many files or directories of a fileset with one call to the
+   * catalog.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @return The actual locations of the files or directories, in the order of the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths)
+      throws NoSuchFilesetException {
+    return doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> c.doWithFilesetOps(f -> f.getFileLocations(ident, subPaths)),
+        NonEmptyEntityException.class);
+  }
 }
@@ -19,6 +19,7 @@
 package org.apache.gravitino.catalog;
 
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.SupportsPartitions;
@@ -39,6 +40,16 @@ public interface PartitionDispatcher {
    */
   String[] listPartitionNames(NameIdentifier tableIdent);
 
+  /**
+   * List a page of the partition names in the table.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the partition names of the page.
+   * @return A page of the partition names in the table.
+   */
+  Page<String> listPartitionNames(NameIdentifier tableIdent, String pageToken, int limit);
+
   /**
    * List all partitions in the table.
    *
@@ -47,6 +58,36 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List a page of the partitions in the table.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the partitions of the page.
+   * @return A page of the partitions in the table.
+   */
+  Page<Partition> listPartitions(NameIdentifier tableIdent, String pageToken, int limit);
+
+  /**
+   * List the names of the partitions matching the filter in the table.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The partial partition spec in the format of "field1=value1/field2=value2".
+   * @return The names of the matched partitions.
+   * @see SupportsPartitions#listPartitionNamesByFilter(String)
+   */
+  String[] listPartitionNamesByFilter(NameIdentifier tableIdent, String filter);
+
+  /**
+   * List the partitions matching the filter in the table.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The partial partition spec in the format of "field1=value1/field2=value2".
+   * @return The matched partitions.
+   * @see SupportsPartitions#listPartitionsByFilter(String)
+   */
+  Partition[] listPartitionsByFilter(NameIdentifier tableIdent, String filter);
+
   /**
    * Get a partition by name from the table.
    *
@@ -24,6 +24,7 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
 import java.util.Arrays;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -52,6 +53,22 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
         .toArray(String[]::new);
   }
 
+  @Override
+  public Page<String> listPartitionNames(NameIdentifier tableIdent, String pageToken, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Page<String> page =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities), pageToken, limit);
+    String[] partitionNames =
+        Arrays.stream(page.items())
+            .map(
+                partitionName ->
+                    applyCaseSensitiveOnName(
+                        Capability.Scope.PARTITION, partitionName, capabilities))
+            .toArray(String[]::new);
+    return new Page<>(partitionNames, page.nextPageToken());
+  }
+
   @Override
   public Partition[] listPartitions(NameIdentifier tableIdent) {
     Capability capabilities = getCapability(tableIdent, catalogManager);
@@ -61,6 +78,41 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public Page<Partition> listPartitions(NameIdentifier tableIdent, String pageToken, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Page<Partition> page =
+        dispatcher.listPartitions(
+            CapabilityHelpers.applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            pageToken,
+            limit);
+    return new Page<>(applyCaseSensitive(page.items(), capabilities), page.nextPageToken());
+  }
+
+  @Override
+  public String[] listPartitionNamesByFilter(NameIdentifier tableIdent, String filter) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    String[] partitionNames =
+        dispatcher.listPartitionNamesByFilter(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            applyCaseSensitiveOnName(Capability.Scope.PARTITION, filter, capabilities));
+    return Arrays.stream(partitionNames)
+        .map(
+            partitionName ->
+                applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Partition[] listPartitionsByFilter(NameIdentifier tableIdent, String filter) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Partition[] partitions =
+        dispatcher.listPartitionsByFilter(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            applyCaseSensitiveOnName(Capability.Scope.PARTITION, filter, capabilities));
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -20,6 +20,7 @@ package org.apache.gravitino.catalog;
 
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -48,11 +49,35 @@ public class PartitionOperationDispatcher extends OperationDispatcher
         tableIdent, SupportsPartitions::listPartitionNames, NoSuchTableException.class);
   }
 
+  @Override
+  public Page<String> listPartitionNames(NameIdentifier tableIdent, String pageToken, int limit) {
+    return doWithTable(
+        tableIdent, p -> p.listPartitionNames(pageToken, limit), NoSuchTableException.class);
+  }
+
   @Override
   public Partition[] listPartitions(NameIdentifier tableIdent) {
     return doWithTable(tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class);
   }
 
+  @Override
+  public Page<Partition> listPartitions(NameIdentifier tableIdent, String pageToken, int limit) {
+    return doWithTable(
+        tableIdent, p -> p.listPartitions(pageToken, limit), NoSuchTableException.class);
+  }
+
+  @Override
+  public String[] listPartitionNamesByFilter(NameIdentifier tableIdent, String filter) {
+    return doWithTable(
+        tableIdent, p -> p.listPartitionNamesByFilter(filter), NoSuchTableException.class);
+  }
+
+  @Override
+  public Partition[] listPartitionsByFilter(NameIdentifier tableIdent, String filter) {
+    return doWithTable(
+        tableIdent, p -> p.listPartitionsByFilter(filter), NoSuchTableException.class);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
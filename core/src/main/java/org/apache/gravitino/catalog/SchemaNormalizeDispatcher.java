@@ -26,6 +26,7 @@ import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.connector.capability.Capability;
@@ -51,6 +52,13 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int limit)
+      throws NoSuchCatalogException {
+    Page<NameIdentifier> page = dispatcher.listSchemas(namespace, pageToken, limit);
+    return new Page<>(normalizeCaseSensitive(page.items()), page.nextPageToken());
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
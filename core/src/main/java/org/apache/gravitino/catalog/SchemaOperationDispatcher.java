@@ -27,6 +27,7 @@ import java.util.Map;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
@@ -78,6 +79,24 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         NoSuchCatalogException.class);
   }
 
+  /**
+   * Lists a page of the schemas within a catalog.
+   *
+   * @param namespace The namespace of the catalog.
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the schemas of the page.
+   * @return A page of the schema identifiers.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int limit)
+      throws NoSuchCatalogException {
+    return doWithCatalog(
+        getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        c -> c.doWithSchemaOps(s -> s.listSchemas(namespace, pageToken, limit)),
+        NoSuchCatalogException.class);
+  }
+
   /**
    * Creates a new schema.
    *
@@ -22,16 +22,21 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
+import com.google.common.collect.Lists;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
@@ -56,6 +61,14 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    Page<NameIdentifier> page = dispatcher.listTables(caseSensitiveNs, pageToken, limit);
+    return new Page<>(normalizeCaseSensitive(page.items()), page.nextPageToken());
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -106,6 +119,38 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.purgeTable(normalizeNameIdentifier(ident));
   }
 
+  @Override
+  public TableBatchResult[] batchOperateTables(TableBatchOperation... operations)
+      throws IllegalArgumentException {
+    TableBatchOperation.checkSameNamespace(operations);
+    TableBatchResult[] results = new TableBatchResult[operations.length];
+    if (operations.length == 0) {
+      return results;
+    }
+
+    // All the operations are on the same catalog, so the capability is fetched only once.
+    Capability capability = getCapability(operations[0].identifier(), catalogManager);
+    List<Integer> positions = Lists.newArrayListWithCapacity(operations.length);
+    List<TableBatchOperation> normalizedOperations =
+        Lists.newArrayListWithCapacity(operations.length);
+    for (int i = 0; i < operations.length; i++) {
+      try {
+        normalizedOperations.add(normalizeOperation(operations[i], capability));
+        positions.add(i);
+      } catch (RuntimeException e) {
+        results[i] =
+            TableBatchResult.ofFailure(operations[i].type(), operations[i].identifier(), e);
+      }
+    }
+
+    TableBatchResult[] dispatchedResults =
+        dispatcher.batchOperateTables(normalizedOperations.toArray(new TableBatchOperation[0]));
+    for (int i = 0; i < dispatchedResults.length; i++) {
+      results[positions.get(i)] = dispatchedResults[i];
+    }
+    return results;
+  }
+
   @Override
   public boolean tableExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -113,6 +158,35 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.tableExists(normalizeCaseSensitive(ident));
   }
 
+  private TableBatchOperation normalizeOperation(
+      TableBatchOperation operation, Capability capability) {
+    NameIdentifier ident = operation.identifier();
+    switch (operation.type()) {
+      case CREATE:
+        return TableBatchOperation.create(
+            applyCapabilities(ident, Capability.Scope.TABLE, capability),
+            applyCapabilities(operation.columns(), capability),
+            operation.comment(),
+            operation.properties(),
+            applyCapabilities(operation.partitioning(), capability),
+            applyCapabilities(operation.distribution(), capability),
+            applyCapabilities(operation.sortOrders(), capability),
+            applyCapabilities(operation.indexes(), capability));
+      case ALTER:
+        return TableBatchOperation.alter(
+            applyCaseSensitive(ident, Capability.Scope.TABLE, capability),
+            applyCapabilities(capability, operation.changes()));
+      case DROP:
+        return TableBatchOperation.drop(
+            applyCapabilities(ident, Capability.Scope.TABLE, capability));
+      case PURGE:
+        return TableBatchOperation.purge(
+            applyCapabilities(ident, Capability.Scope.TABLE, capability));
+      default:
+        throw new IllegalArgumentException("Unknown operation type: " + operation.type());
+    }
+  }
+
   private Namespace normalizeCaseSensitive(Namespace namespace) {
     Capability capabilities = getCapability(NameIdentifier.of(namespace.levels()), catalogManager);
     return applyCaseSensitive(namespace, Capability.Scope.TABLE, capabilities);
@@ -39,6 +39,7 @@ import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.capability.Capability;
@@ -53,6 +54,8 @@ import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.distributions.Distributions;
@@ -97,6 +100,24 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         NoSuchSchemaException.class);
   }
 
+  /**
+   * Lists a page of the tables within a schema.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the tables of the page.
+   * @return A page of the table identifiers.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    return doWithCatalog(
+        getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        c -> c.doWithTableOps(t -> t.listTables(namespace, pageToken, limit)),
+        NoSuchSchemaException.class);
+  }
+
   /**
    * Loads a table.
    *
@@ -346,6 +367,81 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         : droppedFromCatalog;
   }
 
+  /**
+   * Applies a batch of operations on the tables of one schema. The schema is loaded and locked once
+   * for the whole batch, and the entities of the created tables are stored together instead of one
+   * transaction per table. A failed operation doesn't stop the following ones.
+   *
+   * @param operations The operations to apply, all on the tables of the same schema.
+   * @return The results of the operations, in the order of the operations.
+   * @throws IllegalArgumentException If the operations are on the tables of different schemas.
+   */
+  @Override
+  public TableBatchResult[] batchOperateTables(TableBatchOperation... operations)
+      throws IllegalArgumentException {
+    Namespace namespace = TableBatchOperation.checkSameNamespace(operations);
+    if (operations.length == 0) {
+      return new TableBatchResult[0];
+    }
+
+    // Load the schema to make sure the schema exists.
+    SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    schemaDispatcher.loadSchema(schemaIdent);
+
+    return TreeLockUtils.doWithTreeLock(
+        schemaIdent, LockType.WRITE, () -> internalBatchOperateTables(operations));
+  }
+
+  private TableBatchResult[] internalBatchOperateTables(TableBatchOperation[] operations) {
+    TableBatchResult[] results = new TableBatchResult[operations.length];
+    List<Pair<Integer, Pair<Table, TableEntity>>> pendingCreates = Lists.newArrayList();
+    for (int i = 0; i < operations.length; i++) {
+      TableBatchOperation operation = operations[i];
+      NameIdentifier ident = operation.identifier();
+      try {
+        switch (operation.type()) {
+          case CREATE:
+            pendingCreates.add(
+                Pair.of(
+                    i,
+                    createTableInCatalog(
+                        ident,
+                        operation.columns(),
+                        operation.comment(),
+                        operation.properties(),
+                        operation.partitioning(),
+                        operation.distribution(),
+                        operation.sortOrders(),
+                        operation.indexes())));
+            break;
+          case ALTER:
+            // The later operations may refer to the tables created before them in the batch.
+            flushCreatedTables(pendingCreates, results);
+            results[i] =
+                TableBatchResult.ofTable(
+                    operation.type(), ident, alterTable(ident, operation.changes()));
+            break;
+          case DROP:
+            flushCreatedTables(pendingCreates, results);
+            results[i] = TableBatchResult.ofDropped(operation.type(), ident, dropTable(ident));
+            break;
+          case PURGE:
+            flushCreatedTables(pendingCreates, results);
+            results[i] = TableBatchResult.ofDropped(operation.type(), ident, purgeTable(ident));
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown operation type: " + operation.type());
+        }
+      } catch (RuntimeException e) {
+        results[i] = TableBatchResult.ofFailure(operation.type(), ident, e);
+      }
+    }
+
+    flushCreatedTables(pendingCreates, results);
+    return results;
+  }
+
   private EntityCombinedTable importTable(NameIdentifier identifier) {
     EntityCombinedTable table = internalLoadTable(identifier);
 
@@ -456,6 +552,31 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       Distribution distribution,
       SortOrder[] sortOrders,
       Index[] indexes) {
+    Pair<Table, TableEntity> created =
+        createTableInCatalog(
+            ident, columns, comment, properties, partitions, distribution, sortOrders, indexes);
+    Table table = created.getLeft();
+    TableEntity tableEntity = created.getRight();
+
+    try {
+      store.put(tableEntity, true /* overwrite */);
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", ident, e);
+      return toCreatedTable(ident, table, null);
+    }
+
+    return toCreatedTable(ident, table, tableEntity);
+  }
+
+  private Pair<Table, TableEntity> createTableInCatalog(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitions,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes) {
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     doWithCatalog(
         catalogIdent,
@@ -513,20 +634,64 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             .withAuditInfo(audit)
             .build();
 
+    return Pair.of(table, tableEntity);
+  }
+
+  private Table toCreatedTable(NameIdentifier ident, Table table, TableEntity tableEntity) {
+    EntityCombinedTable combinedTable =
+        tableEntity == null
+            ? EntityCombinedTable.of(table)
+            : EntityCombinedTable.of(table, tableEntity);
+    return combinedTable.withHiddenPropertiesSet(
+        getHiddenPropertyNames(
+            getCatalogIdentifier(ident),
+            HasPropertyMetadata::tablePropertiesMetadata,
+            table.properties()));
+  }
+
+  /**
+   * Stores the entities of the tables created by a batch, and fills in the results of the create
+   * operations. The entities are stored with one batched write, if it fails (e.g. a stale entity
+   * with the same name is left in the store) they are stored one by one with overwrite, which is
+   * how a single table creation stores its entity.
+   */
+  private void flushCreatedTables(
+      List<Pair<Integer, Pair<Table, TableEntity>>> pendingCreates, TableBatchResult[] results) {
+    if (pendingCreates.isEmpty()) {
+      return;
+    }
+
+    List<TableEntity> entities =
+        pendingCreates.stream().map(p -> p.getRight().getRight()).collect(Collectors.toList());
+    boolean batchStored = true;
     try {
-      store.put(tableEntity, true /* overwrite */);
+      store.batchPut(entities, false /* overwrite */);
     } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", ident, e);
-      return EntityCombinedTable.of(table)
-          .withHiddenPropertiesSet(
-              getHiddenPropertyNames(
-                  catalogIdent, HasPropertyMetadata::tablePropertiesMetadata, table.properties()));
+      LOG.warn(
+          "Failed to store {} table entities in a batch, storing them one by one",
+          entities.size(),
+          e);
+      batchStored = false;
     }
 
-    return EntityCombinedTable.of(table, tableEntity)
-        .withHiddenPropertiesSet(
-            getHiddenPropertyNames(
-                catalogIdent, HasPropertyMetadata::tablePropertiesMetadata, table.properties()));
+    for (Pair<Integer, Pair<Table, TableEntity>> pendingCreate : pendingCreates) {
+      Table table = pendingCreate.getRight().getLeft();
+      TableEntity tableEntity = pendingCreate.getRight().getRight();
+      NameIdentifier ident = tableEntity.nameIdentifier();
+      if (!batchStored) {
+        try {
+          store.put(tableEntity, true /* overwrite */);
+        } catch (Exception e) {
+          LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", ident, e);
+          tableEntity = null;
+        }
+      }
+
+      results[pendingCreate.getLeft()] =
+          TableBatchResult.ofTable(
+              TableBatchOperation.Type.CREATE, ident, toCreatedTable(ident, table, tableEntity));
+    }
+    pendingCreates.clear();
   }
 
   private List<ColumnEntity> toColumnEntities(Column[] columns, AuditInfo audit) {
@@ -37,6 +37,16 @@ public class AuthorizationPropertiesMeta {
   public static final String RANGER_PASSWORD = "authorization.ranger.password";
   /** Ranger service name */
   public static final String RANGER_SERVICE_NAME = "authorization.ranger.service.name";
+  /** The number of Ranger policies synchronized in parallel when a role changes */
+  public static final String RANGER_POLICY_SYNC_PARALLELISM =
+      "authorization.ranger.policy-sync.parallelism";
+
+  public static final int DEFAULT_RANGER_POLICY_SYNC_PARALLELISM = 8;
+  /** The time to live of the cached Ranger user and group ids in milliseconds */
+  public static final String RANGER_PRINCIPAL_CACHE_TTL_MS =
+      "authorization.ranger.principal-cache.ttl-ms";
+
+  public static final long DEFAULT_RANGER_PRINCIPAL_CACHE_TTL_MS = 60_000L;
 
   public static final Map<String, PropertyEntry<?>> RANGER_AUTHORIZATION_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
@@ -64,5 +74,21 @@ public class AuthorizationPropertiesMeta {
               RANGER_PASSWORD,
               PropertyEntry.stringOptionalPropertyEntry(
                   RANGER_PASSWORD, "The Ranger admin web login password", true, null, false))
+          .put(
+              RANGER_POLICY_SYNC_PARALLELISM,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  RANGER_POLICY_SYNC_PARALLELISM,
+                  "The number of Ranger policies synchronized in parallel when a role changes",
+                  false,
+                  DEFAULT_RANGER_POLICY_SYNC_PARALLELISM,
+                  false))
+          .put(
+              RANGER_PRINCIPAL_CACHE_TTL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  RANGER_PRINCIPAL_CACHE_TTL_MS,
+                  "The time to live of the cached Ranger user and group ids in milliseconds",
+                  false,
+                  DEFAULT_RANGER_PRINCIPAL_CACHE_TTL_MS,
+                  false))
           .build();
 }
@@ -65,6 +65,11 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // This variable is used as a key in properties of catalogs to opt out of sharing the isolated
+  // classloader with the other catalogs of the same provider, see
+  // `gravitino.catalog.classloader.shared.enabled`.
+  public static final String CATALOG_CLASSLOADER_SHARED = "classloader.shared";
+
   // Underlying access control system plugin for this catalog.
   private volatile BaseAuthorization<?> authorization;
 
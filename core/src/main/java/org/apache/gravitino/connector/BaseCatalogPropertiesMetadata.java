@@ -62,6 +62,15 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   null,
                   false,
                   false),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.CATALOG_CLASSLOADER_SHARED,
+                  "Whether the catalog can share the isolated classloader with the other catalogs "
+                      + "of the same provider",
+                  false /* required */,
+                  true /* immutable */,
+                  true /* default value */,
+                  false /* hidden */,
+                  false /* reserved */),
               PropertyEntry.stringImmutablePropertyEntry(
                   Catalog.AUTHORIZATION_PROVIDER,
                   "The name of the authorization provider for Gravitino",
@@ -23,6 +23,7 @@ package org.apache.gravitino.connector;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.annotation.Evolving;
@@ -51,6 +52,22 @@ public interface SupportsSchemas {
    */
   NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException;
 
+  /**
+   * List a page of the schemas under a namespace, the schemas are sorted by their names. The
+   * catalogs which can page the schemas natively should override this method, the default
+   * implementation lists all the schemas and slices the page out of them.
+   *
+   * @param namespace The namespace to list.
+   * @param pageToken The token returned by the previous page, null for the first page.
+   * @param limit The maximum number of the schemas of the page.
+   * @return A page of the schema identifiers under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int limit)
+      throws NoSuchCatalogException {
+    return Page.of(listSchemas(namespace), NameIdentifier::name, pageToken, limit);
+  }
+
   /**
    * Check if a schema exists.
    *
@@ -0,0 +1,277 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.credential;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.apache.gravitino.credential.config.CredentialCacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CachedCredentialProvider caches the credentials issued by a credential provider of a catalog by
+ * the user and the read and write paths of the credential context, so that loading the same table
+ * repeatedly doesn't call the token service every time.
+ *
+ * <p>A cached credential is served until {@code credential-cache-expire-ratio} of its lifetime has
+ * elapsed, the clients always get a credential with enough lifetime left. Once {@code
+ * credential-cache-refresh-ratio} of its lifetime has elapsed, the first access triggers an
+ * asynchronous refresh, and the credential is served from the cache until the refresh completes.
+ * The concurrent misses of the same key are deduplicated, only one of them calls the provider.
+ */
+class CachedCredentialProvider implements CredentialProvider {
+  private static final Logger LOG = LoggerFactory.getLogger(CachedCredentialProvider.class);
+
+  private final String catalogName;
+  private final CredentialProvider credentialProvider;
+  private final double expireRatio;
+  private final double refreshRatio;
+  private final Executor refreshExecutor;
+  @Nullable private final CredentialCacheMetricsSource metricsSource;
+  private final Cache<CredentialCacheKey, CachedCredential> credentialCache;
+  private final Set<CredentialCacheKey> refreshingKeys = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed = false;
+
+  CachedCredentialProvider(
+      String catalogName,
+      CredentialProvider credentialProvider,
+      CredentialCacheConfig cacheConfig,
+      Executor refreshExecutor,
+      @Nullable CredentialCacheMetricsSource metricsSource) {
+    this.catalogName = catalogName;
+    this.credentialProvider = credentialProvider;
+    this.expireRatio = cacheConfig.expireRatio();
+    this.refreshRatio = cacheConfig.refreshRatio();
+    this.refreshExecutor = refreshExecutor;
+    this.metricsSource = metricsSource;
+    this.credentialCache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheConfig.maxSize())
+            .expireAfter(new CredentialExpiry())
+            .build();
+  }
+
+  @Override
+  public void initialize(Map<String, String> properties) {
+    credentialProvider.initialize(properties);
+  }
+
+  @Override
+  public String credentialType() {
+    return credentialProvider.credentialType();
+  }
+
+  @Nullable
+  @Override
+  public Credential getCredential(CredentialContext context) {
+    CredentialCacheKey key = CredentialCacheKey.of(context);
+    if (key == null) {
+      return issueCredential(context).credential;
+    }
+
+    CachedCredential cached = credentialCache.getIfPresent(key);
+    if (cached != null && System.currentTimeMillis() < cached.expireAtMs) {
+      if (metricsSource != null) {
+        metricsSource.incCachedCredentials(catalogName);
+      }
+      if (System.currentTimeMillis() >= cached.refreshAtMs) {
+        refreshCredential(key, context);
+      }
+      return cached.credential;
+    }
+
+    // Caffeine computes the value of a key at most once at a time, the concurrent misses of the
+    // same key wait for the one in progress instead of calling the provider again.
+    CachedCredential issued =
+        credentialCache.get(
+            key,
+            k -> {
+              CachedCredential credential = issueCredential(context);
+              return credential.credential == null ? null : credential;
+            });
+    return issued == null ? null : issued.credential;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    credentialCache.invalidateAll();
+    if (metricsSource != null) {
+      metricsSource.remove(catalogName);
+    }
+    credentialProvider.close();
+  }
+
+  @VisibleForTesting
+  CredentialProvider credentialProvider() {
+    return credentialProvider;
+  }
+
+  private void refreshCredential(CredentialCacheKey key, CredentialContext context) {
+    if (!refreshingKeys.add(key)) {
+      return;
+    }
+
+    try {
+      refreshExecutor.execute(
+          () -> {
+            try {
+              CachedCredential refreshed = issueCredential(context);
+              if (refreshed.credential != null && !closed) {
+                credentialCache.put(key, refreshed);
+                if (metricsSource != null) {
+                  metricsSource.incRefreshedCredentials(catalogName);
+                }
+              }
+            } catch (Exception e) {
+              // The cached credential is still served until it expires.
+              LOG.warn("Failed to refresh the credential of catalog: {}", catalogName, e);
+              if (metricsSource != null) {
+                metricsSource.incRefreshFailures(catalogName);
+              }
+            } finally {
+              refreshingKeys.remove(key);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      refreshingKeys.remove(key);
+      LOG.warn("Failed to schedule the credential refresh of catalog: {}", catalogName, e);
+    }
+  }
+
+  private CachedCredential issueCredential(CredentialContext context) {
+    Credential credential = credentialProvider.getCredential(context);
+    long now = System.currentTimeMillis();
+    if (credential == null) {
+      return new CachedCredential(null, now, now);
+    }
+
+    if (metricsSource != null) {
+      metricsSource.incIssuedCredentials(catalogName);
+    }
+    // The credentials like the static secret keys don't expire.
+    if (credential.expireTimeInMs() <= 0) {
+      return new CachedCredential(credential, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    long lifetime = Math.max(0, credential.expireTimeInMs() - now);
+    return new CachedCredential(
+        credential, now + (long) (lifetime * refreshRatio), now + (long) (lifetime * expireRatio));
+  }
+
+  private static class CachedCredential {
+    @Nullable private final Credential credential;
+    private final long refreshAtMs;
+    private final long expireAtMs;
+
+    private CachedCredential(@Nullable Credential credential, long refreshAtMs, long expireAtMs) {
+      this.credential = credential;
+      this.refreshAtMs = refreshAtMs;
+      this.expireAtMs = expireAtMs;
+    }
+  }
+
+  private static class CredentialExpiry implements Expiry<CredentialCacheKey, CachedCredential> {
+
+    @Override
+    public long expireAfterCreate(
+        CredentialCacheKey key, CachedCredential value, long currentTime) {
+      return expireAfter(value);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        CredentialCacheKey key, CachedCredential value, long currentTime, long currentDuration) {
+      return expireAfter(value);
+    }
+
+    @Override
+    public long expireAfterRead(
+        CredentialCacheKey key, CachedCredential value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    private static long expireAfter(CachedCredential value) {
+      if (value.expireAtMs == Long.MAX_VALUE) {
+        return Long.MAX_VALUE;
+      }
+      return TimeUnit.MILLISECONDS.toNanos(
+          Math.max(0, value.expireAtMs - System.currentTimeMillis()));
+    }
+  }
+
+  private static class CredentialCacheKey {
+    private final String userName;
+    private final Set<String> readPaths;
+    private final Set<String> writePaths;
+
+    private CredentialCacheKey(String userName, Set<String> readPaths, Set<String> writePaths) {
+      this.userName = userName;
+      this.readPaths = readPaths;
+      this.writePaths = writePaths;
+    }
+
+    // Only the credential contexts known to be fully identified by the user and the paths are
+    // cached, the credentials of the other contexts are issued every time.
+    @Nullable
+    private static CredentialCacheKey of(CredentialContext context) {
+      if (context instanceof PathBasedCredentialContext) {
+        PathBasedCredentialContext pathContext = (PathBasedCredentialContext) context;
+        return new CredentialCacheKey(
+            pathContext.getUserName(), pathContext.getReadPaths(), pathContext.getWritePaths());
+      } else if (context instanceof CatalogCredentialContext) {
+        return new CredentialCacheKey(
+            context.getUserName(), Collections.emptySet(), Collections.emptySet());
+      }
+      return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CredentialCacheKey)) {
+        return false;
+      }
+      CredentialCacheKey that = (CredentialCacheKey) o;
+      return Objects.equals(userName, that.userName)
+          && Objects.equals(readPaths, that.readPaths)
+          && Objects.equals(writePaths, that.writePaths);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userName, readPaths, writePaths);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.credential;
+
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics source exposing the number of credentials issued by the credential providers, served from
+ * the credential cache and refreshed ahead of their expiry, per catalog.
+ */
+class CredentialCacheMetricsSource extends MetricsSource {
+
+  CredentialCacheMetricsSource() {
+    super(MetricsSource.CREDENTIAL_CACHE_METRIC_NAME);
+  }
+
+  void incIssuedCredentials(String catalogName) {
+    getCounter(metricName(catalogName, MetricNames.CREDENTIAL_CACHE_ISSUED_CREDENTIALS)).inc();
+  }
+
+  void incCachedCredentials(String catalogName) {
+    getCounter(metricName(catalogName, MetricNames.CREDENTIAL_CACHE_CACHED_CREDENTIALS)).inc();
+  }
+
+  void incRefreshedCredentials(String catalogName) {
+    getCounter(metricName(catalogName, MetricNames.CREDENTIAL_CACHE_REFRESHED_CREDENTIALS)).inc();
+  }
+
+  void incRefreshFailures(String catalogName) {
+    getCounter(metricName(catalogName, MetricNames.CREDENTIAL_CACHE_REFRESH_FAILURES)).inc();
+  }
+
+  long getCount(String catalogName, String name) {
+    return getCounter(metricName(catalogName, name)).getCount();
+  }
+
+  void remove(String catalogName) {
+    getMetricRegistry().removeMatching((name, metric) -> name.startsWith(catalogName + "."));
+  }
+
+  private static String metricName(String catalogName, String name) {
+    return catalogName + "." + name;
+  }
+}
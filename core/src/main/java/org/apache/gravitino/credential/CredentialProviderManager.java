@@ -20,20 +20,69 @@
 package org.apache.gravitino.credential;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.credential.config.CredentialCacheConfig;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class CredentialProviderManager {
+public class CredentialProviderManager implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CredentialProviderManager.class);
+  private static final int CREDENTIAL_REFRESH_THREADS = 4;
+
   private Map<String, CredentialProvider> credentialProviders;
+  private final ExecutorService credentialRefreshExecutor;
+  private final CredentialCacheMetricsSource metricsSource;
 
   public CredentialProviderManager() {
     this.credentialProviders = new ConcurrentHashMap<>();
+    this.credentialRefreshExecutor =
+        Executors.newFixedThreadPool(
+            CREDENTIAL_REFRESH_THREADS,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("credential-refresher-%d")
+                .build());
+    this.metricsSource = new CredentialCacheMetricsSource();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Register the credential provider of a catalog, the credentials issued by the provider are
+   * cached according to the credential cache properties of the catalog, see {@link
+   * CredentialCacheConfig}.
+   *
+   * @param catalogName The name of the catalog.
+   * @param credentialProvider The credential provider of the catalog.
+   * @param catalogProperties The properties of the catalog.
+   */
+  public void registerCredentialProvider(
+      String catalogName,
+      CredentialProvider credentialProvider,
+      Map<String, String> catalogProperties) {
+    CredentialCacheConfig cacheConfig = new CredentialCacheConfig(catalogProperties);
+    if (cacheConfig.maxSize() > 0) {
+      credentialProvider =
+          new CachedCredentialProvider(
+              catalogName,
+              credentialProvider,
+              cacheConfig,
+              credentialRefreshExecutor,
+              metricsSource);
+    }
+    registerCredentialProvider(catalogName, credentialProvider);
   }
 
   public void registerCredentialProvider(
@@ -70,4 +119,14 @@ public class CredentialProviderManager {
   public CredentialProvider getCredentialProvider(String catalogName) {
     return credentialProviders.get(catalogName);
   }
+
+  @Override
+  public void close() {
+    credentialProviders.keySet().forEach(this::unregisterCredentialProvider);
+    credentialRefreshExecutor.shutdownNow();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
 }
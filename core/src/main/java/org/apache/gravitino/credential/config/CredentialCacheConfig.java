@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.credential.config;
+
+import com.google.common.base.Preconditions;
+import java.util.Map;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.config.ConfigBuilder;
+import org.apache.gravitino.config.ConfigConstants;
+import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.credential.CredentialConstants;
+
+public class CredentialCacheConfig extends Config {
+
+  public static final ConfigEntry<Integer> CREDENTIAL_CACHE_MAX_SIZE =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_MAX_SIZE)
+          .doc(
+              "The maximum number of credentials cached by the credential provider, 0 means the "
+                  + "credentials are not cached")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
+  public static final ConfigEntry<Double> CREDENTIAL_CACHE_EXPIRE_RATIO =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO)
+          .doc(
+              "The ratio of the credential lifetime after which a cached credential is not "
+                  + "served anymore")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .doubleConf()
+          .checkValue(
+              value -> value > 0 && value < 1, "The value must be greater than 0 and less than 1")
+          .createWithDefault(0.5);
+
+  public static final ConfigEntry<Double> CREDENTIAL_CACHE_REFRESH_RATIO =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO)
+          .doc(
+              "The ratio of the credential lifetime after which a cached credential is refreshed "
+                  + "asynchronously, the same value as the expire ratio disables the refresh")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .doubleConf()
+          .checkValue(
+              value -> value > 0 && value < 1, "The value must be greater than 0 and less than 1")
+          .createWithDefault(0.4);
+
+  public CredentialCacheConfig(Map<String, String> properties) {
+    super(false);
+    loadFromMap(properties, k -> true);
+    Preconditions.checkArgument(
+        refreshRatio() <= expireRatio(),
+        "%s should not be greater than %s",
+        CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+        CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO);
+  }
+
+  public int maxSize() {
+    return this.get(CREDENTIAL_CACHE_MAX_SIZE);
+  }
+
+  public double expireRatio() {
+    return this.get(CREDENTIAL_CACHE_EXPIRE_RATIO);
+  }
+
+  public double refreshRatio() {
+    return this.get(CREDENTIAL_CACHE_REFRESH_RATIO);
+  }
+}
@@ -118,4 +118,10 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
       throws NoSuchFilesetException {
     return dispatcher.getFileLocation(ident, subPath);
   }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths)
+      throws NoSuchFilesetException {
+    return dispatcher.getFileLocations(ident, subPaths);
+  }
 }
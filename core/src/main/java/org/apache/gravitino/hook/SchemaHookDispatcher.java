@@ -23,6 +23,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.authorization.AuthorizationUtils;
@@ -53,6 +54,12 @@ public class SchemaHookDispatcher implements SchemaDispatcher {
     return dispatcher.listSchemas(namespace);
   }
 
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int limit)
+      throws NoSuchCatalogException {
+    return dispatcher.listSchemas(namespace, pageToken, limit);
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
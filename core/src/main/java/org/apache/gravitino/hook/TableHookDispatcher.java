@@ -18,11 +18,13 @@
  */
 package org.apache.gravitino.hook;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerManager;
@@ -32,6 +34,8 @@ import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
@@ -57,6 +61,12 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.listTables(namespace);
   }
 
+  @Override
+  public Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listTables(namespace, pageToken, limit);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     return dispatcher.loadTable(ident);
@@ -127,6 +137,64 @@ public class TableHookDispatcher implements TableDispatcher {
     return purged;
   }
 
+  @Override
+  public TableBatchResult[] batchOperateTables(TableBatchOperation... operations)
+      throws IllegalArgumentException {
+    Namespace namespace = TableBatchOperation.checkSameNamespace(operations);
+    boolean hasCreate =
+        Arrays.stream(operations).anyMatch(o -> o.type() == TableBatchOperation.Type.CREATE);
+    if (hasCreate) {
+      // Check whether the current user exists or not
+      AuthorizationUtils.checkCurrentUser(namespace.level(0), PrincipalUtils.getCurrentUserName());
+    }
+
+    TableBatchResult[] results = dispatcher.batchOperateTables(operations);
+    OwnerManager ownerManager = GravitinoEnv.getInstance().ownerManager();
+    for (int i = 0; i < results.length; i++) {
+      TableBatchResult result = results[i];
+      if (!result.succeeded()) {
+        continue;
+      }
+
+      NameIdentifier ident = result.identifier();
+      try {
+        switch (result.type()) {
+          case CREATE:
+            // Set the creator as the owner of the table.
+            if (ownerManager != null) {
+              ownerManager.setOwner(
+                  ident.namespace().level(0),
+                  NameIdentifierUtil.toMetadataObject(ident, Entity.EntityType.TABLE),
+                  PrincipalUtils.getCurrentUserName(),
+                  Owner.Type.USER);
+            }
+            break;
+          case ALTER:
+            TableChange.RenameTable lastRenameChange = null;
+            for (TableChange change : operations[i].changes()) {
+              if (change instanceof TableChange.RenameTable) {
+                lastRenameChange = (TableChange.RenameTable) change;
+              }
+            }
+            if (lastRenameChange != null) {
+              AuthorizationUtils.authorizationPluginRenamePrivileges(
+                  ident, Entity.EntityType.TABLE, lastRenameChange.getNewName());
+            }
+            break;
+          case DROP:
+          case PURGE:
+            AuthorizationUtils.authorizationPluginRemovePrivileges(ident, Entity.EntityType.TABLE);
+            break;
+          default:
+            break;
+        }
+      } catch (RuntimeException e) {
+        results[i] = TableBatchResult.ofFailure(result.type(), ident, e);
+      }
+    }
+    return results;
+  }
+
   @Override
   public boolean tableExists(NameIdentifier ident) {
     return dispatcher.tableExists(ident);
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.BaseEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AsyncBatchListener buffers the events of one listener in a bounded {@link MpscRingBuffer}, and
+ * starts a dispatcher thread to deliver the events to the listener in batches. Consecutive post
+ * events are delivered with {@link EventListenerPlugin#onPostEvents(List)}, pre events are
+ * delivered one by one. What happens to an event when the buffer is full is decided by the {@link
+ * OverflowPolicy}.
+ */
+public class AsyncBatchListener implements EventListenerPlugin {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncBatchListener.class);
+  private static final String NAME_PREFIX = "async-batch-listener-";
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  /** The policy to apply when the ring buffer of the listener is full. */
+  public enum OverflowPolicy {
+    /** Drop the new event. */
+    DROP,
+    /** Block the caller until there is room for the event or the timeout elapses. */
+    BLOCK
+  }
+
+  private final String asyncBatchListenerName;
+  private final EventListenerPlugin eventListener;
+  private final MpscRingBuffer<BaseEvent> buffer;
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeoutNanos;
+  private final int dispatcherJoinSeconds;
+  private final Thread asyncProcessor;
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  private final AsyncBatchListenerMetricsSource metricsSource;
+  private final AtomicLong dropEventCounters = new AtomicLong(0);
+  private final AtomicLong lastDropEventCounters = new AtomicLong(0);
+  private volatile Instant lastRecordDropEventTime = Instant.now();
+  private volatile boolean processorParked = false;
+
+  AsyncBatchListener(
+      String listenerName, EventListenerPlugin eventListener, EventListenerConfig config) {
+    this.asyncBatchListenerName = NAME_PREFIX + listenerName;
+    this.eventListener = eventListener;
+    this.buffer = new MpscRingBuffer<>(config.get(EventListenerConfig.QUEUE_CAPACITY));
+    this.batchSize = config.get(EventListenerConfig.BATCH_SIZE);
+    this.overflowPolicy = config.overflowPolicy();
+    this.blockTimeoutNanos =
+        TimeUnit.MILLISECONDS.toNanos(config.get(EventListenerConfig.OVERFLOW_BLOCK_TIMEOUT_MS));
+    this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.metricsSource = new AsyncBatchListenerMetricsSource(listenerName, buffer);
+    this.asyncProcessor = new Thread(this::processEvents);
+    asyncProcessor.setDaemon(true);
+    asyncProcessor.setName(asyncBatchListenerName);
+  }
+
+  @Override
+  public void onPreEvent(PreEvent event) {
+    enqueueEvent(event);
+  }
+
+  @Override
+  public void onPostEvent(Event event) {
+    enqueueEvent(event);
+  }
+
+  @Override
+  public void init(Map<String, String> properties) {
+    throw new RuntimeException(
+        "Should not reach here, the event listener has already been initialized.");
+  }
+
+  @Override
+  public void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    eventListener.start();
+    asyncProcessor.start();
+  }
+
+  @Override
+  public void stop() {
+    Preconditions.checkState(
+        stopped.compareAndSet(false, true), asyncBatchListenerName + " had already stopped");
+    // The dispatcher thread delivers the buffered events before exiting.
+    LockSupport.unpark(asyncProcessor);
+    try {
+      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
+    } catch (InterruptedException e) {
+      LOG.warn("{} join async processor failed.", asyncBatchListenerName, e);
+    }
+    if (asyncProcessor.isAlive()) {
+      asyncProcessor.interrupt();
+    }
+    eventListener.stop();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  @VisibleForTesting
+  EventListenerPlugin getEventListener() {
+    return eventListener;
+  }
+
+  @VisibleForTesting
+  AsyncBatchListenerMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  private void processEvents() {
+    List<BaseEvent> batch = new ArrayList<>(batchSize);
+    List<Event> postEvents = new ArrayList<>(batchSize);
+    while (!Thread.currentThread().isInterrupted()) {
+      batch.clear();
+      if (buffer.drainTo(batch, batchSize) == 0) {
+        if (stopped.get()) {
+          break;
+        }
+        // Producers unpark the processor if they see it parked, check the buffer again after
+        // publishing the flag so that no wake-up is missed.
+        processorParked = true;
+        if (buffer.isEmpty() && !stopped.get()) {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        processorParked = false;
+        continue;
+      }
+
+      metricsSource.updateBatchSize(batch.size());
+      for (BaseEvent baseEvent : batch) {
+        if (baseEvent instanceof Event) {
+          postEvents.add((Event) baseEvent);
+          continue;
+        }
+        dispatchPostEvents(postEvents);
+        dispatchPreEvent(baseEvent);
+      }
+      dispatchPostEvents(postEvents);
+    }
+
+    if (!buffer.isEmpty()) {
+      LOG.warn(
+          "{} drop {} events since dispatch thread is interrupted",
+          asyncBatchListenerName,
+          buffer.size());
+    }
+  }
+
+  private void dispatchPostEvents(List<Event> postEvents) {
+    if (postEvents.isEmpty()) {
+      return;
+    }
+    // The listener may keep the batch or process it asynchronously, so it gets a copy that is not
+    // cleared and reused for the next batch.
+    try {
+      eventListener.onPostEvents(Collections.unmodifiableList(new ArrayList<>(postEvents)));
+    } catch (Exception e) {
+      LOG.warn("{} throw a exception while processing events", asyncBatchListenerName, e);
+    }
+    long now = System.currentTimeMillis();
+    postEvents.forEach(event -> metricsSource.updateDispatchLatency(now - event.eventTime()));
+    postEvents.clear();
+  }
+
+  private void dispatchPreEvent(BaseEvent baseEvent) {
+    try {
+      if (baseEvent instanceof PreEvent) {
+        eventListener.onPreEvent((PreEvent) baseEvent);
+      } else {
+        LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+      }
+    } catch (Exception e) {
+      LOG.warn("{} throw a exception while processing event", asyncBatchListenerName, e);
+    }
+    metricsSource.updateDispatchLatency(System.currentTimeMillis() - baseEvent.eventTime());
+  }
+
+  private void enqueueEvent(BaseEvent baseEvent) {
+    if (stopped.get()) {
+      LOG.warn(
+          "{} drop event: {}, since AsyncBatchListener is stopped",
+          asyncBatchListenerName,
+          baseEvent.getClass().getSimpleName());
+      return;
+    }
+
+    if (buffer.offer(baseEvent) || handleOverflow(baseEvent)) {
+      if (processorParked) {
+        LockSupport.unpark(asyncProcessor);
+      }
+    }
+  }
+
+  // Returns true if the event is added to the buffer after all.
+  private boolean handleOverflow(BaseEvent baseEvent) {
+    switch (overflowPolicy) {
+      case BLOCK:
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        metricsSource.incBlockedEvents();
+        while (System.nanoTime() < deadline && !stopped.get()) {
+          LockSupport.unpark(asyncProcessor);
+          LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+          if (buffer.offer(baseEvent)) {
+            return true;
+          }
+        }
+        dropEvent();
+        return false;
+      case DROP:
+      default:
+        dropEvent();
+        return false;
+    }
+  }
+
+  private void dropEvent() {
+    metricsSource.incDroppedEvents();
+    long currentDropEvents = dropEventCounters.incrementAndGet();
+    long lastDropEvents = lastDropEventCounters.get();
+    long dropEvents = currentDropEvents - lastDropEvents;
+    if (dropEvents > 0 && Instant.now().isAfter(lastRecordDropEventTime.plusSeconds(60))) {
+      if (lastDropEventCounters.compareAndSet(lastDropEvents, currentDropEvents)) {
+        LOG.warn(
+            "{} drop {} events since {}",
+            asyncBatchListenerName,
+            dropEvents,
+            lastRecordDropEventTime);
+        lastRecordDropEventTime = Instant.now();
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Metrics source exposing the buffer depth, batch size and dispatch latency of one listener. */
+class AsyncBatchListenerMetricsSource extends MetricsSource {
+  private final Histogram batchSize;
+  private final Timer dispatchLatency;
+  private final Counter droppedEvents;
+  private final Counter blockedEvents;
+
+  AsyncBatchListenerMetricsSource(String listenerName, MpscRingBuffer<?> buffer) {
+    super(MetricsSource.EVENT_LISTENER_METRIC_NAME + "." + listenerName);
+    registerGauge(MetricNames.EVENT_LISTENER_QUEUE_DEPTH, buffer::size);
+    registerGauge(MetricNames.EVENT_LISTENER_QUEUE_CAPACITY, buffer::capacity);
+    this.batchSize = getHistogram(MetricNames.EVENT_LISTENER_BATCH_SIZE);
+    this.dispatchLatency = getTimer(MetricNames.EVENT_LISTENER_DISPATCH_LATENCY);
+    this.droppedEvents = getCounter(MetricNames.EVENT_LISTENER_DROPPED_EVENTS);
+    this.blockedEvents = getCounter(MetricNames.EVENT_LISTENER_BLOCKED_EVENTS);
+  }
+
+  void updateBatchSize(int size) {
+    batchSize.update(size);
+  }
+
+  void updateDispatchLatency(long latencyMs) {
+    dispatchLatency.update(Math.max(0, latencyMs), TimeUnit.MILLISECONDS);
+  }
+
+  void incDroppedEvents() {
+    droppedEvents.inc();
+  }
+
+  void incBlockedEvents() {
+    blockedEvents.inc();
+  }
+
+  long droppedEvents() {
+    return droppedEvents.getCount();
+  }
+
+  long blockedEvents() {
+    return blockedEvents.getCount();
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.AlterCatalogEvent;
+import org.apache.gravitino.listener.api.event.CreateCatalogEvent;
+import org.apache.gravitino.listener.api.event.DisableCatalogEvent;
+import org.apache.gravitino.listener.api.event.DropCatalogEvent;
+import org.apache.gravitino.listener.api.event.EnableCatalogEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.storage.relational.po.CatalogChangePO;
+import org.apache.gravitino.storage.relational.service.CatalogChangeMetaService;
+
+/**
+ * Keeps the recent catalog creations, alterations and drops in the entity store, so that the
+ * clients caching catalogs, like the Trino connector, can fetch the changes since their last sync
+ * instead of reloading all the catalogs of a metalake.
+ *
+ * <p>The log is shared by all the servers using the same entity store, each change gets a sequence
+ * number from the store, and only the latest changes up to the capacity are kept. A client must do
+ * a full reload when the changes after its last sequence number are no longer kept. The sequence
+ * numbers are issued when the changes are inserted but become visible when they are committed, so a
+ * change committed after a later one by another server may be missed until the next full reload.
+ */
+public class CatalogChangeLog implements EventListenerPlugin {
+
+  /** The type of the catalog change. */
+  public enum ChangeType {
+    CREATE,
+    ALTER,
+    DROP
+  }
+
+  // The log survives server restarts, so the epoch never changes.
+  private static final String EPOCH = "entity-store";
+
+  private final int capacity;
+
+  public CatalogChangeLog(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "The capacity must be positive");
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void init(Map<String, String> properties) throws RuntimeException {}
+
+  @Override
+  public void start() throws RuntimeException {}
+
+  @Override
+  public void stop() throws RuntimeException {}
+
+  @Override
+  public void onPostEvent(Event event) throws RuntimeException {
+    NameIdentifier ident = event.identifier();
+    if (event instanceof CreateCatalogEvent) {
+      record(ident.namespace().level(0), ident.name(), ChangeType.CREATE, event.eventTime());
+
+    } else if (event instanceof AlterCatalogEvent) {
+      String newName = ((AlterCatalogEvent) event).updatedCatalogInfo().name();
+      if (newName != null && !newName.equals(ident.name())) {
+        // A rename drops the catalog of the old name and creates the one of the new name.
+        record(ident.namespace().level(0), ident.name(), ChangeType.DROP, event.eventTime());
+        record(ident.namespace().level(0), newName, ChangeType.CREATE, event.eventTime());
+      } else {
+        record(ident.namespace().level(0), ident.name(), ChangeType.ALTER, event.eventTime());
+      }
+
+    } else if (event instanceof EnableCatalogEvent || event instanceof DisableCatalogEvent) {
+      record(ident.namespace().level(0), ident.name(), ChangeType.ALTER, event.eventTime());
+
+    } else if (event instanceof DropCatalogEvent && ((DropCatalogEvent) event).isExists()) {
+      record(ident.namespace().level(0), ident.name(), ChangeType.DROP, event.eventTime());
+    }
+  }
+
+  @Override
+  public Mode mode() {
+    return Mode.SYNC;
+  }
+
+  /**
+   * Returns the catalog changes of the metalake after the sequence number.
+   *
+   * @param metalake The name of the metalake.
+   * @param since The sequence number of the last change the client has seen.
+   * @return The changes, which are truncated if some changes after the sequence number are no
+   *     longer kept or the sequence number is not issued by this log.
+   */
+  public Changes changesSince(String metalake, long since) {
+    CatalogChangeMetaService service = CatalogChangeMetaService.getInstance();
+    long latestSequence = service.getLatestChangeId();
+    if (since > latestSequence) {
+      return new Changes(EPOCH, latestSequence, true, ImmutableList.of());
+    }
+
+    List<Change> changes =
+        service.listCatalogChanges(metalake, since, latestSequence).stream()
+            .map(Change::fromPO)
+            .collect(Collectors.toList());
+
+    // Read the oldest sequence number after listing, the changes trimmed meanwhile are then
+    // considered as lost.
+    Long oldestSequence = service.getOldestChangeId();
+    long oldest = oldestSequence == null ? latestSequence + 1 : oldestSequence;
+    if (since < oldest - 1) {
+      return new Changes(EPOCH, latestSequence, true, ImmutableList.of());
+    }
+    return new Changes(EPOCH, latestSequence, false, ImmutableList.copyOf(changes));
+  }
+
+  private void record(String metalake, String catalog, ChangeType type, long eventTime) {
+    CatalogChangeMetaService.getInstance()
+        .insertCatalogChange(
+            CatalogChangePO.builder()
+                .withMetalakeName(metalake)
+                .withCatalogName(catalog)
+                .withChangeType(type.name())
+                .withEventTime(eventTime)
+                .build(),
+            capacity);
+  }
+
+  /** A catalog change kept in the log. */
+  public static class Change {
+    private final long sequence;
+    private final String metalake;
+    private final String catalog;
+    private final ChangeType type;
+    private final long eventTime;
+
+    private Change(
+        long sequence, String metalake, String catalog, ChangeType type, long eventTime) {
+      this.sequence = sequence;
+      this.metalake = metalake;
+      this.catalog = catalog;
+      this.type = type;
+      this.eventTime = eventTime;
+    }
+
+    private static Change fromPO(CatalogChangePO catalogChangePO) {
+      return new Change(
+          catalogChangePO.getId(),
+          catalogChangePO.getMetalakeName(),
+          catalogChangePO.getCatalogName(),
+          ChangeType.valueOf(catalogChangePO.getChangeType()),
+          catalogChangePO.getEventTime());
+    }
+
+    public long sequence() {
+      return sequence;
+    }
+
+    public String catalog() {
+      return catalog;
+    }
+
+    public ChangeType type() {
+      return type;
+    }
+
+    public long eventTime() {
+      return eventTime;
+    }
+  }
+
+  /** The catalog changes of a metalake returned to the client. */
+  public static class Changes {
+    private final String epoch;
+    private final long latestSequence;
+    private final boolean truncated;
+    private final List<Change> changes;
+
+    private Changes(String epoch, long latestSequence, boolean truncated, List<Change> changes) {
+      this.epoch = epoch;
+      this.latestSequence = latestSequence;
+      this.truncated = truncated;
+      this.changes = changes;
+    }
+
+    public String epoch() {
+      return epoch;
+    }
+
+    public long latestSequence() {
+      return latestSequence;
+    }
+
+    public boolean truncated() {
+      return truncated;
+    }
+
+    public List<Change> changes() {
+      return changes;
+    }
+  }
+}
@@ -35,8 +35,10 @@ import org.apache.gravitino.listener.api.event.AlterCatalogEvent;
 import org.apache.gravitino.listener.api.event.AlterCatalogFailureEvent;
 import org.apache.gravitino.listener.api.event.CreateCatalogEvent;
 import org.apache.gravitino.listener.api.event.CreateCatalogFailureEvent;
+import org.apache.gravitino.listener.api.event.DisableCatalogEvent;
 import org.apache.gravitino.listener.api.event.DropCatalogEvent;
 import org.apache.gravitino.listener.api.event.DropCatalogFailureEvent;
+import org.apache.gravitino.listener.api.event.EnableCatalogEvent;
 import org.apache.gravitino.listener.api.event.ListCatalogEvent;
 import org.apache.gravitino.listener.api.event.ListCatalogFailureEvent;
 import org.apache.gravitino.listener.api.event.LoadCatalogEvent;
@@ -177,13 +179,15 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
   @Override
   public void enableCatalog(NameIdentifier ident)
       throws NoSuchCatalogException, CatalogNotInUseException {
-    // todo: support enable catalog event
+    // todo: support enable catalog failure event
     dispatcher.enableCatalog(ident);
+    eventBus.dispatchEvent(new EnableCatalogEvent(PrincipalUtils.getCurrentUserName(), ident));
   }
 
   @Override
   public void disableCatalog(NameIdentifier ident) throws NoSuchCatalogException {
-    // todo: support disable catalog event
+    // todo: support disable catalog failure event
     dispatcher.disableCatalog(ident);
+    eventBus.dispatchEvent(new DisableCatalogEvent(PrincipalUtils.getCurrentUserName(), ident));
   }
 }
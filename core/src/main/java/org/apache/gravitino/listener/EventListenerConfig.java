@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.Locale;
 import java.util.Map;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.config.ConfigBuilder;
@@ -49,8 +50,73 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<String> ASYNC_DISPATCH_MODE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_ASYNC_DISPATCH_MODE)
+          .doc(
+              "Gravitino async event dispatch mode, `queue` dispatches events to the async "
+                  + "listeners one by one from a shared queue, `batch` gives each async listener "
+                  + "its own ring buffer and dispatcher thread, and delivers events in batches")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(
+              value -> isValidEnumValue(AsyncDispatchMode.class, value),
+              "The value must be one of `queue`, `batch`")
+          .createWithDefault("queue");
+
+  static final ConfigEntry<Integer> BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE)
+          .doc("The maximum number of events delivered to an async listener at one time")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<String> OVERFLOW_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY)
+          .doc(
+              "What to do with a new event when the ring buffer of a listener is full in `batch` "
+                  + "dispatch mode, `drop` the event, or `block` the caller until there is room "
+                  + "or the block timeout elapses, the dropped events are lost for the listener")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(
+              value -> isValidEnumValue(AsyncBatchListener.OverflowPolicy.class, value),
+              "The value must be one of `drop`, `block`")
+          .createWithDefault("drop");
+
+  static final ConfigEntry<Long> OVERFLOW_BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_BLOCK_TIMEOUT_MS)
+          .doc("The maximum time in milliseconds to block the caller with the `block` policy")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  /** The way async event listeners receive events. */
+  enum AsyncDispatchMode {
+    QUEUE,
+    BATCH
+  }
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
   }
+
+  AsyncDispatchMode asyncDispatchMode() {
+    return AsyncDispatchMode.valueOf(get(ASYNC_DISPATCH_MODE).toUpperCase(Locale.ROOT));
+  }
+
+  AsyncBatchListener.OverflowPolicy overflowPolicy() {
+    return AsyncBatchListener.OverflowPolicy.valueOf(get(OVERFLOW_POLICY).toUpperCase(Locale.ROOT));
+  }
+
+  private static <E extends Enum<E>> boolean isValidEnumValue(Class<E> enumClass, String value) {
+    for (E constant : enumClass.getEnumConstants()) {
+      if (constant.name().equalsIgnoreCase(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
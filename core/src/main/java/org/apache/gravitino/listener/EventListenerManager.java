@@ -55,15 +55,20 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_ASYNC_DISPATCH_MODE = "asyncDispatchMode";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_SIZE = "batchSize";
+  static final String GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY = "overflowPolicy";
+  static final String GRAVITINO_EVENT_LISTENER_OVERFLOW_BLOCK_TIMEOUT_MS = "overflowBlockTimeoutMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private EventListenerConfig config;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
-    EventListenerConfig config = new EventListenerConfig(properties);
+    this.config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
 
@@ -106,6 +111,8 @@ public class EventListenerManager {
   private List<EventListenerPlugin> assembleEventListeners(
       Map<String, EventListenerPlugin> userEventListeners) {
     List<EventListenerPlugin> sharedQueueListeners = new ArrayList<>();
+    boolean batchDispatch =
+        config.asyncDispatchMode() == EventListenerConfig.AsyncDispatchMode.BATCH;
 
     List<EventListenerPlugin> listeners =
         userEventListeners.entrySet().stream()
@@ -113,6 +120,14 @@ public class EventListenerManager {
                 entrySet -> {
                   String listenerName = entrySet.getKey();
                   EventListenerPlugin listener = entrySet.getValue();
+                  if (batchDispatch && listener.mode() != EventListenerPlugin.Mode.SYNC) {
+                    // Each async listener has its own buffer and dispatcher thread, so a slow
+                    // listener doesn't stall the others.
+                    return new AsyncBatchListener(
+                        listenerName,
+                        new EventListenerPluginWrapper(listenerName, listener),
+                        config);
+                  }
                   switch (listener.mode()) {
                     case SYNC:
                       return new EventListenerPluginWrapper(listenerName, listener);
@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
@@ -74,6 +75,15 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn("Event listener {} process {} events failed,", listenerName, events.size(), e);
+    }
+  }
+
   @Override
   public void onPreEvent(PreEvent preEvent) {
     try {
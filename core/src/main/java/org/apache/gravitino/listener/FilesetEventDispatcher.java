@@ -168,4 +168,33 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       throw e;
     }
   }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths)
+      throws NoSuchFilesetException {
+    String user = PrincipalUtils.getCurrentUserName();
+    String[] actualFileLocations;
+    try {
+      actualFileLocations = dispatcher.getFileLocations(ident, subPaths);
+    } catch (Exception e) {
+      for (String subPath : subPaths) {
+        eventBus.dispatchEvent(new GetFileLocationFailureEvent(user, ident, subPath, e));
+      }
+      throw e;
+    }
+
+    // Dispatch one event for each sub path, so the audit of a batch is the same as the audit of
+    // the single sub path calls.
+    ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+    CallerContext callerContext = CallerContext.CallerContextHolder.get();
+    if (callerContext != null && callerContext.context() != null) {
+      builder.putAll(callerContext.context());
+    }
+    Map<String, String> context = builder.build();
+    for (int i = 0; i < subPaths.length; i++) {
+      eventBus.dispatchEvent(
+          new GetFileLocationEvent(user, ident, actualFileLocations[i], subPaths[i], context));
+    }
+    return actualFileLocations;
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded multi-producer single-consumer ring buffer. Producers claim a slot with a CAS on the
+ * tail sequence, and publish the element by advancing the sequence of the slot, so producers never
+ * block each other on a lock. Only one thread may call {@link #drainTo(List, int)}.
+ *
+ * @param <E> The type of the elements.
+ */
+class MpscRingBuffer<E> {
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  // The sequence of each slot, a slot is writable at sequence `index` and readable at `index + 1`.
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong(0);
+  // Only updated by the consumer thread, it's atomic so that producers could read the size.
+  private final AtomicLong head = new AtomicLong(0);
+
+  MpscRingBuffer(int requestedCapacity) {
+    Preconditions.checkArgument(requestedCapacity > 0, "Capacity must be positive");
+    int capacity = Integer.highestOneBit(requestedCapacity);
+    if (capacity < requestedCapacity) {
+      capacity <<= 1;
+    }
+    this.mask = capacity - 1;
+    this.elements = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds the element if the buffer isn't full.
+   *
+   * @param element The element to add.
+   * @return true if the element is added, false if the buffer is full.
+   */
+  boolean offer(E element) {
+    Preconditions.checkArgument(element != null, "Element must not be null");
+    while (true) {
+      long position = tail.get();
+      int index = (int) (position & mask);
+      long diff = sequences.get(index) - position;
+      if (diff == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (diff < 0) {
+        // The consumer hasn't released the slot of the previous round yet.
+        return false;
+      }
+      // Another producer claimed the slot, retry with the new tail.
+    }
+  }
+
+  /**
+   * Moves up to {@code maxElements} published elements into {@code sink}. Must only be called by
+   * the consumer thread.
+   *
+   * @param sink The list to add the elements to.
+   * @param maxElements The maximum number of elements to move.
+   * @return The number of moved elements.
+   */
+  int drainTo(List<E> sink, int maxElements) {
+    long position = head.get();
+    int drained = 0;
+    while (drained < maxElements) {
+      int index = (int) (position & mask);
+      if (sequences.get(index) != position + 1) {
+        // Empty, or the producer that claimed this slot hasn't published it yet.
+        break;
+      }
+      sink.add(elements.get(index));
+      elements.lazySet(index, null);
+      sequences.set(index, position + mask + 1);
+      position++;
+      drained++;
+    }
+    head.set(position);
+    return drained;
+  }
+
+  int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+}
@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -127,6 +128,19 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Page<Partition> listPartitions(NameIdentifier ident, String pageToken, int limit) {
+    try {
+      Page<Partition> page = dispatcher.listPartitions(ident, pageToken, limit);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public String[] listPartitionNames(NameIdentifier ident) {
     try {
@@ -141,6 +155,47 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Page<String> listPartitionNames(NameIdentifier ident, String pageToken, int limit) {
+    try {
+      Page<String> page = dispatcher.listPartitionNames(ident, pageToken, limit);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public String[] listPartitionNamesByFilter(NameIdentifier ident, String filter) {
+    try {
+      String[] partitionNames = dispatcher.listPartitionNamesByFilter(ident, filter);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return partitionNames;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Partition[] listPartitionsByFilter(NameIdentifier ident, String filter) {
+    try {
+      Partition[] partitions = dispatcher.listPartitionsByFilter(ident, filter);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return partitions;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean partitionExists(NameIdentifier ident, String partitionName) {
     try {
@@ -22,6 +22,7 @@ package org.apache.gravitino.listener;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.catalog.SchemaDispatcher;
@@ -78,6 +79,20 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     }
   }
 
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int limit)
+      throws NoSuchCatalogException {
+    try {
+      Page<NameIdentifier> page = dispatcher.listSchemas(namespace, pageToken, limit);
+      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     return dispatcher.schemaExists(ident);
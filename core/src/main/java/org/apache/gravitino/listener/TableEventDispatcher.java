@@ -22,6 +22,7 @@ package org.apache.gravitino.listener;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.catalog.TableOperationDispatcher;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -42,6 +43,8 @@ import org.apache.gravitino.listener.api.event.PurgeTableFailureEvent;
 import org.apache.gravitino.listener.api.info.TableInfo;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
@@ -84,6 +87,20 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int limit)
+      throws NoSuchSchemaException {
+    try {
+      Page<NameIdentifier> page = dispatcher.listTables(namespace, pageToken, limit);
+      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     try {
@@ -179,8 +196,85 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public TableBatchResult[] batchOperateTables(TableBatchOperation... operations)
+      throws IllegalArgumentException {
+    TableBatchResult[] results;
+    try {
+      results = dispatcher.batchOperateTables(operations);
+    } catch (Exception e) {
+      for (TableBatchOperation operation : operations) {
+        dispatchFailureEvent(operation, e);
+      }
+      throw e;
+    }
+
+    // Every operation in the batch is reported with the same event as its single-table API.
+    for (int i = 0; i < results.length; i++) {
+      TableBatchResult result = results[i];
+      TableBatchOperation operation = operations[i];
+      if (!result.succeeded()) {
+        dispatchFailureEvent(operation, result.error());
+        continue;
+      }
+
+      String user = PrincipalUtils.getCurrentUserName();
+      NameIdentifier ident = result.identifier();
+      switch (result.type()) {
+        case CREATE:
+          eventBus.dispatchEvent(new CreateTableEvent(user, ident, new TableInfo(result.table())));
+          break;
+        case ALTER:
+          eventBus.dispatchEvent(
+              new AlterTableEvent(user, ident, operation.changes(), new TableInfo(result.table())));
+          break;
+        case DROP:
+          eventBus.dispatchEvent(new DropTableEvent(user, ident, result.dropped()));
+          break;
+        case PURGE:
+          eventBus.dispatchEvent(new PurgeTableEvent(user, ident, result.dropped()));
+          break;
+        default:
+          break;
+      }
+    }
+    return results;
+  }
+
   @Override
   public boolean tableExists(NameIdentifier ident) {
     return dispatcher.tableExists(ident);
   }
+
+  private void dispatchFailureEvent(TableBatchOperation operation, Exception e) {
+    String user = PrincipalUtils.getCurrentUserName();
+    NameIdentifier ident = operation.identifier();
+    switch (operation.type()) {
+      case CREATE:
+        TableInfo createTableRequest =
+            new TableInfo(
+                ident.name(),
+                operation.columns(),
+                operation.comment(),
+                operation.properties(),
+                operation.partitioning(),
+                operation.distribution(),
+                operation.sortOrders(),
+                operation.indexes(),
+                null);
+        eventBus.dispatchEvent(new CreateTableFailureEvent(user, ident, e, createTableRequest));
+        break;
+      case ALTER:
+        eventBus.dispatchEvent(new AlterTableFailureEvent(user, ident, e, operation.changes()));
+        break;
+      case DROP:
+        eventBus.dispatchEvent(new DropTableFailureEvent(user, ident, e));
+        break;
+      case PURGE:
+        eventBus.dispatchEvent(new PurgeTableFailureEvent(user, ident, e));
+        break;
+      default:
+        break;
+    }
+  }
 }
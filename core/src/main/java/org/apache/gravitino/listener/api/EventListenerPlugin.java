@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.exceptions.ForbiddenException;
@@ -108,6 +109,22 @@ public interface EventListenerPlugin {
    */
   default void onPostEvent(Event postEvent) throws RuntimeException {}
 
+  /**
+   * Handle a batch of post-events in the order they were generated.
+   *
+   * <p>This method is only called for asynchronous listeners when the {@code batch} dispatch mode
+   * is enabled. The default implementation calls {@link #onPostEvent(Event)} for each event,
+   * listeners writing to remote sinks could override it to send the events in one request. The list
+   * is not modified after the call, so the listener may keep it or process it asynchronously.
+   *
+   * @param postEvents The post events to be processed, the list is unmodifiable.
+   * @throws RuntimeException Indicates issues encountered during event processing, this has no
+   *     affect to the operation.
+   */
+  default void onPostEvents(List<Event> postEvents) throws RuntimeException {
+    postEvents.forEach(this::onPostEvent);
+  }
+
   /**
    * Handle pre-events generated before the operation.
    *
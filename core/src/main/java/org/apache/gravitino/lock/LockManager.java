@@ -24,13 +24,10 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.List;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
@@ -210,9 +207,10 @@ public class LockManager {
     // Handle self node.
     if (treeNode.getReference() == 0) {
       synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
+        // Once goes here, the parent node has been locked, so no new child (treeNode) can be
+        // created. The lock-free lookup may still reference the child concurrently, so the child
+        // is marked as evicted with CAS, and the lookup will fail once it is marked.
+        if (treeNode.tryMarkEvicted()) {
           parent.removeChild(treeNode.getName());
           long leftNodeCount = totalNodeCount.decrementAndGet();
           if (LOG.isTraceEnabled()) {
@@ -236,33 +234,34 @@ public class LockManager {
   public TreeLock createTreeLock(NameIdentifier identifier) {
     checkTreeNodeIsFull();
 
-    List<TreeLockNode> treeLockNodes = Lists.newArrayList();
+    // Avoid to use value equality instead of reference equality here.
+    // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
+    boolean isRoot = identifier == ROOT;
+    String[] levels = isRoot ? null : identifier.namespace().levels();
+    // The number of the nodes below the root, the last one is the node of the identifier itself.
+    int depth = isRoot ? 0 : levels.length + 1;
+    TreeLockNode[] treeLockNodes = new TreeLockNode[depth + 1];
+    int referencedCount = 0;
     try {
       TreeLockNode lockNode = treeLockRootNode;
       lockNode.addReference();
-      treeLockNodes.add(lockNode);
-
-      // Avoid to use value equality instead of reference equality here.
-      // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
-      if (identifier == ROOT) {
-        // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
-      }
-
-      String[] levels = identifier.namespace().levels();
-      levels = ArrayUtils.add(levels, identifier.name());
-
-      TreeLockNode child;
-      for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
+      treeLockNodes[referencedCount++] = lockNode;
+
+      for (int i = 0; i < depth; i++) {
+        String level = i < levels.length ? levels[i] : identifier.name();
+        // Most of the nodes already exist, so look them up without the object lock first.
+        TreeLockNode child = lockNode.getChildWithReference(level);
+        if (child == null) {
+          synchronized (lockNode) {
+            Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
+            child = pair.getKey();
+            // If the child node is newly created, we should increase the total node counts.
+            if (pair.getValue()) {
+              totalNodeCount.incrementAndGet();
+            }
           }
         }
-        treeLockNodes.add(child);
+        treeLockNodes[referencedCount++] = child;
         lockNode = child;
       }
 
@@ -270,8 +269,8 @@ public class LockManager {
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
-      for (TreeLockNode node : treeLockNodes) {
-        node.decReference();
+      for (int i = 0; i < referencedCount; i++) {
+        treeLockNodes[i].decReference();
       }
 
       throw e;
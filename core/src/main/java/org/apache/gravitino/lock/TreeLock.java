@@ -19,10 +19,7 @@
 
 package org.apache.gravitino.lock;
 
-import java.util.Deque;
-import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import org.apache.commons.lang3.tuple.Pair;
+import java.util.Arrays;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,38 +72,36 @@ public class TreeLock {
 
   // The name identifier of the resource path.
   private final NameIdentifier identifier;
-  // TreeLockNode to be locked
-  private final List<TreeLockNode> lockNodes;
+  // TreeLockNode to be locked, from the root to the leaf.
+  private final TreeLockNode[] lockNodes;
 
-  // TreeLockNode that has been locked along with its lock type.
-  private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  // The number of the nodes that have been locked, they are always a prefix of lockNodes. A tree
+  // lock is only used by the thread that created it, so no synchronization is needed.
+  private int heldLockCount;
   private LockType lockType;
 
-  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+  TreeLock(TreeLockNode[] lockNodes, NameIdentifier identifier) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
   }
 
   /**
    * Lock the tree lock with the given lock type. This method locks all nodes in the list, from the
-   * root to the leaf, and pushes them onto the deque. If an exception occurs during the locking
-   * process, it will unlock all nodes that have been locked so far.
+   * root to the leaf. If an exception occurs during the locking process, it will unlock all nodes
+   * that have been locked so far.
    *
    * @param lockType The lock type to lock the tree lock.
    */
   public void lock(LockType lockType) {
     this.lockType = lockType;
 
-    int length = lockNodes.size();
+    int length = lockNodes.length;
     for (int i = 0; i < length; i++) {
-      TreeLockNode treeLockNode = lockNodes.get(i);
+      TreeLockNode treeLockNode = lockNodes[i];
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
         treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
-
-        treeLockNode.addHoldingThreadTimestamp(
-            Thread.currentThread(), identifier, System.currentTimeMillis());
+        heldLockCount++;
         if (LOG.isTraceEnabled()) {
           LOG.trace(
               "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
@@ -121,7 +116,7 @@ public class TreeLock {
             "Failed to lock the treeNode, identifier: {}, node {} of lockNodes: [{}]",
             identifier,
             treeLockNode,
-            lockNodes,
+            Arrays.toString(lockNodes),
             e);
         // unlock all nodes that have been locked when an exception occurs.
         unlock();
@@ -129,11 +124,17 @@ public class TreeLock {
       }
     }
 
+    // The thread holds the whole path once the leaf is locked, so only the leaf records the
+    // holding thread for the dead lock checker, the ancestors shared by all the threads are not
+    // touched.
+    lockNodes[length - 1].addHoldingThreadTimestamp(
+        Thread.currentThread(), identifier, System.currentTimeMillis());
+
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
           identifier,
-          lockNodes,
+          Arrays.toString(lockNodes),
           lockType);
     }
   }
@@ -144,21 +145,32 @@ public class TreeLock {
       throw new IllegalStateException("We must lock the tree lock before unlock it.");
     }
 
-    while (!heldLocks.isEmpty()) {
-      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
-      TreeLockNode current = pair.getLeft();
-      LockType type = pair.getRight();
-      current.unlock(type);
+    int length = lockNodes.length;
+    if (heldLockCount == length) {
+      long holdStartTime =
+          lockNodes[length - 1].removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Tree lock with ident '{}' has been hold by {} for {} ms",
+            identifier,
+            Thread.currentThread(),
+            System.currentTimeMillis() - holdStartTime);
+      }
+    }
 
-      long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
+    // Unlock in the inverse sequence of locking, from the leaf to the root.
+    while (heldLockCount > 0) {
+      heldLockCount--;
+      TreeLockNode current = lockNodes[heldLockCount];
+      LockType type = heldLockCount == length - 1 ? lockType : LockType.READ;
+      current.unlock(type);
       if (LOG.isTraceEnabled()) {
         LOG.trace(
-            "Node {} has been unlock with '{}' lock, hold by {} with ident '{}' for {} ms",
+            "Node {} has been unlock with '{}' lock, hold by {} with ident '{}'",
             this,
-            lockType,
+            type,
             Thread.currentThread(),
-            identifier,
-            System.currentTimeMillis() - holdStartTime);
+            identifier);
       }
     }
 
@@ -166,7 +178,7 @@ public class TreeLock {
       LOG.trace(
           "Unlocked the tree lock, identifier: {}, lockNodes: [{}], lock type: {}",
           identifier,
-          lockNodes,
+          Arrays.toString(lockNodes),
           lockType);
     }
   }
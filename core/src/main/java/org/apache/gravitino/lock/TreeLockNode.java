@@ -50,9 +50,12 @@ public class TreeLockNode {
 
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
-  // using this node, and this node can be removed from the tree.
+  // using this node, and this node can be removed from the tree. Once the node is removed, the
+  // count is set to EVICTED so that it can't be referenced again by the lock-free lookup.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  private static final long EVICTED = Long.MIN_VALUE;
+
   /**
    * The identifier of a thread. This class is used to identify this tree lock node is held by which
    * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
@@ -125,15 +128,44 @@ public class TreeLockNode {
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
+  /**
+   * Increase the reference count of this node unless it has been evicted from the tree.
+   *
+   * @return True if the reference is added, false if the node has been evicted.
+   */
+  boolean tryAddReference() {
+    long current;
+    do {
+      current = referenceCount.get();
+      if (current == EVICTED) {
+        return false;
+      }
+    } while (!referenceCount.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  /**
+   * Mark this node as evicted if no TreeLock is using it. An evicted node can't be referenced by
+   * {@link #tryAddReference()} any more.
+   *
+   * <p>Note: This method should be guarded by the object lock of the parent node, and the node
+   * should be removed from the parent node if it returns true.
+   *
+   * @return True if the node is marked as evicted.
+   */
+  boolean tryMarkEvicted() {
+    return referenceCount.compareAndSet(0, EVICTED);
+  }
+
   /**
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
@@ -172,6 +204,21 @@ public class TreeLockNode {
     this.referenceCount.decrementAndGet();
   }
 
+  /**
+   * Get the child node by the given name and add a reference to it without taking the object lock.
+   * It's the fast path of {@link #getOrCreateChild(String)} for the nodes that already exist.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @return The child node, or null if the child doesn't exist or is being evicted.
+   */
+  TreeLockNode getChildWithReference(String name) {
+    TreeLockNode childNode = childMap.get(name);
+    if (childNode != null && childNode.tryAddReference()) {
+      return childNode;
+    }
+    return null;
+  }
+
   /**
    * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
    *
@@ -22,6 +22,41 @@ package org.apache.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String ENTITY_CACHE_HIT_COUNT = "entity-cache.hit.count";
+  public static final String ENTITY_CACHE_MISS_COUNT = "entity-cache.miss.count";
+  public static final String ENTITY_CACHE_EVICTION_COUNT = "entity-cache.eviction.count";
+  public static final String ENTITY_CACHE_SIZE = "entity-cache.size";
+  public static final String OAUTH_TOKEN_AUTHENTICATION_DURATION =
+      "oauth-token.authentication.duration";
+  public static final String OAUTH_TOKEN_CACHE_HIT_COUNT = "oauth-token-cache.hit.count";
+  public static final String OAUTH_TOKEN_CACHE_MISS_COUNT = "oauth-token-cache.miss.count";
+  public static final String OAUTH_TOKEN_CACHE_SIZE = "oauth-token-cache.size";
+  // Event listener and catalog classloader metric names don't contain dots, they are exported to
+  // Prometheus with the listener name or the catalog provider as a label.
+  public static final String EVENT_LISTENER_QUEUE_DEPTH = "queue-depth";
+  public static final String EVENT_LISTENER_QUEUE_CAPACITY = "queue-capacity";
+  public static final String EVENT_LISTENER_BATCH_SIZE = "batch-size";
+  public static final String EVENT_LISTENER_DISPATCH_LATENCY = "dispatch-latency";
+  public static final String EVENT_LISTENER_DROPPED_EVENTS = "dropped-events";
+  public static final String EVENT_LISTENER_BLOCKED_EVENTS = "blocked-events";
+  public static final String CATALOG_CLASSLOADER_COUNT = "classloader-count";
+  public static final String CATALOG_CLASSLOADER_CATALOG_REFERENCES = "catalog-references";
+  public static final String CATALOG_CLASSLOADER_DEFINED_CLASSES = "defined-classes";
+  // The catalog init duration is exported to Prometheus with the metalake and catalog as labels.
+  public static final String CATALOG_INIT_DURATION = "init-duration";
+  // The entity store connection pool metrics are exported to Prometheus with the pool as a label.
+  public static final String ENTITY_STORE_POOL_ACTIVE_CONNECTIONS = "active-connections";
+  public static final String ENTITY_STORE_POOL_IDLE_CONNECTIONS = "idle-connections";
+  public static final String ENTITY_STORE_POOL_MAX_CONNECTIONS = "max-connections";
+  public static final String ENTITY_STORE_POOL_CONNECTION_WAIT_TIME = "connection-wait-time";
+  public static final String ENTITY_STORE_POOL_CONNECTION_TIMEOUTS = "connection-timeouts";
+  // The credential cache metrics are exported to Prometheus with the catalog as a label.
+  public static final String CREDENTIAL_CACHE_ISSUED_CREDENTIALS = "issued-credentials";
+  public static final String CREDENTIAL_CACHE_CACHED_CREDENTIALS = "cached-credentials";
+  public static final String CREDENTIAL_CACHE_REFRESHED_CREDENTIALS = "refreshed-credentials";
+  public static final String CREDENTIAL_CACHE_REFRESH_FAILURES = "refresh-failures";
+  // The Ranger client metrics are exported to Prometheus with the service and operation as labels.
+  public static final String RANGER_CLIENT_REQUESTS = "requests";
 
   private MetricNames() {}
 }
@@ -177,7 +177,31 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + ".*.*",
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + "_${1}",
+            ImmutableMap.of("listener", "${0}")),
+        new MapperConfig(
+            MetricsSource.CATALOG_CLASSLOADER_METRIC_NAME + ".*.*",
+            MetricsSource.CATALOG_CLASSLOADER_METRIC_NAME + "_${1}",
+            ImmutableMap.of("provider", "${0}")),
+        new MapperConfig(
+            MetricsSource.CATALOG_METRIC_NAME + ".*.*.*",
+            MetricsSource.CATALOG_METRIC_NAME + "_${2}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}")),
+        new MapperConfig(
+            MetricsSource.ENTITY_STORE_POOL_METRIC_NAME + ".*.*",
+            MetricsSource.ENTITY_STORE_POOL_METRIC_NAME + "_${1}",
+            ImmutableMap.of("pool", "${0}")),
+        new MapperConfig(
+            MetricsSource.CREDENTIAL_CACHE_METRIC_NAME + ".*.*",
+            MetricsSource.CREDENTIAL_CACHE_METRIC_NAME + "_${1}",
+            ImmutableMap.of("catalog", "${0}")),
+        new MapperConfig(
+            MetricsSource.RANGER_CLIENT_METRIC_NAME + ".*.*.*",
+            MetricsSource.RANGER_CLIENT_METRIC_NAME + "_${2}",
+            ImmutableMap.of("service", "${0}", "operation", "${1}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
@@ -41,6 +41,14 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_STORE_METRIC_NAME = "entity-store";
+  public static final String AUTHENTICATOR_METRIC_NAME = "authenticator";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
+  public static final String CATALOG_CLASSLOADER_METRIC_NAME = "catalog-classloader";
+  public static final String CATALOG_METRIC_NAME = "catalog";
+  public static final String ENTITY_STORE_POOL_METRIC_NAME = "entity-store-pool";
+  public static final String CREDENTIAL_CACHE_METRIC_NAME = "credential-cache";
+  public static final String RANGER_CLIENT_METRIC_NAME = "ranger-client";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
@@ -51,6 +51,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
@@ -63,6 +64,7 @@ import org.apache.gravitino.storage.relational.service.TagMetaService;
 import org.apache.gravitino.storage.relational.service.TopicMetaService;
 import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
 
 /**
  * {@link JDBCBackend} is a jdbc implementation of {@link RelationalBackend} interface. You can use
@@ -85,6 +87,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    CommonMetaService.getInstance().init(config);
   }
 
   @Override
@@ -130,61 +133,86 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException {
-    if (e instanceof BaseMetalake) {
-      MetalakeMetaService.getInstance().insertMetalake((BaseMetalake) e, overwritten);
-    } else if (e instanceof CatalogEntity) {
-      CatalogMetaService.getInstance().insertCatalog((CatalogEntity) e, overwritten);
-    } else if (e instanceof SchemaEntity) {
-      SchemaMetaService.getInstance().insertSchema((SchemaEntity) e, overwritten);
-    } else if (e instanceof TableEntity) {
-      TableMetaService.getInstance().insertTable((TableEntity) e, overwritten);
-    } else if (e instanceof FilesetEntity) {
-      FilesetMetaService.getInstance().insertFileset((FilesetEntity) e, overwritten);
-    } else if (e instanceof TopicEntity) {
-      TopicMetaService.getInstance().insertTopic((TopicEntity) e, overwritten);
-    } else if (e instanceof UserEntity) {
-      UserMetaService.getInstance().insertUser((UserEntity) e, overwritten);
-    } else if (e instanceof RoleEntity) {
-      RoleMetaService.getInstance().insertRole((RoleEntity) e, overwritten);
-    } else if (e instanceof GroupEntity) {
-      GroupMetaService.getInstance().insertGroup((GroupEntity) e, overwritten);
-    } else if (e instanceof TagEntity) {
-      TagMetaService.getInstance().insertTag((TagEntity) e, overwritten);
-    } else {
-      throw new UnsupportedEntityTypeException(
-          "Unsupported entity type: %s for insert operation", e.getClass());
-    }
+    SqlSessions.doOnPrimary(
+        () -> {
+          if (e instanceof BaseMetalake) {
+            MetalakeMetaService.getInstance().insertMetalake((BaseMetalake) e, overwritten);
+          } else if (e instanceof CatalogEntity) {
+            CatalogMetaService.getInstance().insertCatalog((CatalogEntity) e, overwritten);
+          } else if (e instanceof SchemaEntity) {
+            SchemaMetaService.getInstance().insertSchema((SchemaEntity) e, overwritten);
+          } else if (e instanceof TableEntity) {
+            TableMetaService.getInstance().insertTable((TableEntity) e, overwritten);
+          } else if (e instanceof FilesetEntity) {
+            FilesetMetaService.getInstance().insertFileset((FilesetEntity) e, overwritten);
+          } else if (e instanceof TopicEntity) {
+            TopicMetaService.getInstance().insertTopic((TopicEntity) e, overwritten);
+          } else if (e instanceof UserEntity) {
+            UserMetaService.getInstance().insertUser((UserEntity) e, overwritten);
+          } else if (e instanceof RoleEntity) {
+            RoleMetaService.getInstance().insertRole((RoleEntity) e, overwritten);
+          } else if (e instanceof GroupEntity) {
+            GroupMetaService.getInstance().insertGroup((GroupEntity) e, overwritten);
+          } else if (e instanceof TagEntity) {
+            TagMetaService.getInstance().insertTag((TagEntity) e, overwritten);
+          } else {
+            throw new UnsupportedEntityTypeException(
+                "Unsupported entity type: %s for insert operation", e.getClass());
+          }
+          return null;
+        });
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> void batchInsert(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException, IOException {
+    SqlSessions.doOnPrimary(
+        () -> {
+          // Only fresh tables are written with multi-row statements, an overwriting insert has to
+          // clean up the columns of the existing table row by row.
+          if (!overwritten && entities.stream().allMatch(e -> e instanceof TableEntity)) {
+            TableMetaService.getInstance().batchInsertTables((List<TableEntity>) entities);
+            return null;
+          }
+
+          RelationalBackend.super.batchInsert(entities, overwritten);
+          return null;
+        });
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    switch (entityType) {
-      case METALAKE:
-        return (E) MetalakeMetaService.getInstance().updateMetalake(ident, updater);
-      case CATALOG:
-        return (E) CatalogMetaService.getInstance().updateCatalog(ident, updater);
-      case SCHEMA:
-        return (E) SchemaMetaService.getInstance().updateSchema(ident, updater);
-      case TABLE:
-        return (E) TableMetaService.getInstance().updateTable(ident, updater);
-      case FILESET:
-        return (E) FilesetMetaService.getInstance().updateFileset(ident, updater);
-      case TOPIC:
-        return (E) TopicMetaService.getInstance().updateTopic(ident, updater);
-      case USER:
-        return (E) UserMetaService.getInstance().updateUser(ident, updater);
-      case GROUP:
-        return (E) GroupMetaService.getInstance().updateGroup(ident, updater);
-      case ROLE:
-        return (E) RoleMetaService.getInstance().updateRole(ident, updater);
-      case TAG:
-        return (E) TagMetaService.getInstance().updateTag(ident, updater);
-      default:
-        throw new UnsupportedEntityTypeException(
-            "Unsupported entity type: %s for update operation", entityType);
-    }
+    return SqlSessions.doOnPrimary(
+        () -> {
+          switch (entityType) {
+            case METALAKE:
+              return (E) MetalakeMetaService.getInstance().updateMetalake(ident, updater);
+            case CATALOG:
+              return (E) CatalogMetaService.getInstance().updateCatalog(ident, updater);
+            case SCHEMA:
+              return (E) SchemaMetaService.getInstance().updateSchema(ident, updater);
+            case TABLE:
+              return (E) TableMetaService.getInstance().updateTable(ident, updater);
+            case FILESET:
+              return (E) FilesetMetaService.getInstance().updateFileset(ident, updater);
+            case TOPIC:
+              return (E) TopicMetaService.getInstance().updateTopic(ident, updater);
+            case USER:
+              return (E) UserMetaService.getInstance().updateUser(ident, updater);
+            case GROUP:
+              return (E) GroupMetaService.getInstance().updateGroup(ident, updater);
+            case ROLE:
+              return (E) RoleMetaService.getInstance().updateRole(ident, updater);
+            case TAG:
+              return (E) TagMetaService.getInstance().updateTag(ident, updater);
+            default:
+              throw new UnsupportedEntityTypeException(
+                  "Unsupported entity type: %s for update operation", entityType);
+          }
+        });
   }
 
   @Override
@@ -221,31 +249,34 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
-    switch (entityType) {
-      case METALAKE:
-        return MetalakeMetaService.getInstance().deleteMetalake(ident, cascade);
-      case CATALOG:
-        return CatalogMetaService.getInstance().deleteCatalog(ident, cascade);
-      case SCHEMA:
-        return SchemaMetaService.getInstance().deleteSchema(ident, cascade);
-      case TABLE:
-        return TableMetaService.getInstance().deleteTable(ident);
-      case FILESET:
-        return FilesetMetaService.getInstance().deleteFileset(ident);
-      case TOPIC:
-        return TopicMetaService.getInstance().deleteTopic(ident);
-      case USER:
-        return UserMetaService.getInstance().deleteUser(ident);
-      case GROUP:
-        return GroupMetaService.getInstance().deleteGroup(ident);
-      case ROLE:
-        return RoleMetaService.getInstance().deleteRole(ident);
-      case TAG:
-        return TagMetaService.getInstance().deleteTag(ident);
-      default:
-        throw new UnsupportedEntityTypeException(
-            "Unsupported entity type: %s for delete operation", entityType);
-    }
+    return SqlSessions.doOnPrimary(
+        () -> {
+          switch (entityType) {
+            case METALAKE:
+              return MetalakeMetaService.getInstance().deleteMetalake(ident, cascade);
+            case CATALOG:
+              return CatalogMetaService.getInstance().deleteCatalog(ident, cascade);
+            case SCHEMA:
+              return SchemaMetaService.getInstance().deleteSchema(ident, cascade);
+            case TABLE:
+              return TableMetaService.getInstance().deleteTable(ident);
+            case FILESET:
+              return FilesetMetaService.getInstance().deleteFileset(ident);
+            case TOPIC:
+              return TopicMetaService.getInstance().deleteTopic(ident);
+            case USER:
+              return UserMetaService.getInstance().deleteUser(ident);
+            case GROUP:
+              return GroupMetaService.getInstance().deleteGroup(ident);
+            case ROLE:
+              return RoleMetaService.getInstance().deleteRole(ident);
+            case TAG:
+              return TagMetaService.getInstance().deleteTag(ident);
+            default:
+              throw new UnsupportedEntityTypeException(
+                  "Unsupported entity type: %s for delete operation", entityType);
+          }
+        });
   }
 
   @Override
@@ -370,8 +401,11 @@ public class JDBCBackend implements RelationalBackend {
       NameIdentifier[] tagsToAdd,
       NameIdentifier[] tagsToRemove)
       throws NoSuchEntityException, EntityAlreadyExistsException, IOException {
-    return TagMetaService.getInstance()
-        .associateTagsWithMetadataObject(objectIdent, objectType, tagsToAdd, tagsToRemove);
+    return SqlSessions.doOnPrimary(
+        () -> {
+          return TagMetaService.getInstance()
+              .associateTagsWithMetadataObject(objectIdent, objectType, tagsToAdd, tagsToRemove);
+        });
   }
 
   @Override
@@ -408,6 +442,23 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    if (identType == Entity.EntityType.ROLE && relType == Type.ROLE_USER_REL) {
+      return (Map<NameIdentifier, List<E>>)
+          (Map<NameIdentifier, ?>)
+              UserMetaService.getInstance().listUsersByRoleIdents(nameIdentifiers);
+    } else if (identType == Entity.EntityType.ROLE && relType == Type.ROLE_GROUP_REL) {
+      return (Map<NameIdentifier, List<E>>)
+          (Map<NameIdentifier, ?>)
+              GroupMetaService.getInstance().listGroupsByRoleIdents(nameIdentifiers);
+    }
+    return RelationalBackend.super.batchListEntitiesByRelation(relType, nameIdentifiers, identType);
+  }
+
   @Override
   public void insertRelation(
       SupportsRelationOperations.Type relType,
@@ -416,14 +467,19 @@ public class JDBCBackend implements RelationalBackend {
       NameIdentifier dstIdentifier,
       Entity.EntityType dstType,
       boolean override) {
-    switch (relType) {
-      case OWNER_REL:
-        OwnerMetaService.getInstance().setOwner(srcIdentifier, srcType, dstIdentifier, dstType);
-        break;
-      default:
-        throw new IllegalArgumentException(
-            String.format("Doesn't support the relation type %s", relType));
-    }
+    SqlSessions.doOnPrimary(
+        () -> {
+          switch (relType) {
+            case OWNER_REL:
+              OwnerMetaService.getInstance()
+                  .setOwner(srcIdentifier, srcType, dstIdentifier, dstType);
+              break;
+            default:
+              throw new IllegalArgumentException(
+                  String.format("Doesn't support the relation type %s", relType));
+          }
+          return null;
+        });
   }
 
   public enum JDBCBackendType {
@@ -83,6 +83,22 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException;
 
+  /**
+   * Stores a group of entities, possibly overwriting existing entities if specified.
+   *
+   * @param entities The entities which need be stored.
+   * @param overwritten If true, overwrites the existing values.
+   * @throws EntityAlreadyExistsException If one of the entities already exists and overwrite is
+   *     false.
+   * @throws IOException If the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> void batchInsert(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException, IOException {
+    for (E e : entities) {
+      insert(e, overwritten);
+    }
+  }
+
   /**
    * Updates the entity.
    *
@@ -23,6 +23,7 @@ import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -30,6 +31,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntitySerDe;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
@@ -37,6 +39,10 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.storage.relational.cache.EntityCache;
+import org.apache.gravitino.storage.relational.cache.EntityCacheMetricsSource;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
@@ -55,12 +61,24 @@ public class RelationalEntityStore
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
+  // The cache is null if it is not enabled.
+  private EntityCache cache;
+  private EntityCacheMetricsSource cacheMetricsSource;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
+
+    if (config.get(Configs.ENTITY_STORE_CACHE_ENABLED)) {
+      this.cache = new EntityCache(config);
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        this.cacheMetricsSource = new EntityCacheMetricsSource(cache);
+        metricsSystem.register(cacheMetricsSource);
+      }
+    }
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -89,39 +107,93 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    return list(namespace, type, entityType, false);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    if (!isCached(entityType)) {
+      return backend.list(namespace, entityType, allFields);
+    }
+
+    // The cached entities are shared by all the users, so they are loaded from the primary database
+    // instead of a read replica that may lag behind.
+    return cache.getOrLoadList(
+        namespace,
+        entityType,
+        allFields,
+        () -> SqlSessions.doOnPrimary(() -> backend.list(namespace, entityType, allFields)));
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    if (isCached(entityType) && cache.contains(ident, entityType)) {
+      return true;
+    }
+
     return backend.exists(ident, entityType);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
+    try {
+      backend.insert(e, overwritten);
+    } finally {
+      // An overwriting insert may keep the id of the existing row, so the entity is reloaded from
+      // the backend on the next access instead of being put to the cache directly.
+      if (isCached(e.type())) {
+        cache.invalidate(e.nameIdentifier(), e.type());
+      }
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    try {
+      backend.batchInsert(entities, overwritten);
+    } finally {
+      for (E e : entities) {
+        if (isCached(e.type())) {
+          cache.invalidate(e.nameIdentifier(), e.type());
+        }
+      }
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    return backend.update(ident, entityType, updater);
+    if (!isCached(entityType)) {
+      return backend.update(ident, entityType, updater);
+    }
+
+    // The entity may be renamed, which changes the identifiers of all the entities under it.
+    cache.invalidateSubtree(ident, entityType);
+    E updatedEntity = backend.update(ident, entityType, updater);
+    // A concurrent read may cache the entities under the old identifier again during the update.
+    if (!updatedEntity.nameIdentifier().equals(ident)) {
+      cache.invalidateSubtree(ident, entityType);
+    }
+    cache.invalidateSubtree(updatedEntity.nameIdentifier(), entityType);
+    cache.put(updatedEntity);
+    return updatedEntity;
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return backend.get(ident, entityType);
+    if (!isCached(entityType)) {
+      return backend.get(ident, entityType);
+    }
+
+    return cache.getOrLoad(
+        ident, entityType, () -> SqlSessions.doOnPrimary(() -> backend.get(ident, entityType)));
   }
 
   @Override
@@ -131,6 +203,10 @@ public class RelationalEntityStore
       return backend.delete(ident, entityType, cascade);
     } catch (NoSuchEntityException nse) {
       return false;
+    } finally {
+      if (isCached(entityType)) {
+        cache.invalidateSubtree(ident, entityType);
+      }
     }
   }
 
@@ -141,6 +217,13 @@ public class RelationalEntityStore
 
   @Override
   public void close() throws IOException {
+    if (cache != null) {
+      cache.invalidateAll();
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (cacheMetricsSource != null && metricsSystem != null) {
+        metricsSystem.unregister(cacheMetricsSource);
+      }
+    }
     garbageCollector.close();
     backend.close();
   }
@@ -193,6 +276,14 @@ public class RelationalEntityStore
     return backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    return backend.batchListEntitiesByRelation(relType, nameIdentifiers, identType);
+  }
+
   @Override
   public void insertRelation(
       SupportsRelationOperations.Type relType,
@@ -204,4 +295,8 @@ public class RelationalEntityStore
       throws IOException {
     backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, true);
   }
+
+  private boolean isCached(Entity.EntityType entityType) {
+    return cache != null && EntityCache.isCacheable(entityType);
+  }
 }
@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+
+/**
+ * A size-bounded cache in front of the relational entity store. Entities are keyed by their {@link
+ * NameIdentifier} and {@link Entity.EntityType}, list results are keyed by the listed {@link
+ * Namespace}. Only the entity types in the metalake/catalog/schema/table hierarchy are cached,
+ * other entities like users, groups and roles are changed by relation operations that don't go
+ * through the entity identifier, so caching them is not safe.
+ */
+public class EntityCache {
+
+  private static final Set<Entity.EntityType> CACHEABLE_ENTITY_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.METALAKE,
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC);
+
+  private final Cache<EntityKey, Entity> entityCache;
+
+  private final Cache<ListKey, List<? extends Entity>> listCache;
+
+  public EntityCache(Config config) {
+    long maxEntries = config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES);
+    long expireTimeMs = config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS);
+
+    this.entityCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+    // A list result holds many entities, so we only keep a fraction of the entries for them.
+    this.listCache =
+        Caffeine.newBuilder()
+            .maximumSize(Math.max(1, maxEntries / 10))
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Whether the entities of the given type are cached.
+   *
+   * @param entityType The entity type.
+   * @return True if the entities of the given type are cached, false otherwise.
+   */
+  public static boolean isCacheable(Entity.EntityType entityType) {
+    return CACHEABLE_ENTITY_TYPES.contains(entityType);
+  }
+
+  /**
+   * Get the entity from the cache, load it with the loader if it is absent. Concurrent loads of the
+   * same key are deduplicated, and an invalidation that happens during the load waits for it to
+   * finish, so a stale entity will not be put back to the cache.
+   *
+   * @param ident The identifier of the entity.
+   * @param entityType The type of the entity.
+   * @param loader The loader to load the entity from the backend.
+   * @return The entity.
+   * @param <E> The class of the entity.
+   * @throws IOException If the loader fails to load the entity.
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> E getOrLoad(
+      NameIdentifier ident, Entity.EntityType entityType, EntityLoader<E> loader)
+      throws IOException {
+    try {
+      return (E)
+          entityCache.get(
+              new EntityKey(ident, entityType),
+              key -> {
+                try {
+                  return loader.load();
+                } catch (IOException ioe) {
+                  throw new UncheckedIOException(ioe);
+                }
+              });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Get the list result from the cache, load it with the loader if it is absent.
+   *
+   * @param namespace The namespace to list.
+   * @param entityType The type of the entities to list.
+   * @param allFields Whether the listed entities contain all the fields.
+   * @param loader The loader to list the entities from the backend.
+   * @return The listed entities.
+   * @param <E> The class of the entities.
+   * @throws IOException If the loader fails to list the entities.
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> List<E> getOrLoadList(
+      Namespace namespace, Entity.EntityType entityType, boolean allFields, ListLoader<E> loader)
+      throws IOException {
+    try {
+      return (List<E>)
+          listCache.get(
+              new ListKey(namespace, entityType, allFields),
+              key -> {
+                try {
+                  return ImmutableList.copyOf(loader.load());
+                } catch (IOException ioe) {
+                  throw new UncheckedIOException(ioe);
+                }
+              });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Check whether the entity is in the cache.
+   *
+   * @param ident The identifier of the entity.
+   * @param entityType The type of the entity.
+   * @return True if the entity is in the cache, false otherwise.
+   */
+  public boolean contains(NameIdentifier ident, Entity.EntityType entityType) {
+    return entityCache.getIfPresent(new EntityKey(ident, entityType)) != null;
+  }
+
+  /**
+   * Put the entity to the cache, and invalidate the list results of its namespace.
+   *
+   * @param entity The entity to put.
+   * @param <E> The class of the entity.
+   */
+  public <E extends Entity & HasIdentifier> void put(E entity) {
+    NameIdentifier ident = entity.nameIdentifier();
+    invalidateList(ident.namespace());
+    entityCache.put(new EntityKey(ident, entity.type()), entity);
+  }
+
+  /**
+   * Invalidate the entity and the list results of its namespace.
+   *
+   * @param ident The identifier of the entity.
+   * @param entityType The type of the entity.
+   */
+  public void invalidate(NameIdentifier ident, Entity.EntityType entityType) {
+    invalidateList(ident.namespace());
+    entityCache.invalidate(new EntityKey(ident, entityType));
+  }
+
+  /**
+   * Invalidate the entity, all the entities under it and all the list results in or under it. It's
+   * used when an entity is renamed or deleted in cascade, since the identifiers of all its children
+   * change as well.
+   *
+   * @param ident The identifier of the root entity of the subtree.
+   * @param entityType The type of the root entity of the subtree.
+   */
+  public void invalidateSubtree(NameIdentifier ident, Entity.EntityType entityType) {
+    invalidate(ident, entityType);
+
+    String[] prefix = levels(ident);
+    entityCache.asMap().keySet().removeIf(key -> startsWith(levels(key.ident), prefix));
+    listCache.asMap().keySet().removeIf(key -> startsWith(key.namespace.levels(), prefix));
+  }
+
+  /** Invalidate all the entries in the cache. */
+  public void invalidateAll() {
+    entityCache.invalidateAll();
+    listCache.invalidateAll();
+  }
+
+  /**
+   * Get the statistics of the entity cache.
+   *
+   * @return The statistics of the entity cache.
+   */
+  public CacheStats entityCacheStats() {
+    return entityCache.stats();
+  }
+
+  /**
+   * Get the statistics of the list cache.
+   *
+   * @return The statistics of the list cache.
+   */
+  public CacheStats listCacheStats() {
+    return listCache.stats();
+  }
+
+  @VisibleForTesting
+  long entityCacheSize() {
+    entityCache.cleanUp();
+    return entityCache.estimatedSize();
+  }
+
+  @VisibleForTesting
+  long listCacheSize() {
+    listCache.cleanUp();
+    return listCache.estimatedSize();
+  }
+
+  /**
+   * Get the estimated number of entries in the cache.
+   *
+   * @return The estimated number of entries.
+   */
+  public long estimatedSize() {
+    return entityCache.estimatedSize() + listCache.estimatedSize();
+  }
+
+  private void invalidateList(Namespace namespace) {
+    listCache.asMap().keySet().removeIf(key -> key.namespace.equals(namespace));
+  }
+
+  private static String[] levels(NameIdentifier ident) {
+    String[] namespaceLevels = ident.namespace().levels();
+    String[] levels = Arrays.copyOf(namespaceLevels, namespaceLevels.length + 1);
+    levels[namespaceLevels.length] = ident.name();
+    return levels;
+  }
+
+  private static boolean startsWith(String[] levels, String[] prefix) {
+    if (levels.length < prefix.length) {
+      return false;
+    }
+
+    for (int i = 0; i < prefix.length; i++) {
+      if (!levels[i].equals(prefix[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Loader to load an entity from the backend.
+   *
+   * @param <E> The class of the entity.
+   */
+  @FunctionalInterface
+  public interface EntityLoader<E> {
+    E load() throws IOException;
+  }
+
+  /**
+   * Loader to list entities from the backend.
+   *
+   * @param <E> The class of the entities.
+   */
+  @FunctionalInterface
+  public interface ListLoader<E> {
+    List<E> load() throws IOException;
+  }
+
+  private static class EntityKey {
+    private final NameIdentifier ident;
+    private final Entity.EntityType entityType;
+
+    private EntityKey(NameIdentifier ident, Entity.EntityType entityType) {
+      this.ident = ident;
+      this.entityType = entityType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof EntityKey)) {
+        return false;
+      }
+      EntityKey that = (EntityKey) o;
+      return Objects.equals(ident, that.ident) && entityType == that.entityType;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(ident, entityType);
+    }
+  }
+
+  private static class ListKey {
+    private final Namespace namespace;
+    private final Entity.EntityType entityType;
+    private final boolean allFields;
+
+    private ListKey(Namespace namespace, Entity.EntityType entityType, boolean allFields) {
+      this.namespace = namespace;
+      this.entityType = entityType;
+      this.allFields = allFields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ListKey)) {
+        return false;
+      }
+      ListKey that = (ListKey) o;
+      return Objects.equals(namespace, that.namespace)
+          && entityType == that.entityType
+          && allFields == that.allFields;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(namespace, entityType, allFields);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.CatalogChangePO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+/**
+ * A MyBatis Mapper for catalog change log operation SQLs.
+ *
+ * <p>This interface class is a specification defined by MyBatis. It requires this interface class
+ * to identify the corresponding SQLs for execution. We can write SQLs in an additional XML file, or
+ * write SQLs with annotations in this interface Mapper. See: <a
+ * href="https://mybatis.org/mybatis-3/getting-started.html"></a>
+ */
+public interface CatalogChangeLogMapper {
+
+  String CATALOG_CHANGE_LOG_TABLE_NAME = "catalog_change_log";
+
+  @InsertProvider(type = CatalogChangeLogSQLProviderFactory.class, method = "insertCatalogChange")
+  void insertCatalogChange(@Param("catalogChange") CatalogChangePO catalogChangePO);
+
+  @SelectProvider(type = CatalogChangeLogSQLProviderFactory.class, method = "selectMaxChangeId")
+  Long selectMaxChangeId();
+
+  @SelectProvider(type = CatalogChangeLogSQLProviderFactory.class, method = "selectMinChangeId")
+  Long selectMinChangeId();
+
+  @SelectProvider(
+      type = CatalogChangeLogSQLProviderFactory.class,
+      method = "listCatalogChangesByMetalakeName")
+  List<CatalogChangePO> listCatalogChangesByMetalakeName(
+      @Param("metalakeName") String metalakeName,
+      @Param("sinceId") Long sinceId,
+      @Param("untilId") Long untilId);
+
+  @DeleteProvider(
+      type = CatalogChangeLogSQLProviderFactory.class,
+      method = "deleteCatalogChangesUntilId")
+  Integer deleteCatalogChangesUntilId(@Param("untilId") Long untilId);
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.storage.relational.mapper.provider.base.CatalogChangeLogBaseSQLProvider;
+import org.apache.gravitino.storage.relational.mapper.provider.postgresql.CatalogChangeLogPostgreSQLProvider;
+import org.apache.gravitino.storage.relational.po.CatalogChangePO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class CatalogChangeLogSQLProviderFactory {
+
+  private static final Map<JDBCBackendType, CatalogChangeLogBaseSQLProvider>
+      CATALOG_CHANGE_LOG_SQL_PROVIDER_MAP =
+          ImmutableMap.of(
+              JDBCBackendType.MYSQL, new CatalogChangeLogMySQLProvider(),
+              JDBCBackendType.H2, new CatalogChangeLogH2Provider(),
+              JDBCBackendType.POSTGRESQL, new CatalogChangeLogPostgreSQLProvider());
+
+  public static CatalogChangeLogBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackendType jdbcBackendType = JDBCBackendType.fromString(databaseId);
+    return CATALOG_CHANGE_LOG_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  static class CatalogChangeLogMySQLProvider extends CatalogChangeLogBaseSQLProvider {}
+
+  static class CatalogChangeLogH2Provider extends CatalogChangeLogBaseSQLProvider {}
+
+  public static String insertCatalogChange(
+      @Param("catalogChange") CatalogChangePO catalogChangePO) {
+    return getProvider().insertCatalogChange(catalogChangePO);
+  }
+
+  public static String selectMaxChangeId() {
+    return getProvider().selectMaxChangeId();
+  }
+
+  public static String selectMinChangeId() {
+    return getProvider().selectMinChangeId();
+  }
+
+  public static String listCatalogChangesByMetalakeName(
+      @Param("metalakeName") String metalakeName,
+      @Param("sinceId") Long sinceId,
+      @Param("untilId") Long untilId) {
+    return getProvider().listCatalogChangesByMetalakeName(metalakeName, sinceId, untilId);
+  }
+
+  public static String deleteCatalogChangesUntilId(@Param("untilId") Long untilId) {
+    return getProvider().deleteCatalogChangesUntilId(untilId);
+  }
+}
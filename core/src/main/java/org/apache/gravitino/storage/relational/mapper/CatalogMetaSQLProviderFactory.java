@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.CatalogMetaBaseSQLProvider;
@@ -61,6 +62,11 @@ public class CatalogMetaSQLProviderFactory {
     return getProvider().selectCatalogIdByMetalakeIdAndName(metalakeId, name);
   }
 
+  public static String selectCatalogIdsByMetalakeNameAndCatalogName(
+      @Param("metalakeName") String metalakeName, @Param("catalogName") String catalogName) {
+    return getProvider().selectCatalogIdsByMetalakeNameAndCatalogName(metalakeName, catalogName);
+  }
+
   public static String selectCatalogMetaByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("catalogName") String name) {
     return getProvider().selectCatalogMetaByMetalakeIdAndName(metalakeId, name);
@@ -70,6 +76,10 @@ public class CatalogMetaSQLProviderFactory {
     return getProvider().selectCatalogMetaById(catalogId);
   }
 
+  public static String listCatalogPOsByCatalogIds(@Param("catalogIds") List<Long> catalogIds) {
+    return getProvider().listCatalogPOsByCatalogIds(catalogIds);
+  }
+
   public static String insertCatalogMeta(@Param("catalogMeta") CatalogPO catalogPO) {
     return getProvider().insertCatalogMeta(catalogPO);
   }
@@ -60,6 +60,12 @@ public interface GroupMetaMapper {
       method = "listExtendedGroupPOsByMetalakeId")
   List<ExtendedGroupPO> listExtendedGroupPOsByMetalakeId(Long metalakeId);
 
+  @SelectProvider(
+      type = GroupMetaSQLProviderFactory.class,
+      method = "listExtendedGroupPOsByRoleNames")
+  List<ExtendedGroupPO> listExtendedGroupPOsByRoleNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames);
+
   @InsertProvider(type = GroupMetaSQLProviderFactory.class, method = "insertGroupMeta")
   void insertGroupMeta(@Param("groupMeta") GroupPO groupPO);
 
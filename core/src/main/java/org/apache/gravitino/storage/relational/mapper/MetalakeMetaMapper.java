@@ -47,6 +47,11 @@ public interface MetalakeMetaMapper {
   @SelectProvider(type = MetalakeMetaSQLProviderFactory.class, method = "selectMetalakeMetaById")
   MetalakePO selectMetalakeMetaById(@Param("metalakeId") Long metalakeId);
 
+  @SelectProvider(
+      type = MetalakeMetaSQLProviderFactory.class,
+      method = "listMetalakePOsByMetalakeIds")
+  List<MetalakePO> listMetalakePOsByMetalakeIds(@Param("metalakeIds") List<Long> metalakeIds);
+
   @SelectProvider(
       type = MetalakeMetaSQLProviderFactory.class,
       method = "selectMetalakeIdMetaByName")
@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.SchemaMetaBaseSQLProvider;
@@ -59,6 +60,15 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().selectSchemaIdByCatalogIdAndName(catalogId, name);
   }
 
+  public static String selectSchemaIdsByMetalakeNameAndCatalogNameAndSchemaName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName) {
+    return getProvider()
+        .selectSchemaIdsByMetalakeNameAndCatalogNameAndSchemaName(
+            metalakeName, catalogName, schemaName);
+  }
+
   public static String selectSchemaMetaByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name) {
     return getProvider().selectSchemaMetaByCatalogIdAndName(catalogId, name);
@@ -68,6 +78,10 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().selectSchemaMetaById(schemaId);
   }
 
+  public static String listSchemaPOsBySchemaIds(@Param("schemaIds") List<Long> schemaIds) {
+    return getProvider().listSchemaPOsBySchemaIds(schemaIds);
+  }
+
   public static String insertSchemaMeta(@Param("schemaMeta") SchemaPO schemaPO) {
     return getProvider().insertSchemaMeta(schemaPO);
   }
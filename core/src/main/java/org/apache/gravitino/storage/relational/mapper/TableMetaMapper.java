@@ -56,9 +56,15 @@ public interface TableMetaMapper {
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "selectTableMetaById")
   TablePO selectTableMetaById(@Param("tableId") Long tableId);
 
+  @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "listTablePOsByTableIds")
+  List<TablePO> listTablePOsByTableIds(@Param("tableIds") List<Long> tableIds);
+
   @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "insertTableMeta")
   void insertTableMeta(@Param("tableMeta") TablePO tablePO);
 
+  @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "batchInsertTableMetas")
+  void batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs);
+
   @InsertProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "insertTableMetaOnDuplicateKeyUpdate")
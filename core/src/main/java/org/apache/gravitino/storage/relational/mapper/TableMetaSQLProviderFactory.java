@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableMetaBaseSQLProvider;
@@ -68,10 +69,18 @@ public class TableMetaSQLProviderFactory {
     return getProvider().selectTableMetaById(tableId);
   }
 
+  public static String listTablePOsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return getProvider().listTablePOsByTableIds(tableIds);
+  }
+
   public static String insertTableMeta(@Param("tableMeta") TablePO tablePO) {
     return getProvider().insertTableMeta(tablePO);
   }
 
+  public static String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetas(tablePOs);
+  }
+
   public static String insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO) {
     return getProvider().insertTableMetaOnDuplicateKeyUpdate(tablePO);
   }
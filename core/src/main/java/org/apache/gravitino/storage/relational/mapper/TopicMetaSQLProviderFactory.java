@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TopicMetaBaseSQLProvider;
@@ -72,6 +73,10 @@ public class TopicMetaSQLProviderFactory {
     return getProvider().selectTopicMetaById(topicId);
   }
 
+  public static String listTopicPOsByTopicIds(@Param("topicIds") List<Long> topicIds) {
+    return getProvider().listTopicPOsByTopicIds(topicIds);
+  }
+
   public static String updateTopicMeta(
       @Param("newTopicMeta") TopicPO newTopicPO, @Param("oldTopicMeta") TopicPO oldTopicPO) {
     return getProvider().updateTopicMeta(newTopicPO, oldTopicPO);
@@ -63,6 +63,12 @@ public interface UserMetaMapper {
       method = "listExtendedUserPOsByMetalakeId")
   List<ExtendedUserPO> listExtendedUserPOsByMetalakeId(@Param("metalakeId") Long metalakeId);
 
+  @SelectProvider(
+      type = UserMetaSQLProviderFactory.class,
+      method = "listExtendedUserPOsByRoleNames")
+  List<ExtendedUserPO> listExtendedUserPOsByRoleNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames);
+
   @InsertProvider(
       type = UserMetaSQLProviderFactory.class,
       method = "insertUserMetaOnDuplicateKeyUpdate")
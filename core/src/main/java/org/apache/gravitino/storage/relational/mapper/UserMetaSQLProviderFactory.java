@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.UserMetaBaseSQLProvider;
@@ -93,6 +94,11 @@ public class UserMetaSQLProviderFactory {
     return getProvider().listExtendedUserPOsByMetalakeId(metalakeId);
   }
 
+  public static String listExtendedUserPOsByRoleNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames) {
+    return getProvider().listExtendedUserPOsByRoleNames(metalakeId, roleNames);
+  }
+
   public static String deleteUserMetasByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteUserMetasByLegacyTimeline(legacyTimeline, limit);
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.CatalogChangeLogMapper.CATALOG_CHANGE_LOG_TABLE_NAME;
+
+import org.apache.gravitino.storage.relational.po.CatalogChangePO;
+import org.apache.ibatis.annotations.Param;
+
+public class CatalogChangeLogBaseSQLProvider {
+
+  public String insertCatalogChange(@Param("catalogChange") CatalogChangePO catalogChangePO) {
+    return "INSERT INTO "
+        + CATALOG_CHANGE_LOG_TABLE_NAME
+        + "(metalake_name, catalog_name, change_type, event_time)"
+        + " VALUES("
+        + " #{catalogChange.metalakeName},"
+        + " #{catalogChange.catalogName},"
+        + " #{catalogChange.changeType},"
+        + " #{catalogChange.eventTime}"
+        + " )";
+  }
+
+  public String selectMaxChangeId() {
+    return "SELECT MAX(id) FROM " + CATALOG_CHANGE_LOG_TABLE_NAME;
+  }
+
+  public String selectMinChangeId() {
+    return "SELECT MIN(id) FROM " + CATALOG_CHANGE_LOG_TABLE_NAME;
+  }
+
+  public String listCatalogChangesByMetalakeName(
+      @Param("metalakeName") String metalakeName,
+      @Param("sinceId") Long sinceId,
+      @Param("untilId") Long untilId) {
+    return "SELECT id, metalake_name AS metalakeName, catalog_name AS catalogName,"
+        + " change_type AS changeType, event_time AS eventTime"
+        + " FROM "
+        + CATALOG_CHANGE_LOG_TABLE_NAME
+        + " WHERE metalake_name = #{metalakeName} AND id > #{sinceId} AND id <= #{untilId}"
+        + " ORDER BY id";
+  }
+
+  public String deleteCatalogChangesUntilId(@Param("untilId") Long untilId) {
+    return "DELETE FROM " + CATALOG_CHANGE_LOG_TABLE_NAME + " WHERE id <= #{untilId}";
+  }
+}
@@ -22,6 +22,7 @@ import static org.apache.gravitino.storage.relational.mapper.GroupMetaMapper.GRO
 import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.GROUP_ROLE_RELATION_TABLE_NAME;
 import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.ROLE_TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.po.GroupPO;
 import org.apache.ibatis.annotations.Param;
@@ -179,4 +180,32 @@ public class GroupMetaBaseSQLProvider {
         + GROUP_TABLE_NAME
         + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
   }
+
+  public String listExtendedGroupPOsByRoleNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames) {
+    return "<script>"
+        + "SELECT gt.group_id as groupId, gt.group_name as groupName,"
+        + " gt.metalake_id as metalakeId,"
+        + " gt.audit_info as auditInfo,"
+        + " gt.current_version as currentVersion, gt.last_version as lastVersion,"
+        + " gt.deleted_at as deletedAt,"
+        + " JSON_ARRAYAGG(rot.role_name) as roleNames,"
+        + " JSON_ARRAYAGG(rot.role_id) as roleIds"
+        + " FROM "
+        + GROUP_TABLE_NAME
+        + " gt JOIN "
+        + GROUP_ROLE_RELATION_TABLE_NAME
+        + " rt ON rt.group_id = gt.group_id"
+        + " JOIN "
+        + ROLE_TABLE_NAME
+        + " rot ON rot.role_id = rt.role_id"
+        + " WHERE gt.deleted_at = 0 AND rt.deleted_at = 0 AND rot.deleted_at = 0"
+        + " AND gt.metalake_id = #{metalakeId} AND rot.metalake_id = #{metalakeId}"
+        + " AND rot.role_name IN "
+        + "<foreach item='roleName' collection='roleNames' open='(' separator=',' close=')'>"
+        + "#{roleName}"
+        + "</foreach>"
+        + " GROUP BY gt.group_id"
+        + "</script>";
+  }
 }
@@ -20,6 +20,9 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper.TABLE_NAME;
 
+import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -43,6 +46,25 @@ public class SchemaMetaBaseSQLProvider {
         + " AND deleted_at = 0";
   }
 
+  public String selectSchemaIdsByMetalakeNameAndCatalogNameAndSchemaName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName) {
+    return "SELECT mm.metalake_id as metalakeId, cm.catalog_id as catalogId,"
+        + " sm.schema_id as schemaId"
+        + " FROM "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mm INNER JOIN "
+        + CatalogMetaMapper.TABLE_NAME
+        + " cm ON mm.metalake_id = cm.metalake_id"
+        + " INNER JOIN "
+        + TABLE_NAME
+        + " sm ON cm.catalog_id = sm.catalog_id"
+        + " WHERE mm.metalake_name = #{metalakeName} AND cm.catalog_name = #{catalogName}"
+        + " AND sm.schema_name = #{schemaName}"
+        + " AND mm.deleted_at = 0 AND cm.deleted_at = 0 AND sm.deleted_at = 0";
+  }
+
   public String selectSchemaMetaByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name) {
     return "SELECT schema_id as schemaId, schema_name as schemaName,"
@@ -66,6 +88,23 @@ public class SchemaMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
   }
 
+  public String listSchemaPOsBySchemaIds(@Param("schemaIds") List<Long> schemaIds) {
+    return "<script>"
+        + "SELECT schema_id as schemaId, schema_name as schemaName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_comment as schemaComment, properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id IN "
+        + "<foreach item='schemaId' collection='schemaIds' open='(' separator=',' close=')'>"
+        + "#{schemaId}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String insertSchemaMeta(@Param("schemaMeta") SchemaPO schemaPO) {
     return "INSERT INTO "
         + TABLE_NAME
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.TableMetaMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.Param;
 
@@ -67,6 +68,23 @@ public class TableMetaBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  public String listTablePOsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + "SELECT table_id as tableId, table_name as tableName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_id as schemaId, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE table_id IN "
+        + "<foreach item='tableId' collection='tableIds' open='(' separator=',' close=')'>"
+        + "#{tableId}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String insertTableMeta(@Param("tableMeta") TablePO tablePO) {
     return "INSERT INTO "
         + TABLE_NAME
@@ -86,6 +104,22 @@ public class TableMetaBaseSQLProvider {
         + " )";
   }
 
+  public String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='tableMetas' item='item' separator=','>"
+        + "(#{item.tableId}, #{item.tableName}, #{item.metalakeId},"
+        + " #{item.catalogId}, #{item.schemaId}, #{item.auditInfo},"
+        + " #{item.currentVersion}, #{item.lastVersion}, #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
   public String insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO) {
     return "INSERT INTO "
         + TABLE_NAME
@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.TopicMetaMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.TopicPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -113,6 +114,23 @@ public class TopicMetaBaseSQLProvider {
         + " WHERE topic_id = #{topicId} AND deleted_at = 0";
   }
 
+  public String listTopicPOsByTopicIds(@Param("topicIds") List<Long> topicIds) {
+    return "<script>"
+        + "SELECT topic_id as topicId, topic_name as topicName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId, schema_id as schemaId,"
+        + " comment as comment, properties as properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE topic_id IN "
+        + "<foreach item='topicId' collection='topicIds' open='(' separator=',' close=')'>"
+        + "#{topicId}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String updateTopicMeta(
       @Param("newTopicMeta") TopicPO newTopicPO, @Param("oldTopicMeta") TopicPO oldTopicPO) {
     return "UPDATE "
@@ -23,6 +23,7 @@ import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.ROLE
 import static org.apache.gravitino.storage.relational.mapper.UserMetaMapper.USER_ROLE_RELATION_TABLE_NAME;
 import static org.apache.gravitino.storage.relational.mapper.UserRoleRelMapper.USER_TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.po.UserPO;
 import org.apache.ibatis.annotations.Param;
@@ -184,4 +185,32 @@ public class UserMetaBaseSQLProvider {
         + USER_TABLE_NAME
         + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
   }
+
+  public String listExtendedUserPOsByRoleNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames) {
+    return "<script>"
+        + "SELECT ut.user_id as userId, ut.user_name as userName,"
+        + " ut.metalake_id as metalakeId,"
+        + " ut.audit_info as auditInfo,"
+        + " ut.current_version as currentVersion, ut.last_version as lastVersion,"
+        + " ut.deleted_at as deletedAt,"
+        + " JSON_ARRAYAGG(rot.role_name) as roleNames,"
+        + " JSON_ARRAYAGG(rot.role_id) as roleIds"
+        + " FROM "
+        + USER_TABLE_NAME
+        + " ut JOIN "
+        + USER_ROLE_RELATION_TABLE_NAME
+        + " rt ON rt.user_id = ut.user_id"
+        + " JOIN "
+        + ROLE_TABLE_NAME
+        + " rot ON rot.role_id = rt.role_id"
+        + " WHERE ut.deleted_at = 0 AND rt.deleted_at = 0 AND rot.deleted_at = 0"
+        + " AND ut.metalake_id = #{metalakeId} AND rot.metalake_id = #{metalakeId}"
+        + " AND rot.role_name IN "
+        + "<foreach item='roleName' collection='roleNames' open='(' separator=',' close=')'>"
+        + "#{roleName}"
+        + "</foreach>"
+        + " GROUP BY ut.user_id"
+        + "</script>";
+  }
 }
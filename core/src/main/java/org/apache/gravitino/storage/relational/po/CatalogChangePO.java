@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of catalog change. */
+@Getter
+public class CatalogChangePO {
+
+  private Long id;
+  private String metalakeName;
+  private String catalogName;
+  private String changeType;
+  private Long eventTime;
+
+  private CatalogChangePO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final CatalogChangePO catalogChangePO;
+
+    private Builder() {
+      this.catalogChangePO = new CatalogChangePO();
+    }
+
+    public Builder withId(Long id) {
+      catalogChangePO.id = id;
+      return this;
+    }
+
+    public Builder withMetalakeName(String metalakeName) {
+      catalogChangePO.metalakeName = metalakeName;
+      return this;
+    }
+
+    public Builder withCatalogName(String catalogName) {
+      catalogChangePO.catalogName = catalogName;
+      return this;
+    }
+
+    public Builder withChangeType(String changeType) {
+      catalogChangePO.changeType = changeType;
+      return this;
+    }
+
+    public Builder withEventTime(Long eventTime) {
+      catalogChangePO.eventTime = eventTime;
+      return this;
+    }
+
+    public CatalogChangePO build() {
+      validate();
+      return catalogChangePO;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(catalogChangePO.metalakeName), "Metalake name is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(catalogChangePO.catalogName), "Catalog name is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(catalogChangePO.changeType), "Change type is required");
+      Preconditions.checkArgument(catalogChangePO.eventTime != null, "Event time is required");
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Objects;
+
+/**
+ * The ids of the metalake, catalog and schema a namespace refers to. The ids of the levels that the
+ * namespace doesn't have are null, e.g., the schema id of the namespace "metalake.catalog".
+ */
+public class ParentEntityIdsPO {
+  private Long metalakeId;
+  private Long catalogId;
+  private Long schemaId;
+
+  public ParentEntityIdsPO() {}
+
+  public ParentEntityIdsPO(Long metalakeId, Long catalogId, Long schemaId) {
+    this.metalakeId = metalakeId;
+    this.catalogId = catalogId;
+    this.schemaId = schemaId;
+  }
+
+  public Long getMetalakeId() {
+    return metalakeId;
+  }
+
+  public Long getCatalogId() {
+    return catalogId;
+  }
+
+  public Long getSchemaId() {
+    return schemaId;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof ParentEntityIdsPO)) return false;
+    ParentEntityIdsPO that = (ParentEntityIdsPO) o;
+    return Objects.equal(getMetalakeId(), that.getMetalakeId())
+        && Objects.equal(getCatalogId(), that.getCatalogId())
+        && Objects.equal(getSchemaId(), that.getSchemaId());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(getMetalakeId(), getCatalogId(), getSchemaId());
+  }
+}
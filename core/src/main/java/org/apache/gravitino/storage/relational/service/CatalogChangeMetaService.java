@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.CatalogChangeLogMapper;
+import org.apache.gravitino.storage.relational.po.CatalogChangePO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/**
+ * The service class for the catalog change log. The auto-increment id of a change is its sequence
+ * number, so the sequence is shared by all the servers using the same entity store.
+ */
+public class CatalogChangeMetaService {
+
+  private static final CatalogChangeMetaService INSTANCE = new CatalogChangeMetaService();
+
+  public static CatalogChangeMetaService getInstance() {
+    return INSTANCE;
+  }
+
+  private CatalogChangeMetaService() {}
+
+  /**
+   * Inserts a catalog change and deletes the changes falling out of the latest ones to keep.
+   *
+   * @param catalogChangePO The catalog change to insert.
+   * @param capacity The number of the latest changes to keep.
+   */
+  public void insertCatalogChange(CatalogChangePO catalogChangePO, int capacity) {
+    SessionUtils.doWithCommit(
+        CatalogChangeLogMapper.class, mapper -> mapper.insertCatalogChange(catalogChangePO));
+
+    Long maxChangeId =
+        SessionUtils.doWithCommitAndFetchResult(
+            CatalogChangeLogMapper.class, CatalogChangeLogMapper::selectMaxChangeId);
+    if (maxChangeId != null && maxChangeId > capacity) {
+      SessionUtils.doWithCommit(
+          CatalogChangeLogMapper.class,
+          mapper -> mapper.deleteCatalogChangesUntilId(maxChangeId - capacity));
+    }
+  }
+
+  /**
+   * Returns the sequence number of the latest catalog change.
+   *
+   * @return The sequence number of the latest change, or 0 if there is no change.
+   */
+  public long getLatestChangeId() {
+    Long maxChangeId =
+        SessionUtils.getWithoutCommit(
+            CatalogChangeLogMapper.class, CatalogChangeLogMapper::selectMaxChangeId);
+    return maxChangeId == null ? 0 : maxChangeId;
+  }
+
+  /**
+   * Returns the sequence number of the oldest catalog change kept.
+   *
+   * @return The sequence number of the oldest change, or {@code null} if there is no change.
+   */
+  public Long getOldestChangeId() {
+    return SessionUtils.getWithoutCommit(
+        CatalogChangeLogMapper.class, CatalogChangeLogMapper::selectMinChangeId);
+  }
+
+  /**
+   * Lists the catalog changes of the metalake in the order of their sequence numbers.
+   *
+   * @param metalakeName The name of the metalake.
+   * @param sinceId The changes after this sequence number are listed.
+   * @param untilId The changes up to this sequence number are listed.
+   * @return The catalog changes.
+   */
+  public List<CatalogChangePO> listCatalogChanges(String metalakeName, long sinceId, long untilId) {
+    return SessionUtils.getWithoutCommit(
+        CatalogChangeLogMapper.class,
+        mapper -> mapper.listCatalogChangesByMetalakeName(metalakeName, sinceId, untilId));
+  }
+}
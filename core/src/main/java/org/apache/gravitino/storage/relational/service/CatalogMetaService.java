@@ -87,6 +87,11 @@ public class CatalogMetaService {
     return catalogPO;
   }
 
+  public List<CatalogPO> listCatalogPOsByCatalogIds(List<Long> catalogIds) {
+    return SessionUtils.getWithoutCommit(
+        CatalogMetaMapper.class, mapper -> mapper.listCatalogPOsByCatalogIds(catalogIds));
+  }
+
   public Long getCatalogIdByMetalakeIdAndName(Long metalakeId, String catalogName) {
     Long catalogId =
         SessionUtils.getWithoutCommit(
@@ -130,12 +135,13 @@ public class CatalogMetaService {
     try {
       NameIdentifierUtil.checkCatalog(catalogEntity.nameIdentifier());
 
-      Long metalakeId =
-          CommonMetaService.getInstance().getParentEntityIdByNamespace(catalogEntity.namespace());
-
       SessionUtils.doWithCommit(
           CatalogMetaMapper.class,
           mapper -> {
+            Long metalakeId =
+                CommonMetaService.getInstance()
+                    .getParentEntityIdsByNamespaceForWrite(catalogEntity.namespace())
+                    .getMetalakeId();
             CatalogPO po = POConverters.initializeCatalogPOWithVersion(catalogEntity, metalakeId);
             if (overwrite) {
               mapper.insertCatalogMetaOnDuplicateKeyUpdate(po);
@@ -148,6 +154,10 @@ public class CatalogMetaService {
           re, Entity.EntityType.CATALOG, catalogEntity.nameIdentifier().toString());
       throw re;
     }
+
+    if (overwrite) {
+      CommonMetaService.getInstance().invalidateParentEntityIds(catalogEntity.nameIdentifier());
+    }
   }
 
   public <E extends Entity & HasIdentifier> CatalogEntity updateCatalog(
@@ -184,6 +194,9 @@ public class CatalogMetaService {
       throw re;
     }
 
+    // Renaming the catalog changes the namespaces of its schemas, tables and so on.
+    CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
+
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -275,6 +288,7 @@ public class CatalogMetaService {
                           catalogId, MetadataObject.Type.CATALOG.name())));
     }
 
+    CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
     return true;
   }
 
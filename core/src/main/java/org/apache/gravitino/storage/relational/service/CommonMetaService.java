@@ -16,45 +16,181 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.gravitino.storage.relational.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
 
 /** The service class for common metadata operations. */
 public class CommonMetaService {
   private static final CommonMetaService INSTANCE = new CommonMetaService();
 
+  // The cache from namespace to the ids of its levels, it's null if the cache is not enabled.
+  private volatile Cache<Namespace, ParentEntityIdsPO> parentEntityIdsCache;
+
   public static CommonMetaService getInstance() {
     return INSTANCE;
   }
 
   private CommonMetaService() {}
 
+  /**
+   * Initialize the name to id cache of the namespaces, the cache is only enabled when the entity
+   * store cache is enabled since it may be stale if several servers share one entity store.
+   *
+   * @param config The configuration of the entity store.
+   */
+  public void init(Config config) {
+    if (config.get(Configs.ENTITY_STORE_CACHE_ENABLED)) {
+      this.parentEntityIdsCache =
+          Caffeine.newBuilder()
+              .maximumSize(config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES))
+              .expireAfterWrite(
+                  config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS), TimeUnit.MILLISECONDS)
+              .build();
+    } else {
+      this.parentEntityIdsCache = null;
+    }
+  }
+
   public Long getParentEntityIdByNamespace(Namespace namespace) {
+    ParentEntityIdsPO parentEntityIds = getParentEntityIdsByNamespace(namespace);
+    Long parentEntityId;
+    if (parentEntityIds.getSchemaId() != null) {
+      parentEntityId = parentEntityIds.getSchemaId();
+    } else if (parentEntityIds.getCatalogId() != null) {
+      parentEntityId = parentEntityIds.getCatalogId();
+    } else {
+      parentEntityId = parentEntityIds.getMetalakeId();
+    }
+
+    Preconditions.checkState(
+        parentEntityId != null && parentEntityId > 0,
+        "Parent entity id should not be null and should be greater than 0.");
+    return parentEntityId;
+  }
+
+  /**
+   * Get the ids of the metalake, catalog and schema of the namespace for a read. The ids are
+   * resolved with one joined query and cached if the cache is enabled.
+   *
+   * @param namespace The namespace with one to three levels.
+   * @return The ids of all the levels of the namespace.
+   */
+  public ParentEntityIdsPO getParentEntityIdsByNamespace(Namespace namespace) {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
-    Long parentEntityId = null;
-    if (namespace.levels().length >= 1) {
-      parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+
+    Cache<Namespace, ParentEntityIdsPO> cache = parentEntityIdsCache;
+    if (cache == null) {
+      return loadParentEntityIds(namespace);
     }
+    // The cached ids are used by the reads of all the users, so they are loaded from the primary
+    // database instead of a read replica that may still have the ids of a dropped entity. The
+    // writes don't use the cache, see getParentEntityIdsByNamespaceForWrite.
+    return cache.get(namespace, ns -> SqlSessions.doOnPrimary(() -> loadParentEntityIds(ns)));
+  }
 
-    if (namespace.levels().length >= 2) {
-      parentEntityId =
-          CatalogMetaService.getInstance()
-              .getCatalogIdByMetalakeIdAndName(parentEntityId, namespace.level(1));
+  /**
+   * Get the ids of the metalake, catalog and schema of the namespace for a write. The ids are never
+   * taken from the cache, which may still have the ids of a metalake, catalog or schema dropped or
+   * renamed by another server. It should be called in the transaction of the write, so the ids are
+   * resolved in the same transaction as the entity is inserted.
+   *
+   * @param namespace The namespace with one to three levels.
+   * @return The ids of all the levels of the namespace.
+   */
+  public ParentEntityIdsPO getParentEntityIdsByNamespaceForWrite(Namespace namespace) {
+    Preconditions.checkArgument(
+        !namespace.isEmpty() && namespace.levels().length <= 3,
+        "Namespace should not be empty and length should be less than or equal to 3.");
+    return loadParentEntityIds(namespace);
+  }
+
+  /**
+   * Invalidate the cached ids of the namespaces under the entity, it should be called when a
+   * metalake, catalog or schema is renamed, dropped or overwritten.
+   *
+   * @param ident The identifier of the metalake, catalog or schema.
+   */
+  public void invalidateParentEntityIds(NameIdentifier ident) {
+    Cache<Namespace, ParentEntityIdsPO> cache = parentEntityIdsCache;
+    if (cache == null) {
+      return;
+    }
+
+    String[] identLevels = ident.namespace().levels();
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            namespace -> {
+              String[] levels = namespace.levels();
+              if (levels.length <= identLevels.length) {
+                return false;
+              }
+              for (int i = 0; i < identLevels.length; i++) {
+                if (!levels[i].equals(identLevels[i])) {
+                  return false;
+                }
+              }
+              return levels[identLevels.length].equals(ident.name());
+            });
+  }
+
+  private ParentEntityIdsPO loadParentEntityIds(Namespace namespace) {
+    ParentEntityIdsPO parentEntityIds;
+    switch (namespace.levels().length) {
+      case 1:
+        Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+        return new ParentEntityIdsPO(metalakeId, null, null);
+      case 2:
+        parentEntityIds =
+            SessionUtils.getWithoutCommit(
+                CatalogMetaMapper.class,
+                mapper ->
+                    mapper.selectCatalogIdsByMetalakeNameAndCatalogName(
+                        namespace.level(0), namespace.level(1)));
+        break;
+      default:
+        parentEntityIds =
+            SessionUtils.getWithoutCommit(
+                SchemaMetaMapper.class,
+                mapper ->
+                    mapper.selectSchemaIdsByMetalakeNameAndCatalogNameAndSchemaName(
+                        namespace.level(0), namespace.level(1), namespace.level(2)));
     }
 
+    if (parentEntityIds == null) {
+      // Resolve the levels one by one to throw the exception for the missing level.
+      return loadParentEntityIdsLevelByLevel(namespace);
+    }
+    return parentEntityIds;
+  }
+
+  private ParentEntityIdsPO loadParentEntityIdsLevelByLevel(Namespace namespace) {
+    Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+    Long catalogId =
+        CatalogMetaService.getInstance()
+            .getCatalogIdByMetalakeIdAndName(metalakeId, namespace.level(1));
+    Long schemaId = null;
     if (namespace.levels().length >= 3) {
-      parentEntityId =
+      schemaId =
           SchemaMetaService.getInstance()
-              .getSchemaIdByCatalogIdAndName(parentEntityId, namespace.level(2));
+              .getSchemaIdByCatalogIdAndName(catalogId, namespace.level(2));
     }
-    Preconditions.checkState(
-        parentEntityId != null && parentEntityId > 0,
-        "Parent entity id should not be null and should be greater than 0.");
-    return parentEntityId;
+    return new ParentEntityIdsPO(metalakeId, catalogId, schemaId);
   }
 }
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
@@ -37,6 +38,8 @@ import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.po.FilesetMaxVersionPO;
 import org.apache.gravitino.storage.relational.po.FilesetPO;
+import org.apache.gravitino.storage.relational.po.FilesetVersionPO;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -83,6 +86,11 @@ public class FilesetMetaService {
     return filesetPO;
   }
 
+  public List<FilesetPO> listFilesetPOsByFilesetIds(List<Long> filesetIds) {
+    return SessionUtils.getWithoutCommit(
+        FilesetMetaMapper.class, mapper -> mapper.listFilesetPOsByFilesetIds(filesetIds));
+  }
+
   public Long getFilesetIdBySchemaIdAndName(Long schemaId, String filesetName) {
     Long filesetId =
         SessionUtils.getWithoutCommit(
@@ -128,16 +136,18 @@ public class FilesetMetaService {
       NameIdentifierUtil.checkFileset(filesetEntity.nameIdentifier());
 
       FilesetPO.Builder builder = FilesetPO.builder();
-      fillFilesetPOBuilderParentEntityId(builder, filesetEntity.namespace());
-
-      FilesetPO po = POConverters.initializeFilesetPOWithVersion(filesetEntity, builder);
 
+      AtomicReference<FilesetPO> filesetPORef = new AtomicReference<>();
       // insert both fileset meta table and version table
       SessionUtils.doMultipleWithCommit(
           () ->
               SessionUtils.doWithoutCommit(
                   FilesetMetaMapper.class,
                   mapper -> {
+                    fillFilesetPOBuilderParentEntityId(builder, filesetEntity.namespace());
+                    FilesetPO po =
+                        POConverters.initializeFilesetPOWithVersion(filesetEntity, builder);
+                    filesetPORef.set(po);
                     if (overwrite) {
                       mapper.insertFilesetMetaOnDuplicateKeyUpdate(po);
                     } else {
@@ -148,10 +158,11 @@ public class FilesetMetaService {
               SessionUtils.doWithoutCommit(
                   FilesetVersionMapper.class,
                   mapper -> {
+                    FilesetVersionPO versionPO = filesetPORef.get().getFilesetVersionPO();
                     if (overwrite) {
-                      mapper.insertFilesetVersionOnDuplicateKeyUpdate(po.getFilesetVersionPO());
+                      mapper.insertFilesetVersionOnDuplicateKeyUpdate(versionPO);
                     } else {
-                      mapper.insertFilesetVersion(po.getFilesetVersionPO());
+                      mapper.insertFilesetVersion(versionPO);
                     }
                   }));
     } catch (RuntimeException re) {
@@ -314,26 +325,10 @@ public class FilesetMetaService {
 
   private void fillFilesetPOBuilderParentEntityId(FilesetPO.Builder builder, Namespace namespace) {
     NamespaceUtil.checkFileset(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          continue;
-        case 2:
-          parentEntityId =
-              SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(parentEntityId, name);
-          builder.withSchemaId(parentEntityId);
-          break;
-      }
-    }
+    ParentEntityIdsPO parentEntityIds =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespaceForWrite(namespace);
+    builder.withMetalakeId(parentEntityIds.getMetalakeId());
+    builder.withCatalogId(parentEntityIds.getCatalogId());
+    builder.withSchemaId(parentEntityIds.getSchemaId());
   }
 }
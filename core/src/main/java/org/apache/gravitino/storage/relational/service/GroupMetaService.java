@@ -23,7 +23,10 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -114,6 +117,48 @@ public class GroupMetaService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Lists the groups of multiple roles with one query per metalake. The role names of a returned
+   * group only contain the requested roles the group belongs to, the roles not existing are absent
+   * in the result.
+   *
+   * @param roleIdents the identifiers of the roles
+   * @return the groups of each role
+   */
+  public Map<NameIdentifier, List<GroupEntity>> listGroupsByRoleIdents(
+      List<NameIdentifier> roleIdents) {
+    Map<String, Set<String>> roleNamesByMetalake = new LinkedHashMap<>();
+    for (NameIdentifier roleIdent : roleIdents) {
+      AuthorizationUtils.checkRole(roleIdent);
+      roleNamesByMetalake
+          .computeIfAbsent(roleIdent.namespace().level(0), k -> new LinkedHashSet<>())
+          .add(roleIdent.name());
+    }
+
+    Map<NameIdentifier, List<GroupEntity>> groupsByRole = new LinkedHashMap<>();
+    for (Map.Entry<String, Set<String>> entry : roleNamesByMetalake.entrySet()) {
+      String metalakeName = entry.getKey();
+      Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(metalakeName);
+      List<ExtendedGroupPO> groupPOs =
+          SessionUtils.getWithoutCommit(
+              GroupMetaMapper.class,
+              mapper ->
+                  mapper.listExtendedGroupPOsByRoleNames(
+                      metalakeId, Lists.newArrayList(entry.getValue())));
+      for (ExtendedGroupPO po : groupPOs) {
+        GroupEntity group =
+            POConverters.fromExtendedGroupPO(po, AuthorizationUtils.ofGroupNamespace(metalakeName));
+        for (String roleName : group.roleNames()) {
+          groupsByRole
+              .computeIfAbsent(
+                  AuthorizationUtils.ofRole(metalakeName, roleName), k -> Lists.newArrayList())
+              .add(group);
+        }
+      }
+    }
+    return groupsByRole;
+  }
+
   public void insertGroup(GroupEntity groupEntity, boolean overwritten) throws IOException {
     try {
       AuthorizationUtils.checkGroup(groupEntity.nameIdentifier());
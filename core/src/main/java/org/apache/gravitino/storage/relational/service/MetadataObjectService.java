@@ -20,13 +20,17 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.apache.gravitino.MetadataObject;
-import org.apache.gravitino.storage.relational.po.CatalogPO;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.FilesetPO;
-import org.apache.gravitino.storage.relational.po.MetalakePO;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.po.TopicPO;
@@ -40,6 +44,8 @@ public class MetadataObjectService {
   private static final String DOT = ".";
   private static final Joiner DOT_JOINER = Joiner.on(DOT);
   private static final Splitter DOT_SPLITTER = Splitter.on(DOT);
+  // Keep the number of the parameters of one IN clause in the limit of all the backends.
+  private static final int IN_CLAUSE_BATCH_SIZE = 1000;
 
   private MetadataObjectService() {}
 
@@ -89,111 +95,119 @@ public class MetadataObjectService {
   // Metadata object may be null because the metadata object can be deleted asynchronously.
   @Nullable
   public static String getMetadataObjectFullName(String type, long metadataObjectId) {
-    MetadataObject.Type metadataType = MetadataObject.Type.valueOf(type);
-    String fullName = null;
-    long objectId = metadataObjectId;
-
-    do {
-      switch (metadataType) {
-        case METALAKE:
-          MetalakePO metalakePO = MetalakeMetaService.getInstance().getMetalakePOById(objectId);
-          if (metalakePO != null) {
-            fullName = metalakePO.getMetalakeName();
-            metadataType = null;
-          } else {
-            return null;
-          }
-          break;
-
-        case CATALOG:
-          CatalogPO catalogPO = CatalogMetaService.getInstance().getCatalogPOById(objectId);
-          if (catalogPO != null) {
-            fullName =
-                fullName != null
-                    ? DOT_JOINER.join(catalogPO.getCatalogName(), fullName)
-                    : catalogPO.getCatalogName();
-            metadataType = null;
-          } else {
-            return null;
-          }
-          break;
-
-        case SCHEMA:
-          SchemaPO schemaPO = SchemaMetaService.getInstance().getSchemaPOById(objectId);
-          if (schemaPO != null) {
-            fullName =
-                fullName != null
-                    ? DOT_JOINER.join(schemaPO.getSchemaName(), fullName)
-                    : schemaPO.getSchemaName();
-            objectId = schemaPO.getCatalogId();
-            metadataType = MetadataObject.Type.CATALOG;
-          } else {
-            return null;
-          }
-          break;
-
-        case TABLE:
-          TablePO tablePO = TableMetaService.getInstance().getTablePOById(objectId);
-          if (tablePO != null) {
-            fullName =
-                fullName != null
-                    ? DOT_JOINER.join(tablePO.getTableName(), fullName)
-                    : tablePO.getTableName();
-            objectId = tablePO.getSchemaId();
-            metadataType = MetadataObject.Type.SCHEMA;
-          } else {
-            return null;
-          }
-          break;
-
-        case TOPIC:
-          TopicPO topicPO = TopicMetaService.getInstance().getTopicPOById(objectId);
-          if (topicPO != null) {
-            fullName =
-                fullName != null
-                    ? DOT_JOINER.join(topicPO.getTopicName(), fullName)
-                    : topicPO.getTopicName();
-            objectId = topicPO.getSchemaId();
-            metadataType = MetadataObject.Type.SCHEMA;
-          } else {
-            return null;
-          }
-          break;
-
-        case FILESET:
-          FilesetPO filesetPO = FilesetMetaService.getInstance().getFilesetPOById(objectId);
-          if (filesetPO != null) {
-            fullName =
-                fullName != null
-                    ? DOT_JOINER.join(filesetPO.getFilesetName(), fullName)
-                    : filesetPO.getFilesetName();
-            objectId = filesetPO.getSchemaId();
-            metadataType = MetadataObject.Type.SCHEMA;
-          } else {
-            return null;
-          }
-          break;
-
-        case COLUMN:
-          ColumnPO columnPO = TableColumnMetaService.getInstance().getColumnPOById(objectId);
-          if (columnPO != null) {
-            fullName =
-                fullName != null
-                    ? DOT_JOINER.join(columnPO.getColumnName(), fullName)
-                    : columnPO.getColumnName();
-            objectId = columnPO.getTableId();
-            metadataType = MetadataObject.Type.TABLE;
-          } else {
-            return null;
+    return getMetadataObjectFullNames(
+            MetadataObject.Type.valueOf(type), Collections.singletonList(metadataObjectId))
+        .get(metadataObjectId);
+  }
+
+  /**
+   * Get the full names of the metadata objects of the same type in bulk. The objects are resolved
+   * level by level, each level costs one set-based query per batch of ids instead of one query per
+   * object.
+   *
+   * @param type The type of the metadata objects.
+   * @param metadataObjectIds The ids of the metadata objects.
+   * @return The map from the id to the full name of the metadata object. The metadata objects which
+   *     are deleted asynchronously are absent from the map.
+   */
+  public static Map<Long, String> getMetadataObjectFullNames(
+      MetadataObject.Type type, List<Long> metadataObjectIds) {
+    List<Long> ids = metadataObjectIds.stream().distinct().collect(Collectors.toList());
+    if (ids.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<Long, String> names = Maps.newHashMap();
+    Map<Long, Long> parentIds = Maps.newHashMap();
+    MetadataObject.Type parentType;
+    switch (type) {
+      case METALAKE:
+        listInBatches(ids, MetalakeMetaService.getInstance()::listMetalakePOsByMetalakeIds)
+            .forEach(po -> names.put(po.getMetalakeId(), po.getMetalakeName()));
+        return names;
+
+      case CATALOG:
+        listInBatches(ids, CatalogMetaService.getInstance()::listCatalogPOsByCatalogIds)
+            .forEach(po -> names.put(po.getCatalogId(), po.getCatalogName()));
+        return names;
+
+      case SCHEMA:
+        for (SchemaPO po :
+            listInBatches(ids, SchemaMetaService.getInstance()::listSchemaPOsBySchemaIds)) {
+          names.put(po.getSchemaId(), po.getSchemaName());
+          parentIds.put(po.getSchemaId(), po.getCatalogId());
+        }
+        parentType = MetadataObject.Type.CATALOG;
+        break;
+
+      case TABLE:
+        for (TablePO po :
+            listInBatches(ids, TableMetaService.getInstance()::listTablePOsByTableIds)) {
+          names.put(po.getTableId(), po.getTableName());
+          parentIds.put(po.getTableId(), po.getSchemaId());
+        }
+        parentType = MetadataObject.Type.SCHEMA;
+        break;
+
+      case TOPIC:
+        for (TopicPO po :
+            listInBatches(ids, TopicMetaService.getInstance()::listTopicPOsByTopicIds)) {
+          names.put(po.getTopicId(), po.getTopicName());
+          parentIds.put(po.getTopicId(), po.getSchemaId());
+        }
+        parentType = MetadataObject.Type.SCHEMA;
+        break;
+
+      case FILESET:
+        for (FilesetPO po :
+            listInBatches(ids, FilesetMetaService.getInstance()::listFilesetPOsByFilesetIds)) {
+          names.put(po.getFilesetId(), po.getFilesetName());
+          parentIds.put(po.getFilesetId(), po.getSchemaId());
+        }
+        parentType = MetadataObject.Type.SCHEMA;
+        break;
+
+      case COLUMN:
+        // A column has one row for each version of its table, only the latest one is valid.
+        Map<Long, ColumnPO> latestColumnPOs = Maps.newHashMap();
+        for (ColumnPO po :
+            listInBatches(ids, TableColumnMetaService.getInstance()::listColumnPOsByColumnIds)) {
+          latestColumnPOs.merge(
+              po.getColumnId(),
+              po,
+              (oldPO, newPO) -> newPO.getTableVersion() > oldPO.getTableVersion() ? newPO : oldPO);
+        }
+        for (ColumnPO po : latestColumnPOs.values()) {
+          if (po.getColumnOpType() != ColumnPO.ColumnOpType.DELETE.value()) {
+            names.put(po.getColumnId(), po.getColumnName());
+            parentIds.put(po.getColumnId(), po.getTableId());
           }
-          break;
+        }
+        parentType = MetadataObject.Type.TABLE;
+        break;
 
-        default:
-          throw new IllegalArgumentException(
-              String.format("Doesn't support the type %s", metadataType));
-      }
-    } while (metadataType != null);
+      default:
+        throw new IllegalArgumentException(String.format("Doesn't support the type %s", type));
+    }
 
-    return fullName;
+    Map<Long, String> parentFullNames =
+        getMetadataObjectFullNames(parentType, Lists.newArrayList(parentIds.values()));
+    Map<Long, String> fullNames = Maps.newHashMap();
+    names.forEach(
+        (id, name) -> {
+          String parentFullName = parentFullNames.get(parentIds.get(id));
+          if (parentFullName != null) {
+            fullNames.put(id, DOT_JOINER.join(parentFullName, name));
+          }
+        });
+    return fullNames;
+  }
+
+  private static <T> List<T> listInBatches(List<Long> ids, Function<List<Long>, List<T>> lister) {
+    List<T> result = Lists.newArrayList();
+    for (List<Long> batch : Lists.partition(ids, IN_CLAUSE_BATCH_SIZE)) {
+      result.addAll(lister.apply(batch));
+    }
+    return result;
   }
 }
@@ -109,6 +109,11 @@ public class MetalakeMetaService {
     return metalakePO;
   }
 
+  public List<MetalakePO> listMetalakePOsByMetalakeIds(List<Long> metalakeIds) {
+    return SessionUtils.getWithoutCommit(
+        MetalakeMetaMapper.class, mapper -> mapper.listMetalakePOsByMetalakeIds(metalakeIds));
+  }
+
   public void insertMetalake(BaseMetalake baseMetalake, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkMetalake(baseMetalake.nameIdentifier());
@@ -127,6 +132,10 @@ public class MetalakeMetaService {
           re, Entity.EntityType.METALAKE, baseMetalake.nameIdentifier().toString());
       throw re;
     }
+
+    if (overwrite) {
+      CommonMetaService.getInstance().invalidateParentEntityIds(baseMetalake.nameIdentifier());
+    }
   }
 
   public <E extends Entity & HasIdentifier> BaseMetalake updateMetalake(
@@ -163,6 +172,9 @@ public class MetalakeMetaService {
       throw re;
     }
 
+    // A renamed metalake makes the cached ids of all the namespaces under it stale.
+    CommonMetaService.getInstance().invalidateParentEntityIds(ident);
+
     if (updateResult > 0) {
       return newMetalakeEntity;
     } else {
@@ -295,6 +307,7 @@ public class MetalakeMetaService {
                     mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)));
       }
     }
+    CommonMetaService.getInstance().invalidateParentEntityIds(ident);
     return true;
   }
 
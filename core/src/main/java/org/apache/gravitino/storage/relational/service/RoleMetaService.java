@@ -20,11 +20,13 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -353,14 +355,23 @@ public class RoleMetaService {
     List<SecurableObjectPO> securableObjectPOs = listSecurableObjectsByRoleId(po.getRoleId());
     List<SecurableObject> securableObjects = Lists.newArrayList();
 
+    // Resolve the full names of the objects of the same type together.
+    Map<MetadataObject.Type, List<Long>> idsByType = Maps.newHashMap();
     for (SecurableObjectPO securableObjectPO : securableObjectPOs) {
-      String fullName =
-          MetadataObjectService.getMetadataObjectFullName(
-              securableObjectPO.getType(), securableObjectPO.getMetadataObjectId());
+      idsByType
+          .computeIfAbsent(getType(securableObjectPO.getType()), k -> Lists.newArrayList())
+          .add(securableObjectPO.getMetadataObjectId());
+    }
+    Map<MetadataObject.Type, Map<Long, String>> fullNamesByType = Maps.newHashMap();
+    idsByType.forEach(
+        (type, ids) ->
+            fullNamesByType.put(type, MetadataObjectService.getMetadataObjectFullNames(type, ids)));
+
+    for (SecurableObjectPO securableObjectPO : securableObjectPOs) {
+      MetadataObject.Type type = getType(securableObjectPO.getType());
+      String fullName = fullNamesByType.get(type).get(securableObjectPO.getMetadataObjectId());
       if (fullName != null) {
-        securableObjects.add(
-            POConverters.fromSecurableObjectPO(
-                fullName, securableObjectPO, getType(securableObjectPO.getType())));
+        securableObjects.add(POConverters.fromSecurableObjectPO(fullName, securableObjectPO, type));
       } else {
         LOG.warn(
             "The securable object {} {} may be deleted",
@@ -42,6 +42,7 @@ import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
@@ -80,6 +81,11 @@ public class SchemaMetaService {
         SchemaMetaMapper.class, mapper -> mapper.selectSchemaMetaById(schemaId));
   }
 
+  public List<SchemaPO> listSchemaPOsBySchemaIds(List<Long> schemaIds) {
+    return SessionUtils.getWithoutCommit(
+        SchemaMetaMapper.class, mapper -> mapper.listSchemaPOsBySchemaIds(schemaIds));
+  }
+
   public Long getSchemaIdByCatalogIdAndName(Long catalogId, String schemaName) {
     Long schemaId =
         SessionUtils.getWithoutCommit(
@@ -123,11 +129,11 @@ public class SchemaMetaService {
       NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
 
       SchemaPO.Builder builder = SchemaPO.builder();
-      fillSchemaPOBuilderParentEntityId(builder, schemaEntity.namespace());
 
       SessionUtils.doWithCommit(
           SchemaMetaMapper.class,
           mapper -> {
+            fillSchemaPOBuilderParentEntityId(builder, schemaEntity.namespace());
             SchemaPO po = POConverters.initializeSchemaPOWithVersion(schemaEntity, builder);
             if (overwrite) {
               mapper.insertSchemaMetaOnDuplicateKeyUpdate(po);
@@ -140,6 +146,10 @@ public class SchemaMetaService {
           re, Entity.EntityType.SCHEMA, schemaEntity.nameIdentifier().toString());
       throw re;
     }
+
+    if (overwrite) {
+      CommonMetaService.getInstance().invalidateParentEntityIds(schemaEntity.nameIdentifier());
+    }
   }
 
   public <E extends Entity & HasIdentifier> SchemaEntity updateSchema(
@@ -174,6 +184,8 @@ public class SchemaMetaService {
       throw re;
     }
 
+    CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
+
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -275,6 +287,7 @@ public class SchemaMetaService {
                             schemaId, MetadataObject.Type.SCHEMA.name())));
       }
     }
+    CommonMetaService.getInstance().invalidateParentEntityIds(identifier);
     return true;
   }
 
@@ -288,21 +301,9 @@ public class SchemaMetaService {
 
   private void fillSchemaPOBuilderParentEntityId(SchemaPO.Builder builder, Namespace namespace) {
     NamespaceUtil.checkSchema(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          break;
-      }
-    }
+    ParentEntityIdsPO parentEntityIds =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespaceForWrite(namespace);
+    builder.withMetalakeId(parentEntityIds.getMetalakeId());
+    builder.withCatalogId(parentEntityIds.getCatalogId());
   }
 }
@@ -37,6 +37,8 @@ import org.apache.gravitino.storage.relational.utils.SessionUtils;
 
 public class TableColumnMetaService {
 
+  static final int BATCH_INSERT_SIZE = 500;
+
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
   private TableColumnMetaService() {}
@@ -88,6 +90,11 @@ public class TableColumnMetaService {
     return columnPO;
   }
 
+  List<ColumnPO> listColumnPOsByColumnIds(List<Long> columnIds) {
+    return SessionUtils.getWithoutCommit(
+        TableColumnMapper.class, mapper -> mapper.listColumnPOsByColumnIds(columnIds));
+  }
+
   void insertColumnPOs(TablePO tablePO, List<ColumnEntity> columnEntities) {
     List<ColumnPO> columnPOs =
         POConverters.initializeColumnPOs(tablePO, columnEntities, ColumnPO.ColumnOpType.CREATE);
@@ -97,6 +104,15 @@ public class TableColumnMetaService {
         TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
   }
 
+  void batchInsertColumnPOs(List<ColumnPO> columnPOs) {
+    // batchInsertColumnPOs will be done in batchInsertTables transaction, so we don't do commit
+    // here. Large column lists are split to keep a single statement within driver limits.
+    for (List<ColumnPO> chunk : Lists.partition(columnPOs, BATCH_INSERT_SIZE)) {
+      SessionUtils.doWithoutCommit(
+          TableColumnMapper.class, mapper -> mapper.insertColumnPOs(chunk));
+    }
+  }
+
   boolean deleteColumnsByTableId(Long tableId) {
     // deleteColumns will be done in deleteTable transaction, so we don't do commit here.
     Integer result =
@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
@@ -37,6 +38,7 @@ import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
@@ -62,6 +64,11 @@ public class TableMetaService {
     return tablePO;
   }
 
+  public List<TablePO> listTablePOsByTableIds(List<Long> tableIds) {
+    return SessionUtils.getWithoutCommit(
+        TableMetaMapper.class, mapper -> mapper.listTablePOsByTableIds(tableIds));
+  }
+
   public Long getTableIdBySchemaIdAndName(Long schemaId, String tableName) {
     Long tableId =
         SessionUtils.getWithoutCommit(
@@ -108,7 +115,6 @@ public class TableMetaService {
       NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
 
       TablePO.Builder builder = TablePO.builder();
-      fillTablePOBuilderParentEntityId(builder, tableEntity.namespace());
 
       AtomicReference<TablePO> tablePORef = new AtomicReference<>();
       SessionUtils.doMultipleWithCommit(
@@ -116,6 +122,7 @@ public class TableMetaService {
               SessionUtils.doWithoutCommit(
                   TableMetaMapper.class,
                   mapper -> {
+                    fillTablePOBuilderParentEntityId(builder, tableEntity.namespace());
                     TablePO po = POConverters.initializeTablePOWithVersion(tableEntity, builder);
                     tablePORef.set(po);
                     if (overwrite) {
@@ -145,6 +152,74 @@ public class TableMetaService {
     }
   }
 
+  /**
+   * Inserts a group of new tables that live in the same schema within one transaction. The parent
+   * entity ids are resolved once for the whole group, and the table and column rows are written
+   * with multi-row insert statements instead of one round trip per table.
+   *
+   * @param tableEntities the tables to insert, all of which must belong to the same schema
+   * @throws IOException if the underlying storage fails
+   */
+  public void batchInsertTables(List<TableEntity> tableEntities) throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    Namespace namespace = tableEntities.get(0).namespace();
+    tableEntities.forEach(
+        tableEntity -> {
+          NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+          Preconditions.checkArgument(
+              namespace.equals(tableEntity.namespace()),
+              "All tables in a batch insert must belong to the same schema, got %s and %s",
+              namespace,
+              tableEntity.namespace());
+        });
+
+    try {
+      NamespaceUtil.checkTable(namespace);
+
+      List<TablePO> tablePOs = Lists.newArrayListWithCapacity(tableEntities.size());
+      List<ColumnPO> columnPOs = Lists.newArrayList();
+      SessionUtils.doMultipleWithCommit(
+          () -> {
+            ParentEntityIdsPO parentEntityIds =
+                CommonMetaService.getInstance().getParentEntityIdsByNamespaceForWrite(namespace);
+            for (TableEntity tableEntity : tableEntities) {
+              // TablePO.Builder mutates a single instance, so each table needs its own builder.
+              TablePO.Builder builder =
+                  TablePO.builder()
+                      .withMetalakeId(parentEntityIds.getMetalakeId())
+                      .withCatalogId(parentEntityIds.getCatalogId())
+                      .withSchemaId(parentEntityIds.getSchemaId());
+              TablePO tablePO = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+              tablePOs.add(tablePO);
+              if (tableEntity.columns() != null && !tableEntity.columns().isEmpty()) {
+                columnPOs.addAll(
+                    POConverters.initializeColumnPOs(
+                        tablePO, tableEntity.columns(), ColumnPO.ColumnOpType.CREATE));
+              }
+            }
+          },
+          () -> {
+            for (List<TablePO> chunk :
+                Lists.partition(tablePOs, TableColumnMetaService.BATCH_INSERT_SIZE)) {
+              SessionUtils.doWithoutCommit(
+                  TableMetaMapper.class, mapper -> mapper.batchInsertTableMetas(chunk));
+            }
+          },
+          () -> {
+            if (!columnPOs.isEmpty()) {
+              TableColumnMetaService.getInstance().batchInsertColumnPOs(columnPOs);
+            }
+          });
+
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.TABLE, namespace.toString());
+      throw re;
+    }
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTable(identifier);
@@ -253,27 +328,11 @@ public class TableMetaService {
 
   private void fillTablePOBuilderParentEntityId(TablePO.Builder builder, Namespace namespace) {
     NamespaceUtil.checkTable(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          continue;
-        case 2:
-          parentEntityId =
-              SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(parentEntityId, name);
-          builder.withSchemaId(parentEntityId);
-          break;
-      }
-    }
+    ParentEntityIdsPO parentEntityIds =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespaceForWrite(namespace);
+    builder.withMetalakeId(parentEntityIds.getMetalakeId());
+    builder.withCatalogId(parentEntityIds.getCatalogId());
+    builder.withSchemaId(parentEntityIds.getSchemaId());
   }
 
   private TablePO getTablePOBySchemaIdAndName(Long schemaId, String tableName) {
@@ -20,10 +20,12 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -229,11 +231,24 @@ public class TagMetaService {
               mapper ->
                   mapper.listTagMetadataObjectRelsByMetalakeAndTagName(metalakeName, tagName));
 
+      // Resolve the full names of the objects of the same type together.
+      Map<MetadataObject.Type, List<Long>> idsByType = Maps.newHashMap();
+      for (TagMetadataObjectRelPO po : tagMetadataObjectRelPOs) {
+        idsByType
+            .computeIfAbsent(
+                MetadataObject.Type.valueOf(po.getMetadataObjectType()), k -> Lists.newArrayList())
+            .add(po.getMetadataObjectId());
+      }
+      Map<MetadataObject.Type, Map<Long, String>> fullNamesByType = Maps.newHashMap();
+      idsByType.forEach(
+          (type, ids) ->
+              fullNamesByType.put(
+                  type, MetadataObjectService.getMetadataObjectFullNames(type, ids)));
+
       List<MetadataObject> metadataObjects = Lists.newArrayList();
       for (TagMetadataObjectRelPO po : tagMetadataObjectRelPOs) {
-        String fullName =
-            MetadataObjectService.getMetadataObjectFullName(
-                po.getMetadataObjectType(), po.getMetadataObjectId());
+        MetadataObject.Type type = MetadataObject.Type.valueOf(po.getMetadataObjectType());
+        String fullName = fullNamesByType.get(type).get(po.getMetadataObjectId());
 
         // Metadata object may be deleted asynchronously when we query the name, so it will return
         // null. We should skip this metadata object.
@@ -241,7 +256,6 @@ public class TagMetaService {
           continue;
         }
 
-        MetadataObject.Type type = MetadataObject.Type.valueOf(po.getMetadataObjectType());
         metadataObjects.add(MetadataObjects.parse(fullName, type));
       }
 
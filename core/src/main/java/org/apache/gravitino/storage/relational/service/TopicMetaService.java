@@ -34,6 +34,7 @@ import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
 import org.apache.gravitino.storage.relational.po.TopicPO;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
@@ -59,11 +60,11 @@ public class TopicMetaService {
       NameIdentifierUtil.checkTopic(topicEntity.nameIdentifier());
 
       TopicPO.Builder builder = TopicPO.builder();
-      fillTopicPOBuilderParentEntityId(builder, topicEntity.namespace());
 
       SessionUtils.doWithCommit(
           TopicMetaMapper.class,
           mapper -> {
+            fillTopicPOBuilderParentEntityId(builder, topicEntity.namespace());
             TopicPO po = POConverters.initializeTopicPOWithVersion(topicEntity, builder);
             if (overwrite) {
               mapper.insertTopicMetaOnDuplicateKeyUpdate(po);
@@ -152,29 +153,18 @@ public class TopicMetaService {
     return topicPO;
   }
 
+  public List<TopicPO> listTopicPOsByTopicIds(List<Long> topicIds) {
+    return SessionUtils.getWithoutCommit(
+        TopicMetaMapper.class, mapper -> mapper.listTopicPOsByTopicIds(topicIds));
+  }
+
   private void fillTopicPOBuilderParentEntityId(TopicPO.Builder builder, Namespace namespace) {
     NamespaceUtil.checkTopic(namespace);
-    Long parentEntityId = null;
-    for (int level = 0; level < namespace.levels().length; level++) {
-      String name = namespace.level(level);
-      switch (level) {
-        case 0:
-          parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(name);
-          builder.withMetalakeId(parentEntityId);
-          continue;
-        case 1:
-          parentEntityId =
-              CatalogMetaService.getInstance()
-                  .getCatalogIdByMetalakeIdAndName(parentEntityId, name);
-          builder.withCatalogId(parentEntityId);
-          continue;
-        case 2:
-          parentEntityId =
-              SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(parentEntityId, name);
-          builder.withSchemaId(parentEntityId);
-          break;
-      }
-    }
+    ParentEntityIdsPO parentEntityIds =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespaceForWrite(namespace);
+    builder.withMetalakeId(parentEntityIds.getMetalakeId());
+    builder.withCatalogId(parentEntityIds.getCatalogId());
+    builder.withSchemaId(parentEntityIds.getSchemaId());
   }
 
   public TopicEntity getTopicByIdentifier(NameIdentifier identifier) {
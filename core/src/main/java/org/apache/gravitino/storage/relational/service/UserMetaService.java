@@ -23,7 +23,10 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -114,6 +117,48 @@ public class UserMetaService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Lists the users of multiple roles with one query per metalake. The role names of a returned
+   * user only contain the requested roles the user belongs to, the roles not existing are absent in
+   * the result.
+   *
+   * @param roleIdents the identifiers of the roles
+   * @return the users of each role
+   */
+  public Map<NameIdentifier, List<UserEntity>> listUsersByRoleIdents(
+      List<NameIdentifier> roleIdents) {
+    Map<String, Set<String>> roleNamesByMetalake = new LinkedHashMap<>();
+    for (NameIdentifier roleIdent : roleIdents) {
+      AuthorizationUtils.checkRole(roleIdent);
+      roleNamesByMetalake
+          .computeIfAbsent(roleIdent.namespace().level(0), k -> new LinkedHashSet<>())
+          .add(roleIdent.name());
+    }
+
+    Map<NameIdentifier, List<UserEntity>> usersByRole = new LinkedHashMap<>();
+    for (Map.Entry<String, Set<String>> entry : roleNamesByMetalake.entrySet()) {
+      String metalakeName = entry.getKey();
+      Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(metalakeName);
+      List<ExtendedUserPO> userPOs =
+          SessionUtils.getWithoutCommit(
+              UserMetaMapper.class,
+              mapper ->
+                  mapper.listExtendedUserPOsByRoleNames(
+                      metalakeId, Lists.newArrayList(entry.getValue())));
+      for (ExtendedUserPO po : userPOs) {
+        UserEntity user =
+            POConverters.fromExtendedUserPO(po, AuthorizationUtils.ofUserNamespace(metalakeName));
+        for (String roleName : user.roleNames()) {
+          usersByRole
+              .computeIfAbsent(
+                  AuthorizationUtils.ofRole(metalakeName, roleName), k -> Lists.newArrayList())
+              .add(user);
+        }
+      }
+    }
+    return usersByRole;
+  }
+
   public void insertUser(UserEntity userEntity, boolean overwritten) throws IOException {
     try {
       AuthorizationUtils.checkUser(userEntity.nameIdentifier());
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics source exposing the active and idle connections, the connection wait time and the
+ * connection timeouts of one connection pool of the relational entity store.
+ */
+class DataSourceMetricsSource extends MetricsSource {
+  private final Timer connectionWaitTime;
+  private final Counter connectionTimeouts;
+
+  DataSourceMetricsSource(InstrumentedDataSource dataSource) {
+    super(MetricsSource.ENTITY_STORE_POOL_METRIC_NAME + "." + dataSource.poolName());
+    registerGauge(MetricNames.ENTITY_STORE_POOL_ACTIVE_CONNECTIONS, dataSource::getNumActive);
+    registerGauge(MetricNames.ENTITY_STORE_POOL_IDLE_CONNECTIONS, dataSource::getNumIdle);
+    registerGauge(MetricNames.ENTITY_STORE_POOL_MAX_CONNECTIONS, dataSource::getMaxTotal);
+    this.connectionWaitTime = getTimer(MetricNames.ENTITY_STORE_POOL_CONNECTION_WAIT_TIME);
+    this.connectionTimeouts = getCounter(MetricNames.ENTITY_STORE_POOL_CONNECTION_TIMEOUTS);
+  }
+
+  void updateConnectionWaitTime(long duration, TimeUnit unit) {
+    connectionWaitTime.update(duration, unit);
+  }
+
+  void incConnectionTimeouts() {
+    connectionTimeouts.inc();
+  }
+
+  long connectionTimeouts() {
+    return connectionTimeouts.getCount();
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.dbcp2.BasicDataSource;
+
+/**
+ * InstrumentedDataSource is a DBCP {@link BasicDataSource} that reports the time spent waiting for
+ * a connection and the connection timeouts when the pool is exhausted to its {@link
+ * DataSourceMetricsSource}.
+ */
+class InstrumentedDataSource extends BasicDataSource {
+  private final String poolName;
+  private volatile DataSourceMetricsSource metricsSource;
+
+  InstrumentedDataSource(String poolName) {
+    this.poolName = poolName;
+  }
+
+  String poolName() {
+    return poolName;
+  }
+
+  void setMetricsSource(DataSourceMetricsSource metricsSource) {
+    this.metricsSource = metricsSource;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    DataSourceMetricsSource metrics = metricsSource;
+    if (metrics == null) {
+      return super.getConnection();
+    }
+
+    long start = System.nanoTime();
+    try {
+      return super.getConnection();
+    } catch (SQLException e) {
+      // DBCP fails with a NoSuchElementException cause when no connection is available in time.
+      if (e.getCause() instanceof NoSuchElementException) {
+        metrics.incConnectionTimeouts();
+      }
+      throw e;
+    } finally {
+      metrics.updateConnectionWaitTime(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+}
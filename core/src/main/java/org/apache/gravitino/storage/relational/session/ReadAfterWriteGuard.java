@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReadAfterWriteGuard remembers the users who wrote to the primary database recently, the reads of
+ * these users are not routed to the read replica until the window passes, so that a user always
+ * reads their own writes even if the read replica lags behind.
+ */
+class ReadAfterWriteGuard {
+  private static final long MAX_TRACKED_USERS = 100_000L;
+
+  private final Cache<String, Boolean> recentWriters;
+
+  ReadAfterWriteGuard(long windowMs) {
+    this.recentWriters =
+        windowMs > 0
+            ? CacheBuilder.newBuilder()
+                .expireAfterWrite(windowMs, TimeUnit.MILLISECONDS)
+                .maximumSize(MAX_TRACKED_USERS)
+                .build()
+            : null;
+  }
+
+  void recordWrite(String user) {
+    if (recentWriters != null) {
+      recentWriters.put(user, Boolean.TRUE);
+    }
+  }
+
+  boolean recentlyWrote(String user) {
+    return recentWriters != null && recentWriters.getIfPresent(user) != null;
+  }
+}
@@ -22,11 +22,19 @@ package org.apache.gravitino.storage.relational.session;
 import com.google.common.base.Preconditions;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
 import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.storage.relational.mapper.CatalogChangeLogMapper;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
@@ -55,9 +63,19 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  * SqlSessionFactoryHelper maintains the MyBatis's {@link SqlSessionFactory} object, which is used
  * to create the {@link org.apache.ibatis.session.SqlSession} object. It is a singleton class and
  * should be initialized only once.
+ *
+ * <p>If a read replica is configured, it also maintains a second {@link SqlSessionFactory} of the
+ * read replica, which the reads out of the transactions can be routed to, see {@link
+ * SqlSessions#canReadFromReplica()}.
  */
 public class SqlSessionFactoryHelper {
+  public static final String PRIMARY_POOL_NAME = "primary";
+  public static final String READ_REPLICA_POOL_NAME = "read-replica";
+
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static volatile SqlSessionFactory readReplicaSqlSessionFactory;
+  private static volatile ReadAfterWriteGuard readAfterWriteGuard;
+  private static final List<DataSourceMetricsSource> metricsSources = new ArrayList<>();
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -71,22 +89,65 @@ public class SqlSessionFactoryHelper {
    *
    * @param config Config object to get the jdbc connection details from the config.
    */
-  @SuppressWarnings("deprecation")
   public void init(Config config) {
+    // Create the SqlSessionFactory object, it is a singleton object
+    if (sqlSessionFactory == null) {
+      synchronized (SqlSessionFactoryHelper.class) {
+        if (sqlSessionFactory == null) {
+          String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
+          String user = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER);
+          String password = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD);
+          sqlSessionFactory =
+              createSqlSessionFactory(
+                  config, PRIMARY_POOL_NAME, jdbcUrl, jdbcUrl, user, password, false);
+
+          Optional<String> replicaUrl = config.get(Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL);
+          if (replicaUrl.isPresent() && StringUtils.isNotBlank(replicaUrl.get())) {
+            // The database id of the read replica must be the same as the primary database, the
+            // mappers choose the SQL dialect by it.
+            readReplicaSqlSessionFactory =
+                createSqlSessionFactory(
+                    config,
+                    READ_REPLICA_POOL_NAME,
+                    replicaUrl.get(),
+                    jdbcUrl,
+                    config.get(Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER).orElse(user),
+                    config
+                        .get(Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD)
+                        .orElse(password),
+                    true);
+            readAfterWriteGuard =
+                new ReadAfterWriteGuard(
+                    config.get(Configs.ENTITY_RELATIONAL_READ_REPLICA_READ_AFTER_WRITE_WINDOW_MS));
+          }
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static SqlSessionFactory createSqlSessionFactory(
+      Config config,
+      String poolName,
+      String jdbcUrl,
+      String primaryJdbcUrl,
+      String user,
+      String password,
+      boolean readOnly) {
     // Initialize the data source
-    BasicDataSource dataSource = new BasicDataSource();
-    String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
-    JDBCBackendType jdbcType = JDBCBackendType.fromURI(jdbcUrl);
+    InstrumentedDataSource dataSource = new InstrumentedDataSource(poolName);
+    JDBCBackendType jdbcType = JDBCBackendType.fromURI(primaryJdbcUrl);
     dataSource.setUrl(jdbcUrl);
     dataSource.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
-    dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
-    dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
+    dataSource.setUsername(user);
+    dataSource.setPassword(password);
     // Close the auto commit, so that we can control the transaction manual commit
     dataSource.setDefaultAutoCommit(false);
-    dataSource.setMaxWaitMillis(1000L);
-    dataSource.setMaxTotal(20);
-    dataSource.setMaxIdle(5);
-    dataSource.setMinIdle(0);
+    dataSource.setDefaultReadOnly(readOnly);
+    dataSource.setMaxWaitMillis(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS));
+    dataSource.setMaxTotal(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS));
+    dataSource.setMaxIdle(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS));
+    dataSource.setMinIdle(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS));
     dataSource.setLogAbandoned(true);
     dataSource.setRemoveAbandonedOnBorrow(true);
     dataSource.setRemoveAbandonedTimeout(60);
@@ -99,6 +160,7 @@ public class SqlSessionFactoryHelper {
     dataSource.setSoftMinEvictableIdleTimeMillis(
         BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
     dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
+    registerMetrics(dataSource);
 
     // Create the transaction factory and env
     TransactionFactory transactionFactory = new JdbcTransactionFactory();
@@ -124,14 +186,18 @@ public class SqlSessionFactoryHelper {
     configuration.addMapper(TagMetaMapper.class);
     configuration.addMapper(TagMetadataObjectRelMapper.class);
     configuration.addMapper(OwnerMetaMapper.class);
+    configuration.addMapper(CatalogChangeLogMapper.class);
 
-    // Create the SqlSessionFactory object, it is a singleton object
-    if (sqlSessionFactory == null) {
-      synchronized (SqlSessionFactoryHelper.class) {
-        if (sqlSessionFactory == null) {
-          sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
-        }
-      }
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  private static void registerMetrics(InstrumentedDataSource dataSource) {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      DataSourceMetricsSource metricsSource = new DataSourceMetricsSource(dataSource);
+      dataSource.setMetricsSource(metricsSource);
+      metricsSystem.register(metricsSource);
+      metricsSources.add(metricsSource);
     }
   }
 
@@ -140,21 +206,51 @@ public class SqlSessionFactoryHelper {
     return sqlSessionFactory;
   }
 
+  /**
+   * Get the SqlSessionFactory object of the read replica.
+   *
+   * @return the SqlSessionFactory object of the read replica, or null if no read replica is
+   *     configured.
+   */
+  @Nullable
+  public SqlSessionFactory getReadReplicaSqlSessionFactory() {
+    return readReplicaSqlSessionFactory;
+  }
+
+  @Nullable
+  ReadAfterWriteGuard getReadAfterWriteGuard() {
+    return readAfterWriteGuard;
+  }
+
   public void close() {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory != null) {
-          try {
-            BasicDataSource dataSource =
-                (BasicDataSource)
-                    sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
-            dataSource.close();
-          } catch (SQLException e) {
-            // silently ignore the error report
-          }
+          closeDataSource(sqlSessionFactory);
           sqlSessionFactory = null;
         }
+        if (readReplicaSqlSessionFactory != null) {
+          closeDataSource(readReplicaSqlSessionFactory);
+          readReplicaSqlSessionFactory = null;
+          readAfterWriteGuard = null;
+        }
+
+        MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+        if (metricsSystem != null) {
+          metricsSources.forEach(metricsSystem::unregister);
+        }
+        metricsSources.clear();
       }
     }
   }
+
+  private static void closeDataSource(SqlSessionFactory factory) {
+    try {
+      BasicDataSource dataSource =
+          (BasicDataSource) factory.getConfiguration().getEnvironment().getDataSource();
+      dataSource.close();
+    } catch (SQLException e) {
+      // silently ignore the error report
+    }
+  }
 }
@@ -20,6 +20,8 @@
 package org.apache.gravitino.storage.relational.session;
 
 import com.google.common.annotations.VisibleForTesting;
+import org.apache.gravitino.utils.Executable;
+import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 
@@ -30,6 +32,7 @@ import org.apache.ibatis.session.TransactionIsolationLevel;
  */
 public final class SqlSessions {
   private static final ThreadLocal<SqlSession> sessions = new ThreadLocal<>();
+  private static final ThreadLocal<Integer> primaryScopes = ThreadLocal.withInitial(() -> 0);
 
   private SqlSessions() {}
 
@@ -101,6 +104,83 @@ public final class SqlSessions {
     }
   }
 
+  /**
+   * Check whether the current thread is in a transaction, that is, a SqlSession object is present
+   * in the thread local storage.
+   *
+   * @return true if the current thread is in a transaction.
+   */
+  public static boolean inTransaction() {
+    return sessions.get() != null;
+  }
+
+  /**
+   * Check whether the read out of a transaction can be routed to the read replica. The read is
+   * routed to the primary database if no read replica is configured, the current thread is in a
+   * transaction or in {@link #doOnPrimary(Executable)}, or the current user wrote to the primary
+   * database within the read-after-write window.
+   *
+   * @return true if the read can be routed to the read replica.
+   */
+  public static boolean canReadFromReplica() {
+    SqlSessionFactoryHelper helper = SqlSessionFactoryHelper.getInstance();
+    if (helper.getReadReplicaSqlSessionFactory() == null
+        || inTransaction()
+        || primaryScopes.get() > 0) {
+      return false;
+    }
+
+    ReadAfterWriteGuard guard = helper.getReadAfterWriteGuard();
+    return guard == null || !guard.recentlyWrote(PrincipalUtils.getCurrentUserName());
+  }
+
+  /**
+   * Open a new SqlSession object of the read replica, the SqlSession object is not set in the
+   * thread local storage and must be closed by the caller.
+   *
+   * @return SqlSession object of the read replica.
+   */
+  public static SqlSession openReadReplicaSqlSession() {
+    return SqlSessionFactoryHelper.getInstance()
+        .getReadReplicaSqlSessionFactory()
+        .openSession(TransactionIsolationLevel.READ_COMMITTED);
+  }
+
+  /**
+   * Record that the current user wrote to the primary database, the reads of the user are routed to
+   * the primary database within the read-after-write window.
+   */
+  public static void recordWrite() {
+    ReadAfterWriteGuard guard = SqlSessionFactoryHelper.getInstance().getReadAfterWriteGuard();
+    if (guard != null) {
+      guard.recordWrite(PrincipalUtils.getCurrentUserName());
+    }
+  }
+
+  /**
+   * Execute the operation with all the reads routed to the primary database, it's used by the
+   * read-modify-write operations, which must not read the stale data from the read replica.
+   *
+   * @param executable the operation to be executed.
+   * @return the result of the operation.
+   * @param <R> the type of the result.
+   * @param <E> the type of the exception thrown by the operation.
+   * @throws E if the operation fails.
+   */
+  public static <R, E extends Exception> R doOnPrimary(Executable<R, E> executable) throws E {
+    primaryScopes.set(primaryScopes.get() + 1);
+    try {
+      return executable.execute();
+    } finally {
+      int scopes = primaryScopes.get() - 1;
+      if (scopes == 0) {
+        primaryScopes.remove();
+      } else {
+        primaryScopes.set(scopes);
+      }
+    }
+  }
+
   /**
    * Get the Mapper object from the SqlSession object.
    *
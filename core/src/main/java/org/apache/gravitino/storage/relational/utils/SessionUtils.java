@@ -46,6 +46,7 @@ public class SessionUtils {
         T mapper = SqlSessions.getMapper(mapperClazz);
         consumer.accept(mapper);
         SqlSessions.commitAndCloseSqlSession();
+        SqlSessions.recordWrite();
       } catch (Throwable t) {
         SqlSessions.rollbackAndCloseSqlSession();
         throw t;
@@ -69,6 +70,7 @@ public class SessionUtils {
         T mapper = SqlSessions.getMapper(mapperClazz);
         R result = func.apply(mapper);
         SqlSessions.commitAndCloseSqlSession();
+        SqlSessions.recordWrite();
         return result;
       } catch (Throwable t) {
         SqlSessions.rollbackAndCloseSqlSession();
@@ -107,7 +109,9 @@ public class SessionUtils {
 
   /**
    * This method is used to perform a database operation without a commit and fetch the result. If
-   * the operation fails, will throw a RuntimeException.
+   * the operation fails, will throw a RuntimeException. The operation is performed on the read
+   * replica if it can be, see {@link SqlSessions#canReadFromReplica()}. If the current thread is in
+   * a transaction, the operation joins it and the SqlSession is left open for the transaction.
    *
    * @param mapperClazz mapper class to be used for the operation
    * @param func the operation to be performed with the mapper
@@ -116,6 +120,16 @@ public class SessionUtils {
    * @param <R> the type of the result
    */
   public static <T, R> R getWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
+    if (SqlSessions.inTransaction()) {
+      return doWithoutCommitAndFetchResult(mapperClazz, func);
+    }
+
+    if (SqlSessions.canReadFromReplica()) {
+      try (SqlSession session = SqlSessions.openReadReplicaSqlSession()) {
+        return func.apply(session.getMapper(mapperClazz));
+      }
+    }
+
     try (SqlSession session = SqlSessions.getSqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
@@ -139,6 +153,7 @@ public class SessionUtils {
       try {
         Arrays.stream(operations).forEach(Runnable::run);
         SqlSessions.commitAndCloseSqlSession();
+        SqlSessions.recordWrite();
       } catch (Throwable t) {
         SqlSessions.rollbackAndCloseSqlSession();
         throw t;
@@ -27,7 +27,10 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.SystemUtils;
@@ -55,6 +58,10 @@ public class IsolatedClassLoader implements Closeable {
 
   private final ClassLoader baseClassLoader;
 
+  private final AtomicLong definedClassCount = new AtomicLong();
+
+  private final Map<String, Runnable> closeHooks = new LinkedHashMap<>();
+
   /**
    * Constructs an IsolatedClassLoader with the provided parameters.
    *
@@ -145,9 +152,45 @@ public class IsolatedClassLoader implements Closeable {
         classPathContents, Collections.emptyList(), Collections.emptyList());
   }
 
+  /**
+   * Returns the number of classes defined by this class loader so far, the classes delegated to the
+   * parent or base class loader are not counted. It reflects how much metaspace the isolated
+   * classes of this class loader take.
+   *
+   * @return The number of classes defined by this class loader.
+   */
+  public long definedClassCount() {
+    return definedClassCount.get();
+  }
+
+  /**
+   * Runs the hook when the isolated class loader of the current thread is closed, or right away if
+   * the current thread doesn't run in an isolated class loader. It is used to release the
+   * process-wide resources of the isolated classes, for example, the JDBC drivers registered to the
+   * {@link java.sql.DriverManager}, which are shared by all the catalogs using this class loader
+   * and must not be released when only one of them is closed. The hooks with the same name are run
+   * only once.
+   *
+   * @param name The name of the hook.
+   * @param hook The hook to run.
+   */
+  public static void runOnClose(String name, Runnable hook) {
+    ClassLoader current = Thread.currentThread().getContextClassLoader();
+    if (current instanceof CustomURLClassLoader) {
+      ((CustomURLClassLoader) current).owner().addCloseHook(name, hook);
+    } else {
+      hook.run();
+    }
+  }
+
+  private synchronized void addCloseHook(String name, Runnable hook) {
+    closeHooks.putIfAbsent(name, hook);
+  }
+
   /** Closes the class loader. */
   @Override
   public void close() {
+    runCloseHooks();
     try {
       if (classLoader != null) {
         classLoader.close();
@@ -157,6 +200,31 @@ public class IsolatedClassLoader implements Closeable {
     }
   }
 
+  private void runCloseHooks() {
+    List<Map.Entry<String, Runnable>> hooks;
+    synchronized (this) {
+      hooks = Lists.newArrayList(closeHooks.entrySet());
+      closeHooks.clear();
+    }
+    if (hooks.isEmpty()) {
+      return;
+    }
+
+    ClassLoader original = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(classLoader);
+    try {
+      for (Map.Entry<String, Runnable> hook : hooks) {
+        try {
+          hook.getValue().run();
+        } catch (Exception e) {
+          LOG.warn("Failed to run the close hook {} of classloader", hook.getKey(), e);
+        }
+      }
+    } finally {
+      Thread.currentThread().setContextClassLoader(original);
+    }
+  }
+
   class CustomURLClassLoader extends URLClassLoader {
     private final ClassLoader baseClassLoader;
 
@@ -165,6 +233,17 @@ public class IsolatedClassLoader implements Closeable {
       this.baseClassLoader = baseClassLoader;
     }
 
+    private IsolatedClassLoader owner() {
+      return IsolatedClassLoader.this;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      Class<?> clazz = super.findClass(name);
+      definedClassCount.incrementAndGet();
+      return clazz;
+    }
+
     @Override
     protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
       Class<?> clazz = findLoadedClass(name);
@@ -183,7 +262,9 @@ public class IsolatedClassLoader implements Closeable {
           LOG.debug("barrier class: {}", name);
         }
         byte[] bytes = loadClassBytes(name);
-        return defineClass(name, bytes, 0, bytes.length);
+        Class<?> clazz = defineClass(name, bytes, 0, bytes.length);
+        definedClassCount.incrementAndGet();
+        return clazz;
 
       } else if (!isSharedClass(name)) {
         if (LOG.isDebugEnabled()) {
@@ -54,6 +54,7 @@ import org.apache.gravitino.listener.api.event.CreateTableEvent;
 import org.apache.gravitino.listener.api.event.CreateTableFailureEvent;
 import org.apache.gravitino.listener.api.event.CreateTopicEvent;
 import org.apache.gravitino.listener.api.event.CreateTopicFailureEvent;
+import org.apache.gravitino.listener.api.event.DisableCatalogEvent;
 import org.apache.gravitino.listener.api.event.DropCatalogEvent;
 import org.apache.gravitino.listener.api.event.DropCatalogFailureEvent;
 import org.apache.gravitino.listener.api.event.DropFilesetEvent;
@@ -66,6 +67,7 @@ import org.apache.gravitino.listener.api.event.DropTableEvent;
 import org.apache.gravitino.listener.api.event.DropTableFailureEvent;
 import org.apache.gravitino.listener.api.event.DropTopicEvent;
 import org.apache.gravitino.listener.api.event.DropTopicFailureEvent;
+import org.apache.gravitino.listener.api.event.EnableCatalogEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.GetFileLocationEvent;
 import org.apache.gravitino.listener.api.event.GetFileLocationFailureEvent;
@@ -314,6 +316,13 @@ public class TestOperation {
     Assertions.assertEquals(
         AuditLog.Operation.fromEvent(dropCatalogFailureEvent), AuditLog.Operation.DROP_CATALOG);
 
+    Event disableCatalogEvent = new DisableCatalogEvent(USER, catalogIdentifier);
+    Assertions.assertEquals(
+        AuditLog.Operation.fromEvent(disableCatalogEvent), AuditLog.Operation.DISABLE_CATALOG);
+    Event enableCatalogEvent = new EnableCatalogEvent(USER, catalogIdentifier);
+    Assertions.assertEquals(
+        AuditLog.Operation.fromEvent(enableCatalogEvent), AuditLog.Operation.ENABLE_CATALOG);
+
     Event dropSchemaEvent = new DropSchemaEvent(USER, schemaIdentifier, true, true);
     Assertions.assertEquals(
         AuditLog.Operation.fromEvent(dropSchemaEvent), AuditLog.Operation.DROP_SCHEMA);
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +32,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetadataObject;
@@ -44,6 +46,7 @@ import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.meta.UserEntity;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -70,6 +73,7 @@ public class TestFutureGrantManager {
     catalog = mock(BaseCatalog.class);
     authorizationPlugin = mock(AuthorizationPlugin.class);
     when(catalog.getAuthorizationPlugin()).thenReturn(authorizationPlugin);
+    when(catalog.name()).thenReturn("catalog");
   }
 
   @Test
@@ -77,6 +81,7 @@ public class TestFutureGrantManager {
     FutureGrantManager manager = new FutureGrantManager(entityStore, ownerManager);
 
     SupportsRelationOperations relationOperations = mock(SupportsRelationOperations.class);
+    when(relationOperations.batchListEntitiesByRelation(any(), any(), any())).thenCallRealMethod();
     when(entityStore.relationOperations()).thenReturn(relationOperations);
     when(ownerManager.getOwner(any(), any())).thenReturn(Optional.empty());
 
@@ -168,6 +173,10 @@ public class TestFutureGrantManager {
     verify(authorizationPlugin).onOwnerSet(any(), any(), any());
     verify(authorizationPlugin).onGrantedRolesToUser(any(), any());
     verify(authorizationPlugin).onGrantedRolesToGroup(any(), any());
+    FutureGrantStatus status = manager.getGrantStatus(METALAKE, "catalog").get();
+    Assertions.assertEquals(FutureGrantStatus.State.SUCCEEDED, status.state());
+    Assertions.assertEquals(2, status.totalPrincipals());
+    Assertions.assertEquals(2, status.grantedPrincipals());
 
     // test to skip unnecessary roles
     reset(authorizationPlugin);
@@ -183,11 +192,60 @@ public class TestFutureGrantManager {
   void testGrantWithException() throws IOException {
     FutureGrantManager manager = new FutureGrantManager(entityStore, ownerManager);
     SupportsRelationOperations relationOperations = mock(SupportsRelationOperations.class);
+    when(relationOperations.batchListEntitiesByRelation(any(), any(), any())).thenCallRealMethod();
     when(entityStore.relationOperations()).thenReturn(relationOperations);
     doThrow(new IOException("mock error"))
         .when(relationOperations)
         .listEntitiesByRelation(any(), any(), any());
     Assertions.assertThrows(
         RuntimeException.class, () -> manager.grantNewlyCreatedCatalog(METALAKE, catalog));
+    Assertions.assertEquals(
+        FutureGrantStatus.State.FAILED, manager.getGrantStatus(METALAKE, "catalog").get().state());
+  }
+
+  @Test
+  void testGrantAsynchronously() throws Exception {
+    SupportsRelationOperations relationOperations = mock(SupportsRelationOperations.class);
+    when(relationOperations.batchListEntitiesByRelation(any(), any(), any())).thenCallRealMethod();
+    when(entityStore.relationOperations()).thenReturn(relationOperations);
+    when(ownerManager.getOwner(any(), any())).thenReturn(Optional.empty());
+
+    RoleEntity roleEntity = mock(RoleEntity.class);
+    SecurableObject securableObject = mock(SecurableObject.class);
+    when(securableObject.type()).thenReturn(MetadataObject.Type.METALAKE);
+    when(securableObject.privileges())
+        .thenReturn(Lists.newArrayList(Privileges.CreateTable.allow()));
+    when(roleEntity.securableObjects()).thenReturn(Lists.newArrayList(securableObject));
+    when(roleEntity.nameIdentifier()).thenReturn(AuthorizationUtils.ofRole(METALAKE, "role1"));
+    when(relationOperations.listEntitiesByRelation(
+            SupportsRelationOperations.Type.METADATA_OBJECT_ROLE_REL,
+            NameIdentifier.of(METALAKE),
+            Entity.EntityType.METALAKE))
+        .thenReturn(Lists.newArrayList(roleEntity));
+    when(relationOperations.listEntitiesByRelation(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            AuthorizationUtils.ofRole(METALAKE, "role1"),
+            Entity.EntityType.ROLE))
+        .thenReturn(Lists.newArrayList(mock(UserEntity.class)));
+    when(relationOperations.listEntitiesByRelation(
+            SupportsRelationOperations.Type.ROLE_GROUP_REL,
+            AuthorizationUtils.ofRole(METALAKE, "role1"),
+            Entity.EntityType.ROLE))
+        .thenReturn(Collections.emptyList());
+
+    reset(authorizationPlugin);
+    try (FutureGrantManager manager = new FutureGrantManager(entityStore, ownerManager, true)) {
+      manager.grantNewlyCreatedCatalog(METALAKE, catalog);
+      verify(authorizationPlugin, timeout(10_000)).onGrantedRolesToUser(any(), any());
+
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(
+              () ->
+                  manager.getGrantStatus(METALAKE, "catalog").get().state()
+                      == FutureGrantStatus.State.SUCCEEDED);
+      Assertions.assertEquals(
+          1, manager.getGrantStatus(METALAKE, "catalog").get().grantedPrincipals());
+    }
   }
 }
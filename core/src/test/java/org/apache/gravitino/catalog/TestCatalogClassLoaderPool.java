@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.connector.BaseCatalog;
+import org.apache.gravitino.utils.IsolatedClassLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogClassLoaderPool {
+
+  private static final List<String> PATHS = ImmutableList.of("/tmp/hive/libs", "/tmp/hive/conf");
+
+  private CatalogClassLoaderPool pool;
+
+  private AtomicInteger created;
+
+  private Supplier<IsolatedClassLoader> supplier;
+
+  @BeforeEach
+  public void setUp() {
+    pool = new CatalogClassLoaderPool();
+    created = new AtomicInteger();
+    supplier =
+        () -> {
+          created.incrementAndGet();
+          return new IsolatedClassLoader(
+              Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        };
+  }
+
+  @AfterEach
+  public void tearDown() {
+    pool.close();
+  }
+
+  @Test
+  public void testSharedClassLoaderIsReferenceCounted() throws Exception {
+    IsolatedClassLoader loader1 = pool.acquireShared("hive", PATHS, null, supplier);
+    IsolatedClassLoader loader2 = pool.acquireShared("hive", PATHS, null, supplier);
+
+    Assertions.assertEquals(1, created.get());
+    Assertions.assertEquals(1, pool.classLoaderCount("hive"));
+    Assertions.assertEquals(2, pool.catalogReferences("hive"));
+    Assertions.assertSame(loader1.withClassLoader(cl -> cl), loader2.withClassLoader(cl -> cl));
+
+    loader1.close();
+    // Closing the same handle twice only releases one reference.
+    loader1.close();
+    Assertions.assertEquals(1, pool.classLoaderCount("hive"));
+    Assertions.assertEquals(1, pool.catalogReferences("hive"));
+
+    loader2.close();
+    Assertions.assertEquals(0, pool.classLoaderCount("hive"));
+    Assertions.assertEquals(0, pool.catalogReferences("hive"));
+
+    // A new classloader is built after the last reference is released.
+    IsolatedClassLoader loader3 = pool.acquireShared("hive", PATHS, null, supplier);
+    Assertions.assertEquals(2, created.get());
+    loader3.close();
+  }
+
+  @Test
+  public void testCloseHookRunsOnLastRelease() throws Exception {
+    IsolatedClassLoader loader1 = pool.acquireShared("jdbc-mysql", PATHS, null, supplier);
+    IsolatedClassLoader loader2 = pool.acquireShared("jdbc-mysql", PATHS, null, supplier);
+    AtomicInteger released = new AtomicInteger();
+
+    // Both catalogs register the same hook to release the driver when they are closed.
+    loader1.withClassLoader(
+        cl -> {
+          IsolatedClassLoader.runOnClose("driver", released::incrementAndGet);
+          return null;
+        });
+    loader1.close();
+    Assertions.assertEquals(0, released.get());
+
+    loader2.withClassLoader(
+        cl -> {
+          IsolatedClassLoader.runOnClose("driver", released::incrementAndGet);
+          return null;
+        });
+    loader2.close();
+    Assertions.assertEquals(1, released.get());
+
+    // The hook runs right away out of an isolated classloader.
+    IsolatedClassLoader.runOnClose("driver", released::incrementAndGet);
+    Assertions.assertEquals(2, released.get());
+  }
+
+  @Test
+  public void testSharedClassLoaderKey() {
+    IsolatedClassLoader loader1 = pool.acquireShared("hive", PATHS, null, supplier);
+    IsolatedClassLoader loader2 = pool.acquireShared("hive", PATHS, "ranger", supplier);
+    IsolatedClassLoader loader3 =
+        pool.acquireShared("hive", ImmutableList.of("/tmp/hive/libs"), null, supplier);
+    IsolatedClassLoader loader4 = pool.acquireShared("hadoop", PATHS, null, supplier);
+
+    Assertions.assertEquals(4, created.get());
+    Assertions.assertEquals(3, pool.classLoaderCount("hive"));
+    Assertions.assertEquals(1, pool.classLoaderCount("hadoop"));
+
+    loader1.close();
+    loader2.close();
+    loader3.close();
+    loader4.close();
+    Assertions.assertEquals(0, pool.classLoaderCount("hive"));
+    Assertions.assertEquals(0, pool.classLoaderCount("hadoop"));
+  }
+
+  @Test
+  public void testDedicatedClassLoader() throws Exception {
+    IsolatedClassLoader shared = pool.acquireShared("hive", PATHS, null, supplier);
+    IsolatedClassLoader dedicated1 = pool.acquireDedicated("hive", supplier);
+    IsolatedClassLoader dedicated2 = pool.acquireDedicated("hive", supplier);
+
+    Assertions.assertEquals(3, created.get());
+    Assertions.assertEquals(3, pool.classLoaderCount("hive"));
+    Assertions.assertNotSame(
+        dedicated1.withClassLoader(cl -> cl), dedicated2.withClassLoader(cl -> cl));
+
+    dedicated1.close();
+    Assertions.assertEquals(2, pool.classLoaderCount("hive"));
+    dedicated2.close();
+    shared.close();
+    Assertions.assertEquals(0, pool.classLoaderCount("hive"));
+  }
+
+  @Test
+  public void testMetricsSource() {
+    IsolatedClassLoader loader1 = pool.acquireShared("hive", PATHS, null, supplier);
+    IsolatedClassLoader loader2 = pool.acquireShared("hive", PATHS, null, supplier);
+
+    CatalogClassLoaderPool.CatalogClassLoaderMetricsSource metricsSource =
+        pool.getMetricsSource("hive");
+    Assertions.assertNotNull(metricsSource);
+    Assertions.assertEquals("catalog-classloader.hive", metricsSource.getMetricsSourceName());
+    Assertions.assertEquals(
+        1, metricsSource.getMetricRegistry().getGauges().get("classloader-count").getValue());
+    Assertions.assertEquals(
+        2L, metricsSource.getMetricRegistry().getGauges().get("catalog-references").getValue());
+    Assertions.assertEquals(
+        0L, metricsSource.getMetricRegistry().getGauges().get("defined-classes").getValue());
+
+    loader1.close();
+    loader2.close();
+    Assertions.assertEquals(
+        0, metricsSource.getMetricRegistry().getGauges().get("classloader-count").getValue());
+  }
+
+  @Test
+  public void testCatalogsWithDifferentPrincipals() throws Exception {
+    Config config = new Config(false) {};
+    config.set(Configs.CATALOG_CLASSLOADER_SHARED_ENABLED, true);
+    Map<String, String> conf1 =
+        ImmutableMap.of(
+            "authentication.type", "kerberos",
+            "authentication.kerberos.principal", "user1@EXAMPLE.COM",
+            "authentication.kerberos.keytab-uri", "file:///tmp/user1.keytab");
+    Map<String, String> conf2 =
+        ImmutableMap.of(
+            "authentication.type", "kerberos",
+            "authentication.kerberos.principal", "user2@EXAMPLE.COM",
+            "authentication.kerberos.keytab-uri", "file:///tmp/user2.keytab");
+
+    Assertions.assertTrue(
+        CatalogManager.useSharedClassLoader(
+            config, "hive", ImmutableMap.of("metastore.uris", "thrift://localhost:9083")));
+    Assertions.assertFalse(CatalogManager.useSharedClassLoader(config, "hive", conf1));
+    Assertions.assertFalse(CatalogManager.useSharedClassLoader(config, "hive", conf2));
+    Assertions.assertFalse(
+        CatalogManager.useSharedClassLoader(
+            config,
+            "hadoop",
+            ImmutableMap.of("gravitino.bypass.hadoop.security.authentication", "kerberos")));
+    Assertions.assertFalse(
+        CatalogManager.useSharedClassLoader(
+            config, "hive", ImmutableMap.of(BaseCatalog.CATALOG_CLASSLOADER_SHARED, "false")));
+
+    // The catalogs with different principals get their own classloaders, so the Kerberos login of
+    // one catalog doesn't overwrite the other's.
+    IsolatedClassLoader loader1 = acquire(config, "hive", conf1);
+    IsolatedClassLoader loader2 = acquire(config, "hive", conf2);
+    Assertions.assertEquals(2, created.get());
+    Assertions.assertEquals(2, pool.classLoaderCount("hive"));
+    Assertions.assertNotSame(loader1.withClassLoader(cl -> cl), loader2.withClassLoader(cl -> cl));
+    loader1.close();
+    loader2.close();
+  }
+
+  private IsolatedClassLoader acquire(Config config, String provider, Map<String, String> conf) {
+    return CatalogManager.useSharedClassLoader(config, provider, conf)
+        ? pool.acquireShared(provider, PATHS, null, supplier)
+        : pool.acquireDedicated(provider, supplier);
+  }
+}
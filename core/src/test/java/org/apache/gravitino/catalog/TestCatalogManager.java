@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.Config;
@@ -44,6 +45,7 @@ import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.memory.TestMemoryEntityStore;
 import org.apache.gravitino.storage.memory.TestMemoryEntityStore.InMemoryEntityStore;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -398,6 +400,48 @@ public class TestCatalogManager {
     Assertions.assertNotNull(catalogManager.catalogCache.getIfPresent(ident));
   }
 
+  @Test
+  public void testWarmUpAndRefreshCatalogs() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test23");
+    NameIdentifier ident2 = NameIdentifier.of("metalake", "test24");
+    Map<String, String> props =
+        ImmutableMap.of("provider", "test", "key1", "value1", "key2", "value2");
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+    catalogManager.createCatalog(ident2, Catalog.Type.RELATIONAL, provider, "comment", props);
+    catalogManager.disableCatalog(ident2);
+
+    Config warmUpConfig = new Config(false) {};
+    warmUpConfig.set(Configs.CATALOG_LOAD_ISOLATED, false);
+    warmUpConfig.set(Configs.CATALOG_CACHE_WARMUP_ENABLED, true);
+    warmUpConfig.set(Configs.CATALOG_CACHE_REFRESH_AHEAD_INTERVAL_MS, 100L);
+
+    CatalogManager warmUpManager =
+        new CatalogManager(warmUpConfig, entityStore, new RandomIdGenerator());
+    try {
+      warmUpManager.warmUpCatalogs();
+
+      // Only the in-use catalogs are warmed up.
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> warmUpManager.catalogCache.getIfPresent(ident) != null);
+      Assertions.assertNull(warmUpManager.catalogCache.getIfPresent(ident2));
+      Assertions.assertNotNull(warmUpManager.metricsSource.getInitDuration(ident));
+      Assertions.assertNull(warmUpManager.metricsSource.getInitDuration(ident2));
+
+      // The cached catalog is rebuilt in the background.
+      CatalogManager.CatalogWrapper wrapper = warmUpManager.catalogCache.getIfPresent(ident);
+      long initCount = warmUpManager.metricsSource.getInitDuration(ident).getCount();
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> warmUpManager.catalogCache.getIfPresent(ident) != wrapper);
+      Assertions.assertTrue(
+          warmUpManager.metricsSource.getInitDuration(ident).getCount() > initCount);
+      Assertions.assertEquals("test23", warmUpManager.loadCatalog(ident).name());
+    } finally {
+      warmUpManager.close();
+    }
+  }
+
   @Test
   public void testAlterCatalog() {
     NameIdentifier ident = NameIdentifier.of("metalake", "test31");
@@ -55,12 +55,15 @@ import org.apache.gravitino.TestColumn;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.connector.TestCatalogOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
@@ -368,6 +371,58 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
         RuntimeException.class, () -> tableOperationDispatcher.dropTable(tableIdent));
   }
 
+  @Test
+  public void testBatchOperateTables() throws IOException {
+    reset(entityStore);
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema_batch");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table1");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table2");
+
+    TableBatchResult[] results =
+        tableOperationDispatcher.batchOperateTables(
+            TableBatchOperation.create(tableIdent1, columns, "comment", props),
+            TableBatchOperation.create(tableIdent2, columns, "comment", props),
+            TableBatchOperation.alter(tableIdent1, TableChange.setProperty("k3", "v3")),
+            TableBatchOperation.drop(tableIdent2),
+            TableBatchOperation.create(tableIdent1, columns, "comment", props));
+
+    Assertions.assertEquals(5, results.length);
+    Assertions.assertTrue(results[0].succeeded());
+    Assertions.assertEquals("table1", results[0].table().name());
+    Assertions.assertTrue(results[1].succeeded());
+    Assertions.assertTrue(results[2].succeeded());
+    Assertions.assertEquals("v3", results[2].table().properties().get("k3"));
+    Assertions.assertTrue(results[3].succeeded());
+    Assertions.assertTrue(results[3].dropped());
+    // A failed operation doesn't stop the batch, its error is returned in its result.
+    Assertions.assertFalse(results[4].succeeded());
+    Assertions.assertInstanceOf(TableAlreadyExistsException.class, results[4].error());
+
+    TableEntity tableEntity = entityStore.get(tableIdent1, TABLE, TableEntity.class);
+    Assertions.assertEquals("table1", tableEntity.name());
+    Assertions.assertEquals(1, tableEntity.columns().size());
+    Assertions.assertFalse(entityStore.exists(tableIdent2, TABLE));
+
+    // The operations of a batch must be on the tables of the same schema.
+    NameIdentifier otherIdent = NameIdentifier.of(metalake, catalog, "other_schema", "table3");
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            tableOperationDispatcher.batchOperateTables(
+                TableBatchOperation.drop(tableIdent1), TableBatchOperation.drop(otherIdent)));
+  }
+
   @Test
   public void testCreateTableNeedImportingSchema() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema181");
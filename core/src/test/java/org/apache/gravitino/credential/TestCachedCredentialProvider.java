@@ -0,0 +1,189 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.credential;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.credential.config.CredentialCacheConfig;
+import org.apache.gravitino.metrics.MetricNames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCachedCredentialProvider {
+  private static final String CATALOG = "catalog";
+
+  @Test
+  void testCachedCredential() throws IOException {
+    CredentialProvider provider = mockProvider(3_600_000L, 0);
+    CredentialCacheMetricsSource metricsSource = new CredentialCacheMetricsSource();
+    try (CachedCredentialProvider cachedProvider =
+        new CachedCredentialProvider(
+            CATALOG, provider, cacheConfig(0.5, 0.4), Runnable::run, metricsSource)) {
+      Credential credential = cachedProvider.getCredential(context("user1", "s3://bucket/t1"));
+      Assertions.assertSame(
+          credential, cachedProvider.getCredential(context("user1", "s3://bucket/t1")));
+      verify(provider, times(1)).getCredential(any());
+
+      // The credentials of different users or paths are issued separately.
+      Assertions.assertNotSame(
+          credential, cachedProvider.getCredential(context("user2", "s3://bucket/t1")));
+      Assertions.assertNotSame(
+          credential, cachedProvider.getCredential(context("user1", "s3://bucket/t2")));
+      verify(provider, times(3)).getCredential(any());
+
+      Assertions.assertEquals(
+          3, metricsSource.getCount(CATALOG, MetricNames.CREDENTIAL_CACHE_ISSUED_CREDENTIALS));
+      Assertions.assertEquals(
+          1, metricsSource.getCount(CATALOG, MetricNames.CREDENTIAL_CACHE_CACHED_CREDENTIALS));
+    }
+  }
+
+  @Test
+  void testConcurrentMisses() throws Exception {
+    CredentialProvider provider = mockProvider(3_600_000L, 200);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (CachedCredentialProvider cachedProvider =
+        new CachedCredentialProvider(
+            CATALOG, provider, cacheConfig(0.5, 0.4), Runnable::run, null)) {
+      CountDownLatch latch = new CountDownLatch(1);
+      List<Future<Credential>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  latch.await();
+                  return cachedProvider.getCredential(context("user", "s3://bucket/t1"));
+                }));
+      }
+      latch.countDown();
+
+      Credential credential = futures.get(0).get();
+      for (Future<Credential> future : futures) {
+        Assertions.assertSame(credential, future.get());
+      }
+      verify(provider, times(1)).getCredential(any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRefreshCredential() throws Exception {
+    CredentialProvider provider = mockProvider(10_000L, 0);
+    CredentialCacheMetricsSource metricsSource = new CredentialCacheMetricsSource();
+    try (CachedCredentialProvider cachedProvider =
+        new CachedCredentialProvider(
+            CATALOG, provider, cacheConfig(0.9, 0.01), Runnable::run, metricsSource)) {
+      Credential credential = cachedProvider.getCredential(context("user", "s3://bucket/t1"));
+      Thread.sleep(200);
+
+      // The cached credential is served while it's refreshed.
+      Assertions.assertSame(
+          credential, cachedProvider.getCredential(context("user", "s3://bucket/t1")));
+      verify(provider, times(2)).getCredential(any());
+
+      Credential refreshed = cachedProvider.getCredential(context("user", "s3://bucket/t1"));
+      Assertions.assertNotSame(credential, refreshed);
+      Assertions.assertEquals(
+          1, metricsSource.getCount(CATALOG, MetricNames.CREDENTIAL_CACHE_REFRESHED_CREDENTIALS));
+    }
+  }
+
+  @Test
+  void testExpiredCredential() throws Exception {
+    CredentialProvider provider = mockProvider(400L, 0);
+    try (CachedCredentialProvider cachedProvider =
+        new CachedCredentialProvider(
+            CATALOG, provider, cacheConfig(0.5, 0.5), Runnable::run, null)) {
+      Credential credential = cachedProvider.getCredential(context("user", "s3://bucket/t1"));
+      Thread.sleep(250);
+
+      Assertions.assertNotSame(
+          credential, cachedProvider.getCredential(context("user", "s3://bucket/t1")));
+      verify(provider, times(2)).getCredential(any());
+    }
+  }
+
+  @Test
+  void testCredentialCacheConfig() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cacheConfig(0.4, 0.5));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cacheConfig(1.0, 0.5));
+
+    CredentialProviderManager manager = new CredentialProviderManager();
+    try {
+      manager.registerCredentialProvider(
+          "cached", new DummyCredentialProvider(), ImmutableMap.of());
+      Assertions.assertTrue(
+          manager.getCredentialProvider("cached") instanceof CachedCredentialProvider);
+
+      manager.registerCredentialProvider(
+          "not_cached",
+          new DummyCredentialProvider(),
+          ImmutableMap.of(CredentialConstants.CREDENTIAL_CACHE_MAX_SIZE, "0"));
+      Assertions.assertTrue(
+          manager.getCredentialProvider("not_cached") instanceof DummyCredentialProvider);
+    } finally {
+      manager.close();
+    }
+  }
+
+  private static CredentialCacheConfig cacheConfig(double expireRatio, double refreshRatio) {
+    return new CredentialCacheConfig(
+        ImmutableMap.of(
+            CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO,
+            String.valueOf(expireRatio),
+            CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+            String.valueOf(refreshRatio)));
+  }
+
+  private static PathBasedCredentialContext context(String user, String path) {
+    return new PathBasedCredentialContext(user, ImmutableSet.of(), ImmutableSet.of(path));
+  }
+
+  private static CredentialProvider mockProvider(long lifetimeMs, long latencyMs) {
+    CredentialProvider provider = mock(CredentialProvider.class);
+    AtomicInteger issued = new AtomicInteger();
+    when(provider.getCredential(any()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(latencyMs);
+              return new S3TokenCredential(
+                  "ak" + issued.incrementAndGet(),
+                  "sk",
+                  "token",
+                  System.currentTimeMillis() + lifetimeMs);
+            });
+    return provider;
+  }
+}
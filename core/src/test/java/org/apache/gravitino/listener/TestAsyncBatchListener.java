@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.PreEvent;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncBatchListener {
+
+  static class DummyPostEvent extends Event {
+    DummyPostEvent(String user, NameIdentifier identifier) {
+      super(user, identifier);
+    }
+  }
+
+  static class DummyPreEvent extends PreEvent {
+    DummyPreEvent(String user, NameIdentifier identifier) {
+      super(user, identifier);
+    }
+  }
+
+  static class RecordingListener implements EventListenerPlugin {
+    final List<List<Event>> postBatches = Collections.synchronizedList(new ArrayList<>());
+    final List<Object> events = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch release;
+
+    RecordingListener(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvents(List<Event> postEvents) {
+      await();
+      // Keep the batch itself to check that it is not changed after the call.
+      postBatches.add(postEvents);
+      events.addAll(postEvents);
+    }
+
+    @Override
+    public void onPreEvent(PreEvent preEvent) {
+      await();
+      events.add(preEvent);
+    }
+
+    private void await() {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Test
+  void testBatchDelivery() {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingListener listener = new RecordingListener(release);
+    AsyncBatchListener batchListener =
+        new AsyncBatchListener(
+            "test",
+            listener,
+            new EventListenerConfig(
+                ImmutableMap.of(
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY, "100",
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE, "10")));
+    batchListener.start();
+
+    List<Object> expected = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      NameIdentifier ident = NameIdentifier.of("metalake", "catalog" + i);
+      if (i % 10 == 5) {
+        DummyPreEvent preEvent = new DummyPreEvent("user", ident);
+        batchListener.onPreEvent(preEvent);
+        expected.add(preEvent);
+      } else {
+        DummyPostEvent postEvent = new DummyPostEvent("user", ident);
+        batchListener.onPostEvent(postEvent);
+        expected.add(postEvent);
+      }
+    }
+    release.countDown();
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> listener.events.size() == expected.size());
+    Assertions.assertEquals(expected, listener.events);
+    listener.postBatches.forEach(batch -> Assertions.assertTrue(batch.size() <= 10));
+    Assertions.assertEquals(
+        expected.stream().filter(event -> event instanceof Event).collect(Collectors.toList()),
+        listener.postBatches.stream().flatMap(List::stream).collect(Collectors.toList()));
+    Assertions.assertTrue(listener.postBatches.stream().anyMatch(batch -> batch.size() > 1));
+    Assertions.assertEquals(0, batchListener.getMetricsSource().droppedEvents());
+
+    batchListener.stop();
+  }
+
+  @Test
+  void testDropOverflow() {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingListener listener = new RecordingListener(release);
+    AsyncBatchListener batchListener =
+        new AsyncBatchListener(
+            "drop",
+            listener,
+            new EventListenerConfig(
+                ImmutableMap.of(
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY, "4",
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE, "1")));
+    batchListener.start();
+
+    for (int i = 0; i < 20; i++) {
+      batchListener.onPostEvent(new DummyPostEvent("user", NameIdentifier.of("m", "c" + i)));
+    }
+    // At most one event is held by the blocked dispatcher and four by the buffer.
+    Assertions.assertTrue(batchListener.getMetricsSource().droppedEvents() >= 15);
+
+    release.countDown();
+    batchListener.stop();
+  }
+
+  @Test
+  void testBlockOverflow() {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingListener listener = new RecordingListener(release);
+    AsyncBatchListener batchListener =
+        new AsyncBatchListener(
+            "block",
+            listener,
+            new EventListenerConfig(
+                ImmutableMap.of(
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY, "2",
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE, "1",
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY, "block",
+                    EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_BLOCK_TIMEOUT_MS,
+                        "10000")));
+    batchListener.start();
+
+    Thread releaser =
+        new Thread(
+            () -> {
+              Awaitility.await()
+                  .atMost(20, TimeUnit.SECONDS)
+                  .pollInterval(10, TimeUnit.MILLISECONDS)
+                  .until(() -> batchListener.getMetricsSource().blockedEvents() > 0);
+              release.countDown();
+            });
+    releaser.start();
+
+    for (int i = 0; i < 10; i++) {
+      batchListener.onPostEvent(new DummyPostEvent("user", NameIdentifier.of("m", "c" + i)));
+    }
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> listener.events.size() == 10);
+    Assertions.assertEquals(0, batchListener.getMetricsSource().droppedEvents());
+
+    batchListener.stop();
+  }
+
+  @Test
+  void testRingBuffer() {
+    MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+    Assertions.assertEquals(4, buffer.capacity());
+    for (int i = 0; i < 4; i++) {
+      Assertions.assertTrue(buffer.offer(i));
+    }
+    Assertions.assertFalse(buffer.offer(4));
+    Assertions.assertEquals(4, buffer.size());
+
+    List<Integer> sink = new ArrayList<>();
+    Assertions.assertEquals(3, buffer.drainTo(sink, 3));
+    Assertions.assertTrue(buffer.offer(4));
+    Assertions.assertEquals(2, buffer.drainTo(sink, 10));
+    Assertions.assertEquals(ImmutableList.of(0, 1, 2, 3, 4), sink);
+    Assertions.assertTrue(buffer.isEmpty());
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.CatalogChange;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.event.AlterCatalogEvent;
+import org.apache.gravitino.listener.api.event.CreateCatalogEvent;
+import org.apache.gravitino.listener.api.event.CreateTableEvent;
+import org.apache.gravitino.listener.api.event.DisableCatalogEvent;
+import org.apache.gravitino.listener.api.event.DropCatalogEvent;
+import org.apache.gravitino.listener.api.event.EnableCatalogEvent;
+import org.apache.gravitino.listener.api.info.CatalogInfo;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogChangeLog extends TestJDBCBackend {
+
+  @Test
+  public void testChangesSince() {
+    CatalogChangeLog changeLog = new CatalogChangeLog(10);
+    long base = warmUp(changeLog);
+    changeLog.onPostEvent(createEvent("metalake1", "catalog1"));
+    changeLog.onPostEvent(createEvent("metalake2", "catalog2"));
+    changeLog.onPostEvent(alterEvent("metalake1", "catalog1", "catalog1"));
+    changeLog.onPostEvent(new DropCatalogEvent("user", ident("metalake1", "catalog1"), true));
+    // Dropping a catalog that doesn't exist changes nothing.
+    changeLog.onPostEvent(new DropCatalogEvent("user", ident("metalake1", "catalog3"), false));
+    // Other events are ignored.
+    changeLog.onPostEvent(
+        new CreateTableEvent(
+            "user", NameIdentifier.of("metalake1", "catalog1", "schema", "table"), null));
+
+    CatalogChangeLog.Changes changes = changeLog.changesSince("metalake1", base);
+    Assertions.assertFalse(changes.truncated());
+    Assertions.assertEquals(base + 4, changes.latestSequence());
+    Assertions.assertEquals(
+        List.of("1:catalog1:CREATE", "3:catalog1:ALTER", "4:catalog1:DROP"),
+        format(base, changes.changes()));
+
+    changes = changeLog.changesSince("metalake1", base + 3);
+    Assertions.assertEquals(List.of("4:catalog1:DROP"), format(base, changes.changes()));
+
+    changes = changeLog.changesSince("metalake2", base + 4);
+    Assertions.assertFalse(changes.truncated());
+    Assertions.assertTrue(changes.changes().isEmpty());
+
+    // The sequence number is not issued by this log.
+    Assertions.assertTrue(changeLog.changesSince("metalake1", base + 5).truncated());
+  }
+
+  @Test
+  public void testSharedByServers() {
+    // The logs of the servers using the same entity store see the changes of each other.
+    CatalogChangeLog server1 = new CatalogChangeLog(10);
+    CatalogChangeLog server2 = new CatalogChangeLog(10);
+    long base = warmUp(server1);
+    server1.onPostEvent(createEvent("metalake1", "catalog1"));
+    server2.onPostEvent(createEvent("metalake1", "catalog2"));
+
+    CatalogChangeLog.Changes changes = server2.changesSince("metalake1", base);
+    Assertions.assertFalse(changes.truncated());
+    Assertions.assertEquals(
+        List.of("1:catalog1:CREATE", "2:catalog2:CREATE"), format(base, changes.changes()));
+    Assertions.assertEquals(changes.epoch(), server1.changesSince("metalake1", base).epoch());
+  }
+
+  @Test
+  public void testRenameCatalog() {
+    CatalogChangeLog changeLog = new CatalogChangeLog(10);
+    long base = warmUp(changeLog);
+    changeLog.onPostEvent(alterEvent("metalake1", "catalog1", "catalog2"));
+
+    Assertions.assertEquals(
+        List.of("1:catalog1:DROP", "2:catalog2:CREATE"),
+        format(base, changeLog.changesSince("metalake1", base).changes()));
+  }
+
+  @Test
+  public void testEnableAndDisableCatalog() {
+    CatalogChangeLog changeLog = new CatalogChangeLog(10);
+    long base = warmUp(changeLog);
+    changeLog.onPostEvent(new DisableCatalogEvent("user", ident("metalake1", "catalog1")));
+    changeLog.onPostEvent(new EnableCatalogEvent("user", ident("metalake1", "catalog1")));
+
+    Assertions.assertEquals(
+        List.of("1:catalog1:ALTER", "2:catalog1:ALTER"),
+        format(base, changeLog.changesSince("metalake1", base).changes()));
+  }
+
+  @Test
+  public void testTruncated() {
+    CatalogChangeLog changeLog = new CatalogChangeLog(2);
+    long base = warmUp(changeLog);
+    for (int i = 1; i <= 4; i++) {
+      changeLog.onPostEvent(createEvent("metalake1", "catalog" + i));
+    }
+
+    Assertions.assertTrue(changeLog.changesSince("metalake1", base).truncated());
+    Assertions.assertTrue(changeLog.changesSince("metalake1", base + 1).truncated());
+
+    CatalogChangeLog.Changes changes = changeLog.changesSince("metalake1", base + 2);
+    Assertions.assertFalse(changes.truncated());
+    Assertions.assertEquals(
+        List.of("3:catalog3:CREATE", "4:catalog4:CREATE"), format(base, changes.changes()));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new CatalogChangeLog(0));
+  }
+
+  // Records a change of another metalake and returns its sequence number, the tables are truncated
+  // before each test but the sequence may go on.
+  private static long warmUp(CatalogChangeLog changeLog) {
+    changeLog.onPostEvent(createEvent("metalake0", "catalog0"));
+    return changeLog.changesSince("metalake0", 0).latestSequence();
+  }
+
+  private static NameIdentifier ident(String metalake, String catalog) {
+    return NameIdentifier.of(metalake, catalog);
+  }
+
+  private static CreateCatalogEvent createEvent(String metalake, String catalog) {
+    return new CreateCatalogEvent("user", ident(metalake, catalog), catalogInfo(catalog));
+  }
+
+  private static AlterCatalogEvent alterEvent(String metalake, String catalog, String newName) {
+    return new AlterCatalogEvent(
+        "user",
+        ident(metalake, catalog),
+        new CatalogChange[] {CatalogChange.rename(newName)},
+        catalogInfo(newName));
+  }
+
+  private static CatalogInfo catalogInfo(String name) {
+    return new CatalogInfo(
+        name, Catalog.Type.RELATIONAL, "hive", "comment", ImmutableMap.of(), null);
+  }
+
+  private static List<String> format(long base, List<CatalogChangeLog.Change> changes) {
+    return changes.stream()
+        .map(c -> (c.sequence() - base) + ":" + c.catalog() + ":" + c.type())
+        .collect(Collectors.toList());
+  }
+}
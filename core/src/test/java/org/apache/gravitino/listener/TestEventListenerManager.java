@@ -225,6 +225,45 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  @Test
+  void testBatchAsyncListeners() {
+    String async1 = "async1";
+    String async2 = "async2";
+    Map<String, String> properties = createAsyncEventListenerConfig(async1, async2);
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_ASYNC_DISPATCH_MODE, "batch");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+
+    EventBus eventBus = eventListenerManager.createEventBus();
+    eventBus.dispatchEvent(DUMMY_POST_EVENT_INSTANCE);
+    eventBus.dispatchEvent(DUMMY_PRE_EVENT_INSTANCE);
+    List<EventListenerPlugin> listeners = eventBus.getEventListeners();
+
+    // Shared listeners get their own buffer in batch mode.
+    Assertions.assertEquals(2, listeners.size());
+    Set<String> names =
+        listeners.stream()
+            .map(
+                listener -> {
+                  Assertions.assertTrue(listener instanceof AsyncBatchListener);
+                  EventListenerPlugin internalListener =
+                      ((AsyncBatchListener) listener).getEventListener();
+                  Assertions.assertTrue(internalListener instanceof EventListenerPluginWrapper);
+                  EventListenerPlugin userListener =
+                      ((EventListenerPluginWrapper) internalListener).getUserEventListener();
+                  Assertions.assertTrue(userListener instanceof DummyAsyncEventListener);
+                  checkPostEvents(((DummyAsyncEventListener) userListener).tryGetPostEvents());
+                  checkPreEvents(((DummyAsyncEventListener) userListener).tryGetPreEvents());
+                  return ((DummyAsyncEventListener) userListener).properties.get("name");
+                })
+            .collect(Collectors.toSet());
+    Assertions.assertEquals(ImmutableSet.of(async1, async2), names);
+
+    eventListenerManager.stop();
+  }
+
   @Test
   void testForbiddenPreEvent() {
     String sync1 = "sync1";
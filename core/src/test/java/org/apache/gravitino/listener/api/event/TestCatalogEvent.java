@@ -109,6 +109,24 @@ public class TestCatalogEvent {
     Assertions.assertEquals(true, ((DropCatalogEvent) event).isExists());
   }
 
+  @Test
+  void testEnableCatalogEvent() {
+    NameIdentifier identifier = NameIdentifier.of("metalake", catalog.name());
+    dispatcher.enableCatalog(identifier);
+    Event event = dummyEventListener.popPostEvent();
+    Assertions.assertEquals(identifier, event.identifier());
+    Assertions.assertEquals(EnableCatalogEvent.class, event.getClass());
+  }
+
+  @Test
+  void testDisableCatalogEvent() {
+    NameIdentifier identifier = NameIdentifier.of("metalake", catalog.name());
+    dispatcher.disableCatalog(identifier);
+    Event event = dummyEventListener.popPostEvent();
+    Assertions.assertEquals(identifier, event.identifier());
+    Assertions.assertEquals(DisableCatalogEvent.class, event.getClass());
+  }
+
   @Test
   void testListCatalogEvent() {
     Namespace namespace = Namespace.of("metalake");
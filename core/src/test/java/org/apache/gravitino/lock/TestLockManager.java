@@ -534,6 +534,9 @@ public class TestLockManager {
     Mockito.doThrow(new RuntimeException("Mock exception"))
         .when(spyNode)
         .getOrCreateChild(Mockito.any());
+    Mockito.doThrow(new RuntimeException("Mock exception"))
+        .when(spyNode)
+        .getChildWithReference(Mockito.any());
 
     if (level == 0) {
       lockManager.treeLockRootNode = spyNode;
@@ -669,4 +672,32 @@ public class TestLockManager {
     lockManager.createTreeLock(NameIdentifier.of("/"));
     Assertions.assertEquals(2L, lockManager.totalNodeCount.get(), "Should have 2 nodes");
   }
+
+  @Test
+  void testEvictedNodeIsNotReused() {
+    Config config = getConfig();
+    Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1L);
+    LockManager lockManager = new LockManager(config);
+    NameIdentifier ident = NameIdentifier.of("a", "b");
+    TreeLock treeLock = lockManager.createTreeLock(ident);
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+
+    TreeLockNode rootNode = lockManager.treeLockRootNode;
+    TreeLockNode nodeA = rootNode.childMap.get("a");
+    lockManager.evictStaleNodes(nodeA, rootNode);
+    Assertions.assertFalse(rootNode.childMap.containsKey("a"));
+    // A lookup which found the node before the eviction can't reference it any more
+    Assertions.assertFalse(nodeA.tryAddReference());
+
+    treeLock = lockManager.createTreeLock(ident);
+    TreeLockNode newNodeA = rootNode.childMap.get("a");
+    Assertions.assertNotSame(nodeA, newNodeA);
+    Assertions.assertEquals(1, newNodeA.getReference());
+    // The node being referenced can't be evicted
+    Assertions.assertFalse(newNodeA.tryMarkEvicted());
+    treeLock.lock(LockType.WRITE);
+    treeLock.unlock();
+    checkReferenceCount(rootNode);
+  }
 }
@@ -24,8 +24,6 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 
-import java.util.Arrays;
-import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -87,7 +85,7 @@ class TestTreeLock {
     // Mock the lock method of the second node to throw an exception
     doThrow(new RuntimeException("Mock exception")).when(mockNode2).lock(Mockito.any());
 
-    List<TreeLockNode> lockNodes = Arrays.asList(mockNode1, mockNode2, mockNode3);
+    TreeLockNode[] lockNodes = new TreeLockNode[] {mockNode1, mockNode2, mockNode3};
     TreeLock treeLock = new TreeLock(lockNodes, TestLockManager.randomNameIdentifier());
 
     assertThrows(
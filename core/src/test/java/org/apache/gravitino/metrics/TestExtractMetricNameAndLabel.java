@@ -79,5 +79,41 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.HTTP_PROCESS_DURATION),
         ImmutableMap.of("operation", "update-table"));
+
+    checkResult(
+        MetricsSource.CATALOG_METRIC_NAME
+            + ".metalake1.catalog1."
+            + MetricNames.CATALOG_INIT_DURATION,
+        Collector.sanitizeMetricName(MetricsSource.CATALOG_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CATALOG_INIT_DURATION),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1"));
+
+    checkResult(
+        MetricsSource.ENTITY_STORE_POOL_METRIC_NAME
+            + ".primary."
+            + MetricNames.ENTITY_STORE_POOL_ACTIVE_CONNECTIONS,
+        Collector.sanitizeMetricName(MetricsSource.ENTITY_STORE_POOL_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.ENTITY_STORE_POOL_ACTIVE_CONNECTIONS),
+        ImmutableMap.of("pool", "primary"));
+
+    checkResult(
+        MetricsSource.CREDENTIAL_CACHE_METRIC_NAME
+            + ".catalog1."
+            + MetricNames.CREDENTIAL_CACHE_ISSUED_CREDENTIALS,
+        Collector.sanitizeMetricName(MetricsSource.CREDENTIAL_CACHE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CREDENTIAL_CACHE_ISSUED_CREDENTIALS),
+        ImmutableMap.of("catalog", "catalog1"));
+
+    checkResult(
+        MetricsSource.RANGER_CLIENT_METRIC_NAME
+            + ".hiveRepo.find-policies."
+            + MetricNames.RANGER_CLIENT_REQUESTS,
+        Collector.sanitizeMetricName(MetricsSource.RANGER_CLIENT_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.RANGER_CLIENT_REQUESTS),
+        ImmutableMap.of("service", "hiveRepo", "operation", "find-policies"));
   }
 }
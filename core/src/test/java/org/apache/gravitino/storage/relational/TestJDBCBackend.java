@@ -20,11 +20,17 @@ package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.SupportsRelationOperations.Type.OWNER_REL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -49,6 +55,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.commons.io.IOUtils;
 import org.apache.gravitino.Catalog;
@@ -56,6 +63,7 @@ import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Privileges;
@@ -65,6 +73,7 @@ import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.RoleEntity;
@@ -74,6 +83,7 @@ import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
@@ -111,11 +121,17 @@ public class TestJDBCBackend {
     dir.mkdirs();
     Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
     Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
+    Mockito.when(config.get(ENTITY_STORE_CACHE_ENABLED)).thenReturn(false);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
         .thenReturn(String.format("jdbc:h2:file:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", DB_DIR));
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("123456");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(20);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS)).thenReturn(5);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL)).thenReturn(Optional.empty());
 
     String backendName = config.get(ENTITY_RELATIONAL_STORE);
     String className =
@@ -150,7 +166,7 @@ public class TestJDBCBackend {
 
   private static void prepareJdbcTable() {
     // Read the ddl sql to create table
-    String scriptPath = "h2/schema-0.7.0-h2.sql";
+    String scriptPath = "h2/schema-0.8.0-h2.sql";
     try (SqlSession sqlSession =
             SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().openSession(true);
         Connection connection = sqlSession.getConnection();
@@ -299,6 +315,69 @@ public class TestJDBCBackend {
     assertThrows(EntityAlreadyExistsException.class, () -> backend.insert(topicCopy, false));
   }
 
+  @Test
+  public void testBatchInsertTables() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo),
+        false);
+    backend.insert(
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofSchema("metalake", "catalog"),
+            "schema",
+            auditInfo),
+        false);
+
+    Namespace tableNs = NamespaceUtil.ofTable("metalake", "catalog", "schema");
+    ColumnEntity column =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("col1")
+            .withPosition(0)
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity tableWithColumn =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(tableNs)
+            .withColumns(Lists.newArrayList(column))
+            .withAuditInfo(auditInfo)
+            .build();
+    List<TableEntity> tables =
+        Lists.newArrayList(
+            tableWithColumn,
+            createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table2", auditInfo),
+            createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table3", auditInfo));
+    backend.batchInsert(tables, false);
+
+    List<TableEntity> listed = backend.list(tableNs, Entity.EntityType.TABLE, true);
+    assertEquals(3, listed.size());
+    TableEntity loaded = backend.get(NameIdentifier.of(tableNs, "table1"), Entity.EntityType.TABLE);
+    assertEquals(1, loaded.columns().size());
+    assertEquals("col1", loaded.columns().get(0).name());
+
+    // The batch is written in one transaction, nothing is left when one of the tables conflicts.
+    List<TableEntity> conflictTables =
+        Lists.newArrayList(
+            createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table4", auditInfo),
+            createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table1", auditInfo));
+    assertThrows(
+        EntityAlreadyExistsException.class, () -> backend.batchInsert(conflictTables, false));
+    assertFalse(backend.exists(NameIdentifier.of(tableNs, "table4"), Entity.EntityType.TABLE));
+  }
+
   @Test
   public void testUpdateAlreadyExistsException() throws IOException {
     AuditInfo auditInfo =
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_READ_AFTER_WRITE_WINDOW_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_ENABLED;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_MAX_ENTRIES;
+import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestReadReplicaEntityCache {
+  private static final String STORE_PATH =
+      "/tmp/gravitino_read_replica_" + UUID.randomUUID().toString().replace("-", "");
+  private static final String PRIMARY_URL =
+      String.format("jdbc:h2:file:%s/primary;DB_CLOSE_DELAY=-1;MODE=MYSQL", STORE_PATH);
+  private static final String REPLICA_URL =
+      String.format("jdbc:h2:file:%s/replica;DB_CLOSE_DELAY=-1;MODE=MYSQL", STORE_PATH);
+  private static final String USER = "root";
+  private static final String PASSWORD = "123";
+  private static final Config config = Mockito.mock(Config.class);
+  private static RelationalEntityStore store;
+
+  @BeforeAll
+  public static void setup() throws IOException, SQLException {
+    Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
+    Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
+    Mockito.when(config.get(ENTITY_STORE_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(ENTITY_STORE_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(config.get(ENTITY_STORE_CACHE_EXPIRE_TIME_MS)).thenReturn(60_000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL)).thenReturn(PRIMARY_URL);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn(USER);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn(PASSWORD);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(20);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS)).thenReturn(5);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL))
+        .thenReturn(Optional.of(REPLICA_URL));
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER)).thenReturn(Optional.empty());
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD))
+        .thenReturn(Optional.empty());
+    // Disable the read-after-write guard, so all the reads out of a transaction go to the replica.
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_READ_AFTER_WRITE_WINDOW_MS))
+        .thenReturn(0L);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+
+    createReplicaTables();
+    store = new RelationalEntityStore();
+    store.initialize(config);
+  }
+
+  @AfterAll
+  public static void tearDown() throws IOException, SQLException {
+    store.close();
+    try (Connection connection = DriverManager.getConnection(REPLICA_URL, USER, PASSWORD);
+        Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    FileUtils.deleteDirectory(new File(STORE_PATH));
+  }
+
+  @Test
+  public void testStaleReplicaIsNotCached() throws IOException, SQLException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        TestJDBCBackend.createBaseMakeLake(
+            RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    store.put(metalake, false);
+    Namespace catalogNamespace = NamespaceUtil.ofCatalog("metalake");
+    CatalogEntity oldCatalog =
+        TestJDBCBackend.createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), catalogNamespace, "catalog", auditInfo);
+    store.put(oldCatalog, false);
+    replicate("metalake_meta");
+    replicate("catalog_meta");
+
+    // Re-create the catalog, the replica lags behind and still has the dropped catalog.
+    store.delete(oldCatalog.nameIdentifier(), Entity.EntityType.CATALOG, true);
+    CatalogEntity newCatalog =
+        TestJDBCBackend.createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), catalogNamespace, "catalog", auditInfo);
+    store.put(newCatalog, false);
+    Assertions.assertEquals(
+        oldCatalog.id(),
+        CatalogMetaService.getInstance().getCatalogIdByMetalakeIdAndName(metalake.id(), "catalog"));
+
+    // The cached entities, listings and parent ids are loaded from the primary database.
+    for (int i = 0; i < 2; i++) {
+      CatalogEntity catalog =
+          store.get(newCatalog.nameIdentifier(), Entity.EntityType.CATALOG, CatalogEntity.class);
+      Assertions.assertEquals(newCatalog.id(), catalog.id());
+
+      List<CatalogEntity> catalogs =
+          store.list(catalogNamespace, CatalogEntity.class, Entity.EntityType.CATALOG);
+      Assertions.assertEquals(1, catalogs.size());
+      Assertions.assertEquals(newCatalog.id(), catalogs.get(0).id());
+
+      Assertions.assertEquals(
+          newCatalog.id(),
+          CommonMetaService.getInstance()
+              .getParentEntityIdsByNamespace(NamespaceUtil.ofSchema("metalake", "catalog"))
+              .getCatalogId());
+    }
+  }
+
+  @Test
+  public void testRenameInvalidatesOldIdentifier() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        TestJDBCBackend.createBaseMakeLake(
+            RandomIdGenerator.INSTANCE.nextId(), "metalake_rename", auditInfo);
+    store.put(metalake, false);
+    Namespace catalogNamespace = NamespaceUtil.ofCatalog("metalake_rename");
+    CatalogEntity catalog =
+        TestJDBCBackend.createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), catalogNamespace, "catalog", auditInfo);
+    store.put(catalog, false);
+
+    NameIdentifier oldIdent = catalog.nameIdentifier();
+    store.update(
+        oldIdent,
+        CatalogEntity.class,
+        Entity.EntityType.CATALOG,
+        e -> {
+          // A read during the update caches the catalog under the old identifier again.
+          try {
+            store.get(oldIdent, Entity.EntityType.CATALOG, CatalogEntity.class);
+          } catch (IOException ioe) {
+            throw new RuntimeException(ioe);
+          }
+          return TestJDBCBackend.createCatalog(e.id(), catalogNamespace, "catalog_new", auditInfo);
+        });
+
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> store.get(oldIdent, Entity.EntityType.CATALOG, CatalogEntity.class));
+    Assertions.assertEquals(
+        catalog.id(),
+        store
+            .get(
+                NameIdentifier.of(catalogNamespace, "catalog_new"),
+                Entity.EntityType.CATALOG,
+                CatalogEntity.class)
+            .id());
+  }
+
+  private static void createReplicaTables() throws IOException, SQLException {
+    String ddl =
+        IOUtils.toString(
+            Objects.requireNonNull(
+                TestReadReplicaEntityCache.class
+                    .getClassLoader()
+                    .getResourceAsStream("h2/schema-0.8.0-h2.sql")),
+            StandardCharsets.UTF_8);
+    try (Connection connection = DriverManager.getConnection(REPLICA_URL, USER, PASSWORD);
+        Statement statement = connection.createStatement()) {
+      statement.execute(ddl);
+    }
+  }
+
+  // Copy the rows of the table from the primary database to the replica.
+  private static void replicate(String table) throws SQLException {
+    try (Connection primary = DriverManager.getConnection(PRIMARY_URL, USER, PASSWORD);
+        Connection replica = DriverManager.getConnection(REPLICA_URL, USER, PASSWORD);
+        Statement statement = primary.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT * FROM " + table)) {
+      int columnCount = rs.getMetaData().getColumnCount();
+      String sql =
+          String.format(
+              "INSERT INTO %s VALUES (%s)",
+              table, String.join(", ", Collections.nCopies(columnCount, "?")));
+      try (PreparedStatement insert = replica.prepareStatement(sql)) {
+        while (rs.next()) {
+          for (int i = 1; i <= columnCount; i++) {
+            insert.setObject(i, rs.getObject(i));
+          }
+          insert.executeUpdate();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.cache;
+
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createBaseMakeLake;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createCatalog;
+import static org.apache.gravitino.storage.relational.TestJDBCBackend.createSchemaEntity;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestEntityCache {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private EntityCache cache;
+
+  @BeforeEach
+  public void init() {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS)).thenReturn(60000L);
+    cache = new EntityCache(config);
+  }
+
+  @Test
+  public void testGetOrLoad() throws IOException {
+    BaseMetalake metalake = createBaseMakeLake(1L, "metalake", AUDIT_INFO);
+    NameIdentifier ident = metalake.nameIdentifier();
+    AtomicInteger loadCount = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      BaseMetalake loaded =
+          cache.getOrLoad(
+              ident,
+              Entity.EntityType.METALAKE,
+              () -> {
+                loadCount.incrementAndGet();
+                return metalake;
+              });
+      Assertions.assertEquals(metalake, loaded);
+    }
+    Assertions.assertEquals(1, loadCount.get());
+    Assertions.assertEquals(2, cache.entityCacheStats().hitCount());
+    Assertions.assertEquals(1, cache.entityCacheStats().missCount());
+    Assertions.assertTrue(cache.contains(ident, Entity.EntityType.METALAKE));
+    Assertions.assertFalse(cache.contains(ident, Entity.EntityType.CATALOG));
+
+    // Exceptions thrown by the loader are propagated and nothing is cached
+    NameIdentifier missing = NameIdentifier.of("missing");
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            cache.getOrLoad(
+                missing,
+                Entity.EntityType.METALAKE,
+                () -> {
+                  throw new NoSuchEntityException("missing");
+                }));
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            cache.getOrLoad(
+                missing,
+                Entity.EntityType.METALAKE,
+                () -> {
+                  throw new IOException("failed");
+                }));
+    Assertions.assertFalse(cache.contains(missing, Entity.EntityType.METALAKE));
+  }
+
+  @Test
+  public void testInvalidate() throws IOException {
+    Namespace catalogNs = Namespace.of("metalake");
+    CatalogEntity catalog = createCatalog(1L, catalogNs, "catalog", AUDIT_INFO);
+    CatalogEntity catalog2 = createCatalog(2L, catalogNs, "catalog2", AUDIT_INFO);
+    cache.put(catalog);
+    cache.getOrLoadList(
+        catalogNs, Entity.EntityType.CATALOG, false, () -> Lists.newArrayList(catalog, catalog2));
+    Assertions.assertEquals(1, cache.listCacheSize());
+
+    // Putting an entity invalidates the list of its namespace
+    cache.put(catalog2);
+    Assertions.assertEquals(0, cache.listCacheSize());
+    Assertions.assertEquals(2, cache.entityCacheSize());
+
+    cache.getOrLoadList(
+        catalogNs, Entity.EntityType.CATALOG, false, () -> Lists.newArrayList(catalog, catalog2));
+    cache.invalidate(catalog.nameIdentifier(), Entity.EntityType.CATALOG);
+    Assertions.assertFalse(cache.contains(catalog.nameIdentifier(), Entity.EntityType.CATALOG));
+    Assertions.assertTrue(cache.contains(catalog2.nameIdentifier(), Entity.EntityType.CATALOG));
+    Assertions.assertEquals(0, cache.listCacheSize());
+  }
+
+  @Test
+  public void testInvalidateSubtree() throws IOException {
+    BaseMetalake metalake = createBaseMakeLake(1L, "metalake", AUDIT_INFO);
+    CatalogEntity catalog = createCatalog(2L, Namespace.of("metalake"), "catalog", AUDIT_INFO);
+    CatalogEntity otherCatalog =
+        createCatalog(3L, Namespace.of("metalake"), "catalog1", AUDIT_INFO);
+    Namespace schemaNs = Namespace.of("metalake", "catalog");
+    SchemaEntity schema = createSchemaEntity(4L, schemaNs, "schema", AUDIT_INFO);
+    Namespace otherSchemaNs = Namespace.of("metalake", "catalog1");
+    SchemaEntity otherSchema = createSchemaEntity(5L, otherSchemaNs, "schema", AUDIT_INFO);
+
+    cache.put(metalake);
+    cache.put(catalog);
+    cache.put(otherCatalog);
+    cache.put(schema);
+    cache.put(otherSchema);
+    List<SchemaEntity> schemas = Lists.newArrayList(schema);
+    cache.getOrLoadList(schemaNs, Entity.EntityType.SCHEMA, false, () -> schemas);
+    List<SchemaEntity> otherSchemas = Lists.newArrayList(otherSchema);
+    cache.getOrLoadList(otherSchemaNs, Entity.EntityType.SCHEMA, false, () -> otherSchemas);
+
+    // "catalog1" shares the prefix string with "catalog", but it is not in the subtree
+    cache.invalidateSubtree(catalog.nameIdentifier(), Entity.EntityType.CATALOG);
+    Assertions.assertTrue(cache.contains(metalake.nameIdentifier(), Entity.EntityType.METALAKE));
+    Assertions.assertFalse(cache.contains(catalog.nameIdentifier(), Entity.EntityType.CATALOG));
+    Assertions.assertFalse(cache.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    Assertions.assertTrue(cache.contains(otherCatalog.nameIdentifier(), Entity.EntityType.CATALOG));
+    Assertions.assertTrue(cache.contains(otherSchema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    Assertions.assertEquals(1, cache.listCacheSize());
+
+    cache.invalidateSubtree(metalake.nameIdentifier(), Entity.EntityType.METALAKE);
+    Assertions.assertEquals(0, cache.entityCacheSize());
+    Assertions.assertEquals(0, cache.listCacheSize());
+  }
+
+  @Test
+  public void testIsCacheable() {
+    Assertions.assertTrue(EntityCache.isCacheable(Entity.EntityType.METALAKE));
+    Assertions.assertTrue(EntityCache.isCacheable(Entity.EntityType.TABLE));
+    Assertions.assertFalse(EntityCache.isCacheable(Entity.EntityType.USER));
+    Assertions.assertFalse(EntityCache.isCacheable(Entity.EntityType.ROLE));
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TestCommonMetaService extends TestJDBCBackend {
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @AfterEach
+  void resetCache() {
+    CommonMetaService.getInstance().init(mockConfig(false));
+  }
+
+  @Test
+  void testGetParentEntityIdsByNamespace() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+
+    CommonMetaService service = CommonMetaService.getInstance();
+    Assertions.assertEquals(
+        new ParentEntityIdsPO(metalake.id(), null, null),
+        service.getParentEntityIdsByNamespace(Namespace.of("metalake")));
+    Assertions.assertEquals(
+        new ParentEntityIdsPO(metalake.id(), catalog.id(), null),
+        service.getParentEntityIdsByNamespace(Namespace.of("metalake", "catalog")));
+    Assertions.assertEquals(
+        new ParentEntityIdsPO(metalake.id(), catalog.id(), schema.id()),
+        service.getParentEntityIdsByNamespace(Namespace.of("metalake", "catalog", "schema")));
+    Assertions.assertEquals(
+        schema.id(),
+        service.getParentEntityIdByNamespace(Namespace.of("metalake", "catalog", "schema")));
+
+    // The missing level is reported in the exception
+    NoSuchEntityException exception =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                service.getParentEntityIdsByNamespace(
+                    Namespace.of("metalake", "catalog1", "schema")));
+    Assertions.assertTrue(exception.getMessage().contains("catalog1"));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            service.getParentEntityIdsByNamespace(Namespace.of("metalake", "catalog", "schema1")));
+  }
+
+  @Test
+  void testParentEntityIdsCacheInvalidation() throws IOException {
+    CommonMetaService service = CommonMetaService.getInstance();
+    service.init(mockConfig(true));
+
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    Assertions.assertEquals(
+        schema.id(), service.getParentEntityIdsByNamespace(tableNamespace).getSchemaId());
+
+    // Renaming the catalog invalidates the cached ids of the namespaces under it
+    backend.update(
+        catalog.nameIdentifier(),
+        Entity.EntityType.CATALOG,
+        e -> createCatalog(catalog.id(), catalog.namespace(), "catalog2", auditInfo));
+    Assertions.assertThrows(
+        NoSuchEntityException.class, () -> service.getParentEntityIdsByNamespace(tableNamespace));
+    Assertions.assertEquals(
+        schema.id(),
+        service
+            .getParentEntityIdsByNamespace(Namespace.of("metalake", "catalog2", "schema"))
+            .getSchemaId());
+
+    // Dropping and recreating the schema with the same name gives it a new id
+    backend.delete(
+        NameIdentifier.of("metalake", "catalog2", "schema"), Entity.EntityType.SCHEMA, false);
+    SchemaEntity newSchema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog2"),
+            "schema",
+            auditInfo);
+    backend.insert(newSchema, false);
+    Assertions.assertEquals(
+        newSchema.id(),
+        service
+            .getParentEntityIdsByNamespace(Namespace.of("metalake", "catalog2", "schema"))
+            .getSchemaId());
+  }
+
+  @Test
+  void testInsertsDoNotUseCachedParentEntityIds() throws IOException {
+    CommonMetaService service = CommonMetaService.getInstance();
+    service.init(mockConfig(true));
+
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    Assertions.assertEquals(
+        schema.id(), service.getParentEntityIdsByNamespace(tableNamespace).getSchemaId());
+
+    // Another server drops and recreates the schema, the cached ids of this server are stale
+    SessionUtils.doWithCommit(
+        SchemaMetaMapper.class, mapper -> mapper.softDeleteSchemaMetasBySchemaId(schema.id()));
+    SchemaEntity newSchema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(newSchema, false);
+    Assertions.assertEquals(
+        schema.id(), service.getParentEntityIdsByNamespace(tableNamespace).getSchemaId());
+
+    // The inserts resolve the parent ids in their transactions instead of using the cache
+    backend.insert(
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table1", auditInfo),
+        false);
+    backend.batchInsert(
+        Lists.newArrayList(
+            createTableEntity(
+                RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table2", auditInfo)),
+        false);
+    for (String tableName : new String[] {"table1", "table2"}) {
+      Assertions.assertNotNull(
+          SessionUtils.getWithoutCommit(
+              TableMetaMapper.class,
+              mapper -> mapper.selectTableMetaBySchemaIdAndName(newSchema.id(), tableName)));
+    }
+  }
+
+  private static Config mockConfig(boolean cacheEnabled) {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_ENABLED)).thenReturn(cacheEnabled);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS)).thenReturn(60000L);
+    return config;
+  }
+}
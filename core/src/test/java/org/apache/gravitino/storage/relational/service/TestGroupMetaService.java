@@ -29,10 +29,13 @@ import java.sql.Statement;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -191,6 +194,82 @@ class TestGroupMetaService extends TestJDBCBackend {
     }
   }
 
+  @Test
+  void testListGroupsByRoleIdents() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    List<RoleEntity> roles = Lists.newArrayList();
+    for (String roleName : Lists.newArrayList("role1", "role2", "role3")) {
+      RoleEntity role =
+          createRoleEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              AuthorizationUtils.ofRoleNamespace(metalakeName),
+              roleName,
+              auditInfo,
+              "catalog");
+      backend.insert(role, false);
+      roles.add(role);
+    }
+    RoleEntity role1 = roles.get(0);
+    RoleEntity role2 = roles.get(1);
+    RoleEntity role3 = roles.get(2);
+
+    GroupEntity group1 =
+        createGroupEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofGroupNamespace(metalakeName),
+            "group1",
+            auditInfo,
+            Lists.newArrayList(role1.name()),
+            Lists.newArrayList(role1.id()));
+    GroupEntity group2 =
+        createGroupEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofGroupNamespace(metalakeName),
+            "group2",
+            auditInfo,
+            Lists.newArrayList(role1.name(), role2.name(), role3.name()),
+            Lists.newArrayList(role1.id(), role2.id(), role3.id()));
+    GroupEntity group3 =
+        createGroupEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofGroupNamespace(metalakeName),
+            "group3",
+            auditInfo);
+    backend.insert(group1, false);
+    backend.insert(group2, false);
+    backend.insert(group3, false);
+
+    Map<NameIdentifier, List<GroupEntity>> groupsByRole =
+        GroupMetaService.getInstance()
+            .listGroupsByRoleIdents(
+                Lists.newArrayList(
+                    role1.nameIdentifier(),
+                    role2.nameIdentifier(),
+                    AuthorizationUtils.ofRole(metalakeName, "not_exist")));
+    Assertions.assertEquals(
+        Sets.newHashSet(role1.nameIdentifier(), role2.nameIdentifier()), groupsByRole.keySet());
+    Assertions.assertEquals(
+        Sets.newHashSet("group1", "group2"),
+        groupsByRole.get(role1.nameIdentifier()).stream()
+            .map(GroupEntity::name)
+            .collect(Collectors.toSet()));
+    Assertions.assertEquals(1, groupsByRole.get(role2.nameIdentifier()).size());
+    GroupEntity actualGroup = groupsByRole.get(role2.nameIdentifier()).get(0);
+    Assertions.assertEquals("group2", actualGroup.name());
+    // Only the requested roles are returned.
+    Assertions.assertEquals(
+        Sets.newHashSet(role1.name(), role2.name()), Sets.newHashSet(actualGroup.roleNames()));
+  }
+
   @Test
   void insertGroup() throws IOException {
     AuditInfo auditInfo =
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.FilesetEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TestMetadataObjectService extends TestJDBCBackend {
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  void testGetMetadataObjectFullNames() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    Namespace schemaNamespace = Namespace.of("metalake", "catalog");
+    SchemaEntity schema1 =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(), schemaNamespace, "schema1", auditInfo);
+    backend.insert(schema1, false);
+    SchemaEntity schema2 =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(), schemaNamespace, "schema2", auditInfo);
+    backend.insert(schema2, false);
+
+    ColumnEntity column =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column")
+            .withPosition(0)
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table1 =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(Namespace.of("metalake", "catalog", "schema1"))
+            .withColumns(Lists.newArrayList(column))
+            .withAuditInfo(auditInfo)
+            .build();
+    backend.insert(table1, false);
+    TableEntity table2 =
+        createTableEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog", "schema2"),
+            "table2",
+            auditInfo);
+    backend.insert(table2, false);
+    FilesetEntity fileset =
+        createFilesetEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog", "schema1"),
+            "fileset",
+            auditInfo);
+    backend.insert(fileset, false);
+    TopicEntity topic =
+        createTopicEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of("metalake", "catalog", "schema2"),
+            "topic",
+            auditInfo);
+    backend.insert(topic, false);
+
+    Assertions.assertEquals(
+        ImmutableMap.of(metalake.id(), "metalake"),
+        MetadataObjectService.getMetadataObjectFullNames(
+            MetadataObject.Type.METALAKE, Lists.newArrayList(metalake.id())));
+    Assertions.assertEquals(
+        ImmutableMap.of(schema1.id(), "catalog.schema1", schema2.id(), "catalog.schema2"),
+        MetadataObjectService.getMetadataObjectFullNames(
+            MetadataObject.Type.SCHEMA, Lists.newArrayList(schema1.id(), schema2.id())));
+
+    // Duplicated and missing ids are allowed, the missing ones are absent from the result
+    long missingId = RandomIdGenerator.INSTANCE.nextId();
+    Map<Long, String> tableNames =
+        MetadataObjectService.getMetadataObjectFullNames(
+            MetadataObject.Type.TABLE,
+            Lists.newArrayList(table1.id(), table2.id(), table1.id(), missingId));
+    Assertions.assertEquals(
+        ImmutableMap.of(
+            table1.id(), "catalog.schema1.table1", table2.id(), "catalog.schema2.table2"),
+        tableNames);
+
+    Assertions.assertEquals(
+        ImmutableMap.of(fileset.id(), "catalog.schema1.fileset"),
+        MetadataObjectService.getMetadataObjectFullNames(
+            MetadataObject.Type.FILESET, Lists.newArrayList(fileset.id())));
+    Assertions.assertEquals(
+        ImmutableMap.of(topic.id(), "catalog.schema2.topic"),
+        MetadataObjectService.getMetadataObjectFullNames(
+            MetadataObject.Type.TOPIC, Lists.newArrayList(topic.id())));
+    Assertions.assertEquals(
+        ImmutableMap.of(column.id(), "catalog.schema1.table1.column"),
+        MetadataObjectService.getMetadataObjectFullNames(
+            MetadataObject.Type.COLUMN, Lists.newArrayList(column.id())));
+
+    // The single object variant returns null for the deleted objects
+    Assertions.assertEquals(
+        "catalog.schema2.table2",
+        MetadataObjectService.getMetadataObjectFullName(
+            MetadataObject.Type.TABLE.name(), table2.id()));
+    backend.delete(table2.nameIdentifier(), table2.type(), false);
+    Assertions.assertNull(
+        MetadataObjectService.getMetadataObjectFullName(
+            MetadataObject.Type.TABLE.name(), table2.id()));
+    Assertions.assertTrue(
+        MetadataObjectService.getMetadataObjectFullNames(
+                MetadataObject.Type.TABLE, Lists.newArrayList())
+            .isEmpty());
+  }
+}
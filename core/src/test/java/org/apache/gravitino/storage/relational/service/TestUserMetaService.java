@@ -29,10 +29,13 @@ import java.sql.Statement;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -190,6 +193,82 @@ class TestUserMetaService extends TestJDBCBackend {
     }
   }
 
+  @Test
+  void testListUsersByRoleIdents() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    List<RoleEntity> roles = Lists.newArrayList();
+    for (String roleName : Lists.newArrayList("role1", "role2", "role3")) {
+      RoleEntity role =
+          createRoleEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              AuthorizationUtils.ofRoleNamespace(metalakeName),
+              roleName,
+              auditInfo,
+              "catalog");
+      backend.insert(role, false);
+      roles.add(role);
+    }
+    RoleEntity role1 = roles.get(0);
+    RoleEntity role2 = roles.get(1);
+    RoleEntity role3 = roles.get(2);
+
+    UserEntity user1 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user1",
+            auditInfo,
+            Lists.newArrayList(role1.name()),
+            Lists.newArrayList(role1.id()));
+    UserEntity user2 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user2",
+            auditInfo,
+            Lists.newArrayList(role1.name(), role2.name(), role3.name()),
+            Lists.newArrayList(role1.id(), role2.id(), role3.id()));
+    UserEntity user3 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user3",
+            auditInfo);
+    backend.insert(user1, false);
+    backend.insert(user2, false);
+    backend.insert(user3, false);
+
+    Map<NameIdentifier, List<UserEntity>> usersByRole =
+        UserMetaService.getInstance()
+            .listUsersByRoleIdents(
+                Lists.newArrayList(
+                    role1.nameIdentifier(),
+                    role2.nameIdentifier(),
+                    AuthorizationUtils.ofRole(metalakeName, "not_exist")));
+    Assertions.assertEquals(
+        Sets.newHashSet(role1.nameIdentifier(), role2.nameIdentifier()), usersByRole.keySet());
+    Assertions.assertEquals(
+        Sets.newHashSet("user1", "user2"),
+        usersByRole.get(role1.nameIdentifier()).stream()
+            .map(UserEntity::name)
+            .collect(Collectors.toSet()));
+    Assertions.assertEquals(1, usersByRole.get(role2.nameIdentifier()).size());
+    UserEntity actualUser = usersByRole.get(role2.nameIdentifier()).get(0);
+    Assertions.assertEquals("user2", actualUser.name());
+    // Only the requested roles are returned.
+    Assertions.assertEquals(
+        Sets.newHashSet(role1.name(), role2.name()), Sets.newHashSet(actualUser.roleNames()));
+  }
+
   @Test
   void insertUser() throws IOException {
     AuditInfo auditInfo =
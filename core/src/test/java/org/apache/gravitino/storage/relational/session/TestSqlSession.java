@@ -21,27 +21,39 @@ package org.apache.gravitino.storage.relational.session;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_READ_AFTER_WRITE_WINDOW_MS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -72,6 +84,11 @@ public class TestSqlSession {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("123");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(20);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS)).thenReturn(5);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL)).thenReturn(Optional.empty());
   }
 
   @BeforeEach
@@ -116,6 +133,49 @@ public class TestSqlSession {
                 .getDataSource();
     assertEquals("org.h2.Driver", dataSource.getDriverClassName());
     assertEquals(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL), dataSource.getUrl());
+    assertEquals(20, dataSource.getMaxTotal());
+    assertNull(SqlSessionFactoryHelper.getInstance().getReadReplicaSqlSessionFactory());
+    assertFalse(SqlSessions.canReadFromReplica());
+  }
+
+  @Test
+  public void testReadReplica() {
+    SqlSessionFactoryHelper.getInstance().close();
+    String jdbcUrl = config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL);
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL))
+        .thenReturn(Optional.of(jdbcUrl));
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER)).thenReturn(Optional.empty());
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD))
+        .thenReturn(Optional.empty());
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_READ_AFTER_WRITE_WINDOW_MS))
+        .thenReturn(60_000L);
+    try {
+      SqlSessionFactoryHelper.getInstance().init(config);
+
+      SqlSessionFactory replicaFactory =
+          SqlSessionFactoryHelper.getInstance().getReadReplicaSqlSessionFactory();
+      assertNotNull(replicaFactory);
+      BasicDataSource dataSource =
+          (BasicDataSource) replicaFactory.getConfiguration().getEnvironment().getDataSource();
+      assertTrue(dataSource.getDefaultReadOnly());
+      assertEquals("root", dataSource.getUserName());
+      assertTrue(SqlSessions.canReadFromReplica());
+
+      // The reads in a transaction or pinned to the primary database are not routed to the replica.
+      assertFalse(SqlSessions.doOnPrimary(SqlSessions::canReadFromReplica));
+      SqlSessions.getSqlSession();
+      assertFalse(SqlSessions.canReadFromReplica());
+      SqlSessions.closeSqlSession();
+      assertTrue(SqlSessions.canReadFromReplica());
+
+      // The user reads their own writes from the primary database within the window.
+      SqlSessions.recordWrite();
+      assertFalse(SqlSessions.canReadFromReplica());
+    } finally {
+      SqlSessionFactoryHelper.getInstance().close();
+      Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL))
+          .thenReturn(Optional.empty());
+    }
   }
 
   @Test
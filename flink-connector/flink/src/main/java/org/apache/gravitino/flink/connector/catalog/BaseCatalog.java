@@ -94,7 +94,9 @@ public abstract class BaseCatalog extends AbstractCatalog {
   protected abstract AbstractCatalog realCatalog();
 
   @Override
-  public void open() throws CatalogException {}
+  public void open() throws CatalogException {
+    GravitinoCatalogManager.get().registerCatalogMetrics(getName());
+  }
 
   @Override
   public void close() throws CatalogException {}
@@ -119,7 +121,10 @@ public abstract class BaseCatalog extends AbstractCatalog {
 
   @Override
   public boolean databaseExists(String databaseName) throws CatalogException {
-    return catalog().asSchemas().schemaExists(databaseName);
+    return metadataCache()
+        .get(
+            GravitinoMetadataCache.Key.databaseExists(catalogName(), databaseName),
+            () -> catalog().asSchemas().schemaExists(databaseName));
   }
 
   @Override
@@ -136,6 +141,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       }
     } catch (NoSuchCatalogException e) {
       throw new CatalogException(e);
+    } finally {
+      metadataCache().invalidateDatabase(catalogName(), databaseName);
     }
   }
 
@@ -151,6 +158,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       throw new DatabaseNotEmptyException(catalogName(), databaseName);
     } catch (NoSuchCatalogException e) {
       throw new CatalogException(e);
+    } finally {
+      metadataCache().invalidateDatabase(catalogName(), databaseName);
     }
   }
 
@@ -174,9 +183,13 @@ public abstract class BaseCatalog extends AbstractCatalog {
   public List<String> listTables(String databaseName)
       throws DatabaseNotExistException, CatalogException {
     try {
-      return Stream.of(catalog().asTableCatalog().listTables(Namespace.of(databaseName)))
-          .map(NameIdentifier::name)
-          .collect(Collectors.toList());
+      return metadataCache()
+          .get(
+              GravitinoMetadataCache.Key.tables(catalogName(), databaseName),
+              () ->
+                  Stream.of(catalog().asTableCatalog().listTables(Namespace.of(databaseName)))
+                      .map(NameIdentifier::name)
+                      .collect(Collectors.toList()));
     } catch (NoSuchSchemaException e) {
       throw new DatabaseNotExistException(catalogName(), databaseName, e);
     } catch (Exception e) {
@@ -194,9 +207,16 @@ public abstract class BaseCatalog extends AbstractCatalog {
       throws TableNotExistException, CatalogException {
     try {
       Table table =
-          catalog()
-              .asTableCatalog()
-              .loadTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+          metadataCache()
+              .get(
+                  GravitinoMetadataCache.Key.table(
+                      catalogName(), tablePath.getDatabaseName(), tablePath.getObjectName()),
+                  () ->
+                      catalog()
+                          .asTableCatalog()
+                          .loadTable(
+                              NameIdentifier.of(
+                                  tablePath.getDatabaseName(), tablePath.getObjectName())));
       return toFlinkTable(table);
     } catch (NoSuchTableException e) {
       throw new TableNotExistException(catalogName(), tablePath, e);
@@ -219,10 +239,15 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public void dropTable(ObjectPath tablePath, boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
-    boolean dropped =
-        catalog()
-            .asTableCatalog()
-            .dropTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    boolean dropped;
+    try {
+      dropped =
+          catalog()
+              .asTableCatalog()
+              .dropTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    } finally {
+      invalidateTable(tablePath);
+    }
     if (!dropped && !ignoreIfNotExists) {
       throw new TableNotExistException(catalogName(), tablePath);
     }
@@ -251,6 +276,9 @@ public abstract class BaseCatalog extends AbstractCatalog {
       }
     } catch (Exception e) {
       throw new CatalogException(e);
+    } finally {
+      invalidateTable(tablePath);
+      invalidateTable(new ObjectPath(tablePath.getDatabaseName(), newTableName));
     }
   }
 
@@ -282,6 +310,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       }
     } catch (Exception e) {
       throw new CatalogException(e);
+    } finally {
+      invalidateTable(tablePath);
     }
   }
 
@@ -301,6 +331,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       throws TableNotExistException, CatalogException {
     CatalogBaseTable existingTable;
 
+    // The changes are computed against the latest table, not the cached one.
+    invalidateTable(tablePath);
     try {
       existingTable = this.getTable(tablePath);
     } catch (TableNotExistException e) {
@@ -319,9 +351,13 @@ public abstract class BaseCatalog extends AbstractCatalog {
 
     NameIdentifier identifier =
         NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
-    catalog()
-        .asTableCatalog()
-        .alterTable(identifier, getGravitinoTableChanges(existingTable, newTable));
+    try {
+      catalog()
+          .asTableCatalog()
+          .alterTable(identifier, getGravitinoTableChanges(existingTable, newTable));
+    } finally {
+      invalidateTable(tablePath);
+    }
   }
 
   @Override
@@ -332,6 +368,8 @@ public abstract class BaseCatalog extends AbstractCatalog {
       boolean ignoreIfNotExists)
       throws TableNotExistException, CatalogException {
     CatalogBaseTable existingTable;
+    // The changes are computed against the latest table, not the cached one.
+    invalidateTable(tablePath);
     try {
       existingTable = this.getTable(tablePath);
     } catch (TableNotExistException e) {
@@ -350,7 +388,11 @@ public abstract class BaseCatalog extends AbstractCatalog {
 
     NameIdentifier identifier =
         NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName());
-    catalog().asTableCatalog().alterTable(identifier, getGravitinoTableChanges(tableChanges));
+    try {
+      catalog().asTableCatalog().alterTable(identifier, getGravitinoTableChanges(tableChanges));
+    } finally {
+      invalidateTable(tablePath);
+    }
   }
 
   @Override
@@ -660,6 +702,15 @@ public abstract class BaseCatalog extends AbstractCatalog {
     return GravitinoCatalogManager.get().getGravitinoCatalogInfo(getName());
   }
 
+  private GravitinoMetadataCache metadataCache() {
+    return GravitinoCatalogManager.get().metadataCache();
+  }
+
+  private void invalidateTable(ObjectPath tablePath) {
+    metadataCache()
+        .invalidateTable(catalogName(), tablePath.getDatabaseName(), tablePath.getObjectName());
+  }
+
   private String catalogName() {
     return getName();
   }
@@ -18,11 +18,15 @@
  */
 package org.apache.gravitino.flink.connector.catalog;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
@@ -38,11 +42,19 @@ public class GravitinoCatalogManager {
   private final String metalakeName;
   private final GravitinoMetalake metalake;
   private final GravitinoAdminClient gravitinoClient;
+  private final GravitinoMetadataCache metadataCache;
+  private final Map<String, GravitinoCatalogMetricGroup> catalogMetricGroups =
+      new ConcurrentHashMap<>();
 
-  private GravitinoCatalogManager(String gravitinoUri, String metalakeName) {
+  private GravitinoCatalogManager(
+      GravitinoAdminClient gravitinoClient,
+      String metalakeName,
+      Duration metadataCacheTtl,
+      long metadataCacheSize) {
     this.metalakeName = metalakeName;
-    this.gravitinoClient = GravitinoAdminClient.builder(gravitinoUri).build();
+    this.gravitinoClient = gravitinoClient;
     this.metalake = gravitinoClient.loadMetalake(metalakeName);
+    this.metadataCache = new GravitinoMetadataCache(metadataCacheTtl, metadataCacheSize);
   }
 
   /**
@@ -50,12 +62,40 @@ public class GravitinoCatalogManager {
    *
    * @param gravitinoUri Gravitino server uri
    * @param metalakeName Metalake name
+   * @param metadataCacheTtl The time that the metadata loaded from Gravitino is cached, zero means
+   *     the metadata cache is disabled
+   * @param metadataCacheSize The maximum number of the cached metadata, zero means the metadata
+   *     cache is disabled
    * @return GravitinoCatalogManager
    */
-  public static GravitinoCatalogManager create(String gravitinoUri, String metalakeName) {
+  public static GravitinoCatalogManager create(
+      String gravitinoUri, String metalakeName, Duration metadataCacheTtl, long metadataCacheSize) {
+    return create(
+        GravitinoAdminClient.builder(gravitinoUri).build(),
+        metalakeName,
+        metadataCacheTtl,
+        metadataCacheSize);
+  }
+
+  @VisibleForTesting
+  static GravitinoCatalogManager create(
+      GravitinoAdminClient gravitinoClient,
+      String metalakeName,
+      Duration metadataCacheTtl,
+      long metadataCacheSize) {
     Preconditions.checkState(
         gravitinoCatalogManager == null, "Should not create duplicate GravitinoCatalogManager");
-    gravitinoCatalogManager = new GravitinoCatalogManager(gravitinoUri, metalakeName);
+    Preconditions.checkArgument(
+        !metadataCacheTtl.isNegative(),
+        "The metadata cache TTL must not be negative, but got %s",
+        metadataCacheTtl);
+    Preconditions.checkArgument(
+        metadataCacheSize >= 0,
+        "The metadata cache size must not be negative, but got %s",
+        metadataCacheSize);
+    gravitinoCatalogManager =
+        new GravitinoCatalogManager(
+            gravitinoClient, metalakeName, metadataCacheTtl, metadataCacheSize);
     return gravitinoCatalogManager;
   }
 
@@ -80,6 +120,12 @@ public class GravitinoCatalogManager {
   public void close() {
     if (!isClosed) {
       isClosed = true;
+      LOG.info(
+          "Gravitino metadata cache hits: {}, remote calls: {}.",
+          metadataCache.getHitCount(),
+          metadataCache.getRemoteCallCount());
+      catalogMetricGroups.values().forEach(GravitinoCatalogMetricGroup::close);
+      catalogMetricGroups.clear();
       gravitinoClient.close();
       gravitinoCatalogManager = null;
     }
@@ -92,11 +138,45 @@ public class GravitinoCatalogManager {
    * @return The Gravitino Catalog
    */
   public Catalog getGravitinoCatalogInfo(String name) {
-    Catalog catalog = metalake.loadCatalog(name);
-    Preconditions.checkArgument(
-        Catalog.Type.RELATIONAL.equals(catalog.type()), "Only support relational catalog");
-    LOG.info("Load catalog {} from Gravitino successfully.", name);
-    return catalog;
+    return metadataCache.get(
+        GravitinoMetadataCache.Key.catalog(name),
+        () -> {
+          Catalog catalog = metalake.loadCatalog(name);
+          Preconditions.checkArgument(
+              Catalog.Type.RELATIONAL.equals(catalog.type()), "Only support relational catalog");
+          LOG.info("Load catalog {} from Gravitino successfully.", name);
+          return catalog;
+        });
+  }
+
+  /**
+   * Register the metrics of the metadata cache, the cache hits, the remote calls to load the
+   * metadata and the cache hit ratio, to the metric group.
+   *
+   * @param metricGroup The metric group to register the metrics
+   */
+  public void registerMetrics(MetricGroup metricGroup) {
+    metadataCache.registerMetrics(metricGroup);
+  }
+
+  /**
+   * Register the metrics of the metadata cache to the metric group of the catalog once, the metric
+   * group exports them through JMX until this manager is closed.
+   *
+   * @param catalogName The catalog name
+   */
+  void registerCatalogMetrics(String catalogName) {
+    catalogMetricGroups.computeIfAbsent(
+        catalogName,
+        name -> {
+          GravitinoCatalogMetricGroup metricGroup = new GravitinoCatalogMetricGroup(name);
+          registerMetrics(metricGroup);
+          return metricGroup;
+        });
+  }
+
+  GravitinoMetadataCache metadataCache() {
+    return metadataCache;
   }
 
   /**
@@ -124,7 +204,11 @@ public class GravitinoCatalogManager {
       String comment,
       String provider,
       Map<String, String> properties) {
-    return metalake.createCatalog(catalogName, type, provider, comment, properties);
+    try {
+      return metalake.createCatalog(catalogName, type, provider, comment, properties);
+    } finally {
+      metadataCache.invalidateCatalog(catalogName);
+    }
   }
 
   /**
@@ -134,7 +218,11 @@ public class GravitinoCatalogManager {
    * @return boolean
    */
   public boolean dropCatalog(String catalogName) {
-    return metalake.dropCatalog(catalogName, true);
+    try {
+      return metalake.dropCatalog(catalogName, true);
+    } finally {
+      metadataCache.invalidateCatalog(catalogName);
+    }
   }
 
   /**
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.flink.connector.catalog;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.SimpleCounter;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The metric group of a Gravitino catalog. Flink hands the catalogs no metric group, so the
+ * counters and gauges registered to this group are exported as JMX MBeans named {@code
+ * org.apache.gravitino.flink:catalog=<catalog>,name=<metric>}, the same JVM-wide registry used by
+ * the Flink JMX reporter.
+ */
+class GravitinoCatalogMetricGroup extends UnregisteredMetricsGroup implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(GravitinoCatalogMetricGroup.class);
+
+  static final String JMX_DOMAIN = "org.apache.gravitino.flink";
+
+  private final String catalogName;
+  private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+  private final List<ObjectName> registeredNames = new ArrayList<>();
+
+  GravitinoCatalogMetricGroup(String catalogName) {
+    this.catalogName = catalogName;
+  }
+
+  @Override
+  public Counter counter(String name) {
+    return counter(name, new SimpleCounter());
+  }
+
+  @Override
+  public <C extends Counter> C counter(String name, C counter) {
+    register(name, new JmxCounter(counter));
+    return counter;
+  }
+
+  @Override
+  public <T, G extends Gauge<T>> G gauge(String name, G gauge) {
+    register(name, new JmxGauge(gauge));
+    return gauge;
+  }
+
+  /** Unregisters all the metrics of this group from JMX. */
+  @Override
+  public synchronized void close() {
+    for (ObjectName objectName : registeredNames) {
+      try {
+        if (mBeanServer.isRegistered(objectName)) {
+          mBeanServer.unregisterMBean(objectName);
+        }
+      } catch (JMException e) {
+        LOG.warn("Failed to unregister the metric {}.", objectName, e);
+      }
+    }
+    registeredNames.clear();
+  }
+
+  static ObjectName objectName(String catalogName, String metricName)
+      throws MalformedObjectNameException {
+    return new ObjectName(
+        String.format(
+            "%s:catalog=%s,name=%s",
+            JMX_DOMAIN, ObjectName.quote(catalogName), ObjectName.quote(metricName)));
+  }
+
+  private synchronized void register(String metricName, Object mBean) {
+    try {
+      ObjectName objectName = objectName(catalogName, metricName);
+      // A catalog of the same name opened again replaces the metrics registered before.
+      if (mBeanServer.isRegistered(objectName)) {
+        mBeanServer.unregisterMBean(objectName);
+      }
+      mBeanServer.registerMBean(mBean, objectName);
+      registeredNames.add(objectName);
+    } catch (JMException e) {
+      LOG.warn("Failed to register the metric {} of catalog {}.", metricName, catalogName, e);
+    }
+  }
+
+  /** The JMX interface of a counter. */
+  public interface JmxCounterMBean {
+    long getCount();
+  }
+
+  /** The JMX interface of a gauge. */
+  public interface JmxGaugeMBean {
+    Object getValue();
+  }
+
+  private static class JmxCounter implements JmxCounterMBean {
+    private final Counter counter;
+
+    private JmxCounter(Counter counter) {
+      this.counter = counter;
+    }
+
+    @Override
+    public long getCount() {
+      return counter.getCount();
+    }
+  }
+
+  private static class JmxGauge implements JmxGaugeMBean {
+    private final Gauge<?> gauge;
+
+    private JmxGauge(Gauge<?> gauge) {
+      this.gauge = gauge;
+    }
+
+    @Override
+    public Object getValue() {
+      return gauge.getValue();
+    }
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.flink.connector.catalog;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+
+/**
+ * GravitinoMetadataCache caches the catalogs, the database existence, the table listings and the
+ * tables loaded from the Apache Gravitino server, so that resolving the same objects again and
+ * again while planning the queries doesn't call the server each time. The cached metadata expires
+ * after a configurable TTL, and it's invalidated by the DDL issued through the Flink connector, the
+ * changes made by other clients are visible after the TTL at the latest. The cache is disabled when
+ * the TTL is 0, only the statistics of the metadata loading are kept then.
+ */
+class GravitinoMetadataCache {
+
+  private final Cache<Key, Object> cache;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder remoteCallCount = new LongAdder();
+
+  GravitinoMetadataCache(Duration ttl, long maximumSize) {
+    this.cache =
+        !ttl.isZero() && !ttl.isNegative() && maximumSize > 0
+            ? CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build()
+            : null;
+  }
+
+  /**
+   * Returns the cached metadata of the key, or loads it from the Gravitino server and caches it.
+   *
+   * @param key the key of the metadata
+   * @param loader the loader to call the Gravitino server
+   * @return the metadata
+   */
+  @SuppressWarnings("unchecked")
+  <T> T get(Key key, Supplier<T> loader) {
+    if (cache != null) {
+      Object value = cache.getIfPresent(key);
+      if (value != null) {
+        hitCount.increment();
+        return (T) value;
+      }
+    }
+
+    remoteCallCount.increment();
+    T value = loader.get();
+    if (cache != null && value != null) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  /** Invalidates the catalog and all the metadata under it. */
+  void invalidateCatalog(String catalog) {
+    if (cache != null) {
+      cache.asMap().keySet().removeIf(key -> Objects.equals(key.catalog, catalog));
+    }
+  }
+
+  /** Invalidates the existence, the table listing and the tables of the database. */
+  void invalidateDatabase(String catalog, String database) {
+    if (cache != null) {
+      cache
+          .asMap()
+          .keySet()
+          .removeIf(
+              key ->
+                  Objects.equals(key.catalog, catalog) && Objects.equals(key.database, database));
+    }
+  }
+
+  /** Invalidates the table and the table listing of its database. */
+  void invalidateTable(String catalog, String database, String table) {
+    if (cache != null) {
+      cache.invalidate(Key.table(catalog, database, table));
+      cache.invalidate(Key.tables(catalog, database));
+    }
+  }
+
+  long getHitCount() {
+    return hitCount.sum();
+  }
+
+  long getRemoteCallCount() {
+    return remoteCallCount.sum();
+  }
+
+  double getHitRatio() {
+    long hits = hitCount.sum();
+    long total = hits + remoteCallCount.sum();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  /**
+   * Registers the cache hits, the remote calls to load the metadata and the cache hit ratio to the
+   * metric group.
+   *
+   * @param metricGroup the metric group to register the metrics
+   */
+  void registerMetrics(MetricGroup metricGroup) {
+    metricGroup.counter("metadataCacheHits", new LongAdderCounter(hitCount));
+    metricGroup.counter("remoteCalls", new LongAdderCounter(remoteCallCount));
+    metricGroup.gauge("metadataCacheHitRatio", (Gauge<Double>) this::getHitRatio);
+  }
+
+  /** A Flink counter backed by a {@link LongAdder} updated by the cache. */
+  private static class LongAdderCounter implements Counter {
+    private final LongAdder adder;
+
+    private LongAdderCounter(LongAdder adder) {
+      this.adder = adder;
+    }
+
+    @Override
+    public void inc() {
+      adder.increment();
+    }
+
+    @Override
+    public void inc(long n) {
+      adder.add(n);
+    }
+
+    @Override
+    public void dec() {
+      adder.decrement();
+    }
+
+    @Override
+    public void dec(long n) {
+      adder.add(-n);
+    }
+
+    @Override
+    public long getCount() {
+      return adder.sum();
+    }
+  }
+
+  /** The key of the cached metadata. */
+  static class Key {
+
+    private enum Kind {
+      CATALOG,
+      DATABASE_EXISTS,
+      TABLES,
+      TABLE
+    }
+
+    private final Kind kind;
+    private final String catalog;
+    private final String database;
+    private final String table;
+
+    private Key(Kind kind, String catalog, String database, String table) {
+      this.kind = kind;
+      this.catalog = catalog;
+      this.database = database;
+      this.table = table;
+    }
+
+    static Key catalog(String catalog) {
+      return new Key(Kind.CATALOG, catalog, null, null);
+    }
+
+    static Key databaseExists(String catalog, String database) {
+      return new Key(Kind.DATABASE_EXISTS, catalog, database, null);
+    }
+
+    static Key tables(String catalog, String database) {
+      return new Key(Kind.TABLES, catalog, database, null);
+    }
+
+    static Key table(String catalog, String database, String table) {
+      return new Key(Kind.TABLE, catalog, database, table);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return kind == key.kind
+          && Objects.equals(catalog, key.catalog)
+          && Objects.equals(database, key.database)
+          && Objects.equals(table, key.table);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(kind, catalog, database, table);
+    }
+  }
+}
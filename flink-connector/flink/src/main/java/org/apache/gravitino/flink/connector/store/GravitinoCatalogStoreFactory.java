@@ -21,12 +21,13 @@ package org.apache.gravitino.flink.connector.store;
 
 import static org.apache.flink.table.factories.FactoryUtil.createCatalogStoreFactoryHelper;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_MAX_SIZE;
+import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METADATA_CACHE_TTL;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_METALAKE;
 import static org.apache.gravitino.flink.connector.store.GravitinoCatalogStoreFactoryOptions.GRAVITINO_URI;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
-import java.util.Collections;
 import java.util.Set;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ReadableConfig;
@@ -58,7 +59,12 @@ public class GravitinoCatalogStoreFactory implements CatalogStoreFactory {
     String gravitinoName =
         Preconditions.checkNotNull(
             options.get(GRAVITINO_METALAKE), "The %s must be set.", GRAVITINO_METALAKE.key());
-    this.catalogManager = GravitinoCatalogManager.create(gravitinoUri, gravitinoName);
+    this.catalogManager =
+        GravitinoCatalogManager.create(
+            gravitinoUri,
+            gravitinoName,
+            options.get(GRAVITINO_METADATA_CACHE_TTL),
+            options.get(GRAVITINO_METADATA_CACHE_MAX_SIZE));
   }
 
   @Override
@@ -80,6 +86,6 @@ public class GravitinoCatalogStoreFactory implements CatalogStoreFactory {
 
   @Override
   public Set<ConfigOption<?>> optionalOptions() {
-    return Collections.emptySet();
+    return ImmutableSet.of(GRAVITINO_METADATA_CACHE_TTL, GRAVITINO_METADATA_CACHE_MAX_SIZE);
   }
 }
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.flink.connector.store;
 
+import java.time.Duration;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
 
@@ -38,4 +39,17 @@ public class GravitinoCatalogStoreFactoryOptions {
           .stringType()
           .noDefaultValue()
           .withDescription("The name of Gravitino metalake");
+  public static final ConfigOption<Duration> GRAVITINO_METADATA_CACHE_TTL =
+      ConfigOptions.key("gravitino.metadata-cache.ttl")
+          .durationType()
+          .defaultValue(Duration.ZERO)
+          .withDescription(
+              "The time that the catalogs, the database existence, the table listings and the"
+                  + " tables loaded from Gravitino server are cached, 0 means disabled");
+  public static final ConfigOption<Long> GRAVITINO_METADATA_CACHE_MAX_SIZE =
+      ConfigOptions.key("gravitino.metadata-cache.max-size")
+          .longType()
+          .defaultValue(10000L)
+          .withDescription(
+              "The maximum number of the metadata cached by the metadata cache, 0 means disabled");
 }
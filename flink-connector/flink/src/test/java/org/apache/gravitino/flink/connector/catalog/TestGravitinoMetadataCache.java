@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.flink.connector.catalog;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.flink.table.catalog.AbstractCatalog;
+import org.apache.flink.table.catalog.CatalogBaseTable;
+import org.apache.flink.table.catalog.CatalogDatabaseImpl;
+import org.apache.flink.table.catalog.ObjectPath;
+import org.apache.flink.table.catalog.TableChange;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsSchemas;
+import org.apache.gravitino.client.GravitinoAdminClient;
+import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.flink.connector.DefaultPartitionConverter;
+import org.apache.gravitino.flink.connector.PartitionConverter;
+import org.apache.gravitino.flink.connector.PropertiesConverter;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoMetadataCache {
+  private static final String METALAKE = "metalake";
+  private static final String CATALOG = "catalog";
+  private static final ObjectPath TABLE_PATH = new ObjectPath("db", "t1");
+  private static final NameIdentifier TABLE_IDENT = NameIdentifier.of("db", "t1");
+
+  private final GravitinoAdminClient client = mock(GravitinoAdminClient.class);
+  private final GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+  private final TableCatalog tableCatalog = mock(TableCatalog.class);
+  private final SupportsSchemas schemas = mock(SupportsSchemas.class);
+  private GravitinoCatalogManager catalogManager;
+  private BaseCatalog flinkCatalog;
+
+  @BeforeEach
+  void setUp() {
+    Catalog catalog = mock(Catalog.class);
+    when(catalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(catalog.asTableCatalog()).thenReturn(tableCatalog);
+    when(catalog.asSchemas()).thenReturn(schemas);
+    when(metalake.loadCatalog(CATALOG)).thenReturn(catalog);
+    when(client.loadMetalake(METALAKE)).thenReturn(metalake);
+
+    Table table = mock(Table.class);
+    when(table.columns()).thenReturn(new Column[] {Column.of("id", Types.IntegerType.get())});
+    when(table.properties()).thenReturn(ImmutableMap.of());
+    when(table.partitioning()).thenReturn(new Transform[0]);
+    when(tableCatalog.loadTable(TABLE_IDENT)).thenReturn(table);
+    when(tableCatalog.listTables(Namespace.of("db")))
+        .thenReturn(new NameIdentifier[] {TABLE_IDENT});
+
+    catalogManager = GravitinoCatalogManager.create(client, METALAKE, Duration.ofMinutes(10), 100);
+    flinkCatalog = new TestingCatalog(CATALOG);
+  }
+
+  @AfterEach
+  void tearDown() {
+    catalogManager.close();
+  }
+
+  @Test
+  void testTableDdlInvalidatesCache() throws Exception {
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.listTables("db");
+    flinkCatalog.listTables("db");
+    verify(tableCatalog, times(1)).loadTable(TABLE_IDENT);
+    verify(tableCatalog, times(1)).listTables(Namespace.of("db"));
+
+    // Dropping the table invalidates the table and the table listing.
+    when(tableCatalog.dropTable(TABLE_IDENT)).thenReturn(true);
+    flinkCatalog.dropTable(TABLE_PATH, false);
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.listTables("db");
+    verify(tableCatalog, times(2)).loadTable(TABLE_IDENT);
+    verify(tableCatalog, times(2)).listTables(Namespace.of("db"));
+
+    // Renaming the table invalidates the old table and the table listing.
+    flinkCatalog.renameTable(TABLE_PATH, "t2", false);
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.listTables("db");
+    verify(tableCatalog, times(3)).loadTable(TABLE_IDENT);
+    verify(tableCatalog, times(3)).listTables(Namespace.of("db"));
+
+    // Altering the table computes the changes against the table loaded again, and invalidates it.
+    CatalogBaseTable cachedTable = flinkCatalog.getTable(TABLE_PATH);
+    verify(tableCatalog, times(3)).loadTable(TABLE_IDENT);
+    flinkCatalog.alterTable(
+        TABLE_PATH, cachedTable, ImmutableList.of(TableChange.set("key", "value")), false);
+    verify(tableCatalog, times(4)).loadTable(TABLE_IDENT);
+    flinkCatalog.getTable(TABLE_PATH);
+    verify(tableCatalog, times(5)).loadTable(TABLE_IDENT);
+  }
+
+  @Test
+  void testDatabaseDdlInvalidatesCache() throws Exception {
+    when(schemas.schemaExists("db")).thenReturn(false, true);
+    Assertions.assertFalse(flinkCatalog.databaseExists("db"));
+    Assertions.assertFalse(flinkCatalog.databaseExists("db"));
+    verify(schemas, times(1)).schemaExists("db");
+
+    // Creating the database invalidates its existence.
+    flinkCatalog.createDatabase("db", new CatalogDatabaseImpl(ImmutableMap.of(), null), false);
+    Assertions.assertTrue(flinkCatalog.databaseExists("db"));
+    verify(schemas, times(2)).schemaExists("db");
+
+    // Dropping the database invalidates the existence, the table listing and the tables under it.
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.listTables("db");
+    when(schemas.dropSchema("db", true)).thenReturn(true);
+    flinkCatalog.dropDatabase("db", false, true);
+    flinkCatalog.databaseExists("db");
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.listTables("db");
+    verify(schemas, times(3)).schemaExists("db");
+    verify(tableCatalog, times(2)).loadTable(TABLE_IDENT);
+    verify(tableCatalog, times(2)).listTables(Namespace.of("db"));
+  }
+
+  @Test
+  void testCatalogDdlInvalidatesCache() throws Exception {
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.listTables("db");
+    verify(metalake, times(1)).loadCatalog(CATALOG);
+
+    // Dropping the catalog invalidates the catalog and all the metadata under it.
+    catalogManager.dropCatalog(CATALOG);
+    flinkCatalog.getTable(TABLE_PATH);
+    verify(metalake, times(2)).loadCatalog(CATALOG);
+    verify(tableCatalog, times(2)).loadTable(TABLE_IDENT);
+  }
+
+  @Test
+  void testZeroSizeDisablesCache() throws Exception {
+    catalogManager.close();
+    catalogManager = GravitinoCatalogManager.create(client, METALAKE, Duration.ofMinutes(10), 0);
+
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.getTable(TABLE_PATH);
+    verify(metalake, times(2)).loadCatalog(CATALOG);
+    verify(tableCatalog, times(2)).loadTable(TABLE_IDENT);
+
+    catalogManager.close();
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> GravitinoCatalogManager.create(client, METALAKE, Duration.ofMinutes(10), -1));
+    catalogManager = GravitinoCatalogManager.create(client, METALAKE, Duration.ZERO, 100);
+  }
+
+  @Test
+  void testOpenRegistersMetrics() throws Exception {
+    flinkCatalog.open();
+    flinkCatalog.getTable(TABLE_PATH);
+    flinkCatalog.getTable(TABLE_PATH);
+
+    // The first lookup loads the catalog and the table, the second one hits the cache.
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    ObjectName hits = GravitinoCatalogMetricGroup.objectName(CATALOG, "metadataCacheHits");
+    ObjectName remoteCalls = GravitinoCatalogMetricGroup.objectName(CATALOG, "remoteCalls");
+    ObjectName hitRatio = GravitinoCatalogMetricGroup.objectName(CATALOG, "metadataCacheHitRatio");
+    Assertions.assertEquals(1L, mBeanServer.getAttribute(hits, "Count"));
+    Assertions.assertEquals(2L, mBeanServer.getAttribute(remoteCalls, "Count"));
+    Assertions.assertEquals(1.0 / 3, (double) mBeanServer.getAttribute(hitRatio, "Value"), 1e-9);
+
+    // The metrics are unregistered when the catalog manager is closed.
+    catalogManager.close();
+    Assertions.assertFalse(mBeanServer.isRegistered(hits));
+    Assertions.assertFalse(mBeanServer.isRegistered(remoteCalls));
+    Assertions.assertFalse(mBeanServer.isRegistered(hitRatio));
+  }
+
+  private static class TestingCatalog extends BaseCatalog {
+
+    private TestingCatalog(String catalogName) {
+      super(catalogName, "default");
+    }
+
+    @Override
+    protected AbstractCatalog realCatalog() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected PropertiesConverter getPropertiesConverter() {
+      return new PropertiesConverter() {};
+    }
+
+    @Override
+    protected PartitionConverter getPartitionConverter() {
+      return DefaultPartitionConverter.INSTANCE;
+    }
+  }
+}
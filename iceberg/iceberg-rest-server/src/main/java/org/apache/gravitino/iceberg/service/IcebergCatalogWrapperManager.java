@@ -113,7 +113,8 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
     if (StringUtils.isNotBlank(credentialProviderType)) {
       CredentialProvider credentialProvider =
           CredentialProviderFactory.create(credentialProviderType, config.getAllConfig());
-      credentialProviderManager.registerCredentialProvider(catalogName, credentialProvider);
+      credentialProviderManager.registerCredentialProvider(
+          catalogName, credentialProvider, config.getAllConfig());
     }
 
     return createIcebergCatalogWrapper(icebergConfig.get());
@@ -130,5 +131,6 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
   @Override
   public void close() throws Exception {
     icebergCatalogWrapperCache.invalidateAll();
+    credentialProviderManager.close();
   }
 }
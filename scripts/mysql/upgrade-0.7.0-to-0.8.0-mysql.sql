@@ -0,0 +1,27 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+CREATE TABLE IF NOT EXISTS `catalog_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'change sequence number',
+    `metalake_name` VARCHAR(128) NOT NULL COMMENT 'metalake name',
+    `catalog_name` VARCHAR(128) NOT NULL COMMENT 'catalog name',
+    `change_type` VARCHAR(16) NOT NULL COMMENT 'change type, CREATE, ALTER or DROP',
+    `event_time` BIGINT(20) UNSIGNED NOT NULL COMMENT 'change event time',
+    PRIMARY KEY (`id`),
+    KEY `idx_ccl_mn_id` (`metalake_name`, `id`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'catalog change log';
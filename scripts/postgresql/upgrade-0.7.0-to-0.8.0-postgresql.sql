@@ -0,0 +1,34 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+CREATE TABLE IF NOT EXISTS catalog_change_log (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    metalake_name VARCHAR(128) NOT NULL,
+    catalog_name VARCHAR(128) NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    event_time BIGINT NOT NULL,
+    PRIMARY KEY (id)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_ccl_mn_id ON catalog_change_log (metalake_name, id);
+COMMENT ON TABLE catalog_change_log IS 'catalog change log';
+COMMENT ON COLUMN catalog_change_log.id IS 'change sequence number';
+COMMENT ON COLUMN catalog_change_log.metalake_name IS 'metalake name';
+COMMENT ON COLUMN catalog_change_log.catalog_name IS 'catalog name';
+COMMENT ON COLUMN catalog_change_log.change_type IS 'change type, CREATE, ALTER or DROP';
+COMMENT ON COLUMN catalog_change_log.event_time IS 'change event time';
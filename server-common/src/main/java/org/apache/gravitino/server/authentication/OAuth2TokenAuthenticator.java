@@ -18,7 +18,13 @@
  */
 package org.apache.gravitino.server.authentication;
 
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwt;
@@ -35,13 +41,17 @@ import java.security.KeyFactory;
 import java.security.Principal;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.auth.SignatureAlgorithmFamilyType;
 import org.apache.gravitino.exceptions.UnauthorizedException;
+import org.apache.gravitino.metrics.MetricsSystem;
 
 /**
  * OAuth2TokenAuthenticator provides the OAuth 2.0 authentication mechanism.
@@ -49,9 +59,14 @@ import org.apache.gravitino.exceptions.UnauthorizedException;
  */
 class OAuth2TokenAuthenticator implements Authenticator {
 
+  private static final long NO_EXPIRATION = -1L;
+
   private long allowSkewSeconds;
-  private Key defaultSigningKey;
   private String serviceAudience;
+  private JwtParser parser;
+  // The cache from the hash of a verified token to its principal, null if it's disabled.
+  private Cache<String, VerifiedToken> tokenCache;
+  private OAuth2TokenMetricsSource metricsSource;
 
   @Override
   public boolean isDataFromToken() {
@@ -72,14 +87,32 @@ class OAuth2TokenAuthenticator implements Authenticator {
     if (StringUtils.isBlank(token)) {
       throw new UnauthorizedException("Blank token found");
     }
-    // TODO: If we support multiple OAuth 2.0 servers, we should use multiple
-    // signing keys.
+    Timer.Context timerContext = metricsSource.authenticationTimer().time();
+    try {
+      if (tokenCache == null) {
+        return verifyToken(token).principal;
+      }
+
+      // Only the hash of the token is kept in memory.
+      String tokenHash = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+      VerifiedToken verifiedToken = tokenCache.getIfPresent(tokenHash);
+      if (verifiedToken != null && verifiedToken.expireAtMillis > System.currentTimeMillis()) {
+        return verifiedToken.principal;
+      }
+
+      verifiedToken = verifyToken(token);
+      // Tokens without the expiration time are valid forever, don't cache them to be safe.
+      if (verifiedToken.expireAtMillis != NO_EXPIRATION) {
+        tokenCache.put(tokenHash, verifiedToken);
+      }
+      return verifiedToken.principal;
+    } finally {
+      timerContext.stop();
+    }
+  }
+
+  private VerifiedToken verifyToken(String token) {
     try {
-      JwtParser parser =
-          Jwts.parserBuilder()
-              .setAllowedClockSkewSeconds(allowSkewSeconds)
-              .setSigningKey(defaultSigningKey)
-              .build();
       Jwt<?, Claims> jwt = parser.parseClaimsJws(token);
       Object audienceObject = jwt.getBody().get(Claims.AUDIENCE);
       if (audienceObject == null) {
@@ -101,7 +134,10 @@ class OAuth2TokenAuthenticator implements Authenticator {
         throw new UnauthorizedException(
             "Audiences in token is not in expected format: %s", audienceObject);
       }
-      return new UserPrincipal(jwt.getBody().getSubject());
+      Date expiration = jwt.getBody().getExpiration();
+      return new VerifiedToken(
+          new UserPrincipal(jwt.getBody().getSubject()),
+          expiration == null ? NO_EXPIRATION : expiration.getTime());
     } catch (ExpiredJwtException
         | UnsupportedJwtException
         | MalformedJwtException
@@ -123,7 +159,37 @@ class OAuth2TokenAuthenticator implements Authenticator {
         StringUtils.isNotBlank(config.get(OAuthConfig.DEFAULT_SERVER_URI)),
         "The uri of the default OAuth server can't be blank");
     String algType = config.get(OAuthConfig.SIGNATURE_ALGORITHM_TYPE);
-    this.defaultSigningKey = decodeSignKey(Base64.getDecoder().decode(configuredSignKey), algType);
+    Key defaultSigningKey = decodeSignKey(Base64.getDecoder().decode(configuredSignKey), algType);
+    // TODO: If we support multiple OAuth 2.0 servers, we should use multiple
+    // signing keys.
+    // The parser is immutable and thread-safe, so it's shared by all the requests.
+    this.parser =
+        Jwts.parserBuilder()
+            .setAllowedClockSkewSeconds(allowSkewSeconds)
+            .setSigningKey(defaultSigningKey)
+            .build();
+
+    long tokenCacheMaxSize = config.get(OAuthConfig.TOKEN_CACHE_MAX_SIZE);
+    this.tokenCache =
+        tokenCacheMaxSize > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build()
+            : null;
+
+    this.metricsSource = new OAuth2TokenMetricsSource(tokenCache);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  @VisibleForTesting
+  Cache<String, VerifiedToken> tokenCache() {
+    return tokenCache;
   }
 
   @Override
@@ -151,4 +217,36 @@ class OAuth2TokenAuthenticator implements Authenticator {
     }
     throw new IllegalArgumentException("Unsupported signature algorithm type: " + algType);
   }
+
+  /** The principal of a verified token and the time the token expires at. */
+  static class VerifiedToken {
+    private final Principal principal;
+    private final long expireAtMillis;
+
+    private VerifiedToken(Principal principal, long expireAtMillis) {
+      this.principal = principal;
+      this.expireAtMillis = expireAtMillis;
+    }
+  }
+
+  /** Expires the cached tokens at the expiration time of the tokens. */
+  private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      long remainingMillis = value.expireAtMillis - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
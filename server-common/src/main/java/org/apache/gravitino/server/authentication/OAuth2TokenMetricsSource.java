@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authentication;
+
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import javax.annotation.Nullable;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics source of the {@link OAuth2TokenAuthenticator}, it records the latency of the token
+ * authentication and the hit rate of the verified token cache.
+ */
+class OAuth2TokenMetricsSource extends MetricsSource {
+
+  private final Timer authenticationTimer;
+
+  OAuth2TokenMetricsSource(@Nullable Cache<String, ?> tokenCache) {
+    super(MetricsSource.AUTHENTICATOR_METRIC_NAME);
+    this.authenticationTimer = getTimer(MetricNames.OAUTH_TOKEN_AUTHENTICATION_DURATION);
+    if (tokenCache != null) {
+      registerGauge(MetricNames.OAUTH_TOKEN_CACHE_HIT_COUNT, () -> tokenCache.stats().hitCount());
+      registerGauge(MetricNames.OAUTH_TOKEN_CACHE_MISS_COUNT, () -> tokenCache.stats().missCount());
+      registerGauge(MetricNames.OAUTH_TOKEN_CACHE_SIZE, tokenCache::estimatedSize);
+    }
+  }
+
+  Timer authenticationTimer() {
+    return authenticationTimer;
+  }
+}
@@ -41,7 +41,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.server.authentication.AuthenticationFilter;
+import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -50,6 +52,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ErrorHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.DefaultServlet;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
@@ -70,6 +73,7 @@ public final class JettyServer {
 
   private static final String HTTPS = "https";
   private static final String HTTP_PROTOCOL = "http/1.1";
+  private static final int GZIP_INFLATE_BUFFER_SIZE = 8192;
 
   private Server server;
 
@@ -174,7 +178,10 @@ public final class JettyServer {
     }
 
     HandlerCollection handlers = new HandlerCollection();
-    handlers.addHandler(servletContextHandler);
+    handlers.addHandler(
+        serverConfig.isEnableGzip()
+            ? createGzipHandler(servletContextHandler)
+            : servletContextHandler);
     server.setHandler(handlers);
   }
 
@@ -250,6 +257,22 @@ public final class JettyServer {
         new FilterHolder(filter), pathSpec, EnumSet.allOf(DispatcherType.class));
   }
 
+  private GzipHandler createGzipHandler(Handler handler) {
+    GzipHandler gzipHandler = new GzipHandler();
+    gzipHandler.setMinGzipSize(serverConfig.getGzipMinSize());
+    // Compress the responses of all the REST methods, not only GET, and inflate the gzip
+    // compressed request bodies sent by the clients.
+    gzipHandler.setIncludedMethods(
+        HttpMethod.GET.asString(),
+        HttpMethod.POST.asString(),
+        HttpMethod.PUT.asString(),
+        HttpMethod.PATCH.asString(),
+        HttpMethod.DELETE.asString());
+    gzipHandler.setInflateBufferSize(GZIP_INFLATE_BUFFER_SIZE);
+    gzipHandler.setHandler(handler);
+    return gzipHandler;
+  }
+
   private void initializeBasicServletContextHandler() {
     servletContextHandler = new ServletContextHandler();
     servletContextHandler.setContextPath("/");
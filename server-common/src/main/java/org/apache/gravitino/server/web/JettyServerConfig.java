@@ -293,6 +293,23 @@ public final class JettyServerConfig {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> ENABLE_GZIP =
+      new ConfigBuilder("enableGzip")
+          .doc(
+              "Whether to compress the responses with gzip for the clients accepting it, and to "
+                  + "inflate the gzip compressed requests")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> GZIP_MIN_SIZE =
+      new ConfigBuilder("gzipMinSize")
+          .doc("The minimum size in bytes of a response to be compressed")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2048);
+
   private final String host;
 
   private final int httpPort;
@@ -333,6 +350,8 @@ public final class JettyServerConfig {
   private final boolean allowCredentials;
   private final String exposedHeaders;
   private final boolean chainPreflight;
+  private final boolean enableGzip;
+  private final int gzipMinSize;
 
   private final Config internalConfig;
 
@@ -409,6 +428,8 @@ public final class JettyServerConfig {
     this.allowCredentials = internalConfig.get(ALLOW_CREDENTIALS);
     this.exposedHeaders = internalConfig.get(EXPOSED_HEADERS);
     this.chainPreflight = internalConfig.get(CHAIN_PREFLIGHT);
+    this.enableGzip = internalConfig.get(ENABLE_GZIP);
+    this.gzipMinSize = internalConfig.get(GZIP_MIN_SIZE);
   }
 
   public static JettyServerConfig fromConfig(Config config, String prefix) {
@@ -557,6 +578,14 @@ public final class JettyServerConfig {
     return allowedHeaders;
   }
 
+  public boolean isEnableGzip() {
+    return enableGzip;
+  }
+
+  public int getGzipMinSize() {
+    return gzipMinSize;
+  }
+
   private SSLContext getDefaultSSLContext() {
     try {
       return SSLContext.getDefault();
@@ -156,4 +156,66 @@ public class TestOAuth2TokenAuthenticator {
                     .getBytes(StandardCharsets.UTF_8))
             .getName());
   }
+
+  @Test
+  public void testTokenCache() throws InterruptedException {
+    KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    Config config = new Config(false) {};
+    config.set(OAuthConfig.SERVICE_AUDIENCE, "service1");
+    config.set(
+        OAuthConfig.DEFAULT_SIGN_KEY,
+        new String(
+            Base64.getEncoder().encode(keyPair.getPublic().getEncoded()), StandardCharsets.UTF_8));
+    config.set(OAuthConfig.DEFAULT_TOKEN_PATH, "test");
+    config.set(OAuthConfig.DEFAULT_SERVER_URI, "test");
+    OAuth2TokenAuthenticator authenticator = new OAuth2TokenAuthenticator();
+    authenticator.initialize(config);
+
+    byte[] longLivedToken =
+        bearerToken(keyPair, "user1", new Date(System.currentTimeMillis() + 1000 * 100));
+    Assertions.assertEquals("user1", authenticator.authenticateToken(longLivedToken).getName());
+    Assertions.assertEquals("user1", authenticator.authenticateToken(longLivedToken).getName());
+    Assertions.assertEquals(1, authenticator.tokenCache().stats().hitCount());
+    Assertions.assertEquals(1, authenticator.tokenCache().estimatedSize());
+
+    // The cached token is not used after it expires
+    byte[] shortLivedToken =
+        bearerToken(keyPair, "user2", new Date(System.currentTimeMillis() + 2000));
+    Assertions.assertEquals("user2", authenticator.authenticateToken(shortLivedToken).getName());
+    Thread.sleep(2500);
+    Assertions.assertThrows(
+        UnauthorizedException.class, () -> authenticator.authenticateToken(shortLivedToken));
+
+    // Failed verifications are never cached
+    byte[] wrongAudienceToken =
+        (AuthConstants.AUTHORIZATION_BEARER_HEADER
+                + Jwts.builder()
+                    .setSubject("user3")
+                    .setAudience("xxxx")
+                    .setExpiration(new Date(System.currentTimeMillis() + 1000 * 100))
+                    .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                    .compact())
+            .getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < 2; i++) {
+      Assertions.assertThrows(
+          UnauthorizedException.class, () -> authenticator.authenticateToken(wrongAudienceToken));
+    }
+
+    // The cache can be disabled
+    config.set(OAuthConfig.TOKEN_CACHE_MAX_SIZE, 0L);
+    authenticator.initialize(config);
+    Assertions.assertNull(authenticator.tokenCache());
+    Assertions.assertEquals("user1", authenticator.authenticateToken(longLivedToken).getName());
+  }
+
+  private static byte[] bearerToken(KeyPair keyPair, String subject, Date expiration) {
+    String token =
+        Jwts.builder()
+            .setSubject(subject)
+            .setAudience("service1")
+            .setExpiration(expiration)
+            .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+            .compact();
+    return (AuthConstants.AUTHORIZATION_BEARER_HEADER + token).getBytes(StandardCharsets.UTF_8);
+  }
 }
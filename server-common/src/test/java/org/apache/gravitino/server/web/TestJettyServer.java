@@ -19,12 +19,23 @@
 package org.apache.gravitino.server.web;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.rest.RESTUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -86,6 +97,38 @@ public class TestJettyServer {
     jettyServer.stop();
   }
 
+  @Test
+  public void testGzipResponse() throws Exception {
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    Config config = new Config(false) {};
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+    jettyServer.addServlet(
+        new HttpServlet() {
+          @Override
+          protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+              throws IOException {
+            resp.setContentType("application/json");
+            resp.getWriter().write(StringUtils.repeat("gravitino", 1024));
+          }
+        },
+        "/gzip");
+    jettyServer.start();
+
+    HttpURLConnection connection =
+        (HttpURLConnection)
+            new URL(String.format("http://127.0.0.1:%d/gzip", port)).openConnection();
+    connection.setRequestProperty("Accept-Encoding", "gzip");
+    assertEquals(200, connection.getResponseCode());
+    assertEquals("gzip", connection.getHeaderField("Content-Encoding"));
+    try (InputStream in = new GZIPInputStream(connection.getInputStream())) {
+      assertEquals(
+          StringUtils.repeat("gravitino", 1024), IOUtils.toString(in, StandardCharsets.UTF_8));
+    }
+    connection.disconnect();
+  }
+
   @Test
   public void testStopWithNullServer() {
     assertDoesNotThrow(() -> jettyServer.stop());
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes a list response to the output stream item by item, instead of building the whole response
+ * object first. The items are converted when they are written, so the converted objects of a large
+ * list, like the DTOs of the partitions, are never held in memory together. The written JSON has
+ * the same layout as the list responses, like {@code {"code": 0, "identifiers": [...]}}.
+ *
+ * @param <T> The type of the items.
+ */
+public class JsonListStreamingOutput<T> implements StreamingOutput {
+
+  // Flush the written items to the client after every batch of them.
+  private static final int FLUSH_INTERVAL = 1000;
+
+  private final String fieldName;
+  private final T[] items;
+  private final ItemWriter<T> itemWriter;
+
+  /**
+   * Creates a streaming output of a list response.
+   *
+   * @param fieldName The JSON field name of the list in the response.
+   * @param items The items of the list.
+   * @param itemWriter The writer to write one item to the JSON generator.
+   */
+  public JsonListStreamingOutput(String fieldName, T[] items, ItemWriter<T> itemWriter) {
+    this.fieldName = fieldName;
+    this.items = items;
+    this.itemWriter = itemWriter;
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    // The output stream is owned by the container, so don't close it with the generator.
+    try (JsonGenerator generator =
+        ObjectMapperProvider.objectMapper()
+            .getFactory()
+            .createGenerator(output)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      generator.writeStartObject();
+      generator.writeNumberField("code", 0);
+      generator.writeArrayFieldStart(fieldName);
+      for (int i = 0; i < items.length; i++) {
+        itemWriter.write(items[i], generator);
+        if ((i + 1) % FLUSH_INTERVAL == 0) {
+          generator.flush();
+        }
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
+
+  /**
+   * Writer to write one item of the list.
+   *
+   * @param <T> The type of the item.
+   */
+  @FunctionalInterface
+  public interface ItemWriter<T> {
+    void write(T item, JsonGenerator generator) throws IOException;
+  }
+}
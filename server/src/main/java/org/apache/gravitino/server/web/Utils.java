@@ -18,11 +18,15 @@
  */
 package org.apache.gravitino.server.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Splitter;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import java.security.PrivilegedExceptionAction;
 import java.util.Map;
 import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
@@ -48,6 +52,39 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Builds an OK response tagged with an ETag computed from the serialized entity. If the ETag
+   * matches one of the tags in the If-None-Match header, a 304 Not Modified response without body
+   * is returned instead, so an unchanged entity is not sent to the client again.
+   *
+   * @param ifNoneMatch The value of the If-None-Match request header, can be null.
+   * @param t The entity to return.
+   * @return The OK response with the ETag, or the Not Modified response.
+   * @param <T> The type of the entity.
+   * @throws JsonProcessingException If the entity can not be serialized.
+   */
+  public static <T> Response okWithETag(String ifNoneMatch, T t) throws JsonProcessingException {
+    byte[] body = ObjectMapperProvider.objectMapper().writeValueAsBytes(t);
+    EntityTag etag = new EntityTag(Hashing.murmur3_128().hashBytes(body).toString());
+    if (matchesETag(ifNoneMatch, etag)) {
+      return Response.notModified(etag).build();
+    }
+
+    return Response.status(Response.Status.OK)
+        .entity(body)
+        .tag(etag)
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
+  public static <T> Response okStreamingList(
+      String fieldName, T[] items, JsonListStreamingOutput.ItemWriter<T> itemWriter) {
+    return Response.status(Response.Status.OK)
+        .entity(new JsonListStreamingOutput<>(fieldName, items, itemWriter))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response ok() {
     return Response.status(Response.Status.NO_CONTENT).type(MediaType.APPLICATION_JSON).build();
   }
@@ -213,4 +250,20 @@ public class Utils {
     }
     return filteredHeaders;
   }
+
+  private static boolean matchesETag(String ifNoneMatch, EntityTag etag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+
+    String quoted = "\"" + etag.getValue() + "\"";
+    for (String tag : Splitter.on(',').trimResults().omitEmptyStrings().split(ifNoneMatch)) {
+      // The weak comparison is used for If-None-Match, see RFC 7232 section 3.2.
+      String value = tag.startsWith("W/") ? tag.substring(2) : tag;
+      if (value.equals("*") || value.equals(quoted)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.CatalogChangeDTO;
+import org.apache.gravitino.dto.responses.CatalogChangesResponse;
+import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.listener.CatalogChangeLog;
+import org.apache.gravitino.metalake.MetalakeDispatcher;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/metalakes/{metalake}/catalog-changes")
+@Produces(MediaType.APPLICATION_JSON)
+public class CatalogChangeOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogChangeOperations.class);
+
+  private final CatalogChangeLog catalogChangeLog;
+
+  private final MetalakeDispatcher metalakeDispatcher;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public CatalogChangeOperations(
+      CatalogChangeLog catalogChangeLog, MetalakeDispatcher metalakeDispatcher) {
+    this.catalogChangeLog = catalogChangeLog;
+    this.metalakeDispatcher = metalakeDispatcher;
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-catalog-changes." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-catalog-changes", absolute = true)
+  public Response listCatalogChanges(
+      @PathParam("metalake") String metalake, @QueryParam("since") @DefaultValue("0") long since) {
+    LOG.debug("Received list catalog changes request for metalake: {} since {}", metalake, since);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofMetalake(metalake);
+            if (!metalakeDispatcher.metalakeExists(ident)) {
+              throw new NoSuchMetalakeException("Metalake %s does not exist", ident);
+            }
+
+            CatalogChangeLog.Changes changes = catalogChangeLog.changesSince(metalake, since);
+            CatalogChangeDTO[] changeDTOs =
+                changes.changes().stream()
+                    .map(
+                        c ->
+                            new CatalogChangeDTO(
+                                c.sequence(),
+                                c.catalog(),
+                                CatalogChangeDTO.Type.valueOf(c.type().name()),
+                                c.eventTime()))
+                    .toArray(CatalogChangeDTO[]::new);
+            return Utils.ok(
+                new CatalogChangesResponse(
+                    changes.epoch(), changes.latestSequence(), changes.truncated(), changeDTOs));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(OperationType.LIST, "", metalake, e);
+    }
+  }
+}
@@ -27,6 +27,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -34,17 +35,20 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.catalog.FilesetDispatcher;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
@@ -161,7 +165,8 @@ public class FilesetOperations {
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("fileset") String fileset) {
+      @PathParam("fileset") String fileset,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     LOG.info("Received load fileset request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
     try {
       return Utils.doAs(
@@ -171,7 +176,8 @@ public class FilesetOperations {
             Fileset t =
                 TreeLockUtils.doWithTreeLock(
                     ident, LockType.READ, () -> dispatcher.loadFileset(ident));
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
+            Response response =
+                Utils.okWithETag(ifNoneMatch, new FilesetResponse(DTOConverters.toDTO(t)));
             LOG.info("Fileset loaded: {}.{}.{}.{}", metalake, catalog, schema, fileset);
             return response;
           });
@@ -296,4 +302,49 @@ public class FilesetOperations {
       CallerContext.CallerContextHolder.remove();
     }
   }
+
+  @POST
+  @Path("{fileset}/locations")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-file-locations." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-file-locations", absolute = true)
+  public Response getFileLocations(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("fileset") String fileset,
+      FileLocationsRequest request) {
+    LOG.info(
+        "Received get file locations request: {}.{}.{}.{}, sub path count: {}",
+        metalake,
+        catalog,
+        schema,
+        fileset,
+        request.getSubPaths() == null ? 0 : request.getSubPaths().length);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+            Map<String, String> filteredAuditHeaders = Utils.filterFilesetAuditHeaders(httpRequest);
+            // the audit info applies to all the sub paths of the request
+            if (!filteredAuditHeaders.isEmpty()) {
+              CallerContext context =
+                  CallerContext.builder().withContext(filteredAuditHeaders).build();
+              CallerContext.CallerContextHolder.set(context);
+            }
+            String[] actualFileLocations =
+                TreeLockUtils.doWithTreeLock(
+                    ident,
+                    LockType.READ,
+                    () -> dispatcher.getFileLocations(ident, request.getSubPaths()));
+            return Utils.ok(new FileLocationsResponse(actualFileLocations));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.GET, fileset, schema, e);
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
 }
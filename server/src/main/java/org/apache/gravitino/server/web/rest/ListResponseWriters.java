@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.rel.partitions.Partition;
+
+/** The item writers of the streamed list responses, they write the items like the DTOs do. */
+final class ListResponseWriters {
+
+  private static final JsonUtils.NameIdentifierSerializer IDENTIFIER_SERIALIZER =
+      new JsonUtils.NameIdentifierSerializer();
+
+  private ListResponseWriters() {}
+
+  static void writeIdentifier(NameIdentifier ident, JsonGenerator generator) throws IOException {
+    IDENTIFIER_SERIALIZER.serialize(ident, generator, null);
+  }
+
+  static void writeName(String name, JsonGenerator generator) throws IOException {
+    generator.writeString(name);
+  }
+
+  static void writePartition(Partition partition, JsonGenerator generator) throws IOException {
+    // Convert the partitions one by one, so only one DTO is alive at a time.
+    generator.writeObject(DTOConverters.toDTO(partition));
+  }
+}
@@ -35,4 +35,6 @@ public enum OperationType {
   REVOKE,
   ASSOCIATE,
   SET,
+  /** This is a special operation type that is used to apply many operations in one request. */
+  BATCH,
 }
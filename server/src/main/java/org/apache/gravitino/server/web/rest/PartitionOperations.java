@@ -37,6 +37,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
 import org.apache.gravitino.dto.requests.AddPartitionsRequest;
@@ -74,40 +75,97 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit,
+      @QueryParam("filter") String filter) {
     LOG.info(
-        "Received list partition {} request for table: {}.{}.{}.{}",
+        "Received list partition {} request for table: {}.{}.{}.{}{}",
         verbose ? "infos" : "names",
         metalake,
         catalog,
         schema,
-        table);
+        table,
+        filter == null ? "" : " with filter " + filter);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            Preconditions.checkArgument(
+                limit != null || pageToken == null,
+                "The limit must be specified with the page token");
+            if (limit != null) {
+              Page.checkLimit(limit);
+            }
             return TreeLockUtils.doWithTreeLock(
                 tableIdent,
                 LockType.READ,
                 () -> {
                   if (verbose) {
-                    Partition[] partitions = dispatcher.listPartitions(tableIdent);
-                    Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
+                    Response response;
+                    int count;
+                    if (limit == null) {
+                      Partition[] partitions =
+                          filter == null
+                              ? dispatcher.listPartitions(tableIdent)
+                              : dispatcher.listPartitionsByFilter(tableIdent, filter);
+                      response =
+                          Utils.okStreamingList(
+                              "partitions", partitions, ListResponseWriters::writePartition);
+                      count = partitions.length;
+                    } else {
+                      Page<Partition> page =
+                          filter == null
+                              ? dispatcher.listPartitions(tableIdent, pageToken, limit)
+                              : Page.of(
+                                  dispatcher.listPartitionsByFilter(tableIdent, filter),
+                                  Partition::name,
+                                  pageToken,
+                                  limit);
+                      response =
+                          Utils.ok(
+                              new PartitionListResponse(
+                                  toDTOs(page.items()), page.nextPageToken()));
+                      count = page.items().length;
+                    }
                     LOG.info(
                         "List {} partitions in table {}.{}.{}.{}",
-                        partitions.length,
+                        count,
                         metalake,
                         catalog,
                         schema,
                         table);
                     return response;
                   } else {
-                    String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
-                    Response response = Utils.ok(new PartitionNameListResponse((partitionNames)));
+                    Response response;
+                    int count;
+                    if (limit == null) {
+                      String[] partitionNames =
+                          filter == null
+                              ? dispatcher.listPartitionNames(tableIdent)
+                              : dispatcher.listPartitionNamesByFilter(tableIdent, filter);
+                      response =
+                          Utils.okStreamingList(
+                              "names", partitionNames, ListResponseWriters::writeName);
+                      count = partitionNames.length;
+                    } else {
+                      Page<String> page =
+                          filter == null
+                              ? dispatcher.listPartitionNames(tableIdent, pageToken, limit)
+                              : Page.of(
+                                  dispatcher.listPartitionNamesByFilter(tableIdent, filter),
+                                  name -> name,
+                                  pageToken,
+                                  limit);
+                      response =
+                          Utils.ok(
+                              new PartitionNameListResponse(page.items(), page.nextPageToken()));
+                      count = page.items().length;
+                    }
                     LOG.info(
                         "List {} partition names in table {}.{}.{}.{}",
-                        partitionNames.length,
+                        count,
                         metalake,
                         catalog,
                         schema,
@@ -20,12 +20,14 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -33,10 +35,12 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.catalog.SchemaDispatcher;
@@ -77,20 +81,43 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents =
+            NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+            if (limit == null) {
+              Preconditions.checkArgument(
+                  pageToken == null, "The limit must be specified with the page token");
+              NameIdentifier[] idents =
+                  TreeLockUtils.doWithTreeLock(
+                      catalogIdent, LockType.READ, () -> dispatcher.listSchemas(schemaNS));
+              Response response =
+                  Utils.okStreamingList(
+                      "identifiers", idents, ListResponseWriters::writeIdentifier);
+              LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
+              return response;
+            }
+
+            Page.checkLimit(limit);
+            Page<NameIdentifier> page =
                 TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog),
+                    catalogIdent,
                     LockType.READ,
-                    () -> dispatcher.listSchemas(schemaNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
+                    () -> dispatcher.listSchemas(schemaNS, pageToken, limit));
+            Response response =
+                Utils.ok(new EntityListResponse(page.items(), page.nextPageToken()));
+            LOG.info(
+                "List a page of {} schemas in catalog {}.{}",
+                page.items().length,
+                metalake,
+                catalog);
             return response;
           });
     } catch (Exception e) {
@@ -140,7 +167,8 @@ public class SchemaOperations {
   public Response loadSchema(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     LOG.info("Received load schema request for schema: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
@@ -148,7 +176,8 @@ public class SchemaOperations {
           () -> {
             NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
             Schema s = dispatcher.loadSchema(ident);
-            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
+            Response response =
+                Utils.okWithETag(ifNoneMatch, new SchemaResponse(DTOConverters.toDTO(s)));
             LOG.info("Schema loaded: {}.{}.{}", metalake, catalog, s.name());
             return response;
           });
@@ -23,11 +23,16 @@ import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -35,21 +40,28 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.requests.TableBatchRequest;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableBatchResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -78,21 +90,48 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") Integer limit) {
     LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents =
+            NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, schema);
+            if (limit == null) {
+              Preconditions.checkArgument(
+                  pageToken == null, "The limit must be specified with the page token");
+              NameIdentifier[] idents =
+                  TreeLockUtils.doWithTreeLock(
+                      schemaIdent, LockType.READ, () -> dispatcher.listTables(tableNS));
+              Response response =
+                  Utils.okStreamingList(
+                      "identifiers", idents, ListResponseWriters::writeIdentifier);
+              LOG.info(
+                  "List {} tables under schema: {}.{}.{}",
+                  idents.length,
+                  metalake,
+                  catalog,
+                  schema);
+              return response;
+            }
+
+            Page.checkLimit(limit);
+            Page<NameIdentifier> page =
                 TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
+                    schemaIdent,
                     LockType.READ,
-                    () -> dispatcher.listTables(tableNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    () -> dispatcher.listTables(tableNS, pageToken, limit));
+            Response response =
+                Utils.ok(new EntityListResponse(page.items(), page.nextPageToken()));
             LOG.info(
-                "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
+                "List a page of {} tables under schema: {}.{}.{}",
+                page.items().length,
+                metalake,
+                catalog,
+                schema);
             return response;
           });
 
@@ -150,7 +189,8 @@ public class TableOperations {
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("table") String table) {
+      @PathParam("table") String table,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     LOG.info(
         "Received load table request for table: {}.{}.{}.{}", metalake, catalog, schema, table);
     try {
@@ -159,7 +199,8 @@ public class TableOperations {
           () -> {
             NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
             Table t = dispatcher.loadTable(ident);
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
+            Response response =
+                Utils.okWithETag(ifNoneMatch, new TableResponse(DTOConverters.toDTO(t)));
             LOG.info("Table loaded: {}.{}.{}.{}", metalake, catalog, schema, table);
             return response;
           });
@@ -252,4 +293,97 @@ public class TableOperations {
       return ExceptionHandlers.handleTableException(OperationType.DROP, table, schema, e);
     }
   }
+
+  @POST
+  @Path("batch")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "batch-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "batch-table", absolute = true)
+  public Response batchOperateTables(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      TableBatchRequest request) {
+    LOG.info("Received batch table request under schema: {}.{}.{}", metalake, catalog, schema);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            TableBatchOperation[] operations =
+                request.getOperations().stream()
+                    .map(o -> toTableBatchOperation(metalake, catalog, schema, o))
+                    .toArray(TableBatchOperation[]::new);
+
+            TableBatchResult[] results = dispatcher.batchOperateTables(operations);
+            List<TableBatchResponse.Result> resultDTOs =
+                Arrays.stream(results)
+                    .map(r -> toResultDTO(schema, r))
+                    .collect(Collectors.toList());
+            Response response = Utils.ok(new TableBatchResponse(resultDTOs));
+            LOG.info(
+                "Applied {} table operations under schema: {}.{}.{}",
+                results.length,
+                metalake,
+                catalog,
+                schema);
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTableException(OperationType.BATCH, "", schema, e);
+    }
+  }
+
+  private static TableBatchOperation toTableBatchOperation(
+      String metalake, String catalog, String schema, TableBatchRequest.Operation operation) {
+    NameIdentifier ident =
+        NameIdentifierUtil.ofTable(metalake, catalog, schema, operation.tableName());
+    switch (operation.getType()) {
+      case CREATE:
+        TableCreateRequest create = operation.getCreate();
+        return TableBatchOperation.create(
+            ident,
+            fromDTOs(create.getColumns()),
+            create.getComment(),
+            create.getProperties(),
+            fromDTOs(create.getPartitioning()),
+            fromDTO(create.getDistribution()),
+            fromDTOs(create.getSortOrders()),
+            fromDTOs(create.getIndexes()));
+      case ALTER:
+        return TableBatchOperation.alter(
+            ident,
+            operation.getUpdates().stream()
+                .map(TableUpdateRequest::tableChange)
+                .toArray(TableChange[]::new));
+      case DROP:
+        return TableBatchOperation.drop(ident);
+      case PURGE:
+        return TableBatchOperation.purge(ident);
+      default:
+        throw new IllegalArgumentException("Unknown operation type: " + operation.getType());
+    }
+  }
+
+  private static TableBatchResponse.Result toResultDTO(String schema, TableBatchResult result) {
+    String table = result.identifier().name();
+    if (!result.succeeded()) {
+      OperationType op =
+          result.type() == TableBatchOperation.Type.CREATE
+              ? OperationType.CREATE
+              : result.type() == TableBatchOperation.Type.ALTER
+                  ? OperationType.ALTER
+                  : OperationType.DROP;
+      ErrorResponse error =
+          (ErrorResponse)
+              ExceptionHandlers.handleTableException(op, table, schema, result.error()).getEntity();
+      return TableBatchResponse.Result.ofFailure(result.type(), table, error);
+    }
+
+    return result.table() != null
+        ? TableBatchResponse.Result.ofTable(
+            result.type(), table, DTOConverters.toDTO(result.table()))
+        : TableBatchResponse.Result.ofDropped(result.type(), table, result.dropped());
+  }
 }
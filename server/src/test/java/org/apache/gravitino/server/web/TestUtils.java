@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.audit.FilesetAuditConstants;
@@ -80,6 +81,26 @@ public class TestUtils {
     assertEquals(MediaType.APPLICATION_JSON, response.getMediaType().toString());
   }
 
+  @Test
+  public void testOkWithETag() throws Exception {
+    Response response = Utils.okWithETag(null, "data");
+    assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertEquals(MediaType.APPLICATION_JSON, response.getMediaType().toString());
+    EntityTag etag = response.getEntityTag();
+    assertNotNull(etag);
+
+    String quoted = "\"" + etag.getValue() + "\"";
+    assertEquals(
+        Response.Status.NOT_MODIFIED.getStatusCode(), Utils.okWithETag(quoted, "data").getStatus());
+    assertEquals(
+        Response.Status.NOT_MODIFIED.getStatusCode(),
+        Utils.okWithETag("\"other\", W/" + quoted, "data").getStatus());
+    assertEquals(
+        Response.Status.NOT_MODIFIED.getStatusCode(), Utils.okWithETag("*", "data").getStatus());
+    assertEquals(
+        Response.Status.OK.getStatusCode(), Utils.okWithETag(quoted, "changed").getStatus());
+  }
+
   @Test
   public void testOkWithoutData() {
     Response response = Utils.ok();
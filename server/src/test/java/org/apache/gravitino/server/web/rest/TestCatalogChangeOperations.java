@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.dto.CatalogChangeDTO;
+import org.apache.gravitino.dto.responses.CatalogChangesResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.listener.CatalogChangeLog;
+import org.apache.gravitino.metalake.MetalakeDispatcher;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogChangeOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final CatalogChangeLog changeLog = mock(CatalogChangeLog.class);
+
+  private final MetalakeDispatcher metalakeDispatcher = mock(MetalakeDispatcher.class);
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(CatalogChangeOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(changeLog).to(CatalogChangeLog.class).ranked(2);
+            bind(metalakeDispatcher).to(MetalakeDispatcher.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testListCatalogChanges() {
+    when(metalakeDispatcher.metalakeExists(any())).thenReturn(true);
+    CatalogChangeLog.Change drop = mock(CatalogChangeLog.Change.class);
+    when(drop.sequence()).thenReturn(2L);
+    when(drop.catalog()).thenReturn("catalog1");
+    when(drop.type()).thenReturn(CatalogChangeLog.ChangeType.DROP);
+    when(drop.eventTime()).thenReturn(100L);
+    mockChanges(1, 2, false, ImmutableList.of(drop));
+    mockChanges(3, 2, true, ImmutableList.of());
+
+    Response resp =
+        target("/metalakes/metalake1/catalog-changes")
+            .queryParam("since", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    CatalogChangesResponse changesResponse = resp.readEntity(CatalogChangesResponse.class);
+    Assertions.assertEquals(0, changesResponse.getCode());
+    changesResponse.validate();
+    Assertions.assertFalse(changesResponse.truncated());
+    Assertions.assertEquals(2, changesResponse.latestSequence());
+    Assertions.assertEquals(1, changesResponse.changes().length);
+    CatalogChangeDTO change = changesResponse.changes()[0];
+    Assertions.assertEquals(2, change.sequence());
+    Assertions.assertEquals("catalog1", change.catalog());
+    Assertions.assertEquals(CatalogChangeDTO.Type.DROP, change.type());
+    Assertions.assertEquals(100L, change.eventTime());
+
+    // A sequence number not issued by the server.
+    resp =
+        target("/metalakes/metalake1/catalog-changes")
+            .queryParam("since", 3)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    changesResponse = resp.readEntity(CatalogChangesResponse.class);
+    Assertions.assertTrue(changesResponse.truncated());
+    Assertions.assertEquals(0, changesResponse.changes().length);
+
+    when(metalakeDispatcher.metalakeExists(any())).thenReturn(false);
+    resp =
+        target("/metalakes/metalake1/catalog-changes")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResponse = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+    Assertions.assertEquals(NoSuchMetalakeException.class.getSimpleName(), errorResponse.getType());
+  }
+
+  private void mockChanges(
+      long since, long latestSequence, boolean truncated, List<CatalogChangeLog.Change> list) {
+    CatalogChangeLog.Changes changes = mock(CatalogChangeLog.Changes.class);
+    when(changes.epoch()).thenReturn("epoch");
+    when(changes.latestSequence()).thenReturn(latestSequence);
+    when(changes.truncated()).thenReturn(truncated);
+    when(changes.changes()).thenReturn(list);
+    when(changeLog.changesSince("metalake1", since)).thenReturn(changes);
+  }
+}
@@ -67,7 +67,9 @@ import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
@@ -99,6 +101,12 @@ public class TestCatalogOperations extends JerseyTest {
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
+  @Override
+  protected void configureClient(ClientConfig config) {
+    // Use the same ObjectMapper as the server, the loaded entities are always serialized by it.
+    config.register(ObjectMapperProvider.class);
+  }
+
   @Override
   protected Application configure() {
     try {
@@ -110,6 +118,7 @@ public class TestCatalogOperations extends JerseyTest {
 
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(CatalogOperations.class);
+    resourceConfig.register(ObjectMapperProvider.class);
     resourceConfig.register(
         new AbstractBinder() {
           @Override
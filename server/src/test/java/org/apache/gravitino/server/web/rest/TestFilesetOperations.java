@@ -49,6 +49,7 @@ import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -57,6 +58,7 @@ import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -65,6 +67,8 @@ import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
@@ -102,6 +106,12 @@ public class TestFilesetOperations extends JerseyTest {
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
+  @Override
+  protected void configureClient(ClientConfig config) {
+    // Use the same ObjectMapper as the server, the loaded entities are always serialized by it.
+    config.register(ObjectMapperProvider.class);
+  }
+
   @Override
   protected Application configure() {
     try {
@@ -113,6 +123,7 @@ public class TestFilesetOperations extends JerseyTest {
 
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(FilesetOperations.class);
+    resourceConfig.register(ObjectMapperProvider.class);
     resourceConfig.register(
         new AbstractBinder() {
           @Override
@@ -439,6 +450,47 @@ public class TestFilesetOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp.getType());
   }
 
+  @Test
+  public void testGetFileLocations() {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    String[] subPaths = new String[] {"/test/1", "test/2"};
+    String[] locations = new String[] {"hdfs://test/1", "hdfs://test/2"};
+    when(dispatcher.getFileLocations(fullIdentifier, subPaths)).thenReturn(locations);
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(new FileLocationsRequest(subPaths), MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileLocationsResponse locationsResponse = resp.readEntity(FileLocationsResponse.class);
+    Assertions.assertEquals(0, locationsResponse.getCode());
+    Assertions.assertArrayEquals(locations, locationsResponse.getFileLocations());
+
+    // Test empty sub paths
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(new String[0]), MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+
+    // Test throw NoSuchFilesetException
+    doThrow(new NoSuchFilesetException("no found"))
+        .when(dispatcher)
+        .getFileLocations(fullIdentifier, subPaths);
+    Response resp2 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(new FileLocationsRequest(subPaths), MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+  }
+
   @Test
   public void testGetFileLocation() {
     // Test encoded subPath
@@ -22,8 +22,11 @@ import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Maps;
@@ -214,6 +217,39 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionsByFilter() {
+    when(dispatcher.listPartitionNamesByFilter(any(), eq("col1=v2")))
+        .thenReturn(new String[] {"p2"});
+    when(dispatcher.listPartitionsByFilter(any(), eq("col1=v2")))
+        .thenReturn(new Partition[] {partition2});
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "col1=v2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertArrayEquals(
+        new String[] {"p2"}, resp.readEntity(PartitionNameListResponse.class).partitionNames());
+
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("filter", "col1=v2")
+            .queryParam("limit", "10")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    PartitionListResponse listResp = resp2.readEntity(PartitionListResponse.class);
+    Assertions.assertEquals(1, listResp.getPartitions().length);
+    Assertions.assertEquals(DTOConverters.toDTO(partition2), listResp.getPartitions()[0]);
+    Assertions.assertNull(listResp.getNextPageToken());
+    verify(dispatcher, never()).listPartitions(any());
+  }
+
   @Test
   public void testGetPartition() {
     when(dispatcher.getPartition(any(), any())).thenReturn(partition1);
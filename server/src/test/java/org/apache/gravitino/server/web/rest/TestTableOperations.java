@@ -38,6 +38,8 @@ import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -46,6 +48,7 @@ import org.apache.gravitino.Audit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.catalog.TableOperationDispatcher;
 import org.apache.gravitino.dto.rel.ColumnDTO;
@@ -59,6 +62,7 @@ import org.apache.gravitino.dto.rel.partitioning.IdentityPartitioningDTO;
 import org.apache.gravitino.dto.rel.partitioning.ListPartitioningDTO;
 import org.apache.gravitino.dto.rel.partitioning.Partitioning;
 import org.apache.gravitino.dto.rel.partitions.ListPartitionDTO;
+import org.apache.gravitino.dto.requests.TableBatchRequest;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
@@ -66,6 +70,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableBatchResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -74,6 +79,8 @@ import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableBatchOperation;
+import org.apache.gravitino.rel.TableBatchResult;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.distributions.Strategy;
@@ -200,6 +207,47 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTablesWithPage() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+
+    when(dispatcher.listTables(any(), eq("table0"), eq(2)))
+        .thenReturn(new Page<>(new NameIdentifier[] {table1, table2}, "table2"));
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageToken", "table0")
+            .queryParam("limit", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(new NameIdentifier[] {table1, table2}, listResp.identifiers());
+    Assertions.assertEquals("table2", listResp.nextPageToken());
+
+    // Test the page token without the limit
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageToken", "table0")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+
+    // Test the invalid limit
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("limit", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)
@@ -528,6 +576,20 @@ public class TestTableOperations extends JerseyTest {
 
     Assertions.assertEquals(0, tableDTO.partitioning().length);
 
+    // Test the conditional load with the ETag of the unchanged table
+    EntityTag etag = resp.getEntityTag();
+    Assertions.assertNotNull(etag);
+    Response notModifiedResp =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, etag.toString())
+            .get();
+    Assertions.assertEquals(
+        Response.Status.NOT_MODIFIED.getStatusCode(), notModifiedResp.getStatus());
+    Assertions.assertFalse(notModifiedResp.hasEntity());
+    Assertions.assertEquals(etag, notModifiedResp.getEntityTag());
+
     // Test throw NoSuchTableException
     doThrow(new NoSuchTableException("mock error")).when(dispatcher).loadTable(any());
 
@@ -804,6 +866,93 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testBatchOperateTables() {
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table = mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+    when(dispatcher.batchOperateTables(any()))
+        .thenReturn(
+            new TableBatchResult[] {
+              TableBatchResult.ofTable(TableBatchOperation.Type.CREATE, ident1, table),
+              TableBatchResult.ofDropped(TableBatchOperation.Type.DROP, ident2, true),
+              TableBatchResult.ofFailure(
+                  TableBatchOperation.Type.ALTER, ident2, new NoSuchTableException("mock error"))
+            });
+
+    TableCreateRequest createReq =
+        new TableCreateRequest(
+            "table1",
+            "mock comment",
+            Arrays.stream(columns).map(DTOConverters::toDTO).toArray(ColumnDTO[]::new),
+            ImmutableMap.of("k1", "v1"),
+            SortOrderDTO.EMPTY_SORT,
+            DistributionDTO.NONE,
+            Partitioning.EMPTY_PARTITIONING,
+            IndexDTO.EMPTY_INDEXES);
+    TableBatchRequest req =
+        new TableBatchRequest(
+            ImmutableList.of(
+                TableBatchRequest.Operation.create(createReq),
+                TableBatchRequest.Operation.drop("table2"),
+                TableBatchRequest.Operation.alter(
+                    "table2",
+                    ImmutableList.of(
+                        new TableUpdateRequest.UpdateTableCommentRequest("new comment")))));
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema) + "batch")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TableBatchResponse batchResp = resp.readEntity(TableBatchResponse.class);
+    Assertions.assertEquals(0, batchResp.getCode());
+    Assertions.assertEquals(3, batchResp.getResults().size());
+
+    TableBatchResponse.Result createResult = batchResp.getResults().get(0);
+    Assertions.assertEquals(TableBatchOperation.Type.CREATE, createResult.getType());
+    Assertions.assertEquals("table1", createResult.getTable().name());
+    Assertions.assertNull(createResult.getError());
+
+    TableBatchResponse.Result dropResult = batchResp.getResults().get(1);
+    Assertions.assertTrue(dropResult.isDropped());
+    Assertions.assertNull(dropResult.getTable());
+
+    ErrorResponse error = batchResp.getResults().get(2).getError();
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, error.getCode());
+    Assertions.assertEquals(NoSuchTableException.class.getSimpleName(), error.getType());
+
+    // Test throw exception for the whole batch
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).batchOperateTables(any());
+
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema) + "batch")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp1 = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp1.getCode());
+    Assertions.assertEquals(NoSuchSchemaException.class.getSimpleName(), errorResp1.getType());
+
+    // Test an empty batch
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema) + "batch")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new TableBatchRequest(ImmutableList.of()), MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+  }
+
   @Test
   public void testPurgeTable() {
     when(dispatcher.purgeTable(any())).thenReturn(true);
@@ -29,6 +29,15 @@ public class GravitinoSparkConfig {
   public static final String GRAVITINO_ENABLE_ICEBERG_SUPPORT =
       GRAVITINO_PREFIX + "enableIcebergSupport";
 
+  // The time in milliseconds that the Gravitino tables and namespace listings are cached in a Spark
+  // session, 0 means disabled.
+  public static final String GRAVITINO_METADATA_CACHE_TTL_MS =
+      GRAVITINO_PREFIX + "metadataCache.ttlMs";
+  public static final long GRAVITINO_METADATA_CACHE_TTL_MS_DEFAULT = 0;
+  public static final String GRAVITINO_METADATA_CACHE_MAX_SIZE =
+      GRAVITINO_PREFIX + "metadataCache.maxSize";
+  public static final long GRAVITINO_METADATA_CACHE_MAX_SIZE_DEFAULT = 10000;
+
   public static final String GRAVITINO_AUTH_TYPE =
       GRAVITINO_PREFIX + AuthProperties.GRAVITINO_CLIENT_AUTH_TYPE;
   public static final String GRAVITINO_OAUTH2_URI =
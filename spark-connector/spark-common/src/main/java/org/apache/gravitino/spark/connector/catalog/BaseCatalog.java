@@ -83,6 +83,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
   private Catalog gravitinoCatalogClient;
   private String catalogName;
   private final GravitinoCatalogManager gravitinoCatalogManager;
+  // The catalog is initialized for each Spark session, so is the metadata cache.
+  private GravitinoMetadataCache metadataCache;
 
   protected BaseCatalog() {
     gravitinoCatalogManager = GravitinoCatalogManager.get();
@@ -158,6 +160,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
     this.sparkTransformConverter = getSparkTransformConverter();
     this.sparkTypeConverter = getSparkTypeConverter();
     this.sparkTableChangeConverter = getSparkTableChangeConverter(sparkTypeConverter);
+    this.metadataCache = gravitinoCatalogManager.createMetadataCache();
   }
 
   @Override
@@ -176,7 +179,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
     }
     try {
       NameIdentifier[] identifiers =
-          gravitinoCatalogClient.asTableCatalog().listTables(Namespace.of(gravitinoNamespace));
+          metadataCache.get(
+              GravitinoMetadataCache.Key.tables(gravitinoNamespace),
+              () ->
+                  gravitinoCatalogClient
+                      .asTableCatalog()
+                      .listTables(Namespace.of(gravitinoNamespace)));
       return Arrays.stream(identifiers)
           .map(
               identifier ->
@@ -232,6 +240,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
       throw new NoSuchNamespaceException(ident.namespace());
     } catch (org.apache.gravitino.exceptions.TableAlreadyExistsException e) {
       throw new TableAlreadyExistsException(ident);
+    } finally {
+      metadataCache.invalidateTable(getDatabase(ident), ident.name());
     }
   }
 
@@ -262,6 +272,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
             .toArray(org.apache.gravitino.rel.TableChange[]::new);
     try {
       sparkCatalog.invalidateTable(ident);
+      metadataCache.invalidateTable(getDatabase(ident), ident.name());
       org.apache.gravitino.rel.Table gravitinoTable =
           gravitinoCatalogClient
               .asTableCatalog()
@@ -284,6 +295,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
   @Override
   public boolean dropTable(Identifier ident) {
     sparkCatalog.invalidateTable(ident);
+    metadataCache.invalidateTable(getDatabase(ident), ident.name());
     return gravitinoCatalogClient
         .asTableCatalog()
         .dropTable(NameIdentifier.of(getDatabase(ident), ident.name()));
@@ -292,6 +304,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
   @Override
   public boolean purgeTable(Identifier ident) {
     sparkCatalog.invalidateTable(ident);
+    metadataCache.invalidateTable(getDatabase(ident), ident.name());
     return gravitinoCatalogClient
         .asTableCatalog()
         .purgeTable(NameIdentifier.of(getDatabase(ident), ident.name()));
@@ -308,6 +321,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
         org.apache.gravitino.rel.TableChange.rename(newIdent.name());
     try {
       sparkCatalog.invalidateTable(oldIdent);
+      metadataCache.invalidateTable(oldDatabase, oldIdent.name());
+      metadataCache.invalidateTable(newDatabase, newIdent.name());
       gravitinoCatalogClient
           .asTableCatalog()
           .alterTable(NameIdentifier.of(getDatabase(oldIdent), oldIdent.name()), rename);
@@ -318,7 +333,10 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public String[][] listNamespaces() throws NoSuchNamespaceException {
-    String[] schemas = gravitinoCatalogClient.asSchemas().listSchemas();
+    String[] schemas =
+        metadataCache.get(
+            GravitinoMetadataCache.Key.namespaces(),
+            () -> gravitinoCatalogClient.asSchemas().listSchemas());
     return Arrays.stream(schemas).map(schema -> new String[] {schema}).toArray(String[][]::new);
   }
 
@@ -360,6 +378,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
       gravitinoCatalogClient.asSchemas().createSchema(namespace[0], comment, properties);
     } catch (SchemaAlreadyExistsException e) {
       throw new NamespaceAlreadyExistsException(namespace);
+    } finally {
+      metadataCache.invalidateNamespace(namespace[0]);
     }
   }
 
@@ -396,6 +416,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
       return gravitinoCatalogClient.asSchemas().dropSchema(namespace[0], cascade);
     } catch (NonEmptySchemaException e) {
       throw new NonEmptyNamespaceException(namespace);
+    } finally {
+      metadataCache.invalidateNamespace(namespace[0]);
     }
   }
 
@@ -403,9 +425,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
       throws NoSuchTableException {
     try {
       String database = getDatabase(ident);
-      return gravitinoCatalogClient
-          .asTableCatalog()
-          .loadTable(NameIdentifier.of(database, ident.name()));
+      return metadataCache.get(
+          GravitinoMetadataCache.Key.table(database, ident.name()),
+          () ->
+              gravitinoCatalogClient
+                  .asTableCatalog()
+                  .loadTable(NameIdentifier.of(database, ident.name())));
     } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
       throw new NoSuchTableException(ident);
     }
@@ -25,8 +25,10 @@ import com.google.common.cache.CacheBuilder;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.client.GravitinoClient;
+import org.apache.gravitino.spark.connector.GravitinoSparkConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,17 +40,32 @@ public class GravitinoCatalogManager {
   private volatile boolean isClosed = false;
   private final Cache<String, Catalog> gravitinoCatalogs;
   private final GravitinoClient gravitinoClient;
+  private final long metadataCacheTtlMs;
+  private final long metadataCacheMaxSize;
+  private final LongAdder metadataCacheHitCount = new LongAdder();
+  private final LongAdder metadataCacheMissCount = new LongAdder();
 
-  private GravitinoCatalogManager(Supplier<GravitinoClient> clientBuilder) {
+  private GravitinoCatalogManager(
+      Supplier<GravitinoClient> clientBuilder, long metadataCacheTtlMs, long metadataCacheMaxSize) {
     this.gravitinoClient = clientBuilder.get();
     // Will not evict catalog by default
     this.gravitinoCatalogs = CacheBuilder.newBuilder().build();
+    this.metadataCacheTtlMs = metadataCacheTtlMs;
+    this.metadataCacheMaxSize = metadataCacheMaxSize;
   }
 
-  public static GravitinoCatalogManager create(Supplier<GravitinoClient> clientBuilder) {
+  public static GravitinoCatalogManager create(
+      Supplier<GravitinoClient> clientBuilder, long metadataCacheTtlMs, long metadataCacheMaxSize) {
     Preconditions.checkState(
         gravitinoCatalogManager == null, "Should not create duplicate GravitinoCatalogManager");
-    gravitinoCatalogManager = new GravitinoCatalogManager(clientBuilder);
+    Preconditions.checkArgument(
+        metadataCacheTtlMs >= 0,
+        GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_TTL_MS + " should not be negative");
+    Preconditions.checkArgument(
+        metadataCacheMaxSize >= 0,
+        GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_MAX_SIZE + " should not be negative");
+    gravitinoCatalogManager =
+        new GravitinoCatalogManager(clientBuilder, metadataCacheTtlMs, metadataCacheMaxSize);
     return gravitinoCatalogManager;
   }
 
@@ -87,6 +104,25 @@ public class GravitinoCatalogManager {
     return gravitinoCatalogs.asMap();
   }
 
+  /**
+   * Creates a metadata cache for a catalog of a Spark session, the hits and misses of all the
+   * caches are counted together.
+   *
+   * @return a new metadata cache
+   */
+  GravitinoMetadataCache createMetadataCache() {
+    return new GravitinoMetadataCache(
+        metadataCacheTtlMs, metadataCacheMaxSize, metadataCacheHitCount, metadataCacheMissCount);
+  }
+
+  public long getMetadataCacheHitCount() {
+    return metadataCacheHitCount.sum();
+  }
+
+  public long getMetadataCacheMissCount() {
+    return metadataCacheMissCount.sum();
+  }
+
   private Catalog loadCatalog(String catalogName) {
     Catalog catalog = gravitinoClient.loadCatalog(catalogName);
     Preconditions.checkArgument(
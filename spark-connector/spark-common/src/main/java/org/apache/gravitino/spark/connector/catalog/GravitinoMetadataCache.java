@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.spark.connector.catalog;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * GravitinoMetadataCache caches the Gravitino tables and the namespace listings of one catalog in
+ * one Spark session, so that resolving the same relation several times in a query doesn't load it
+ * from the Apache Gravitino server again and again. The cached metadata expires after a
+ * configurable TTL, and it's invalidated by the DDL issued through the same catalog. The cache is
+ * disabled when the TTL is 0.
+ */
+class GravitinoMetadataCache {
+
+  private final Cache<Key, Object> cache;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+
+  GravitinoMetadataCache(long ttlMs, long maximumSize, LongAdder hitCount, LongAdder missCount) {
+    this.cache =
+        ttlMs > 0 && maximumSize > 0
+            ? CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build()
+            : null;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+  }
+
+  /**
+   * Returns the cached metadata of the key, or loads it from the Gravitino server and caches it.
+   *
+   * @param key the key of the metadata
+   * @param loader the loader to call the Gravitino server
+   * @return the metadata
+   */
+  @SuppressWarnings("unchecked")
+  <T> T get(Key key, Supplier<T> loader) {
+    if (cache != null) {
+      Object value = cache.getIfPresent(key);
+      if (value != null) {
+        hitCount.increment();
+        return (T) value;
+      }
+    }
+
+    missCount.increment();
+    T value = loader.get();
+    if (cache != null && value != null) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  /** Invalidates the table and the table listing of its namespace. */
+  void invalidateTable(String namespace, String table) {
+    if (cache != null) {
+      cache.invalidate(Key.table(namespace, table));
+      cache.invalidate(Key.tables(namespace));
+    }
+  }
+
+  /** Invalidates the namespace listing and all the metadata under the namespace. */
+  void invalidateNamespace(String namespace) {
+    if (cache != null) {
+      cache.invalidate(Key.namespaces());
+      cache.asMap().keySet().removeIf(key -> Objects.equals(key.namespace, namespace));
+    }
+  }
+
+  /** The key of the cached metadata. */
+  static class Key {
+
+    private enum Kind {
+      NAMESPACES,
+      TABLES,
+      TABLE
+    }
+
+    private final Kind kind;
+    private final String namespace;
+    private final String table;
+
+    private Key(Kind kind, String namespace, String table) {
+      this.kind = kind;
+      this.namespace = namespace;
+      this.table = table;
+    }
+
+    static Key namespaces() {
+      return new Key(Kind.NAMESPACES, null, null);
+    }
+
+    static Key tables(String namespace) {
+      return new Key(Kind.TABLES, namespace, null);
+    }
+
+    static Key table(String namespace, String table) {
+      return new Key(Kind.TABLE, namespace, table);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return kind == key.kind
+          && Objects.equals(namespace, key.namespace)
+          && Objects.equals(table, key.table);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(kind, namespace, table);
+    }
+  }
+}
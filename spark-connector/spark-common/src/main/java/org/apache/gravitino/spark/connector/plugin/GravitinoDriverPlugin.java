@@ -22,6 +22,8 @@ package org.apache.gravitino.spark.connector.plugin;
 import static org.apache.gravitino.spark.connector.ConnectorConstants.COMMA;
 import static org.apache.gravitino.spark.connector.utils.ConnectorUtil.removeDuplicateSparkExtensions;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.io.File;
@@ -64,6 +66,10 @@ public class GravitinoDriverPlugin implements DriverPlugin {
   static final String ICEBERG_SPARK_EXTENSIONS =
       "org.apache.iceberg.spark.extensions.IcebergSparkSessionExtensions";
 
+  private static final String METADATA_CACHE_HIT_COUNT = "metadataCache.hitCount";
+
+  private static final String METADATA_CACHE_MISS_COUNT = "metadataCache.missCount";
+
   private GravitinoCatalogManager catalogManager;
   private final List<String> gravitinoIcebergExtensions =
       Arrays.asList(
@@ -93,13 +99,32 @@ public class GravitinoDriverPlugin implements DriverPlugin {
 
     this.catalogManager =
         GravitinoCatalogManager.create(
-            () -> createGravitinoClient(gravitinoUri, metalake, conf, sc.sparkUser()));
+            () -> createGravitinoClient(gravitinoUri, metalake, conf, sc.sparkUser()),
+            conf.getLong(
+                GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_TTL_MS,
+                GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_TTL_MS_DEFAULT),
+            conf.getLong(
+                GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_MAX_SIZE,
+                GravitinoSparkConfig.GRAVITINO_METADATA_CACHE_MAX_SIZE_DEFAULT));
     catalogManager.loadRelationalCatalogs();
     registerGravitinoCatalogs(conf, catalogManager.getCatalogs());
     registerSqlExtensions(conf);
     return Collections.emptyMap();
   }
 
+  @Override
+  public void registerMetrics(String appId, PluginContext pluginContext) {
+    if (catalogManager == null) {
+      return;
+    }
+
+    MetricRegistry metricRegistry = pluginContext.metricRegistry();
+    metricRegistry.register(
+        METADATA_CACHE_HIT_COUNT, (Gauge<Long>) catalogManager::getMetadataCacheHitCount);
+    metricRegistry.register(
+        METADATA_CACHE_MISS_COUNT, (Gauge<Long>) catalogManager::getMetadataCacheMissCount);
+  }
+
   @Override
   public void shutdown() {
     if (catalogManager != null) {
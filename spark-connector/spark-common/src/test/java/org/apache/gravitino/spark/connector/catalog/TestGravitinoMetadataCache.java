@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.spark.connector.catalog;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.gravitino.spark.connector.catalog.GravitinoMetadataCache.Key;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoMetadataCache {
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void testCacheAndInvalidate() {
+    GravitinoMetadataCache cache = new GravitinoMetadataCache(60_000, 100, hitCount, missCount);
+
+    Assertions.assertEquals("t1", cache.get(Key.table("db", "t1"), () -> load("t1")));
+    Assertions.assertEquals("t1", cache.get(Key.table("db", "t1"), () -> load("t1")));
+    cache.get(Key.tables("db"), () -> load("tables"));
+    cache.get(Key.tables("db2"), () -> load("tables"));
+    cache.get(Key.namespaces(), () -> load("namespaces"));
+    Assertions.assertEquals(4, loads.get());
+    Assertions.assertEquals(1, hitCount.sum());
+    Assertions.assertEquals(4, missCount.sum());
+
+    // Creating, altering or dropping a table invalidates it and the table listing.
+    cache.invalidateTable("db", "t1");
+    cache.get(Key.table("db", "t1"), () -> load("t1"));
+    cache.get(Key.tables("db"), () -> load("tables"));
+    cache.get(Key.tables("db2"), () -> load("tables"));
+    cache.get(Key.namespaces(), () -> load("namespaces"));
+    Assertions.assertEquals(6, loads.get());
+
+    // Dropping a namespace invalidates everything under it and the namespace listing.
+    cache.invalidateNamespace("db");
+    cache.get(Key.table("db", "t1"), () -> load("t1"));
+    cache.get(Key.tables("db"), () -> load("tables"));
+    cache.get(Key.tables("db2"), () -> load("tables"));
+    cache.get(Key.namespaces(), () -> load("namespaces"));
+    Assertions.assertEquals(9, loads.get());
+  }
+
+  @Test
+  void testDisabledCache() {
+    GravitinoMetadataCache cache = new GravitinoMetadataCache(0, 100, hitCount, missCount);
+
+    cache.get(Key.table("db", "t1"), () -> load("t1"));
+    cache.get(Key.table("db", "t1"), () -> load("t1"));
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertEquals(0, hitCount.sum());
+    Assertions.assertEquals(2, missCount.sum());
+  }
+
+  private String load(String value) {
+    loads.incrementAndGet();
+    return value;
+  }
+}
@@ -83,6 +83,27 @@ public class GravitinoConfig {
           "",
           false);
 
+  private static final ConfigEntry GRAVITINO_METADATA_CACHE_TTL_MS =
+      new ConfigEntry(
+          "gravitino.metadata-cache-ttl-ms",
+          "The time in milliseconds that the metadata loaded from Gravitino is shared across queries, 0 means the metadata is only cached in one transaction",
+          "0",
+          false);
+
+  private static final ConfigEntry GRAVITINO_METADATA_CACHE_MAXIMUM_SIZE =
+      new ConfigEntry(
+          "gravitino.metadata-cache-maximum-size",
+          "The maximum number of schemas, table lists and tables in the metadata cache of a catalog",
+          "10000",
+          false);
+
+  private static final ConfigEntry GRAVITINO_CATALOG_FULL_RELOAD_INTERVAL_MS =
+      new ConfigEntry(
+          "gravitino.catalog-full-reload-interval-ms",
+          "The interval in milliseconds to reload all the catalogs rather than only the changed ones, as a fallback for the changes missed by the incremental syncs",
+          "600000",
+          false);
+
   private static final ConfigEntry TRINO_JDBC_USER =
       new ConfigEntry("trino.jdbc.user", "The jdbc user name of Trino", "admin", false);
 
@@ -180,6 +201,34 @@ public class GravitinoConfig {
         GRAVITINO_CATALOG_CONNECTOR_FACTORY_CLASS_NAME.defaultValue);
   }
 
+  public long getMetadataCacheTtlMs() {
+    return parseNonNegativeLong(GRAVITINO_METADATA_CACHE_TTL_MS);
+  }
+
+  public long getMetadataCacheMaximumSize() {
+    return parseNonNegativeLong(GRAVITINO_METADATA_CACHE_MAXIMUM_SIZE);
+  }
+
+  public long getCatalogFullReloadIntervalMs() {
+    return parseNonNegativeLong(GRAVITINO_CATALOG_FULL_RELOAD_INTERVAL_MS);
+  }
+
+  private long parseNonNegativeLong(ConfigEntry entry) {
+    String value = config.getOrDefault(entry.key, entry.defaultValue);
+    try {
+      long result = Long.parseLong(value.trim());
+      if (result >= 0) {
+        return result;
+      }
+    } catch (NumberFormatException e) {
+      // Fall through to report the invalid value.
+    }
+    throw new TrinoException(
+        GravitinoErrorCode.GRAVITINO_ILLEGAL_ARGUMENT,
+        String.format(
+            "Invalid value %s of %s, it must be a non-negative number", value, entry.key));
+  }
+
   public String toCatalogConfig() {
     List<String> stringList = new ArrayList<>();
     for (Map.Entry<String, ConfigEntry> entry : CONFIG_DEFINITIONS.entrySet()) {
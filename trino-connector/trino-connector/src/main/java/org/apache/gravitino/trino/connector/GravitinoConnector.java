@@ -80,7 +80,8 @@ public class GravitinoConnector implements Connector {
     GravitinoMetalake metalake = catalogConnectorContext.getMetalake();
 
     CatalogConnectorMetadata catalogConnectorMetadata =
-        new CatalogConnectorMetadata(metalake, catalogIdentifier);
+        new CatalogConnectorMetadata(
+            metalake, catalogIdentifier, catalogConnectorContext.getMetadataCache());
 
     return new GravitinoMetadata(
         catalogConnectorMetadata, catalogConnectorContext.getMetadataAdapter(), internalMetadata);
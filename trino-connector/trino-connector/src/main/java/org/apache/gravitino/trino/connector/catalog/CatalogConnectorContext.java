@@ -25,6 +25,7 @@ import io.trino.spi.session.PropertyMetadata;
 import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.trino.connector.GravitinoConfig;
 import org.apache.gravitino.trino.connector.GravitinoConnector;
 import org.apache.gravitino.trino.connector.GravitinoConnectorPluginManager;
 import org.apache.gravitino.trino.connector.metadata.GravitinoCatalog;
@@ -47,15 +48,28 @@ public class CatalogConnectorContext {
 
   private final CatalogConnectorAdapter adapter;
 
+  // The metadata cache shared by all the transactions of this catalog
+  private final CatalogConnectorMetadataCache metadataCache;
+
   public CatalogConnectorContext(
       GravitinoCatalog catalog,
       GravitinoMetalake metalake,
       Connector internalConnector,
       CatalogConnectorAdapter adapter) {
+    this(catalog, metalake, internalConnector, adapter, new CatalogConnectorMetadataCache(0, 0));
+  }
+
+  public CatalogConnectorContext(
+      GravitinoCatalog catalog,
+      GravitinoMetalake metalake,
+      Connector internalConnector,
+      CatalogConnectorAdapter adapter,
+      CatalogConnectorMetadataCache metadataCache) {
     this.catalog = catalog;
     this.metalake = metalake;
     this.internalConnector = internalConnector;
     this.adapter = adapter;
+    this.metadataCache = metadataCache;
 
     this.connector = new GravitinoConnector(catalog.geNameIdentifier(), this);
   }
@@ -88,7 +102,12 @@ public class CatalogConnectorContext {
     return adapter.getColumnProperties();
   }
 
+  public CatalogConnectorMetadataCache getMetadataCache() {
+    return metadataCache;
+  }
+
   public void close() {
+    this.metadataCache.invalidateAll();
     this.internalConnector.shutdown();
   }
 
@@ -101,6 +120,7 @@ public class CatalogConnectorContext {
     private GravitinoCatalog catalog;
     private GravitinoMetalake metalake;
     private ConnectorContext context;
+    private GravitinoConfig config;
 
     public Builder(CatalogConnectorAdapter connectorAdapter) {
       this.connectorAdapter = connectorAdapter;
@@ -125,6 +145,11 @@ public class CatalogConnectorContext {
       return this;
     }
 
+    public Builder withConfig(GravitinoConfig config) {
+      this.config = config;
+      return this;
+    }
+
     public CatalogConnectorContext build() throws Exception {
       Preconditions.checkArgument(metalake != null, "metalake is not null");
       Preconditions.checkArgument(catalog != null, "catalog is not null");
@@ -135,7 +160,13 @@ public class CatalogConnectorContext {
       Connector connector =
           GravitinoConnectorPluginManager.instance(context.getClass().getClassLoader())
               .createConnector(internalConnectorName, connectorConfig, context);
-      return new CatalogConnectorContext(catalog, metalake, connector, connectorAdapter);
+      CatalogConnectorMetadataCache metadataCache =
+          config == null
+              ? new CatalogConnectorMetadataCache(0, 0)
+              : new CatalogConnectorMetadataCache(
+                  config.getMetadataCacheTtlMs(), config.getMetadataCacheMaximumSize());
+      return new CatalogConnectorContext(
+          catalog, metalake, connector, connectorAdapter, metadataCache);
     }
   }
 }
@@ -25,6 +25,7 @@ import io.trino.spi.connector.Connector;
 import io.trino.spi.connector.ConnectorContext;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +39,9 @@ import org.apache.commons.lang3.NotImplementedException;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.dto.CatalogChangeDTO;
+import org.apache.gravitino.dto.responses.CatalogChangesResponse;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.trino.connector.GravitinoConfig;
 import org.apache.gravitino.trino.connector.GravitinoErrorCode;
@@ -71,6 +75,7 @@ public class CatalogConnectorManager {
 
   private final Set<String> usedMetalakes = new HashSet<>();
   private final Map<String, GravitinoMetalake> metalakes = new ConcurrentHashMap<>();
+  private final Map<String, CatalogChangeCursor> catalogChangeCursors = new ConcurrentHashMap<>();
 
   private GravitinoAdminClient gravitinoClient;
   private GravitinoConfig config;
@@ -128,7 +133,7 @@ public class CatalogConnectorManager {
           GravitinoMetalake metalake =
               metalakes.computeIfAbsent(usedMetalake, this::retrieveMetalake);
           LOG.debug("Load metalake: {}", usedMetalake);
-          loadCatalogs(metalake);
+          syncCatalogs(metalake);
         } catch (Exception e) {
           LOG.error("Load Metalake {} failed.", usedMetalake, e);
         }
@@ -149,13 +154,79 @@ public class CatalogConnectorManager {
     }
   }
 
-  private void loadCatalogs(GravitinoMetalake metalake) {
+  /**
+   * Syncs the catalogs of the metalake with the catalog changes since the last sync. All the
+   * catalogs are reloaded at the first time, when the change log of the Gravitino server is rebuilt
+   * or some changes since the last sync are no longer kept, or when the server doesn't support the
+   * catalog changes. The change log is kept in the entity store shared by the Gravitino servers, so
+   * the full reload every {@link GravitinoConfig#getCatalogFullReloadIntervalMs()} milliseconds is
+   * only a fallback for the rare changes committed out of the order of their sequence numbers.
+   */
+  private void syncCatalogs(GravitinoMetalake metalake) {
+    CatalogChangeCursor cursor = catalogChangeCursors.get(metalake.name());
+    CatalogChangesResponse response;
+    try {
+      response = metalake.listCatalogChanges(cursor == null ? 0 : cursor.sequence);
+    } catch (Exception e) {
+      LOG.debug("Failed to list catalog changes in metalake {}.", metalake.name(), e);
+      response = null;
+    }
+
+    if (response == null) {
+      catalogChangeCursors.remove(metalake.name());
+      loadCatalogs(metalake);
+      return;
+    }
+
+    if (cursor == null
+        || cursor.isExpired(config.getCatalogFullReloadIntervalMs())
+        || !cursor.epoch.equals(response.epoch())
+        || response.truncated()) {
+      // The changes made during the reload are applied again by the next sync, that's harmless.
+      catalogChangeCursors.remove(metalake.name());
+      if (loadCatalogs(metalake)) {
+        catalogChangeCursors.put(
+            metalake.name(), new CatalogChangeCursor(response.epoch(), response.latestSequence()));
+      }
+      return;
+    }
+
+    // Only the last change of a catalog matters, it's loaded from the server again anyway.
+    Map<String, CatalogChangeDTO.Type> changes = new LinkedHashMap<>();
+    for (CatalogChangeDTO change : response.changes()) {
+      changes.remove(change.catalog());
+      changes.put(change.catalog(), change.type());
+    }
+
+    boolean succeeded = true;
+    for (Map.Entry<String, CatalogChangeDTO.Type> change : changes.entrySet()) {
+      LOG.debug(
+          "Apply the change {} of metalake {}'s catalog {}.",
+          change.getValue(),
+          metalake.name(),
+          change.getKey());
+      if (change.getValue() == CatalogChangeDTO.Type.DROP) {
+        succeeded &= unloadCatalog(metalake, change.getKey());
+      } else {
+        succeeded &= loadOrReloadCatalog(metalake, change.getKey());
+      }
+    }
+
+    if (succeeded) {
+      cursor.sequence = response.latestSequence();
+    } else {
+      // Reload all the catalogs next time rather than missing the failed changes.
+      catalogChangeCursors.remove(metalake.name());
+    }
+  }
+
+  private boolean loadCatalogs(GravitinoMetalake metalake) {
     String[] catalogNames;
     try {
       catalogNames = metalake.listCatalogs();
     } catch (Exception e) {
       LOG.error("Failed to list catalogs in metalake {}.", metalake.name(), e);
-      return;
+      return false;
     }
 
     LOG.debug(
@@ -184,25 +255,46 @@ public class CatalogConnectorManager {
     }
 
     // Load new catalogs belows to the metalake.
-    Arrays.stream(catalogNames)
-        .forEach(
-            (String catalogName) -> {
-              try {
-                Catalog catalog = metalake.loadCatalog(catalogName);
-                GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
-                if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
-                  // Reload catalogs that have been updated in Gravitino server.
-                  reloadCatalog(gravitinoCatalog);
-                } else {
-                  if (catalog.type() == Catalog.Type.RELATIONAL) {
-                    loadCatalog(gravitinoCatalog);
-                  }
-                }
-              } catch (Exception e) {
-                LOG.error(
-                    "Failed to load metalake {}'s catalog {}.", metalake.name(), catalogName, e);
-              }
-            });
+    Arrays.stream(catalogNames).forEach(catalogName -> loadOrReloadCatalog(metalake, catalogName));
+    return true;
+  }
+
+  private boolean loadOrReloadCatalog(GravitinoMetalake metalake, String catalogName) {
+    try {
+      Catalog catalog = metalake.loadCatalog(catalogName);
+      GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
+      if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
+        // Reload catalogs that have been updated in Gravitino server.
+        reloadCatalog(gravitinoCatalog);
+      } else {
+        if (catalog.type() == Catalog.Type.RELATIONAL) {
+          loadCatalog(gravitinoCatalog);
+        }
+      }
+      return true;
+    } catch (NoSuchCatalogException e) {
+      // The catalog is dropped after the change.
+      return unloadCatalog(metalake, catalogName);
+    } catch (Exception e) {
+      LOG.error("Failed to load metalake {}'s catalog {}.", metalake.name(), catalogName, e);
+      return false;
+    }
+  }
+
+  private boolean unloadCatalog(GravitinoMetalake metalake, String catalogName) {
+    CatalogConnectorContext context =
+        catalogConnectors.get(getTrinoCatalogName(metalake.name(), catalogName));
+    if (context == null) {
+      return true;
+    }
+
+    try {
+      unloadCatalog(context.getCatalog());
+      return true;
+    } catch (Exception e) {
+      LOG.error("Failed to remove metalake {}'s catalog {}.", metalake.name(), catalogName, e);
+      return false;
+    }
   }
 
   private void reloadCatalog(GravitinoCatalog catalog) {
@@ -293,7 +385,8 @@ public class CatalogConnectorManager {
           catalogConnectorFactory.createCatalogConnectorContextBuilder(catalog);
       builder
           .withMetalake(metalakes.computeIfAbsent(catalog.getMetalake(), this::retrieveMetalake))
-          .withContext(context);
+          .withContext(context)
+          .withConfig(config);
 
       CatalogConnectorContext connectorContext = builder.build();
       catalogConnectors.put(connectorName, connectorContext);
@@ -321,4 +414,20 @@ public class CatalogConnectorManager {
     }
     return metalakes.computeIfAbsent(metalake, this::retrieveMetalake);
   }
+
+  /** The position of the catalog changes of a metalake synced last time. */
+  private static class CatalogChangeCursor {
+    private final String epoch;
+    private final long createTimeMs = System.currentTimeMillis();
+    private volatile long sequence;
+
+    private CatalogChangeCursor(String epoch, long sequence) {
+      this.epoch = epoch;
+      this.sequence = sequence;
+    }
+
+    private boolean isExpired(long fullReloadIntervalMs) {
+      return System.currentTimeMillis() - createTimeMs >= fullReloadIntervalMs;
+    }
+  }
 }
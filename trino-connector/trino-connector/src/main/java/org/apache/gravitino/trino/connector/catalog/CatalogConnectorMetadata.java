@@ -24,6 +24,9 @@ import io.trino.spi.connector.SchemaTableName;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -41,11 +44,16 @@ import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.trino.connector.GravitinoErrorCode;
+import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadataCache.Key;
 import org.apache.gravitino.trino.connector.metadata.GravitinoColumn;
 import org.apache.gravitino.trino.connector.metadata.GravitinoSchema;
 import org.apache.gravitino.trino.connector.metadata.GravitinoTable;
 
-/** This class implements Apache Gravitino metadata operators. */
+/**
+ * This class implements Apache Gravitino metadata operators. One instance serves one transaction,
+ * the metadata loaded by it is cached for the whole transaction and shared with the other queries
+ * through the {@link CatalogConnectorMetadataCache} of the catalog.
+ */
 public class CatalogConnectorMetadata {
 
   private static final String CATALOG_DOES_NOT_EXIST_MSG = "Catalog does not exist";
@@ -55,7 +63,19 @@ public class CatalogConnectorMetadata {
   private final SupportsSchemas schemaCatalog;
   private final TableCatalog tableCatalog;
 
+  private final CatalogConnectorMetadataCache metadataCache;
+  // The metadata loaded in this transaction, it's not expired until the transaction ends.
+  private final Map<Key, Object> transactionCache = new ConcurrentHashMap<>();
+
   public CatalogConnectorMetadata(GravitinoMetalake metalake, NameIdentifier catalogIdentifier) {
+    this(metalake, catalogIdentifier, new CatalogConnectorMetadataCache(0, 0));
+  }
+
+  public CatalogConnectorMetadata(
+      GravitinoMetalake metalake,
+      NameIdentifier catalogIdentifier,
+      CatalogConnectorMetadataCache metadataCache) {
+    this.metadataCache = metadataCache;
     try {
       this.catalogName = catalogIdentifier.name();
       Catalog catalog = metalake.loadCatalog(catalogName);
@@ -74,8 +94,12 @@ public class CatalogConnectorMetadata {
   }
 
   public List<String> listSchemaNames() {
+    return cached(Key.schemaNames(), this::loadSchemaNames);
+  }
+
+  private List<String> loadSchemaNames() {
     try {
-      return Arrays.asList(schemaCatalog.listSchemas());
+      return List.of(schemaCatalog.listSchemas());
     } catch (NoSuchCatalogException e) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_CATALOG_NOT_EXISTS, CATALOG_DOES_NOT_EXIST_MSG, e);
@@ -83,6 +107,10 @@ public class CatalogConnectorMetadata {
   }
 
   public GravitinoSchema getSchema(String schemaName) {
+    return cached(Key.schema(schemaName), () -> loadSchema(schemaName));
+  }
+
+  private GravitinoSchema loadSchema(String schemaName) {
     try {
       Schema schema = schemaCatalog.loadSchema(schemaName);
       return new GravitinoSchema(schema);
@@ -93,6 +121,10 @@ public class CatalogConnectorMetadata {
   }
 
   public GravitinoTable getTable(String schemaName, String tableName) {
+    return cached(Key.table(schemaName, tableName), () -> loadTable(schemaName, tableName));
+  }
+
+  private GravitinoTable loadTable(String schemaName, String tableName) {
     try {
       Table table = tableCatalog.loadTable(NameIdentifier.of(schemaName, tableName));
       return new GravitinoTable(schemaName, tableName, table);
@@ -103,6 +135,10 @@ public class CatalogConnectorMetadata {
   }
 
   public List<String> listTables(String schemaName) {
+    return cached(Key.tableNames(schemaName), () -> loadTableNames(schemaName));
+  }
+
+  private List<String> loadTableNames(String schemaName) {
     try {
       NameIdentifier[] tables = tableCatalog.listTables(Namespace.of(schemaName));
       return Arrays.stream(tables).map(NameIdentifier::name).toList();
@@ -113,7 +149,17 @@ public class CatalogConnectorMetadata {
   }
 
   public boolean tableExists(String schemaName, String tableName) {
-    return tableCatalog.tableExists(NameIdentifier.of(schemaName, tableName));
+    // Load the table rather than only checking it, so the table is cached for the following
+    // getTable call of the same query.
+    try {
+      getTable(schemaName, tableName);
+      return true;
+    } catch (TrinoException e) {
+      if (GravitinoErrorCode.GRAVITINO_TABLE_NOT_EXISTS.toErrorCode().equals(e.getErrorCode())) {
+        return false;
+      }
+      throw e;
+    }
   }
 
   public void createTable(GravitinoTable table, boolean ignoreExisting) {
@@ -135,6 +181,8 @@ public class CatalogConnectorMetadata {
         throw new TrinoException(
             GravitinoErrorCode.GRAVITINO_TABLE_ALREADY_EXISTS, "Table already exists", e);
       }
+    } finally {
+      invalidateTable(table.getSchemaName(), table.getName());
     }
   }
 
@@ -147,6 +195,8 @@ public class CatalogConnectorMetadata {
     } catch (TableAlreadyExistsException e) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_SCHEMA_ALREADY_EXISTS, "Schema already exists", e);
+    } finally {
+      invalidateSchema(schema.getName());
     }
   }
 
@@ -162,13 +212,20 @@ public class CatalogConnectorMetadata {
     } catch (NonEmptySchemaException e) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_SCHEMA_NOT_EMPTY, "Schema does not empty", e);
+    } finally {
+      invalidateSchema(schemaName);
     }
   }
 
   public void dropTable(SchemaTableName tableName) {
-    boolean dropped =
-        tableCatalog.dropTable(
-            NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+    boolean dropped;
+    try {
+      dropped =
+          tableCatalog.dropTable(
+              NameIdentifier.of(tableName.getSchemaName(), tableName.getTableName()));
+    } finally {
+      invalidateTable(tableName.getSchemaName(), tableName.getTableName());
+    }
     if (!dropped) {
       throw new TrinoException(
           GravitinoErrorCode.GRAVITINO_OPERATION_FAILED, "Failed to drop table " + tableName);
@@ -193,6 +250,8 @@ public class CatalogConnectorMetadata {
       String message =
           e.getMessage().lines().toList().get(0) + e.getMessage().lines().toList().get(1);
       throw new TrinoException(GravitinoErrorCode.GRAVITINO_ILLEGAL_ARGUMENT, message, e);
+    } finally {
+      invalidateTable(tableName.getSchemaName(), tableName.getTableName());
     }
   }
 
@@ -205,6 +264,7 @@ public class CatalogConnectorMetadata {
       return;
     }
     applyAlter(oldTableName, TableChange.rename(newTableName.getTableName()));
+    invalidateTable(newTableName.getSchemaName(), newTableName.getTableName());
   }
 
   public void setTableComment(SchemaTableName schemaTableName, String comment) {
@@ -212,8 +272,9 @@ public class CatalogConnectorMetadata {
   }
 
   public void setTableProperties(SchemaTableName schemaTableName, Map<String, String> properties) {
+    // Compare with the latest properties rather than the cached ones.
     Map<String, String> oldProperties =
-        getTable(schemaTableName.getSchemaName(), schemaTableName.getTableName()).getProperties();
+        loadTable(schemaTableName.getSchemaName(), schemaTableName.getTableName()).getProperties();
     for (Map.Entry<String, String> entry : properties.entrySet()) {
       if (!entry.getValue().equals(oldProperties.get(entry.getKey()))) {
         applyAlter(schemaTableName, TableChange.setProperty(entry.getKey(), entry.getValue()));
@@ -257,4 +318,32 @@ public class CatalogConnectorMetadata {
     String[] columnNames = {columnName};
     applyAlter(schemaTableName, TableChange.updateColumnType(columnNames, type));
   }
+
+  @SuppressWarnings("unchecked")
+  private <T> T cached(Key key, Supplier<T> loader) {
+    Object value = transactionCache.get(key);
+    if (value != null) {
+      metadataCache.recordHit();
+      return (T) value;
+    }
+
+    value = metadataCache.get(key, loader);
+    if (value != null) {
+      transactionCache.put(key, value);
+    }
+    return (T) value;
+  }
+
+  private void invalidateSchema(String schemaName) {
+    invalidate(key -> key.affectedBySchema(schemaName));
+  }
+
+  private void invalidateTable(String schemaName, String tableName) {
+    invalidate(key -> key.affectedByTable(schemaName, tableName));
+  }
+
+  private void invalidate(Predicate<Key> predicate) {
+    transactionCache.keySet().removeIf(predicate);
+    metadataCache.invalidate(predicate);
+  }
 }
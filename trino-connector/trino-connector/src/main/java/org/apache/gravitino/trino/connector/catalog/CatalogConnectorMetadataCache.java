@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.catalog;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The metadata cache of a catalog shared by all the queries against it. The schemas, table lists
+ * and table definitions loaded from the Apache Gravitino server are kept for a configurable TTL, so
+ * planning the queries over the same tables does not load them again and again. The cache is
+ * disabled when the TTL is 0, only the statistics of the metadata loading are kept then.
+ *
+ * <p>The cache is invalidated by the DDL issued through this connector, the changes made by other
+ * clients are visible after the TTL at the latest.
+ */
+public class CatalogConnectorMetadataCache {
+
+  private final Cache<Key, Object> cache;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder remoteCallCount = new LongAdder();
+  private final LongAdder remoteCallNanos = new LongAdder();
+
+  public CatalogConnectorMetadataCache(long ttlMs, long maximumSize) {
+    this.cache =
+        ttlMs > 0 && maximumSize > 0
+            ? CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build()
+            : null;
+  }
+
+  /**
+   * Returns the cached value of the key, or loads it from the Gravitino server and caches it.
+   *
+   * @param key the key of the metadata
+   * @param loader the loader to call the Gravitino server
+   * @return the metadata
+   */
+  Object get(Key key, Supplier<?> loader) {
+    if (cache != null) {
+      Object value = cache.getIfPresent(key);
+      if (value != null) {
+        hitCount.increment();
+        return value;
+      }
+    }
+
+    missCount.increment();
+    long start = System.nanoTime();
+    Object value;
+    try {
+      value = loader.get();
+    } finally {
+      remoteCallCount.increment();
+      remoteCallNanos.add(System.nanoTime() - start);
+    }
+
+    if (cache != null && value != null) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  /** Records a hit served by the cache of one transaction. */
+  void recordHit() {
+    hitCount.increment();
+  }
+
+  /**
+   * Removes the cached metadata matching the predicate.
+   *
+   * @param predicate the predicate of the keys to remove
+   */
+  void invalidate(Predicate<Key> predicate) {
+    if (cache != null) {
+      cache.asMap().keySet().removeIf(predicate);
+    }
+  }
+
+  /** Removes all the cached metadata. */
+  public void invalidateAll() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public double getHitRate() {
+    long hits = hitCount.sum();
+    long total = hits + missCount.sum();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  public long getRemoteCallCount() {
+    return remoteCallCount.sum();
+  }
+
+  public double getRemoteCallAverageMillis() {
+    long calls = remoteCallCount.sum();
+    return calls == 0 ? 0 : remoteCallNanos.sum() / 1_000_000.0 / calls;
+  }
+
+  /** The key of the cached metadata. */
+  static class Key {
+
+    enum Kind {
+      SCHEMA_NAMES,
+      SCHEMA,
+      TABLE_NAMES,
+      TABLE
+    }
+
+    private final Kind kind;
+    private final String schemaName;
+    private final String tableName;
+
+    private Key(Kind kind, String schemaName, String tableName) {
+      this.kind = kind;
+      this.schemaName = schemaName;
+      this.tableName = tableName;
+    }
+
+    static Key schemaNames() {
+      return new Key(Kind.SCHEMA_NAMES, null, null);
+    }
+
+    static Key schema(String schemaName) {
+      return new Key(Kind.SCHEMA, schemaName, null);
+    }
+
+    static Key tableNames(String schemaName) {
+      return new Key(Kind.TABLE_NAMES, schemaName, null);
+    }
+
+    static Key table(String schemaName, String tableName) {
+      return new Key(Kind.TABLE, schemaName, tableName);
+    }
+
+    /** Whether the key is affected by creating, dropping or altering the schema. */
+    boolean affectedBySchema(String schema) {
+      return kind == Kind.SCHEMA_NAMES || Objects.equals(schemaName, schema);
+    }
+
+    /** Whether the key is affected by creating, dropping or altering the table. */
+    boolean affectedByTable(String schema, String table) {
+      return Objects.equals(schemaName, schema)
+          && (kind == Kind.TABLE_NAMES || (kind == Kind.TABLE && Objects.equals(tableName, table)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return kind == key.kind
+          && Objects.equals(schemaName, key.schemaName)
+          && Objects.equals(tableName, key.tableName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(kind, schemaName, tableName);
+    }
+  }
+}
@@ -43,6 +43,9 @@ public class GravitinoSystemTableFactory {
     SYSTEM_TABLES.put(
         GravitinoSystemTableCatalog.TABLE_NAME,
         new GravitinoSystemTableCatalog(catalogConnectorManager));
+    SYSTEM_TABLES.put(
+        GravitinoSystemTableMetadataCache.TABLE_NAME,
+        new GravitinoSystemTableMetadataCache(catalogConnectorManager));
   }
 
   public static Page loadPageData(SchemaTableName tableName) {
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.system.table;
+
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+
+import io.trino.spi.Page;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.connector.ColumnMetadata;
+import io.trino.spi.connector.ConnectorTableMetadata;
+import io.trino.spi.connector.SchemaTableName;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.gravitino.trino.connector.catalog.CatalogConnectorContext;
+import org.apache.gravitino.trino.connector.catalog.CatalogConnectorManager;
+import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadataCache;
+import org.apache.gravitino.trino.connector.metadata.GravitinoCatalog;
+
+/** An implementation of the system table showing the metadata cache statistics of each catalog */
+public class GravitinoSystemTableMetadataCache extends GravitinoSystemTable {
+
+  public static final SchemaTableName TABLE_NAME =
+      new SchemaTableName(SYSTEM_TABLE_SCHEMA_NAME, "metadata_cache");
+
+  private static final ConnectorTableMetadata TABLE_METADATA =
+      new ConnectorTableMetadata(
+          TABLE_NAME,
+          List.of(
+              ColumnMetadata.builder().setName("catalog").setType(VARCHAR).build(),
+              ColumnMetadata.builder().setName("hit_count").setType(BIGINT).build(),
+              ColumnMetadata.builder().setName("miss_count").setType(BIGINT).build(),
+              ColumnMetadata.builder().setName("hit_rate").setType(DOUBLE).build(),
+              ColumnMetadata.builder().setName("remote_call_count").setType(BIGINT).build(),
+              ColumnMetadata.builder().setName("remote_call_avg_ms").setType(DOUBLE).build()));
+
+  private final CatalogConnectorManager catalogConnectorManager;
+
+  public GravitinoSystemTableMetadataCache(CatalogConnectorManager catalogConnectorManager) {
+    this.catalogConnectorManager = catalogConnectorManager;
+  }
+
+  @Override
+  public Page loadPageData() {
+    List<String> catalogNames = new ArrayList<>();
+    List<CatalogConnectorMetadataCache> caches = new ArrayList<>();
+    for (GravitinoCatalog catalog : catalogConnectorManager.getCatalogs()) {
+      String catalogName = catalogConnectorManager.getTrinoCatalogName(catalog);
+      CatalogConnectorContext context = catalogConnectorManager.getCatalogConnector(catalogName);
+      if (context != null) {
+        catalogNames.add(catalogName);
+        caches.add(context.getMetadataCache());
+      }
+    }
+    int size = caches.size();
+
+    BlockBuilder catalogColumnBuilder = VARCHAR.createBlockBuilder(null, size);
+    BlockBuilder hitCountColumnBuilder = BIGINT.createBlockBuilder(null, size);
+    BlockBuilder missCountColumnBuilder = BIGINT.createBlockBuilder(null, size);
+    BlockBuilder hitRateColumnBuilder = DOUBLE.createBlockBuilder(null, size);
+    BlockBuilder remoteCallCountColumnBuilder = BIGINT.createBlockBuilder(null, size);
+    BlockBuilder remoteCallAvgColumnBuilder = DOUBLE.createBlockBuilder(null, size);
+
+    for (int i = 0; i < size; i++) {
+      CatalogConnectorMetadataCache cache = caches.get(i);
+      VARCHAR.writeString(catalogColumnBuilder, catalogNames.get(i));
+      BIGINT.writeLong(hitCountColumnBuilder, cache.getHitCount());
+      BIGINT.writeLong(missCountColumnBuilder, cache.getMissCount());
+      DOUBLE.writeDouble(hitRateColumnBuilder, cache.getHitRate());
+      BIGINT.writeLong(remoteCallCountColumnBuilder, cache.getRemoteCallCount());
+      DOUBLE.writeDouble(remoteCallAvgColumnBuilder, cache.getRemoteCallAverageMillis());
+    }
+    return new Page(
+        size,
+        catalogColumnBuilder.build(),
+        hitCountColumnBuilder.build(),
+        missCountColumnBuilder.build(),
+        hitRateColumnBuilder.build(),
+        remoteCallCountColumnBuilder.build(),
+        remoteCallAvgColumnBuilder.build());
+  }
+
+  @Override
+  public ConnectorTableMetadata getTableMetaData() {
+    return TABLE_METADATA;
+  }
+}
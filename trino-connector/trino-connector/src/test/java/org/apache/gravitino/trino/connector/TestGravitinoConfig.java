@@ -46,6 +46,13 @@ public class TestGravitinoConfig {
 
     assertEquals(gravitinoUrl, config.getURI());
     assertEquals(metalake, config.getMetalake());
+    assertEquals(600000, config.getCatalogFullReloadIntervalMs());
+
+    config =
+        new GravitinoConfig(
+            ImmutableMap.of(
+                "gravitino.metalake", metalake, "gravitino.catalog-full-reload-interval-ms", "0"));
+    assertEquals(0, config.getCatalogFullReloadIntervalMs());
   }
 
   @Test
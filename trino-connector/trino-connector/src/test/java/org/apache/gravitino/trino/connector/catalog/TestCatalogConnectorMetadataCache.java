@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadataCache.Key;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogConnectorMetadataCache {
+
+  @Test
+  public void testCacheHitAndMiss() {
+    CatalogConnectorMetadataCache cache = new CatalogConnectorMetadataCache(60_000, 100);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(
+          List.of("t1", "t2"),
+          cache.get(
+              Key.tableNames("db1"),
+              () -> {
+                loads.incrementAndGet();
+                return List.of("t1", "t2");
+              }));
+    }
+
+    assertEquals(1, loads.get());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getRemoteCallCount());
+    assertEquals(2.0 / 3, cache.getHitRate(), 1e-9);
+  }
+
+  @Test
+  public void testDisabledCache() {
+    CatalogConnectorMetadataCache cache = new CatalogConnectorMetadataCache(0, 100);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get(Key.schema("db1"), loads::incrementAndGet);
+    cache.get(Key.schema("db1"), loads::incrementAndGet);
+
+    assertEquals(2, loads.get());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(2, cache.getRemoteCallCount());
+  }
+
+  @Test
+  public void testInvalidate() {
+    CatalogConnectorMetadataCache cache = new CatalogConnectorMetadataCache(60_000, 100);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get(Key.schemaNames(), loads::incrementAndGet);
+    cache.get(Key.schema("db1"), loads::incrementAndGet);
+    cache.get(Key.tableNames("db1"), loads::incrementAndGet);
+    cache.get(Key.table("db1", "t1"), loads::incrementAndGet);
+    cache.get(Key.table("db1", "t2"), loads::incrementAndGet);
+    cache.get(Key.table("db2", "t1"), loads::incrementAndGet);
+    assertEquals(6, loads.get());
+
+    // Altering db1.t1 affects the table and the table list of db1 only.
+    cache.invalidate(key -> key.affectedByTable("db1", "t1"));
+    cache.get(Key.table("db1", "t1"), loads::incrementAndGet);
+    cache.get(Key.tableNames("db1"), loads::incrementAndGet);
+    cache.get(Key.table("db1", "t2"), loads::incrementAndGet);
+    cache.get(Key.schema("db1"), loads::incrementAndGet);
+    assertEquals(8, loads.get());
+
+    // Dropping db1 affects everything under it and the schema list.
+    cache.invalidate(key -> key.affectedBySchema("db1"));
+    cache.get(Key.schemaNames(), loads::incrementAndGet);
+    cache.get(Key.table("db1", "t2"), loads::incrementAndGet);
+    cache.get(Key.table("db2", "t1"), loads::incrementAndGet);
+    assertEquals(10, loads.get());
+  }
+}